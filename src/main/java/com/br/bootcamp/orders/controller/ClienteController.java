@@ -4,14 +4,17 @@ import com.br.bootcamp.orders.model.Cliente;
 import com.br.bootcamp.orders.model.dto.ClienteDTO;
 import com.br.bootcamp.orders.model.dto.ErrorResponseDTO;
 import com.br.bootcamp.orders.service.contracts.IClienteService;
+import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -29,23 +33,29 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/clientes")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = HttpHeaders.LINK)
 @Tag(name = "Clientes", description = "Endpoints para gerenciamento de clientes")
 public class ClienteController {
 
     private final IClienteService clienteService;
     
     /**
-     * GET /api/clientes - Lista todos os clientes
+     * GET /api/clientes - Lista os clientes, uma página por vez
      */
-    @Operation(summary = "Listar todos os clientes", description = "Retorna uma lista com todos os clientes cadastrados")
+    @Operation(summary = "Listar todos os clientes", description = "Retorna uma página dos clientes cadastrados, ordenados por ID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de clientes retornada com sucesso")
+            @ApiResponse(responseCode = "200", description = "Página de clientes retornada com sucesso",
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping
-    public ResponseEntity<List<Cliente>> listarTodos() {
-        List<Cliente> clientes = clienteService.listarTodos();
-        return ResponseEntity.ok(clientes);
+    public ResponseEntity<List<Cliente>> listarTodos(
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(clienteService.listarTodos(limite, cursor));
     }
     
     /**
@@ -60,21 +70,28 @@ public class ClienteController {
     @GetMapping("/{id}")
     public ResponseEntity<Cliente> buscarPorId(
             @Parameter(description = "ID do cliente", required = true) @PathVariable Long id) {
-        return ResponseEntity.ok(clienteService.buscarPorId(id).get());
+        return ResponseEntity.ok(clienteService.buscarPorId(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com ID: " + id)));
     }
     
     /**
      * GET /api/clientes/nome/{nome} - Busca clientes por nome
      */
-    @Operation(summary = "Buscar clientes por nome", description = "Retorna clientes cujo nome contenha o termo fornecido")
+    @Operation(summary = "Buscar clientes por nome", description = "Retorna uma página dos clientes cujo nome contenha o termo fornecido, dos nomes mais semelhantes ao termo para os menos")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Clientes encontrados com sucesso")
+            @ApiResponse(responseCode = "200", description = "Clientes encontrados com sucesso",
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping("/nome/{nome}")
     public ResponseEntity<List<Cliente>> buscarPorNome(
-            @Parameter(description = "Nome ou parte do nome do cliente", required = true) @PathVariable String nome) {
-        List<Cliente> clientes = clienteService.buscarPorNome(nome);
-        return ResponseEntity.ok(clientes);
+            @Parameter(description = "Nome ou parte do nome do cliente", required = true) @PathVariable String nome,
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(clienteService.buscarPorNome(nome, limite, cursor));
     }
     
     /**
@@ -100,8 +117,10 @@ public class ClienteController {
             @ApiResponse(responseCode = "200", description = "Contagem realizada com sucesso")
     })
     @GetMapping("/contar")
-    public ResponseEntity<Long> contarClientes() {
-        long total = clienteService.contarClientes();
+    public ResponseEntity<Long> contarClientes(
+            @Parameter(description = "Retorna a estimativa das estatísticas do banco em vez da contagem exata")
+            @RequestParam(defaultValue = "false") boolean aproximado) {
+        long total = clienteService.contarClientes(aproximado);
         return ResponseEntity.ok(total);
     }
     
@@ -3,10 +3,23 @@ package com.br.bootcamp.orders.controller;
 import com.br.bootcamp.orders.model.Pedido;
 import com.br.bootcamp.orders.model.dto.ErrorResponseDTO;
 import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.dto.RecebimentoPedidoDTO;
+import com.br.bootcamp.orders.model.dto.ResultadoLoteDTO;
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
 import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.leitura.DetalhePedido;
+import com.br.bootcamp.orders.model.leitura.ResumoPedido;
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+import com.br.bootcamp.orders.service.contracts.IExportacaoPedidoService;
+import com.br.bootcamp.orders.service.contracts.IIdempotenciaService;
+import com.br.bootcamp.orders.service.contracts.IPedidoAssincronoService;
 import com.br.bootcamp.orders.service.contracts.IPedidoService;
+import com.br.bootcamp.orders.service.contracts.IVendaService;
+import com.br.bootcamp.orders.service.util.ExportacaoPedidos;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -14,8 +27,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,30 +41,55 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/pedidos")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.CONTENT_DISPOSITION})
 @Tag(name = "Pedidos", description = "Endpoints para gerenciamento de pedidos")
 public class PedidoController {
 
+    private static final String CABECALHO_IDEMPOTENCIA = "Idempotency-Key";
+    private static final int TAMANHO_BUFFER_GZIP = 64 * 1024;
+
     private final IPedidoService pedidoService;
+    private final IPedidoAssincronoService pedidoAssincronoService;
+    private final IIdempotenciaService idempotenciaService;
+    private final IExportacaoPedidoService exportacaoPedidoService;
+    private final IVendaService vendaService;
 
-    @Operation(summary = "Listar todos os pedidos", description = "Retorna uma lista com todos os pedidos cadastrados")
+    @Operation(summary = "Listar todos os pedidos",
+            description = "Retorna uma página dos pedidos cadastrados, dos mais recentes para os mais antigos")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de pedidos retornada com sucesso",
-                    content = @Content(schema = @Schema(implementation = Pedido.class)))
+            @ApiResponse(responseCode = "200", description = "Página de pedidos retornada com sucesso",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ResumoPedido.class))),
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping
-    public ResponseEntity<List<Pedido>> listarTodos() {
-        return ResponseEntity.ok(pedidoService.listarTodos());
+    public ResponseEntity<List<ResumoPedido>> listarTodos(
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(pedidoService.listarTodos(limite, cursor));
     }
     
     @Operation(summary = "Buscar pedido por ID", description = "Retorna um pedido específico baseado no ID fornecido")
@@ -56,58 +99,146 @@ public class PedidoController {
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Pedido> buscarPorId(
+    public ResponseEntity<DetalhePedido> buscarPorId(
             @Parameter(description = "ID do pedido", required = true) @PathVariable Long id) {
-        return ResponseEntity.ok(pedidoService.buscarPorId(id).get());
+        return ResponseEntity.ok(pedidoService.buscarDetalhe(id));
     }
     
-    @Operation(summary = "Buscar pedidos por cliente", description = "Retorna todos os pedidos de um cliente específico")
+    @Operation(summary = "Buscar pedidos por cliente", description = "Retorna uma página dos pedidos de um cliente específico")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Pedidos do cliente encontrados com sucesso")
+            @ApiResponse(responseCode = "200", description = "Pedidos do cliente encontrados com sucesso",
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping("/cliente/{clienteId}")
-    public ResponseEntity<List<Pedido>> buscarPorCliente(
-            @Parameter(description = "ID do cliente", required = true) @PathVariable Long clienteId) {
-        return ResponseEntity.ok(pedidoService.buscarPorCliente(clienteId));
+    public ResponseEntity<List<ResumoPedido>> buscarPorCliente(
+            @Parameter(description = "ID do cliente", required = true) @PathVariable Long clienteId,
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(pedidoService.buscarPorCliente(clienteId, limite, cursor));
     }
     
-    @Operation(summary = "Buscar pedidos por status", description = "Retorna pedidos com um status específico")
+    @Operation(summary = "Buscar pedidos por status", description = "Retorna uma página dos pedidos com um status específico")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Pedidos encontrados com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Status inválido fornecido",
+            @ApiResponse(responseCode = "200", description = "Pedidos encontrados com sucesso",
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Status, limite ou cursor inválido",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping("/status")
-    public ResponseEntity<List<Pedido>> buscarPorStatus(
+    public ResponseEntity<List<ResumoPedido>> buscarPorStatus(
             @Parameter(description = "Status do pedido (ex: Pendente, Aprovado).", required = true) 
-            @RequestParam StatusPedido status) {
-        return ResponseEntity.ok(pedidoService.buscarPorStatus(status));
+            @RequestParam StatusPedido status,
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(pedidoService.buscarPorStatus(status, limite, cursor));
     }
     
-    @Operation(summary = "Buscar pedidos por data", description = "Retorna pedidos de uma data específica (formato: dd/MM/yyyy)")
+    @Operation(summary = "Buscar pedidos por data", description = "Retorna uma página dos pedidos de uma data específica (formato: dd/MM/yyyy)")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Pedidos da data encontrados com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Formato de data inválido",
+            @ApiResponse(responseCode = "200", description = "Pedidos da data encontrados com sucesso",
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Formato de data, limite ou cursor inválido",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping("/data")
-    public ResponseEntity<List<Pedido>> buscarPorData(
+    public ResponseEntity<List<ResumoPedido>> buscarPorData(
             @Parameter(description = "Data dos pedidos (formato: dd/MM/yyyy)", required = true) 
-            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate data) {
-        return ResponseEntity.ok(pedidoService.buscarPorData(data));
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate data,
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(pedidoService.buscarPorData(data, limite, cursor));
     }
     
-    @Operation(summary = "Buscar pedidos por período", description = "Retorna pedidos dentro de um período específico (formato: dd/MM/yyyy)")
+    @Operation(summary = "Buscar pedidos por período", description = "Retorna uma página dos pedidos dentro de um período específico (formato: dd/MM/yyyy)")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Pedidos do período encontrados com sucesso")
+            @ApiResponse(responseCode = "200", description = "Pedidos do período encontrados com sucesso",
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping("/periodo")
-    public ResponseEntity<List<Pedido>> buscarPorPeriodo(
+    public ResponseEntity<List<ResumoPedido>> buscarPorPeriodo(
             @Parameter(description = "Data de início do período (formato: dd/MM/yyyy)", required = true) 
             @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataInicio,
             @Parameter(description = "Data de fim do período (formato: dd/MM/yyyy)", required = true) 
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataFim,
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(pedidoService.buscarPorPeriodo(dataInicio, dataFim, limite, cursor));
+    }
+    
+    @Operation(summary = "Exportar pedidos de um período",
+            description = "Exporta os pedidos de um período (formato: dd/MM/yyyy) em NDJSON (um pedido por linha) ou CSV "
+                    + "(um item por linha). A resposta é escrita à medida que os pedidos são lidos, sem limite de tamanho, "
+                    + "e vai compactada em gzip quando o Accept-Encoding aceita gzip (gzip ou *, com q maior que zero)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada com sucesso",
+                    content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "400", description = "Período ou formato inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    @GetMapping("/exportacao")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "Data de início do período (formato: dd/MM/yyyy)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataInicio,
+            @Parameter(description = "Data de fim do período (formato: dd/MM/yyyy)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataFim,
+            @Parameter(description = "Formato da exportação (ndjson ou csv)")
+            @RequestParam(defaultValue = "ndjson") FormatoExportacao formato,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String codificacoesAceitas) {
+        // Valida antes de responder: depois que o corpo começa a ser escrito o status não pode mais mudar
+        ExportacaoPedidos.validarPeriodo(dataInicio, dataFim);
+        boolean compactar = aceitaGzip(codificacoesAceitas);
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getTipoConteudo()))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("pedidos-" + dataInicio + "-" + dataFim + "." + formato.getExtensao())
+                        .build()
+                        .toString());
+        if (!compactar) {
+            return resposta.body(saida -> exportacaoPedidoService.exportar(dataInicio, dataFim, formato, saida));
+        }
+        return resposta.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(saida -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(saida, TAMANHO_BUFFER_GZIP);
+            exportacaoPedidoService.exportar(dataInicio, dataFim, formato, gzip);
+            gzip.finish();
+        });
+    }
+    
+    @Operation(summary = "Consultar vendas diárias",
+            description = "Retorna, para cada dia do período (formato: dd/MM/yyyy), a quantidade de pedidos, a receita e o "
+                    + "valor médio por pedido de cada status e tipo de pagamento. A resposta tem um ETag e deve ser "
+                    + "revalidada a cada uso (If-None-Match responde 304 se as vendas não mudaram). Os dias encerrados "
+                    + "ficam em memória em cada instância: uma alteração de pedido antigo feita por outra instância "
+                    + "pode levar até pedidos.vendas.validade (1 hora, por padrão) para aparecer")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vendas do período retornadas com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Vendas iguais às do ETag informado em If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Período inválido ou longo demais",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    @GetMapping("/vendas")
+    public ResponseEntity<List<VendaDiaria>> consultarVendas(
+            @Parameter(description = "Data de início do período (formato: dd/MM/yyyy)", required = true)
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataInicio,
+            @Parameter(description = "Data de fim do período (formato: dd/MM/yyyy)", required = true)
             @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataFim) {
-        return ResponseEntity.ok(pedidoService.buscarPorPeriodo(dataInicio, dataFim));
+        List<VendaDiaria> vendas = vendaService.consultarVendas(dataInicio, dataFim);
+        // Alterações de pedidos antigos também mudam os dias encerrados: os caches HTTP sempre revalidam
+        String etag = DigestUtils.md5DigestAsHex(vendas.toString().getBytes(StandardCharsets.UTF_8));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(vendas);
     }
     
     @Operation(summary = "Contar total de pedidos", description = "Retorna o número total de pedidos cadastrados")
@@ -115,47 +246,111 @@ public class PedidoController {
             @ApiResponse(responseCode = "200", description = "Contagem realizada com sucesso")
     })
     @GetMapping("/contar")
-    public ResponseEntity<Long> contarPedidos() {
-        return ResponseEntity.ok(pedidoService.contarPedidos());
+    public ResponseEntity<Long> contarPedidos(
+            @Parameter(description = "Retorna a estimativa das estatísticas do banco em vez da contagem exata")
+            @RequestParam(defaultValue = "false") boolean aproximado) {
+        return ResponseEntity.ok(pedidoService.contarPedidos(aproximado));
+    }
+    
+    @Operation(summary = "Contar pedidos por status", description = "Retorna o número de pedidos de cada status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Contagem realizada com sucesso")
+    })
+    @GetMapping("/contar/status")
+    public ResponseEntity<Map<StatusPedido, Long>> contarPedidosPorStatus() {
+        return ResponseEntity.ok(pedidoService.contarPedidosPorStatus());
     }
     
     @Operation(summary = "Calcular valor total do pedido", description = "Calcula e retorna o valor total de um pedido existente.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Valor total calculado com sucesso",
-                    content = @Content(schema = @Schema(implementation = Double.class))),
+                    content = @Content(schema = @Schema(implementation = BigDecimal.class))),
             @ApiResponse(responseCode = "404", description = "Pedido não encontrado",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping("/{id}/valor-total")
-    public ResponseEntity<Double> calcularValorTotal(
+    public ResponseEntity<BigDecimal> calcularValorTotal(
             @Parameter(description = "ID do pedido para cálculo do valor total", required = true) @PathVariable Long id) {
         return ResponseEntity.ok(pedidoService.calcularValorTotal(id));
     }
     
-    @Operation(summary = "Criar novo pedido", description = "Cria um novo pedido no sistema")
+    @Operation(summary = "Criar novo pedido",
+            description = "Cria um novo pedido no sistema. Com assincrono=true, o pedido é apenas recebido (202) e processado em segundo plano; "
+                    + "acompanhe pelo endereço retornado no cabeçalho Location. Repetições com o mesmo Idempotency-Key "
+                    + "recebem a resposta original, sem criar outro pedido.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Pedido criado com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Pedido recebido para processamento assíncrono",
+                    content = @Content(schema = @Schema(implementation = RecebimentoPedidoDTO.class))),
             @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos (ex: cliente/produto inexistente, estoque insuficiente)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+            @ApiResponse(responseCode = "409", description = "Requisição com o mesmo Idempotency-Key ainda em processamento",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+            @ApiResponse(responseCode = "503", description = "Fila de processamento assíncrono cheia",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @PostMapping
-    public ResponseEntity<Pedido> criar(
-            @Parameter(description = "Dados do pedido", required = true) @RequestBody PedidoDTO pedidoDTO) {
-        Pedido pedidoSalvo = pedidoService.salvar(pedidoDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(pedidoSalvo);
+    public ResponseEntity<?> criar(
+            @Parameter(description = "Dados do pedido", required = true) @RequestBody PedidoDTO pedidoDTO,
+            @Parameter(description = "Recebe o pedido e o processa em segundo plano")
+            @RequestParam(defaultValue = "false") boolean assincrono,
+            @Parameter(description = "Chave única da requisição, para repeti-la com segurança")
+            @RequestHeader(value = CABECALHO_IDEMPOTENCIA, required = false) String chaveIdempotencia) {
+        String operacao = assincrono ? "POST /api/pedidos?assincrono=true" : "POST /api/pedidos";
+        return idempotente(chaveIdempotencia, operacao, pedidoDTO, () -> {
+            if (assincrono) {
+                RecebimentoPedidoDTO recebimento = pedidoAssincronoService.receber(pedidoDTO);
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/pedidos/recebimentos/" + recebimento.getId()))
+                        .body(recebimento);
+            }
+            Pedido pedidoSalvo = pedidoService.salvar(pedidoDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).body(pedidoSalvo);
+        });
+    }
+    
+    @Operation(summary = "Consultar pedido assíncrono", description = "Retorna a situação do processamento de um pedido recebido de forma assíncrona")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Situação retornada com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Recebimento não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    @GetMapping("/recebimentos/{id}")
+    public ResponseEntity<RecebimentoPedidoDTO> consultarRecebimento(
+            @Parameter(description = "Identificador de acompanhamento", required = true) @PathVariable UUID id) {
+        return ResponseEntity.ok(pedidoAssincronoService.consultar(id));
     }
     
-    @Operation(summary = "Atualizar pedido", description = "Atualiza os dados de um pedido existente")
+    @Operation(summary = "Criar pedidos em lote", description = "Cria vários pedidos em uma única requisição e retorna o resultado de cada um, inclusive falhas parciais")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; consulte o resultado de cada pedido"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    @PostMapping("/lote")
+    public ResponseEntity<List<ResultadoLoteDTO>> criarLote(
+            @Parameter(description = "Pedidos do lote", required = true) @RequestBody List<PedidoDTO> pedidosDTO) {
+        return ResponseEntity.ok(pedidoService.salvarLote(pedidosDTO));
+    }
+    
+    @Operation(summary = "Atualizar pedido", description = "Atualiza os dados de um pedido existente. Repetições com o mesmo "
+            + "Idempotency-Key recebem a resposta original, sem reaplicar a atualização.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pedido atualizado com sucesso"),
-            @ApiResponse(responseCode = "404", description = "Pedido não encontrado")
+            @ApiResponse(responseCode = "404", description = "Pedido não encontrado"),
+            @ApiResponse(responseCode = "409", description = "Requisição com o mesmo Idempotency-Key ainda em processamento",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @PutMapping("/{id}")
-    public ResponseEntity<Pedido> atualizar(
+    public ResponseEntity<?> atualizar(
             @Parameter(description = "ID do pedido", required = true) @PathVariable Long id,
-            @Parameter(description = "Novos dados do pedido", required = true) @RequestBody PedidoDTO pedidoDTO) {
-        Pedido pedidoAtualizado = pedidoService.atualizar(id, pedidoDTO);
-        return ResponseEntity.ok(pedidoAtualizado);
+            @Parameter(description = "Novos dados do pedido", required = true) @RequestBody PedidoDTO pedidoDTO,
+            @Parameter(description = "Chave única da requisição, para repeti-la com segurança")
+            @RequestHeader(value = CABECALHO_IDEMPOTENCIA, required = false) String chaveIdempotencia) {
+        return idempotente(chaveIdempotencia, "PUT /api/pedidos/" + id, pedidoDTO, () -> {
+            Pedido pedidoAtualizado = pedidoService.atualizar(id, pedidoDTO);
+            return ResponseEntity.ok(pedidoAtualizado);
+        });
     }
     
     @Operation(summary = "Atualizar status do pedido", description = "Atualiza o status de um pedido específico")
@@ -184,4 +379,50 @@ public class PedidoController {
         pedidoService.deletar(id);
         return ResponseEntity.noContent().build();
     }
+    
+    /**
+     * Executa a operação diretamente ou, quando a requisição traz um Idempotency-Key,
+     * uma única vez por chave
+     */
+    private ResponseEntity<?> idempotente(String chave, String operacao, PedidoDTO pedidoDTO,
+                                          Supplier<ResponseEntity<?>> acao) {
+        if (chave == null) {
+            return acao.get();
+        }
+        return idempotenciaService.executar(chave, operacao, pedidoDTO, acao);
+    }
+
+    /**
+     * Indica se o Accept-Encoding aceita gzip: a codificação gzip, ou {@code *} quando gzip não
+     * é citado, com peso {@code q} maior que zero. Pesos inválidos valem zero.
+     */
+    private static boolean aceitaGzip(String codificacoesAceitas) {
+        if (codificacoesAceitas == null) {
+            return false;
+        }
+        Double pesoGzip = null;
+        Double pesoQualquer = null;
+        for (String codificacao : codificacoesAceitas.split(",")) {
+            String[] partes = codificacao.split(";");
+            String nome = partes[0].trim().toLowerCase(Locale.ROOT);
+            double peso = 1.0;
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim();
+                if (parametro.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        peso = Double.parseDouble(parametro.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        peso = 0;
+                    }
+                }
+            }
+            if (nome.equals("gzip") || nome.equals("x-gzip")) {
+                pesoGzip = peso;
+            } else if (nome.equals("*")) {
+                pesoQualquer = peso;
+            }
+        }
+        Double peso = pesoGzip != null ? pesoGzip : pesoQualquer;
+        return peso != null && peso > 0;
+    }
 } 
\ No newline at end of file
@@ -3,15 +3,19 @@ package com.br.bootcamp.orders.controller;
 import com.br.bootcamp.orders.model.Produto;
 import com.br.bootcamp.orders.model.dto.ErrorResponseDTO;
 import com.br.bootcamp.orders.model.dto.ProdutoDTO;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
 import com.br.bootcamp.orders.service.contracts.IProdutoService;
+import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -30,23 +34,30 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/produtos")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = HttpHeaders.LINK)
 @Tag(name = "Produtos", description = "Endpoints para gerenciamento de produtos")
 public class ProdutoController {
 
     private final IProdutoService produtoService;
     
     /**
-     * GET /api/produtos - Lista todos os produtos
+     * GET /api/produtos - Lista os produtos, uma página por vez
      */
-    @Operation(summary = "Listar todos os produtos", description = "Retorna uma lista com todos os produtos cadastrados")
+    @Operation(summary = "Listar todos os produtos", description = "Retorna uma página dos produtos cadastrados, ordenados por ID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de produtos retornada com sucesso",
-                    content = @Content(schema = @Schema(implementation = Produto.class)))
+            @ApiResponse(responseCode = "200", description = "Página de produtos retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = Produto.class)),
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping
-    public ResponseEntity<List<Produto>> listarTodos() {
-        return ResponseEntity.ok(produtoService.listarTodos());
+    public ResponseEntity<List<Produto>> listarTodos(
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(produtoService.listarTodos(limite, cursor));
     }
     
     /**
@@ -61,36 +72,75 @@ public class ProdutoController {
     @GetMapping("/{id}")
     public ResponseEntity<Produto> buscarPorId(
             @Parameter(description = "ID do produto", required = true) @PathVariable Long id) {
-        return ResponseEntity.ok(produtoService.buscarPorId(id).get());
+        return ResponseEntity.ok(produtoService.buscarPorId(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com ID: " + id)));
     }
     
     /**
      * GET /api/produtos/nome/{nome} - Busca produtos por nome
      */
-    @Operation(summary = "Buscar produtos por nome", description = "Retorna produtos cujo nome contenha o termo fornecido")
+    @Operation(summary = "Buscar produtos por nome", description = "Retorna uma página dos produtos cujo nome contenha o termo fornecido, dos nomes mais semelhantes ao termo para os menos")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Produtos encontrados com sucesso")
+            @ApiResponse(responseCode = "200", description = "Produtos encontrados com sucesso",
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Limite ou cursor inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping("/nome/{nome}")
     public ResponseEntity<List<Produto>> buscarPorNome(
-            @Parameter(description = "Nome ou parte do nome do produto", required = true) @PathVariable String nome) {
-        return ResponseEntity.ok(produtoService.buscarPorNome(nome));
+            @Parameter(description = "Nome ou parte do nome do produto", required = true) @PathVariable String nome,
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(produtoService.buscarPorNome(nome, limite, cursor));
     }
     
     /**
      * GET /api/produtos/preco - Busca produtos por faixa de preço
      */
-    @Operation(summary = "Buscar produtos por faixa de preço", description = "Retorna produtos dentro de uma faixa de preço específica")
+    @Operation(summary = "Buscar produtos por faixa de preço",
+            description = "Retorna uma página dos produtos dentro de uma faixa de preço específica, ordenados por preço")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Produtos encontrados com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Parâmetros de preço inválidos",
+            @ApiResponse(responseCode = "200", description = "Produtos encontrados com sucesso",
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de preço, limite ou cursor inválidos",
                     content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
     })
     @GetMapping("/preco")
     public ResponseEntity<List<Produto>> buscarPorFaixaPreco(
             @Parameter(description = "Preço mínimo", required = true) @RequestParam Double precoMinimo,
-            @Parameter(description = "Preço máximo", required = true) @RequestParam Double precoMaximo) {
-        return ResponseEntity.ok(produtoService.buscarPorFaixaPreco(precoMinimo, precoMaximo));
+            @Parameter(description = "Preço máximo", required = true) @RequestParam Double precoMaximo,
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(produtoService.buscarPorFaixaPreco(precoMinimo, precoMaximo, limite, cursor));
+    }
+    
+    /**
+     * GET /api/produtos/filtro - Filtra produtos por preço, categoria e estoque
+     */
+    @Operation(summary = "Filtrar produtos do catálogo",
+            description = "Retorna uma página dos produtos que atendem aos filtros de faixa de preço, categoria e disponibilidade em estoque, ordenados por preço; filtros não informados não restringem a busca")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Produtos encontrados com sucesso",
+                    headers = @Header(name = HttpHeaders.LINK, description = RespostaPaginada.DESCRICAO_LINK)),
+            @ApiResponse(responseCode = "400", description = "Parâmetros de preço, categoria, limite ou cursor inválidos",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    @GetMapping("/filtro")
+    public ResponseEntity<List<Produto>> filtrar(
+            @Parameter(description = "Preço mínimo") @RequestParam(required = false) Double precoMinimo,
+            @Parameter(description = "Preço máximo") @RequestParam(required = false) Double precoMaximo,
+            @Parameter(description = "Categoria dos produtos") @RequestParam(required = false) CategoriaProduto categoria,
+            @Parameter(description = "Apenas produtos com estoque disponível")
+            @RequestParam(defaultValue = "false") boolean emEstoque,
+            @Parameter(description = RespostaPaginada.DESCRICAO_LIMITE)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_LIMITE, defaultValue = RespostaPaginada.LIMITE_PADRAO) int limite,
+            @Parameter(description = RespostaPaginada.DESCRICAO_CURSOR)
+            @RequestParam(name = RespostaPaginada.PARAMETRO_CURSOR, required = false) String cursor) {
+        return RespostaPaginada.ok(produtoService.filtrar(precoMinimo, precoMaximo, categoria, emEstoque, limite, cursor));
     }
     
     /**
@@ -101,8 +151,10 @@ public class ProdutoController {
             @ApiResponse(responseCode = "200", description = "Contagem realizada com sucesso")
     })
     @GetMapping("/contar")
-    public ResponseEntity<Long> contarProdutos() {
-        return ResponseEntity.ok(produtoService.contarProdutos());
+    public ResponseEntity<Long> contarProdutos(
+            @Parameter(description = "Retorna a estimativa das estatísticas do banco em vez da contagem exata")
+            @RequestParam(defaultValue = "false") boolean aproximado) {
+        return ResponseEntity.ok(produtoService.contarProdutos(aproximado));
     }
     
     /**
@@ -155,6 +207,25 @@ public class ProdutoController {
             @Parameter(description = "Nova quantidade em estoque", required = true) @RequestParam Integer quantidade) {
         return ResponseEntity.ok(produtoService.atualizarEstoque(id, quantidade));
     }
+
+    /**
+     * PUT /api/produtos/{id}/estoque/fracoes - Divide o estoque de um produto em frações
+     */
+    @Operation(summary = "Fracionar estoque do produto",
+            description = "Divide o estoque em frações independentes para reduzir a contenção em produtos muito disputados (1 desativa o fracionamento)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estoque fracionado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Produto não encontrado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Quantidade de frações inválida",
+                    content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+    })
+    @PutMapping("/{id}/estoque/fracoes")
+    public ResponseEntity<Produto> fracionarEstoque(
+            @Parameter(description = "ID do produto", required = true) @PathVariable Long id,
+            @Parameter(description = "Quantidade de frações (entre 1 e 64)", required = true) @RequestParam Integer fracoes) {
+        return ResponseEntity.ok(produtoService.fracionarEstoque(id, fracoes));
+    }
     
     /**
      * DELETE /api/produtos/{id} - Deleta um produto
@@ -0,0 +1,42 @@
+package com.br.bootcamp.orders.controller;
+
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.Pagina;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Resposta das listagens paginadas por cursor.
+ *
+ * <p>O corpo continua sendo a lista de registros; o endereço da página seguinte vai no
+ * cabeçalho {@code Link} com {@code rel="next"} (RFC 8288), repetindo os parâmetros da
+ * requisição atual com o novo cursor em {@code after}. A última página não tem o cabeçalho.</p>
+ */
+final class RespostaPaginada {
+
+    static final String PARAMETRO_LIMITE = "limit";
+    static final String PARAMETRO_CURSOR = "after";
+    static final String LIMITE_PADRAO = "" + CursorPaginacao.LIMITE_PADRAO;
+
+    static final String DESCRICAO_LIMITE = "Quantidade máxima de registros na página (1 a " + CursorPaginacao.LIMITE_MAXIMO + ")";
+    static final String DESCRICAO_CURSOR = "Cursor da página seguinte, recebido no cabeçalho Link da página anterior";
+    static final String DESCRICAO_LINK = "Endereço da página seguinte (rel=\"next\"), ausente na última página";
+
+    private RespostaPaginada() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(Pagina<T> pagina) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.temProxima()) {
+            String proxima = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam(PARAMETRO_CURSOR, pagina.proximoCursor())
+                    .build()
+                    .toUriString();
+            resposta.header(HttpHeaders.LINK, "<" + proxima + ">; rel=\"next\"");
+        }
+        return resposta.body(pagina.itens());
+    }
+}
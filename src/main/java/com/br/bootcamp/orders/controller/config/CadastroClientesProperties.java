@@ -0,0 +1,26 @@
+package com.br.bootcamp.orders.controller.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cadastro de clientes em memória ({@code pedidos.clientes.*}).
+ *
+ * @param capacidade Quantidade máxima de clientes mantidos em memória
+ * @param validade Tempo máximo de um cliente em memória desde que foi lido do banco; limita
+ *                 por quanto tempo uma alteração feita fora desta instância pode passar despercebida
+ * @param emailsEsperados Quantidade mínima de emails para a qual o filtro de emails é dimensionado;
+ *                        na inicialização, o filtro é dimensionado para o dobro dos clientes
+ *                        existentes se isso for maior
+ * @param taxaFalsosPositivos Fração dos emails novos para os quais o filtro ainda exige a consulta
+ *                            ao banco, enquanto a quantidade de emails não passar da dimensionada
+ */
+@ConfigurationProperties(prefix = "pedidos.clientes")
+public record CadastroClientesProperties(
+        @DefaultValue("10000") int capacidade,
+        @DefaultValue("PT10M") Duration validade,
+        @DefaultValue("1000000") long emailsEsperados,
+        @DefaultValue("0.01") double taxaFalsosPositivos) {
+}
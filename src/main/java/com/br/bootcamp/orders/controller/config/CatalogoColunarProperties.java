@@ -0,0 +1,15 @@
+package com.br.bootcamp.orders.controller.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do catálogo colunar em memória ({@code pedidos.catalogo-colunar.*}).
+ *
+ * @param habilitado Mantém em memória as colunas de preço, categoria e estoque de todos os
+ *                   produtos para responder às buscas por faixa de preço e aos filtros do
+ *                   catálogo sem consultar o banco (cerca de 21 bytes por produto)
+ */
+@ConfigurationProperties(prefix = "pedidos.catalogo-colunar")
+public record CatalogoColunarProperties(@DefaultValue("false") boolean habilitado) {
+}
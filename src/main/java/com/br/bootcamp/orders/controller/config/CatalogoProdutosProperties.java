@@ -0,0 +1,23 @@
+package com.br.bootcamp.orders.controller.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do catálogo de produtos em memória ({@code pedidos.catalogo.*}).
+ *
+ * @param capacidade Quantidade máxima de produtos mantidos em memória
+ * @param validade Tempo máximo de um produto em memória desde que foi lido do banco; limita
+ *                 por quanto tempo uma alteração feita fora desta instância pode passar despercebida
+ * @param validadeEstoque Idade máxima do estoque devolvido; um produto lido há mais tempo é
+ *                        lido novamente do banco antes de ser devolvido ({@code PT0S} desliga o
+ *                        cache do estoque)
+ */
+@ConfigurationProperties(prefix = "pedidos.catalogo")
+public record CatalogoProdutosProperties(
+        @DefaultValue("10000") int capacidade,
+        @DefaultValue("PT10M") Duration validade,
+        @DefaultValue("PT5S") Duration validadeEstoque) {
+}
@@ -0,0 +1,28 @@
+package com.br.bootcamp.orders.controller.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração da publicação dos eventos de pedido ({@code pedidos.eventos.*}).
+ *
+ * @param tamanhoLote Quantidade máxima de eventos travados e enviados ao destino de uma vez
+ * @param intervalo Intervalo entre as verificações da caixa de saída quando ela está vazia
+ * @param destino Destino dos eventos: {@code arquivo} (NDJSON local) ou {@code http}
+ * @param arquivo Arquivo que recebe os eventos quando o destino é {@code arquivo}
+ * @param url Endereço que recebe os eventos (POST com um array JSON) quando o destino é {@code http}
+ * @param timeoutHttp Tempo máximo de conexão e de resposta do destino {@code http}
+ */
+@ConfigurationProperties(prefix = "pedidos.eventos")
+public record EventosPedidoProperties(
+        @DefaultValue("100") int tamanhoLote,
+        @DefaultValue("PT1S") Duration intervalo,
+        @DefaultValue("arquivo") String destino,
+        @DefaultValue("eventos-pedidos.ndjson") Path arquivo,
+        URI url,
+        @DefaultValue("PT5S") Duration timeoutHttp) {
+}
@@ -0,0 +1,21 @@
+package com.br.bootcamp.orders.controller.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração das chaves de idempotência ({@code pedidos.idempotencia.*}).
+ *
+ * @param capacidadeCache Quantidade de respostas mantidas em memória (LRU) para as
+ *                        repetições mais recentes; as demais são buscadas no banco
+ * @param validade Tempo durante o qual uma chave devolve a resposta original
+ * @param intervaloLimpeza Intervalo entre as remoções das chaves vencidas do banco
+ */
+@ConfigurationProperties(prefix = "pedidos.idempotencia")
+public record IdempotenciaProperties(
+        @DefaultValue("10000") int capacidadeCache,
+        @DefaultValue("PT24H") Duration validade,
+        @DefaultValue("PT1H") Duration intervaloLimpeza) {
+}
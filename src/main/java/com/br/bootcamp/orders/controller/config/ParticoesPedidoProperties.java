@@ -0,0 +1,18 @@
+package com.br.bootcamp.orders.controller.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração das partições mensais de pedidos e itens ({@code pedidos.particoes.*}).
+ *
+ * @param mesesAFrente Quantidade de meses, além do atual, que devem ter partições criadas
+ * @param intervalo Intervalo entre as verificações das partições futuras
+ */
+@ConfigurationProperties(prefix = "pedidos.particoes")
+public record ParticoesPedidoProperties(
+        @DefaultValue("3") int mesesAFrente,
+        @DefaultValue("PT12H") Duration intervalo) {
+}
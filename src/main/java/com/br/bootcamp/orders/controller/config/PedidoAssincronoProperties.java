@@ -0,0 +1,19 @@
+package com.br.bootcamp.orders.controller.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do recebimento assíncrono de pedidos ({@code pedidos.assincrono.*}).
+ *
+ * @param capacidadeFila Quantidade máxima de pedidos aguardando processamento em memória;
+ *                       acima disso novos pedidos assíncronos são recusados com 503
+ * @param workers Quantidade de virtual threads consumindo a fila
+ * @param tamanhoLote Quantidade máxima de pedidos processados juntos por um worker
+ */
+@ConfigurationProperties(prefix = "pedidos.assincrono")
+public record PedidoAssincronoProperties(
+        @DefaultValue("10000") int capacidadeFila,
+        @DefaultValue("4") int workers,
+        @DefaultValue("50") int tamanhoLote) {
+}
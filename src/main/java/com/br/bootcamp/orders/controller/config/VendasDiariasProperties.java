@@ -0,0 +1,22 @@
+package com.br.bootcamp.orders.controller.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do relatório de vendas diárias ({@code pedidos.vendas.*}).
+ *
+ * @param capacidade Quantidade máxima de dias encerrados mantidos em memória
+ * @param validade Tempo máximo de um dia encerrado em memória; limita por quanto tempo uma
+ *                 alteração feita fora desta instância em um pedido de um dia encerrado pode
+ *                 passar despercebida
+ * @param diasMaximos Quantidade máxima de dias de um período consultado
+ */
+@ConfigurationProperties(prefix = "pedidos.vendas")
+public record VendasDiariasProperties(
+        @DefaultValue("3660") int capacidade,
+        @DefaultValue("PT1H") Duration validade,
+        @DefaultValue("366") int diasMaximos) {
+}
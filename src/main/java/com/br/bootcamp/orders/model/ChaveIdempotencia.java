@@ -0,0 +1,48 @@
+package com.br.bootcamp.orders.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "chaves_idempotencia")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChaveIdempotencia implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4417210838362015871L;
+
+    @Id
+    @Column(length = 255)
+    private String chave;
+
+    @Column(nullable = false, length = 64)
+    private String hashRequisicao;
+
+    /**
+     * Status HTTP da resposta original; nulo enquanto a requisição está em processamento
+     */
+    private Integer statusHttp;
+
+    @Column(length = 500)
+    private String location;
+
+    @Column(columnDefinition = "text")
+    private String corpo;
+
+    @Column(nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(nullable = false)
+    private LocalDateTime expiraEm;
+}
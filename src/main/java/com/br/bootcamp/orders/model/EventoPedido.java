@@ -0,0 +1,60 @@
+package com.br.bootcamp.orders.model;
+
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoEventoPedido;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "eventos_pedido")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoPedido implements Serializable {
+    
+    @Serial
+    private static final long serialVersionUID = -6150822709468711043L;
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventos_pedido_id_seq")
+    @SequenceGenerator(name = "eventos_pedido_id_seq", sequenceName = "eventos_pedido_id_seq", allocationSize = 50)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoEventoPedido tipo;
+    
+    @Column(nullable = false)
+    private Long pedidoId;
+    
+    private Long clienteId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusPedido status;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private StatusPedido statusAnterior;
+    
+    @Column(precision = 10, scale = 2)
+    private BigDecimal valorTotal;
+    
+    @Column(nullable = false)
+    private LocalDateTime criadoEm;
+}
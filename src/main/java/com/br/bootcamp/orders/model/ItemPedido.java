@@ -1,6 +1,7 @@
 package com.br.bootcamp.orders.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -8,6 +9,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,6 +19,7 @@ import lombok.NoArgsConstructor;
 import java.io.Serial;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "itens_pedido")
@@ -28,7 +32,8 @@ public class ItemPedido implements Serializable {
     private static final long serialVersionUID = 1388510553701464774L;
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "itens_pedido_id_seq")
+    @SequenceGenerator(name = "itens_pedido_id_seq", sequenceName = "itens_pedido_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne
@@ -48,4 +53,16 @@ public class ItemPedido implements Serializable {
     
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal subtotal;
+    
+    /**
+     * Data do pedido, repetida no item porque pedidos e itens são particionados por ela
+     */
+    @JsonIgnore
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime dataPedido;
+    
+    @PrePersist
+    void copiarDataDoPedido() {
+        dataPedido = pedido.getDataPedido();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.br.bootcamp.orders.model;
+
+import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.enums.SituacaoRecebimento;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "pedidos_recebidos")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PedidoRecebido implements Serializable {
+    
+    @Serial
+    private static final long serialVersionUID = -2930741561946128154L;
+    
+    @Id
+    private UUID id;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private PedidoDTO payload;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SituacaoRecebimento situacao;
+    
+    private Long pedidoId;
+    
+    @Column(length = 500)
+    private String mensagem;
+    
+    @Column(nullable = false)
+    private LocalDateTime recebidoEm;
+    
+    private LocalDateTime processadoEm;
+}
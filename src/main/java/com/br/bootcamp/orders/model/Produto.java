@@ -1,6 +1,7 @@
 package com.br.bootcamp.orders.model;
 
 import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -12,6 +13,7 @@ import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -46,4 +48,34 @@ public class Produto implements Serializable {
     @Enumerated(EnumType.STRING)
     @Column(length = 50)
     private CategoriaProduto categoria;
+    
+    /**
+     * Quantidade de frações em que o estoque está dividido (1 = estoque em {@code quantidade_estoque}).
+     * Alterada apenas pelo {@link com.br.bootcamp.orders.repository.EstoqueRepository}.
+     */
+    @Column(insertable = false, updatable = false)
+    private Integer fracoesEstoque = 1;
+    
+    /**
+     * Soma das frações do estoque, carregada apenas para produtos com estoque fracionado
+     */
+    @JsonIgnore
+    @Formula("(CASE WHEN fracoes_estoque > 1 THEN "
+            + "(SELECT COALESCE(SUM(f.quantidade), 0) FROM estoque_fracoes f WHERE f.produto_id = id) END)")
+    private Integer somaFracoesEstoque;
+    
+    /**
+     * Indica se o estoque do produto está dividido em frações
+     */
+    @JsonIgnore
+    public boolean isEstoqueFracionado() {
+        return fracoesEstoque != null && fracoesEstoque > 1;
+    }
+    
+    /**
+     * Estoque visível do produto: a soma das frações quando o estoque é fracionado
+     */
+    public Integer getQuantidadeEstoque() {
+        return isEstoqueFracionado() ? somaFracoesEstoque : quantidadeEstoque;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.br.bootcamp.orders.model.dto;
+
+import com.br.bootcamp.orders.model.PedidoRecebido;
+import com.br.bootcamp.orders.model.enums.SituacaoRecebimento;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO com a situação de um pedido recebido de forma assíncrona")
+public class RecebimentoPedidoDTO {
+
+    @Schema(description = "Identificador de acompanhamento do recebimento", example = "3f1c9a52-8d7e-4b7a-9f3e-2a4b6c8d0e1f")
+    private UUID id;
+
+    @Schema(description = "Situação do processamento", example = "RECEBIDO")
+    private SituacaoRecebimento situacao;
+
+    @Schema(description = "ID do pedido criado (apenas quando concluído)", example = "1")
+    private Long pedidoId;
+
+    @Schema(description = "Motivo da rejeição (apenas quando rejeitado)", example = "Estoque insuficiente para o produto: Notebook")
+    private String mensagem;
+
+    @Schema(description = "Data e hora do recebimento", example = "2024-01-15T10:30:00")
+    private LocalDateTime recebidoEm;
+
+    @Schema(description = "Data e hora do fim do processamento", example = "2024-01-15T10:30:01")
+    private LocalDateTime processadoEm;
+
+    public static RecebimentoPedidoDTO de(PedidoRecebido recebido) {
+        return new RecebimentoPedidoDTO(recebido.getId(), recebido.getSituacao(), recebido.getPedidoId(),
+                recebido.getMensagem(), recebido.getRecebidoEm(), recebido.getProcessadoEm());
+    }
+}
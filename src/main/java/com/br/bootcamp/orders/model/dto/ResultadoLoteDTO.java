@@ -0,0 +1,38 @@
+package com.br.bootcamp.orders.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "DTO com o resultado de cada pedido de um lote")
+public class ResultadoLoteDTO {
+
+    @Schema(description = "Posição do pedido na lista enviada (iniciando em 0)", example = "0")
+    private int indice;
+
+    @Schema(description = "Indica se o pedido foi criado com sucesso", example = "true")
+    private boolean sucesso;
+
+    @Schema(description = "ID do pedido criado (apenas em caso de sucesso)", example = "1")
+    private Long pedidoId;
+
+    @Schema(description = "Valor total do pedido criado (apenas em caso de sucesso)", example = "150.00")
+    private BigDecimal valorTotal;
+
+    @Schema(description = "Motivo da falha (apenas em caso de erro)", example = "Produto não encontrado com ID: 99")
+    private String mensagem;
+
+    public static ResultadoLoteDTO sucesso(int indice, Long pedidoId, BigDecimal valorTotal) {
+        return new ResultadoLoteDTO(indice, true, pedidoId, valorTotal, null);
+    }
+
+    public static ResultadoLoteDTO falha(int indice, String mensagem) {
+        return new ResultadoLoteDTO(indice, false, null, null, mensagem);
+    }
+}
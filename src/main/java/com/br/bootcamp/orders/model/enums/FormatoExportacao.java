@@ -0,0 +1,67 @@
+package com.br.bootcamp.orders.model.enums;
+
+import lombok.Getter;
+
+/**
+ * Enum que representa os formatos aceitos na exportação de pedidos.
+ *
+ * <p>Os dois formatos são orientados a linha, para que a exportação possa ser escrita
+ * na resposta à medida que os pedidos são lidos do banco.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+public enum FormatoExportacao {
+
+    /**
+     * Um objeto JSON por linha, com os itens do pedido aninhados.
+     */
+    NDJSON("NDJSON", "Um pedido por linha, em JSON", "application/x-ndjson", "ndjson"),
+
+    /**
+     * Uma linha por item, com os dados do pedido repetidos.
+     */
+    CSV("CSV", "Um item de pedido por linha, separado por vírgulas", "text/csv", "csv");
+
+    /**
+     * Descrição amigável do formato
+     */
+    private final String descricao;
+
+    /**
+     * Detalhes do formato
+     */
+    private final String detalhes;
+
+    /**
+     * Content-Type da resposta no formato
+     */
+    private final String tipoConteudo;
+
+    /**
+     * Extensão do arquivo exportado
+     */
+    private final String extensao;
+
+    /**
+     * Construtor do enum.
+     *
+     * @param descricao Descrição amigável do formato
+     * @param detalhes Detalhes adicionais sobre o formato
+     * @param tipoConteudo Content-Type da resposta
+     * @param extensao Extensão do arquivo exportado
+     */
+    FormatoExportacao(String descricao, String detalhes, String tipoConteudo, String extensao) {
+        this.descricao = descricao;
+        this.detalhes = detalhes;
+        this.tipoConteudo = tipoConteudo;
+        this.extensao = extensao;
+    }
+
+    @Override
+    public String toString() {
+        return descricao;
+    }
+}
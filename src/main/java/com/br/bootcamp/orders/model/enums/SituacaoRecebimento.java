@@ -0,0 +1,65 @@
+package com.br.bootcamp.orders.model.enums;
+
+import lombok.Getter;
+
+/**
+ * Enum que representa as situações de um pedido recebido de forma assíncrona.
+ * 
+ * <p>O pedido é aceito e gravado como {@link #RECEBIDO}, processado em segundo plano
+ * e termina como {@link #CONCLUIDO} (pedido criado) ou {@link #REJEITADO}.</p>
+ * 
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+public enum SituacaoRecebimento {
+    
+    /**
+     * Pedido aceito e aguardando processamento na fila.
+     */
+    RECEBIDO("Recebido", "Pedido aguardando processamento"),
+    
+    /**
+     * Pedido retirado da fila e em validação, cálculo e gravação.
+     */
+    PROCESSANDO("Processando", "Pedido em processamento"),
+    
+    /**
+     * Pedido processado e criado com sucesso.
+     */
+    CONCLUIDO("Concluído", "Pedido criado com sucesso"),
+    
+    /**
+     * Pedido recusado durante o processamento (ex.: produto inexistente, estoque insuficiente).
+     */
+    REJEITADO("Rejeitado", "Pedido recusado no processamento");
+
+    private final String descricao;
+    private final String detalhes;
+    
+    /**
+     * Construtor do enum.
+     * 
+     * @param descricao Descrição amigável da situação
+     * @param detalhes Detalhes adicionais sobre a situação
+     */
+    SituacaoRecebimento(String descricao, String detalhes) {
+        this.descricao = descricao;
+        this.detalhes = detalhes;
+    }
+    
+    /**
+     * Verifica se a situação é final (o processamento terminou).
+     * 
+     * @return true se o pedido já foi concluído ou rejeitado, false caso contrário
+     */
+    public boolean isFinal() {
+        return this == CONCLUIDO || this == REJEITADO;
+    }
+    
+    @Override
+    public String toString() {
+        return descricao;
+    }
+}
@@ -0,0 +1,46 @@
+package com.br.bootcamp.orders.model.enums;
+
+import lombok.Getter;
+
+/**
+ * Enum que representa os tipos de evento de pedido publicados para os sistemas externos.
+ * 
+ * <p>Os eventos são gravados na caixa de saída ({@code eventos_pedido}) na mesma
+ * transação da alteração do pedido e publicados em segundo plano.</p>
+ * 
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+public enum TipoEventoPedido {
+    
+    /**
+     * Pedido criado (individualmente, em lote ou de forma assíncrona).
+     */
+    PEDIDO_CRIADO("Pedido Criado", "Novo pedido registrado no sistema"),
+    
+    /**
+     * Status do pedido alterado.
+     */
+    STATUS_ALTERADO("Status Alterado", "Status do pedido alterado");
+
+    private final String descricao;
+    private final String detalhes;
+    
+    /**
+     * Construtor do enum.
+     * 
+     * @param descricao Descrição amigável do tipo de evento
+     * @param detalhes Detalhes adicionais sobre o tipo de evento
+     */
+    TipoEventoPedido(String descricao, String detalhes) {
+        this.descricao = descricao;
+        this.detalhes = detalhes;
+    }
+    
+    @Override
+    public String toString() {
+        return descricao;
+    }
+}
@@ -0,0 +1,32 @@
+package com.br.bootcamp.orders.model.leitura;
+
+import java.math.BigDecimal;
+
+/**
+ * Colunas de um produto usadas pelos filtros do catálogo: ID, preço, categoria e estoque visível.
+ *
+ * <p>É preenchido pelas consultas nativas do catálogo colunar, que já somam as frações dos
+ * produtos com estoque fracionado, sem carregar as entidades.</p>
+ */
+public interface ColunasProduto {
+
+    /**
+     * @return ID do produto
+     */
+    Long getId();
+
+    /**
+     * @return Preço do produto
+     */
+    BigDecimal getPreco();
+
+    /**
+     * @return Nome da constante de {@link com.br.bootcamp.orders.model.enums.CategoriaProduto}, ou {@code null}
+     */
+    String getCategoria();
+
+    /**
+     * @return Estoque visível do produto (a soma das frações quando o estoque é fracionado)
+     */
+    Integer getEstoque();
+}
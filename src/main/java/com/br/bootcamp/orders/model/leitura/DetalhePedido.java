@@ -0,0 +1,95 @@
+package com.br.bootcamp.orders.model.leitura;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.ItemPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Pedido na consulta por ID, com os itens.
+ *
+ * <p>Do cliente e dos produtos traz apenas a identificação; o cadastro completo fica nos
+ * endpoints de clientes e de produtos. Deve ser montado a partir de um pedido carregado
+ * com o cliente, os itens e os produtos na mesma consulta.</p>
+ */
+@Schema(description = "Pedido com os seus itens")
+public record DetalhePedido(
+
+        @Schema(description = "ID do pedido", example = "1")
+        Long id,
+
+        @Schema(description = "Cliente do pedido")
+        ClienteDoPedido cliente,
+
+        @Schema(description = "Data e hora do pedido", example = "2024-01-15T10:30:00")
+        LocalDateTime dataPedido,
+
+        @Schema(description = "Status do pedido", example = "PENDENTE")
+        StatusPedido status,
+
+        @Schema(description = "Tipo de pagamento", example = "PIX")
+        TipoPagamento tipoPagamento,
+
+        @Schema(description = "Valor total do pedido", example = "250.00")
+        BigDecimal valorTotal,
+
+        @Schema(description = "Itens do pedido")
+        List<ItemDoPedido> itens) {
+
+    public static DetalhePedido de(Pedido pedido) {
+        Cliente cliente = pedido.getCliente();
+        List<ItemDoPedido> itens = pedido.getItens() == null ? List.of()
+                : pedido.getItens().stream().map(ItemDoPedido::de).toList();
+        return new DetalhePedido(pedido.getId(), new ClienteDoPedido(cliente.getId(), cliente.getNome()),
+                pedido.getDataPedido(), pedido.getStatus(), pedido.getTipoPagamento(), pedido.getValorTotal(), itens);
+    }
+
+    /**
+     * Identificação do cliente do pedido
+     */
+    @Schema(description = "Identificação do cliente do pedido")
+    public record ClienteDoPedido(
+
+            @Schema(description = "ID do cliente", example = "1")
+            Long id,
+
+            @Schema(description = "Nome do cliente", example = "João Silva")
+            String nome) {
+    }
+
+    /**
+     * Item do pedido, com a identificação do produto
+     */
+    @Schema(description = "Item do pedido")
+    public record ItemDoPedido(
+
+            @Schema(description = "ID do item", example = "1")
+            Long id,
+
+            @Schema(description = "ID do produto", example = "1")
+            Long produtoId,
+
+            @Schema(description = "Nome do produto", example = "Notebook")
+            String produtoNome,
+
+            @Schema(description = "Quantidade", example = "2")
+            Integer quantidade,
+
+            @Schema(description = "Preço unitário no momento do pedido", example = "100.00")
+            BigDecimal precoUnitario,
+
+            @Schema(description = "Subtotal do item", example = "200.00")
+            BigDecimal subtotal) {
+
+        static ItemDoPedido de(ItemPedido item) {
+            return new ItemDoPedido(item.getId(), item.getProduto().getId(), item.getProduto().getNome(),
+                    item.getQuantidade(), item.getPrecoUnitario(), item.getSubtotal());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.br.bootcamp.orders.model.leitura;
+
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Linha da exportação de pedidos: os dados de um pedido e de um dos seus itens.
+ *
+ * <p>É montada diretamente pela consulta, sem carregar as entidades, para que a
+ * exportação não acumule pedidos no contexto de persistência. Um pedido com N itens
+ * gera N linhas consecutivas; um pedido sem itens gera uma linha com os campos do
+ * item nulos.</p>
+ */
+public record LinhaExportacaoPedido(
+        Long pedidoId,
+        Long clienteId,
+        LocalDateTime dataPedido,
+        StatusPedido status,
+        TipoPagamento tipoPagamento,
+        BigDecimal valorTotal,
+        Long produtoId,
+        Integer quantidade,
+        BigDecimal precoUnitario,
+        BigDecimal subtotal) {
+
+    /**
+     * Indica se a linha traz um item do pedido
+     */
+    public boolean temItem() {
+        return produtoId != null;
+    }
+}
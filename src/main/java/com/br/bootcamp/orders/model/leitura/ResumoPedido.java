@@ -0,0 +1,40 @@
+package com.br.bootcamp.orders.model.leitura;
+
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Pedido nas listagens.
+ *
+ * <p>É montado diretamente pela consulta da página ({@code SELECT new ...}), junto com o
+ * nome do cliente, então cada página custa uma única instrução SQL e não carrega os
+ * itens nem o cadastro completo do cliente. Os itens ficam no {@link DetalhePedido}.</p>
+ */
+@Schema(description = "Resumo de um pedido nas listagens")
+public record ResumoPedido(
+
+        @Schema(description = "ID do pedido", example = "1")
+        Long id,
+
+        @Schema(description = "ID do cliente", example = "1")
+        Long clienteId,
+
+        @Schema(description = "Nome do cliente", example = "João Silva")
+        String clienteNome,
+
+        @Schema(description = "Data e hora do pedido", example = "2024-01-15T10:30:00")
+        LocalDateTime dataPedido,
+
+        @Schema(description = "Status do pedido", example = "PENDENTE")
+        StatusPedido status,
+
+        @Schema(description = "Tipo de pagamento", example = "PIX")
+        TipoPagamento tipoPagamento,
+
+        @Schema(description = "Valor total do pedido", example = "250.00")
+        BigDecimal valorTotal) {
+}
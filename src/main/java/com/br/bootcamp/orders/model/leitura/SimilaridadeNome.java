@@ -0,0 +1,21 @@
+package com.br.bootcamp.orders.model.leitura;
+
+/**
+ * Resultado da busca por nome: o ID do registro encontrado e a semelhança do nome com o termo.
+ *
+ * <p>É preenchido pelas consultas nativas da busca por nome, que ordenam pela semelhança
+ * calculada no banco ({@code similarity()} do pg_trgm). Os registros completos são carregados
+ * depois, pela chave primária, na ordem destes resultados.</p>
+ */
+public interface SimilaridadeNome {
+
+    /**
+     * @return ID do registro encontrado
+     */
+    Long getId();
+
+    /**
+     * @return Semelhança entre o nome e o termo buscado, de 0 a 1
+     */
+    Float getSimilaridade();
+}
@@ -0,0 +1,53 @@
+package com.br.bootcamp.orders.model.leitura;
+
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Vendas de um dia com um status e um tipo de pagamento.
+ *
+ * <p>É lida da tabela {@code vendas_diarias}, mantida pelo banco na mesma transação de cada
+ * gravação de pedido, sem somar os pedidos na consulta.</p>
+ */
+@Schema(description = "Vendas de um dia por status e tipo de pagamento")
+public record VendaDiaria(
+
+        @Schema(description = "Dia dos pedidos", example = "2024-01-15")
+        LocalDate dia,
+
+        @Schema(description = "Status dos pedidos", example = "ENTREGUE")
+        StatusPedido status,
+
+        @Schema(description = "Tipo de pagamento dos pedidos", example = "PIX")
+        TipoPagamento tipoPagamento,
+
+        @Schema(description = "Quantidade de pedidos", example = "42")
+        long pedidos,
+
+        @Schema(description = "Soma do valor total dos pedidos", example = "10500.00")
+        BigDecimal receita,
+
+        @Schema(description = "Valor médio por pedido", example = "250.00")
+        BigDecimal ticketMedio) {
+
+    /**
+     * Cria as vendas de uma combinação, calculando o valor médio por pedido.
+     *
+     * @param dia Dia dos pedidos
+     * @param status Status dos pedidos
+     * @param tipoPagamento Tipo de pagamento dos pedidos
+     * @param pedidos Quantidade de pedidos (maior que zero)
+     * @param receita Soma do valor total dos pedidos
+     * @return Vendas da combinação
+     */
+    public static VendaDiaria de(LocalDate dia, StatusPedido status, TipoPagamento tipoPagamento,
+                                 long pedidos, BigDecimal receita) {
+        return new VendaDiaria(dia, status, tipoPagamento, pedidos, receita,
+                receita.divide(BigDecimal.valueOf(pedidos), 2, RoundingMode.HALF_UP));
+    }
+}
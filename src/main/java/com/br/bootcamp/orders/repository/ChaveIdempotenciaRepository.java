@@ -0,0 +1,63 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.model.ChaveIdempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ChaveIdempotenciaRepository extends JpaRepository<ChaveIdempotencia, String> {
+
+    /**
+     * Reserva a chave para uma nova requisição. Uma chave vencida que ainda não foi
+     * removida pela limpeza é reaproveitada.
+     *
+     * @return 1 se a chave foi reservada, 0 se ela já pertence a outra requisição
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO chaves_idempotencia (chave, hash_requisicao, criado_em, expira_em) "
+            + "VALUES (:chave, :hashRequisicao, :criadoEm, :expiraEm) "
+            + "ON CONFLICT (chave) DO UPDATE SET hash_requisicao = EXCLUDED.hash_requisicao, status_http = NULL, "
+            + "location = NULL, corpo = NULL, criado_em = EXCLUDED.criado_em, expira_em = EXCLUDED.expira_em "
+            + "WHERE chaves_idempotencia.expira_em < EXCLUDED.criado_em", nativeQuery = true)
+    int reservar(@Param("chave") String chave,
+                 @Param("hashRequisicao") String hashRequisicao,
+                 @Param("criadoEm") LocalDateTime criadoEm,
+                 @Param("expiraEm") LocalDateTime expiraEm);
+
+    /**
+     * Registra a resposta produzida para uma chave reservada
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChaveIdempotencia c SET c.statusHttp = :statusHttp, c.location = :location, c.corpo = :corpo "
+            + "WHERE c.chave = :chave")
+    int concluir(@Param("chave") String chave,
+                 @Param("statusHttp") Integer statusHttp,
+                 @Param("location") String location,
+                 @Param("corpo") String corpo);
+
+    /**
+     * Libera uma chave cuja requisição falhou, permitindo que o cliente tente novamente
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotencia c WHERE c.chave = :chave AND c.statusHttp IS NULL")
+    int liberar(@Param("chave") String chave);
+
+    /**
+     * Remove as chaves vencidas
+     *
+     * @return Quantidade de chaves removidas
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotencia c WHERE c.expiraEm < :agora")
+    int removerExpiradas(@Param("agora") LocalDateTime agora);
+}
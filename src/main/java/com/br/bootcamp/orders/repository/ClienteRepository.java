@@ -1,18 +1,42 @@
 package com.br.bootcamp.orders.repository;
 
 import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.leitura.SimilaridadeNome;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface ClienteRepository extends JpaRepository<Cliente, Long> {
+public interface ClienteRepository extends JpaRepository<Cliente, Long>, ContadorRepository {
     
     /**
-     * Busca clientes por nome (case insensitive)
+     * Página de todos os clientes após o ID informado (0 na primeira página)
      */
-    List<Cliente> findByNomeContainingIgnoreCase(String nome);
+    List<Cliente> findByIdGreaterThanOrderByIdAsc(Long id, Limit limite);
+    
+    /**
+     * Página dos IDs dos clientes cujo nome contém o termo (case insensitive), dos mais
+     * semelhantes ao termo para os menos, após o resultado com a semelhança e o ID informados.
+     * A primeira página começa na semelhança {@code BuscaPorNome.SIMILARIDADE_INICIAL} e no ID 0.
+     *
+     * <p>O {@code ILIKE} é atendido pelo índice de trigramas {@code idx_clientes_nome_trgm}; a
+     * semelhança é calculada apenas para as linhas encontradas.</p>
+     */
+    @Query(value = "SELECT id, similarity(nome, :termo) AS similaridade FROM clientes "
+            + "WHERE nome ILIKE :padrao AND (similarity(nome, :termo) < :similaridade "
+            + "OR (similarity(nome, :termo) = :similaridade AND id > :id)) "
+            + "ORDER BY similaridade DESC, id LIMIT :limite", nativeQuery = true)
+    List<SimilaridadeNome> buscarPaginaPorNome(@Param("termo") String termo, @Param("padrao") String padrao,
+                                               @Param("similaridade") float similaridade, @Param("id") long id,
+                                               @Param("limite") int limite);
     
     /**
      * Busca cliente por email
@@ -23,4 +47,13 @@ public interface ClienteRepository extends JpaRepository<Cliente, Long> {
      * Verifica se existe cliente com o email informado
      */
     boolean existsByEmail(String email);
+    
+    /**
+     * Emails de todos os clientes, trazidos em blocos à medida que são consumidos.
+     *
+     * <p>O stream precisa ser consumido dentro de uma transação e fechado ao final.</p>
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT c.email FROM Cliente c")
+    Stream<String> listarEmails();
 } 
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.br.bootcamp.orders.repository;
+
+import java.util.Map;
+
+/**
+ * Fragmento dos repositories de produtos, clientes e pedidos com as contagens de linhas.
+ *
+ * <p>As contagens exatas somam as frações da tabela {@code contadores}, mantida pelos gatilhos
+ * da própria tabela contada na mesma transação de cada gravação: custam a leitura de poucas
+ * linhas, qualquer que seja o tamanho da tabela. As contagens aproximadas leem a estimativa
+ * {@code pg_class.reltuples} da tabela (ou a soma das suas partições), atualizada pelo
+ * {@code VACUUM}, pelo {@code ANALYZE} e pelo autovacuum.</p>
+ */
+public interface ContadorRepository {
+
+    /**
+     * Contador das linhas da tabela de produtos
+     */
+    String PRODUTOS = "produtos";
+
+    /**
+     * Contador das linhas da tabela de clientes
+     */
+    String CLIENTES = "clientes";
+
+    /**
+     * Contador das linhas da tabela de pedidos; os pedidos por status ficam em {@code pedidos:<status>}
+     */
+    String PEDIDOS = "pedidos";
+
+    /**
+     * Conta exatamente as linhas registradas no contador.
+     *
+     * @param contador Nome do contador ({@link #PRODUTOS}, {@link #CLIENTES} ou {@link #PEDIDOS})
+     * @return Quantidade de linhas (0 se o contador ainda não tiver registros)
+     */
+    long contar(String contador);
+
+    /**
+     * Conta exatamente as linhas de cada grupo do contador, registradas em {@code <contador>:<grupo>}.
+     *
+     * @param contador Nome do contador
+     * @return Quantidade de linhas por grupo; grupos sem registros ficam de fora
+     */
+    Map<String, Long> contarPorGrupo(String contador);
+
+    /**
+     * Estima as linhas da tabela pelas estatísticas do PostgreSQL, sem ler a tabela nem os contadores.
+     *
+     * @param tabela Nome da tabela ({@link #PRODUTOS}, {@link #CLIENTES} ou {@link #PEDIDOS})
+     * @return Quantidade estimada de linhas (0 se a tabela ainda não tiver estatísticas)
+     */
+    long contarAproximado(String tabela);
+}
@@ -0,0 +1,52 @@
+package com.br.bootcamp.orders.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ContadorRepositoryImpl implements ContadorRepository {
+
+    private static final String CONTAR =
+            "SELECT COALESCE(SUM(quantidade), 0) FROM contadores WHERE nome = ?";
+
+    private static final String CONTAR_POR_GRUPO =
+            "SELECT nome, SUM(quantidade) AS quantidade FROM contadores WHERE nome LIKE ? GROUP BY nome";
+
+    /**
+     * Estimativa da tabela, ou a soma das suas partições se ela for particionada (apenas as
+     * partições guardam linhas); tabelas ainda não analisadas têm {@code reltuples} -1
+     */
+    private static final String CONTAR_APROXIMADO = """
+            SELECT COALESCE(SUM(GREATEST(c.reltuples, 0)), 0)::bigint FROM pg_class c
+            WHERE c.relkind = 'r' AND (c.oid = to_regclass(?)
+               OR c.oid IN (SELECT i.inhrelid FROM pg_inherits i WHERE i.inhparent = to_regclass(?)))""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long contar(String contador) {
+        Long quantidade = jdbcTemplate.queryForObject(CONTAR, Long.class, contador);
+        return quantidade != null ? quantidade : 0L;
+    }
+
+    @Override
+    public Map<String, Long> contarPorGrupo(String contador) {
+        String prefixo = contador + ":";
+        Map<String, Long> quantidades = new HashMap<>();
+        jdbcTemplate.query(CONTAR_POR_GRUPO,
+                rs -> {
+                    quantidades.put(rs.getString("nome").substring(prefixo.length()), rs.getLong("quantidade"));
+                },
+                prefixo + "%");
+        return quantidades;
+    }
+
+    @Override
+    public long contarAproximado(String tabela) {
+        Long quantidade = jdbcTemplate.queryForObject(CONTAR_APROXIMADO, Long.class, tabela, tabela);
+        return quantidade != null ? quantidade : 0L;
+    }
+}
@@ -0,0 +1,47 @@
+package com.br.bootcamp.orders.repository;
+
+import java.util.SortedMap;
+
+/**
+ * Fragmento do {@link ProdutoRepository} com as operações atômicas de estoque.
+ */
+public interface EstoqueRepository {
+
+    /**
+     * Aplica, em um único lote JDBC, as variações de estoque informadas por produto.
+     *
+     * <p>Cada variação é um {@code UPDATE} condicional: quantidades positivas são debitadas
+     * apenas se houver estoque suficiente, e quantidades negativas são devolvidas ao estoque.
+     * Os produtos são atualizados em ordem crescente de ID para evitar deadlocks entre
+     * transações concorrentes.</p>
+     *
+     * <p>Para produtos com estoque fracionado, a variação é aplicada a uma fração sorteada
+     * entre as que têm estoque suficiente, ignorando as frações travadas por outras transações.
+     * Uma reserva maior que qualquer fração isolada é recusada, mesmo que a soma das frações
+     * seja suficiente.</p>
+     *
+     * @param variacoesPorProduto Quantidade a debitar (positiva) ou devolver (negativa) por ID de produto
+     * @return Número de linhas atualizadas para cada produto, na ordem do mapa (0 indica estoque insuficiente)
+     */
+    int[] ajustarEstoque(SortedMap<Long, Integer> variacoesPorProduto);
+
+    /**
+     * Redistribui o estoque atual do produto em frações, ou o consolida novamente em
+     * {@code produtos.quantidade_estoque} quando {@code fracoes} for 1.
+     *
+     * <p>Trava o produto e suas frações, de forma que reservas concorrentes aguardem a redistribuição.</p>
+     *
+     * @param produtoId ID do produto
+     * @param fracoes Nova quantidade de frações (1 desativa o fracionamento)
+     * @return Estoque total redistribuído, ou -1 se o produto não existir
+     */
+    int fracionarEstoque(Long produtoId, int fracoes);
+
+    /**
+     * Define o estoque total de um produto, respeitando a quantidade de frações configurada.
+     *
+     * @param produtoId ID do produto
+     * @param quantidade Novo estoque total
+     */
+    void definirEstoque(Long produtoId, int quantidade);
+}
@@ -0,0 +1,124 @@
+package com.br.bootcamp.orders.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.stream.IntStream;
+
+@RequiredArgsConstructor
+public class EstoqueRepositoryImpl implements EstoqueRepository {
+
+    private static final String AJUSTAR_ESTOQUE =
+            "UPDATE produtos SET quantidade_estoque = quantidade_estoque - ? "
+            + "WHERE id = ? AND fracoes_estoque = 1 AND quantidade_estoque >= ?";
+
+    /**
+     * Debita (ou devolve) em uma fração sorteada entre as que têm estoque suficiente,
+     * pulando as frações já travadas por outras reservas
+     */
+    private static final String AJUSTAR_FRACAO_LIVRE = """
+            UPDATE estoque_fracoes SET quantidade = quantidade - ?
+            WHERE produto_id = ? AND quantidade >= ? AND fracao = (
+                SELECT fracao FROM estoque_fracoes
+                WHERE produto_id = ? AND quantidade >= ?
+                ORDER BY random() LIMIT 1
+                FOR UPDATE SKIP LOCKED)""";
+
+    /**
+     * Mesma atualização, aguardando a fração sorteada quando todas as elegíveis estão travadas
+     */
+    private static final String AJUSTAR_FRACAO_AGUARDANDO = """
+            UPDATE estoque_fracoes SET quantidade = quantidade - ?
+            WHERE produto_id = ? AND quantidade >= ? AND fracao = (
+                SELECT fracao FROM estoque_fracoes
+                WHERE produto_id = ? AND quantidade >= ?
+                ORDER BY random() LIMIT 1
+                FOR UPDATE)""";
+
+    private static final String TRAVAR_PRODUTO =
+            "SELECT fracoes_estoque, quantidade_estoque FROM produtos WHERE id = ? FOR UPDATE";
+
+    private static final String TRAVAR_FRACOES =
+            "SELECT quantidade FROM estoque_fracoes WHERE produto_id = ? ORDER BY fracao FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] ajustarEstoque(SortedMap<Long, Integer> variacoesPorProduto) {
+        if (variacoesPorProduto.isEmpty()) {
+            return new int[0];
+        }
+
+        List<Long> produtoIds = new ArrayList<>(variacoesPorProduto.keySet());
+        List<Object[]> parametros = produtoIds.stream()
+                .map(produtoId -> new Object[]{variacoesPorProduto.get(produtoId), produtoId, variacoesPorProduto.get(produtoId)})
+                .toList();
+        int[] atualizados = jdbcTemplate.batchUpdate(AJUSTAR_ESTOQUE, parametros);
+
+        // Produtos não atualizados têm estoque fracionado ou estoque insuficiente
+        for (String ajustarFracao : List.of(AJUSTAR_FRACAO_LIVRE, AJUSTAR_FRACAO_AGUARDANDO)) {
+            List<Integer> pendentes = IntStream.range(0, atualizados.length)
+                    .filter(i -> atualizados[i] == 0)
+                    .boxed()
+                    .toList();
+            if (pendentes.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> parametrosFracao = pendentes.stream()
+                    .map(i -> {
+                        Long produtoId = produtoIds.get(i);
+                        Integer variacao = variacoesPorProduto.get(produtoId);
+                        return new Object[]{variacao, produtoId, variacao, produtoId, variacao};
+                    })
+                    .toList();
+            int[] atualizadosFracao = jdbcTemplate.batchUpdate(ajustarFracao, parametrosFracao);
+            for (int i = 0; i < pendentes.size(); i++) {
+                atualizados[pendentes.get(i)] = atualizadosFracao[i];
+            }
+        }
+        return atualizados;
+    }
+
+    @Override
+    public int fracionarEstoque(Long produtoId, int fracoes) {
+        List<int[]> produto = jdbcTemplate.query(TRAVAR_PRODUTO,
+                (rs, rowNum) -> new int[]{rs.getInt("fracoes_estoque"), rs.getInt("quantidade_estoque")}, produtoId);
+        if (produto.isEmpty()) {
+            return -1;
+        }
+
+        int fracoesAtuais = produto.get(0)[0];
+        int total = fracoesAtuais > 1
+                ? jdbcTemplate.queryForList(TRAVAR_FRACOES, Integer.class, produtoId).stream().mapToInt(Integer::intValue).sum()
+                : produto.get(0)[1];
+        distribuir(produtoId, total, fracoes);
+        return total;
+    }
+
+    @Override
+    public void definirEstoque(Long produtoId, int quantidade) {
+        List<Integer> fracoes = jdbcTemplate.query(TRAVAR_PRODUTO, (rs, rowNum) -> rs.getInt("fracoes_estoque"), produtoId);
+        if (!fracoes.isEmpty()) {
+            distribuir(produtoId, quantidade, fracoes.get(0));
+        }
+    }
+
+    /**
+     * Substitui as frações do produto pelo total informado, dividido o mais igualmente possível
+     */
+    private void distribuir(Long produtoId, int total, int fracoes) {
+        jdbcTemplate.update("DELETE FROM estoque_fracoes WHERE produto_id = ?", produtoId);
+        if (fracoes > 1) {
+            List<Object[]> parametros = IntStream.range(0, fracoes)
+                    .mapToObj(fracao -> new Object[]{produtoId, fracao, total / fracoes + (fracao < total % fracoes ? 1 : 0)})
+                    .toList();
+            jdbcTemplate.batchUpdate("INSERT INTO estoque_fracoes (produto_id, fracao, quantidade) VALUES (?, ?, ?)", parametros);
+        }
+        jdbcTemplate.update("UPDATE produtos SET fracoes_estoque = ?, quantidade_estoque = ? WHERE id = ?",
+                fracoes, fracoes > 1 ? 0 : total, produtoId);
+    }
+}
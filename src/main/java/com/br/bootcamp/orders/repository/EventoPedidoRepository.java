@@ -0,0 +1,28 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.model.EventoPedido;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EventoPedidoRepository extends JpaRepository<EventoPedido, Long> {
+    
+    /**
+     * Trava e retorna os eventos pendentes mais antigos, pulando os que já estão
+     * travados por outro publicador. Deve ser chamado dentro de uma transação, que
+     * mantém a trava até os eventos serem publicados e removidos.
+     */
+    @Query(value = "SELECT * FROM eventos_pedido ORDER BY id LIMIT :limite FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EventoPedido> travarPendentes(@Param("limite") int limite);
+    
+    /**
+     * Data de criação do evento pendente mais antigo, ou nulo se não houver pendentes
+     */
+    @Query("SELECT MIN(e.criadoEm) FROM EventoPedido e")
+    LocalDateTime buscarCriacaoMaisAntiga();
+}
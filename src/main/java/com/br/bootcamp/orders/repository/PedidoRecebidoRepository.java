@@ -0,0 +1,50 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.model.PedidoRecebido;
+import com.br.bootcamp.orders.model.enums.SituacaoRecebimento;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PedidoRecebidoRepository extends JpaRepository<PedidoRecebido, UUID> {
+    
+    /**
+     * Busca os pedidos recebidos com os IDs e a situação informados
+     */
+    List<PedidoRecebido> findByIdInAndSituacaoOrderByRecebidoEm(Collection<UUID> ids, SituacaoRecebimento situacao);
+    
+    /**
+     * Busca os IDs dos pedidos em uma situação, dos mais antigos para os mais recentes
+     */
+    @Query("SELECT p.id FROM PedidoRecebido p WHERE p.situacao = :situacao ORDER BY p.recebidoEm")
+    List<UUID> findIdsBySituacao(@Param("situacao") SituacaoRecebimento situacao, Pageable pageable);
+    
+    /**
+     * Altera a situação dos pedidos informados que ainda estejam na situação esperada
+     * 
+     * @return Quantidade de pedidos alterados
+     */
+    @Modifying
+    @Query("UPDATE PedidoRecebido p SET p.situacao = :nova WHERE p.id IN :ids AND p.situacao = :atual")
+    int alterarSituacao(@Param("ids") Collection<UUID> ids,
+                        @Param("atual") SituacaoRecebimento atual,
+                        @Param("nova") SituacaoRecebimento nova);
+    
+    /**
+     * Rejeita todos os pedidos que estavam em uma situação, registrando o motivo
+     * 
+     * @return Quantidade de pedidos rejeitados
+     */
+    @Modifying
+    @Query("UPDATE PedidoRecebido p SET p.situacao = com.br.bootcamp.orders.model.enums.SituacaoRecebimento.REJEITADO, p.mensagem = :mensagem, "
+            + "p.processadoEm = CURRENT_TIMESTAMP WHERE p.situacao = :situacao")
+    int rejeitarTodos(@Param("situacao") SituacaoRecebimento situacao, @Param("mensagem") String mensagem);
+}
@@ -2,36 +2,160 @@ package com.br.bootcamp.orders.repository;
 
 import com.br.bootcamp.orders.model.Pedido;
 import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.leitura.LinhaExportacaoPedido;
+import com.br.bootcamp.orders.model.leitura.ResumoPedido;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Repository de pedidos.
+ *
+ * <p>As listagens são paginadas por cursor sobre (data_pedido, id), dos mais recentes para
+ * os mais antigos. Cada listagem tem a consulta da primeira página e a consulta das páginas
+ * seguintes, que continua a partir do último pedido da página anterior. A condição
+ * {@code dataPedido <= :dataPedido} é redundante com a comparação que vem em seguida, mas
+ * permite ao PostgreSQL posicionar a varredura do índice diretamente no cursor.</p>
+ *
+ * <p>As páginas são montadas pela própria consulta como {@link ResumoPedido}, com o nome do
+ * cliente em um JOIN, sem carregar entidades: cada página custa uma única instrução SQL.
+ * A consulta por ID ({@link #findById}) traz o pedido com o cliente, os itens e os produtos
+ * de uma só vez. Como o open-session-in-view está desligado, toda consulta que devolve
+ * entidades precisa declarar o que carrega.</p>
+ *
+ * <p>A exportação não é paginada: lê o período inteiro em um único cursor do banco,
+ * trazendo {@link #TAMANHO_BUSCA_EXPORTACAO} linhas por vez.</p>
+ *
+ * <p>Os filtros por data comparam a coluna {@code data_pedido} diretamente com um intervalo
+ * semiaberto {@code [inicio, fim)}. Uma função sobre a coluna, como {@code CAST(... AS date)},
+ * impediria o uso do índice, e o {@code BETWEEN} até 23:59:59 perderia os pedidos do último
+ * segundo do dia, que têm fração de segundo.</p>
+ *
+ * <p>As tabelas {@code pedidos} e {@code itens_pedido} são particionadas por mês de
+ * {@code data_pedido}. Os filtros por período, assim como a condição do cursor, comparam a
+ * própria coluna com parâmetros, o que permite ao PostgreSQL descartar as partições fora do
+ * intervalo. A consulta por ID não tem a data e consulta o índice de cada partição.</p>
+ */
 @Repository
-public interface PedidoRepository extends JpaRepository<Pedido, Long> {
-    
+public interface PedidoRepository extends JpaRepository<Pedido, Long>, ContadorRepository, VendaDiariaRepository {
+
+    String RESUMO = "SELECT new com.br.bootcamp.orders.model.leitura.ResumoPedido(p.id, c.id, c.nome, p.dataPedido, "
+            + "p.status, p.tipoPagamento, p.valorTotal) FROM Pedido p JOIN p.cliente c";
+
+    String ORDEM_PAGINA = " ORDER BY p.dataPedido DESC, p.id DESC";
+
+    String APOS_CURSOR = "p.dataPedido <= :dataPedido AND (p.dataPedido < :dataPedido OR p.id < :id)";
+
+    String NO_PERIODO = "p.dataPedido >= :inicio AND p.dataPedido < :fim";
+
+    /**
+     * Linhas trazidas do banco a cada ida da exportação (fetch size do JDBC)
+     */
+    String TAMANHO_BUSCA_EXPORTACAO = "1000";
+
+    /**
+     * Pedido com o cliente, os itens e os produtos carregados na mesma consulta.
+     *
+     * <p>Todos os usos do pedido por ID percorrem os itens (reserva de estoque, cálculo do
+     * total, resposta da atualização), e a resposta é serializada depois do fim da
+     * transação, então nada pode ficar para carregamento tardio.</p>
+     */
+    @Override
+    @EntityGraph(attributePaths = {"cliente", "itens", "itens.produto"})
+    Optional<Pedido> findById(Long id);
+
+    /**
+     * Primeira página de todos os pedidos
+     */
+    @Query(RESUMO + ORDEM_PAGINA)
+    List<ResumoPedido> buscarPagina(Limit limite);
+
+    /**
+     * Página de todos os pedidos após o cursor
+     */
+    @Query(RESUMO + " WHERE " + APOS_CURSOR + ORDEM_PAGINA)
+    List<ResumoPedido> buscarPaginaApos(@Param("dataPedido") LocalDateTime dataPedido, @Param("id") Long id, Limit limite);
+
+    /**
+     * Primeira página dos pedidos de um cliente
+     */
+    @Query(RESUMO + " WHERE p.cliente.id = :clienteId" + ORDEM_PAGINA)
+    List<ResumoPedido> buscarPaginaPorCliente(@Param("clienteId") Long clienteId, Limit limite);
+
+    /**
+     * Página dos pedidos de um cliente após o cursor
+     */
+    @Query(RESUMO + " WHERE p.cliente.id = :clienteId AND " + APOS_CURSOR + ORDEM_PAGINA)
+    List<ResumoPedido> buscarPaginaPorClienteApos(@Param("clienteId") Long clienteId, @Param("dataPedido") LocalDateTime dataPedido,
+                                            @Param("id") Long id, Limit limite);
+
+    /**
+     * Primeira página dos pedidos com um status
+     */
+    @Query(RESUMO + " WHERE p.status = :status" + ORDEM_PAGINA)
+    List<ResumoPedido> buscarPaginaPorStatus(@Param("status") StatusPedido status, Limit limite);
+
+    /**
+     * Página dos pedidos com um status após o cursor
+     */
+    @Query(RESUMO + " WHERE p.status = :status AND " + APOS_CURSOR + ORDEM_PAGINA)
+    List<ResumoPedido> buscarPaginaPorStatusApos(@Param("status") StatusPedido status, @Param("dataPedido") LocalDateTime dataPedido,
+                                           @Param("id") Long id, Limit limite);
+
     /**
-     * Busca pedidos por cliente
+     * Primeira página dos pedidos de um período, de {@code inicio} (inclusive) a {@code fim}
+     * (exclusive)
      */
-    List<Pedido> findByClienteId(Long clienteId);
-    
+    @Query(RESUMO + " WHERE " + NO_PERIODO + ORDEM_PAGINA)
+    List<ResumoPedido> buscarPaginaPorPeriodo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim,
+                                        Limit limite);
+
     /**
-     * Busca pedidos por status
+     * Página dos pedidos de um período após o cursor, de {@code inicio} (inclusive) a
+     * {@code fim} (exclusive)
      */
-    List<Pedido> findByStatus(StatusPedido status);
-    
+    @Query(RESUMO + " WHERE " + NO_PERIODO + " AND " + APOS_CURSOR + ORDEM_PAGINA)
+    List<ResumoPedido> buscarPaginaPorPeriodoApos(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim,
+                                            @Param("dataPedido") LocalDateTime dataPedido, @Param("id") Long id, Limit limite);
+
     /**
-     * Busca pedidos por data específica
+     * Linhas da exportação dos pedidos de um período, dos mais antigos para os mais recentes,
+     * com os itens de cada pedido em linhas consecutivas.
+     *
+     * <p>O stream precisa ser consumido dentro de uma transação e fechado ao final. Dentro da
+     * transação o driver do PostgreSQL usa um cursor no servidor e respeita o fetch size, então
+     * a memória usada não depende do tamanho do período.</p>
+     *
+     * <p>O período é repetido na junção com os itens, que têm a mesma data do pedido, para que
+     * também as partições de itens fora do período sejam descartadas.</p>
      */
-    @Query("SELECT p FROM Pedido p WHERE CAST(p.dataPedido AS date) = :data")
-    List<Pedido> findByDataPedidoDate(@Param("data") LocalDate data);
-    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TAMANHO_BUSCA_EXPORTACAO))
+    @Query("SELECT new com.br.bootcamp.orders.model.leitura.LinhaExportacaoPedido(p.id, p.cliente.id, p.dataPedido, p.status, "
+            + "p.tipoPagamento, p.valorTotal, i.produto.id, i.quantidade, i.precoUnitario, i.subtotal) "
+            + "FROM Pedido p LEFT JOIN p.itens i ON i.dataPedido >= :inicio AND i.dataPedido < :fim "
+            + "WHERE " + NO_PERIODO + " ORDER BY p.dataPedido, p.id, i.id")
+    Stream<LinhaExportacaoPedido> exportarPorPeriodo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
     /**
-     * Busca pedidos por período
+     * Cria as partições mensais de pedidos e itens de {@code inicio} a {@code fim} que ainda
+     * não existem, movendo para elas os pedidos que estiverem na partição padrão.
+     *
+     * @return Quantidade de meses cujas partições foram criadas
      */
-    List<Pedido> findByDataPedidoBetween(LocalDateTime dataInicio, LocalDateTime dataFim);
-} 
\ No newline at end of file
+    @Transactional
+    @Query(value = "SELECT criar_particoes_pedidos(:inicio, :fim)", nativeQuery = true)
+    int criarParticoes(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+}
@@ -1,22 +1,95 @@
 package com.br.bootcamp.orders.repository;
 
 import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.model.leitura.ColunasProduto;
+import com.br.bootcamp.orders.model.leitura.SimilaridadeNome;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProdutoRepository extends JpaRepository<Produto, Long> {
+public interface ProdutoRepository extends JpaRepository<Produto, Long>, EstoqueRepository, ContadorRepository {
     
     /**
-     * Busca produtos por nome (case insensitive)
+     * Colunas lidas pelo catálogo colunar; o estoque soma as frações dos produtos com estoque fracionado
      */
-    List<Produto> findByNomeContainingIgnoreCase(String nome);
+    String COLUNAS_CATALOGO = "SELECT p.id, p.preco, p.categoria, CAST(CASE WHEN p.fracoes_estoque > 1 THEN "
+            + "(SELECT COALESCE(SUM(f.quantidade), 0) FROM estoque_fracoes f WHERE f.produto_id = p.id) "
+            + "ELSE p.quantidade_estoque END AS integer) AS estoque FROM produtos p ";
     
     /**
-     * Busca produtos dentro de uma faixa de preço
+     * Página de todos os produtos após o ID informado (0 na primeira página)
      */
-    List<Produto> findByPrecoBetweenOrderByPrecoAsc(BigDecimal precoMinimo, BigDecimal precoMaximo);
-} 
\ No newline at end of file
+    List<Produto> findByIdGreaterThanOrderByIdAsc(Long id, Limit limite);
+    
+    /**
+     * Página dos IDs dos produtos cujo nome contém o termo (case insensitive), dos mais
+     * semelhantes ao termo para os menos, após o resultado com a semelhança e o ID informados.
+     * A primeira página começa na semelhança {@code BuscaPorNome.SIMILARIDADE_INICIAL} e no ID 0.
+     *
+     * <p>O {@code ILIKE} é atendido pelo índice de trigramas {@code idx_produtos_nome_trgm}; a
+     * semelhança é calculada apenas para as linhas encontradas.</p>
+     */
+    @Query(value = "SELECT id, similarity(nome, :termo) AS similaridade FROM produtos "
+            + "WHERE nome ILIKE :padrao AND (similarity(nome, :termo) < :similaridade "
+            + "OR (similarity(nome, :termo) = :similaridade AND id > :id)) "
+            + "ORDER BY similaridade DESC, id LIMIT :limite", nativeQuery = true)
+    List<SimilaridadeNome> buscarPaginaPorNome(@Param("termo") String termo, @Param("padrao") String padrao,
+                                               @Param("similaridade") float similaridade, @Param("id") long id,
+                                               @Param("limite") int limite);
+    
+    /**
+     * Página dos produtos dentro de uma faixa de preço, ordenados por preço e ID, após o
+     * produto com o preço e o ID informados. A primeira página começa no preço mínimo e no ID 0.
+     */
+    @Query("SELECT p FROM Produto p WHERE p.preco BETWEEN :precoMinimo AND :precoMaximo "
+            + "AND p.preco >= :preco AND (p.preco > :preco OR p.id > :id) ORDER BY p.preco, p.id")
+    List<Produto> buscarPaginaPorFaixaPreco(@Param("precoMinimo") BigDecimal precoMinimo,
+                                            @Param("precoMaximo") BigDecimal precoMaximo,
+                                            @Param("preco") BigDecimal preco, @Param("id") Long id, Limit limite);
+    
+    /**
+     * Página dos produtos que atendem aos filtros do catálogo, ordenados por preço e ID, após o
+     * produto com o preço e o ID informados. A primeira página começa no preço mínimo e no ID 0.
+     *
+     * @param categoria Categoria dos produtos, ou {@code null} para todas
+     * @param apenasEmEstoque Se {@code true}, apenas produtos com estoque visível maior que zero
+     */
+    @Query("SELECT p FROM Produto p WHERE p.preco BETWEEN :precoMinimo AND :precoMaximo "
+            + "AND (:categoria IS NULL OR p.categoria = :categoria) "
+            + "AND (:apenasEmEstoque = false OR (CASE WHEN p.fracoesEstoque > 1 THEN p.somaFracoesEstoque "
+            + "ELSE p.quantidadeEstoque END) > 0) "
+            + "AND p.preco >= :preco AND (p.preco > :preco OR p.id > :id) ORDER BY p.preco, p.id")
+    List<Produto> buscarPaginaPorFiltro(@Param("precoMinimo") BigDecimal precoMinimo,
+                                        @Param("precoMaximo") BigDecimal precoMaximo,
+                                        @Param("categoria") CategoriaProduto categoria,
+                                        @Param("apenasEmEstoque") boolean apenasEmEstoque,
+                                        @Param("preco") BigDecimal preco, @Param("id") Long id, Limit limite);
+    
+    /**
+     * Colunas de todos os produtos, ordenadas por preço e ID e trazidas em blocos à medida que
+     * são consumidas.
+     *
+     * <p>O stream precisa ser consumido dentro de uma transação e fechado ao final.</p>
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query(value = COLUNAS_CATALOGO + "ORDER BY p.preco, p.id", nativeQuery = true)
+    Stream<ColunasProduto> listarColunas();
+    
+    /**
+     * Colunas dos produtos com os IDs informados (IDs inexistentes ficam de fora)
+     */
+    @Query(value = COLUNAS_CATALOGO + "WHERE p.id IN (:ids)", nativeQuery = true)
+    List<ColunasProduto> buscarColunas(@Param("ids") Collection<Long> ids);
+}
\ No newline at end of file
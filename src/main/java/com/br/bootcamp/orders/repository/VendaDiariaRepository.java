@@ -0,0 +1,25 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Fragmento do {@link PedidoRepository} com as vendas diárias mantidas pelo banco.
+ *
+ * <p>A tabela {@code vendas_diarias} é atualizada pelos gatilhos de {@code pedidos} na mesma
+ * transação de cada inclusão, alteração e exclusão, então a consulta lê apenas as linhas dos
+ * dias pedidos, qualquer que seja a quantidade de pedidos.</p>
+ */
+public interface VendaDiariaRepository {
+
+    /**
+     * Busca as vendas do período por dia, status e tipo de pagamento.
+     *
+     * @param dataInicio Primeiro dia do período
+     * @param dataFim Último dia do período (inclusive)
+     * @return Vendas ordenadas por dia, status e tipo de pagamento; combinações sem pedidos ficam de fora
+     */
+    List<VendaDiaria> buscarVendas(LocalDate dataInicio, LocalDate dataFim);
+}
@@ -0,0 +1,40 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class VendaDiariaRepositoryImpl implements VendaDiariaRepository {
+
+    /**
+     * Soma as frações de cada combinação; combinações cujos pedidos foram todos alterados ou
+     * excluídos ficam com zero pedidos e são descartadas
+     */
+    private static final String BUSCAR_VENDAS = """
+            SELECT dia, status, tipo_pagamento, SUM(pedidos) AS pedidos, SUM(receita) AS receita
+            FROM vendas_diarias
+            WHERE dia BETWEEN ? AND ?
+            GROUP BY dia, status, tipo_pagamento
+            HAVING SUM(pedidos) <> 0
+            ORDER BY dia, status, tipo_pagamento""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<VendaDiaria> buscarVendas(LocalDate dataInicio, LocalDate dataFim) {
+        return jdbcTemplate.query(BUSCAR_VENDAS,
+                (rs, rowNum) -> VendaDiaria.de(
+                        rs.getObject("dia", LocalDate.class),
+                        StatusPedido.valueOf(rs.getString("status")),
+                        TipoPagamento.valueOf(rs.getString("tipo_pagamento")),
+                        rs.getLong("pedidos"),
+                        rs.getBigDecimal("receita")),
+                dataInicio, dataFim);
+    }
+}
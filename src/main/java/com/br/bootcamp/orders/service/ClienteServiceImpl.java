@@ -3,12 +3,20 @@ package com.br.bootcamp.orders.service;
 import com.br.bootcamp.orders.model.Cliente;
 import com.br.bootcamp.orders.model.dto.ClienteDTO;
 import com.br.bootcamp.orders.repository.ClienteRepository;
+import com.br.bootcamp.orders.repository.ContadorRepository;
 import com.br.bootcamp.orders.service.contracts.IClienteService;
 import com.br.bootcamp.orders.service.exception.BusinessException;
 import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import com.br.bootcamp.orders.service.mapper.ClienteMapper;
+import com.br.bootcamp.orders.service.util.BuscaPorNome;
+import com.br.bootcamp.orders.service.util.CadastroClientes;
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.Pagina;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,32 +27,42 @@ import java.util.Optional;
 @Slf4j
 public class ClienteServiceImpl implements IClienteService {
     
+    /**
+     * Nome da restrição única do email na tabela de clientes
+     */
+    private static final String RESTRICAO_EMAIL_UNICO = "clientes_email_key";
+    
+    private static final String MENSAGEM_EMAIL_DUPLICADO = "Já existe um cliente cadastrado com este email: ";
+    
     private final ClienteRepository clienteRepository;
-    private final ModelMapper modelMapper;
+    private final ClienteMapper clienteMapper;
+    private final CadastroClientes cadastroClientes;
     
     /**
-     * Lista todos os clientes
+     * Lista os clientes, paginados por ID
      */
     @Override
-    public List<Cliente> listarTodos() {
-        return clienteRepository.findAll();
+    public Pagina<Cliente> listarTodos(int limite, String cursor) {
+        CursorPaginacao.validarLimite(limite);
+        long aposId = CursorPaginacao.lerId(cursor);
+        return paginar(clienteRepository.findByIdGreaterThanOrderByIdAsc(aposId, Limit.of(limite + 1)), limite);
     }
     
     /**
-     * Busca cliente por ID
+     * Busca cliente por ID no cadastro em memória
      */
     @Override
     public Optional<Cliente> buscarPorId(Long id) {
-        return Optional.ofNullable(clienteRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com ID: " + id)));
+        return cadastroClientes.buscar(id);
     }
     
     /**
-     * Busca clientes por nome
+     * Busca clientes por nome, dos mais semelhantes ao termo para os menos
      */
     @Override
-    public List<Cliente> buscarPorNome(String nome) {
-        return clienteRepository.findByNomeContainingIgnoreCase(nome);
+    public Pagina<Cliente> buscarPorNome(String nome, int limite, String cursor) {
+        return BuscaPorNome.buscar(nome, limite, cursor, clienteRepository::buscarPaginaPorNome,
+                clienteRepository::findAllById, Cliente::getId);
     }
     
     /**
@@ -52,23 +70,23 @@ public class ClienteServiceImpl implements IClienteService {
      */
     @Override
     public Cliente buscarPorEmail(String email) {
-        Cliente cliente = clienteRepository.findByEmail(email);
-        if (cliente == null) {
-            throw new ResourceNotFoundException("Cliente não encontrado com o email: " + email);
-        }
-        return cliente;
+        return cadastroClientes.buscarPorEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Cliente não encontrado com o email: " + email));
     }
     
     /**
      * Salva um novo cliente
+     * 
+     * <p>A consulta de email existente só é feita quando o filtro de emails não descarta o email;
+     * a restrição única do banco continua barrando duplicatas que o filtro não conhece.</p>
      */
     @Override
     public Cliente salvar(ClienteDTO clienteDTO) {
-        if (clienteRepository.existsByEmail(clienteDTO.getEmail())) {
-            throw new BusinessException("Já existe um cliente cadastrado com este email: " + clienteDTO.getEmail());
+        if (cadastroClientes.podeExistirEmail(clienteDTO.getEmail()) && clienteRepository.existsByEmail(clienteDTO.getEmail())) {
+            throw new BusinessException(MENSAGEM_EMAIL_DUPLICADO + clienteDTO.getEmail());
         }
-        Cliente cliente = modelMapper.map(clienteDTO, Cliente.class);
-        return clienteRepository.save(cliente);
+        Cliente cliente = clienteMapper.paraEntidade(clienteDTO);
+        return gravar(cliente);
     }
     
     /**
@@ -79,9 +97,9 @@ public class ClienteServiceImpl implements IClienteService {
         if (!clienteRepository.existsById(id)) {
             throw new ResourceNotFoundException("Cliente não encontrado com ID: " + id);
         }
-        Cliente cliente = modelMapper.map(clienteDTO, Cliente.class);
+        Cliente cliente = clienteMapper.paraEntidade(clienteDTO);
         cliente.setId(id);
-        return clienteRepository.save(cliente);
+        return gravar(cliente);
     }
     
     /**
@@ -93,13 +111,39 @@ public class ClienteServiceImpl implements IClienteService {
             throw new ResourceNotFoundException("Cliente não encontrado com ID: " + id);
         }
         clienteRepository.deleteById(id);
+        cadastroClientes.invalidar(id);
     }
     
     /**
      * Conta o total de clientes
      */
     @Override
-    public long contarClientes() {
-        return clienteRepository.count();
+    public long contarClientes(boolean aproximado) {
+        return aproximado
+                ? clienteRepository.contarAproximado(ContadorRepository.CLIENTES)
+                : clienteRepository.contar(ContadorRepository.CLIENTES);
+    }
+
+    /**
+     * Grava o cliente e o registra no cadastro em memória, traduzindo a violação da restrição
+     * única do email para a mesma mensagem da verificação prévia
+     */
+    private Cliente gravar(Cliente cliente) {
+        Cliente gravado;
+        try {
+            gravado = clienteRepository.save(cliente);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violacao
+                    && RESTRICAO_EMAIL_UNICO.equalsIgnoreCase(violacao.getConstraintName())) {
+                throw new BusinessException(MENSAGEM_EMAIL_DUPLICADO + cliente.getEmail());
+            }
+            throw e;
+        }
+        cadastroClientes.registrar(gravado);
+        return gravado;
+    }
+
+    private static Pagina<Cliente> paginar(List<Cliente> clientes, int limite) {
+        return CursorPaginacao.montar(clientes, limite, cliente -> CursorPaginacao.codificar(cliente.getId()));
     }
-} 
\ No newline at end of file
+}
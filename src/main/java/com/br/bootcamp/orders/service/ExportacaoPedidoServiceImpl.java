@@ -0,0 +1,44 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
+import com.br.bootcamp.orders.model.leitura.LinhaExportacaoPedido;
+import com.br.bootcamp.orders.repository.PedidoRepository;
+import com.br.bootcamp.orders.service.contracts.IExportacaoPedidoService;
+import com.br.bootcamp.orders.service.util.ExportacaoPedidos;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportacaoPedidoServiceImpl implements IExportacaoPedidoService {
+
+    private final PedidoRepository pedidoRepository;
+
+    /**
+     * Exporta os pedidos do período.
+     *
+     * <p>A transação fica aberta durante toda a escrita: fora dela o driver do PostgreSQL
+     * ignora o fetch size e traria o resultado inteiro para a memória de uma vez.</p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportar(LocalDate dataInicio, LocalDate dataFim, FormatoExportacao formato, OutputStream saida) throws IOException {
+        ExportacaoPedidos.validarPeriodo(dataInicio, dataFim);
+        long inicio = System.nanoTime();
+        try (Stream<LinhaExportacaoPedido> linhas = pedidoRepository.exportarPorPeriodo(
+                dataInicio.atStartOfDay(), dataFim.plusDays(1).atStartOfDay())) {
+            long pedidos = ExportacaoPedidos.escrever(linhas, formato, saida);
+            log.info("Exportação de pedidos de {} a {} em {}: {} pedidos em {} ms", dataInicio, dataFim, formato, pedidos,
+                    (System.nanoTime() - inicio) / 1_000_000);
+            return pedidos;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.controller.config.IdempotenciaProperties;
+import com.br.bootcamp.orders.model.ChaveIdempotencia;
+import com.br.bootcamp.orders.repository.ChaveIdempotenciaRepository;
+import com.br.bootcamp.orders.service.contracts.IIdempotenciaService;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.exception.RequisicaoEmAndamentoException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class IdempotenciaServiceImpl implements IIdempotenciaService {
+
+    /**
+     * Cabeçalho incluído nas respostas devolvidas a partir de uma requisição anterior
+     */
+    public static final String CABECALHO_REPETIDA = "Idempotent-Replayed";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final IdempotenciaProperties propriedades;
+
+    /**
+     * Respostas mais recentes em ordem de acesso (LRU), protegidas por {@link #travaCache}
+     */
+    private final Map<String, RespostaArmazenada> cache;
+    private final ReentrantLock travaCache = new ReentrantLock();
+
+    private final Counter acertosMemoria;
+    private final Counter acertosBanco;
+    private final Counter faltas;
+
+    public IdempotenciaServiceImpl(ChaveIdempotenciaRepository chaveIdempotenciaRepository,
+                                   TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                                   IdempotenciaProperties propriedades, MeterRegistry meterRegistry) {
+        this.chaveIdempotenciaRepository = chaveIdempotenciaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.propriedades = propriedades;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RespostaArmazenada> maisAntiga) {
+                return size() > propriedades.capacidadeCache();
+            }
+        };
+
+        this.acertosMemoria = contador(meterRegistry, "hit", "memoria");
+        this.acertosBanco = contador(meterRegistry, "hit", "banco");
+        this.faltas = contador(meterRegistry, "miss", "banco");
+        Gauge.builder("pedidos.idempotencia.cache.tamanho", cache, this::tamanhoCache)
+                .description("Respostas idempotentes mantidas em memória")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ResponseEntity<?> executar(String chave, String operacao, Object requisicao, Supplier<ResponseEntity<?>> acao) {
+        validarChave(chave);
+        String hashRequisicao = calcularHash(operacao, requisicao);
+
+        RespostaArmazenada emMemoria = buscarNoCache(chave);
+        if (emMemoria != null) {
+            acertosMemoria.increment();
+            return repetir(emMemoria, hashRequisicao);
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        if (chaveIdempotenciaRepository.reservar(chave, hashRequisicao, agora, agora.plus(propriedades.validade())) == 0) {
+            return repetirDoBanco(chave, hashRequisicao);
+        }
+
+        faltas.increment();
+        Execucao execucao;
+        try {
+            // A resposta é gravada na transação da operação: se não puder ser guardada, a operação é
+            // desfeita e a chave liberada, em vez de ficar em processamento com o pedido já gravado
+            execucao = transactionTemplate.execute(status -> {
+                ResponseEntity<?> resposta = acao.get();
+                RespostaArmazenada armazenada = new RespostaArmazenada(hashRequisicao, resposta.getStatusCode().value(),
+                        resposta.getHeaders().getLocation() != null ? resposta.getHeaders().getLocation().toString() : null,
+                        serializar(resposta.getBody()), agora.plus(propriedades.validade()));
+                chaveIdempotenciaRepository.concluir(chave, armazenada.statusHttp(), armazenada.location(),
+                        armazenada.corpo());
+                return new Execucao(resposta, armazenada);
+            });
+        } catch (RuntimeException e) {
+            chaveIdempotenciaRepository.liberar(chave);
+            throw e;
+        }
+
+        guardarNoCache(chave, execucao.armazenada());
+        return execucao.resposta();
+    }
+
+    /**
+     * Remove do banco as chaves vencidas. As entradas vencidas do cache são ignoradas
+     * na leitura e descartadas pelo próprio LRU.
+     */
+    @Scheduled(fixedDelayString = "${pedidos.idempotencia.intervalo-limpeza:PT1H}",
+            initialDelayString = "${pedidos.idempotencia.intervalo-limpeza:PT1H}")
+    public void removerExpiradas() {
+        int removidas = chaveIdempotenciaRepository.removerExpiradas(LocalDateTime.now());
+        if (removidas > 0) {
+            log.info("{} chaves de idempotência vencidas removidas", removidas);
+        }
+    }
+
+    private ResponseEntity<String> repetirDoBanco(String chave, String hashRequisicao) {
+        ChaveIdempotencia existente = chaveIdempotenciaRepository.findById(chave).orElse(null);
+        if (existente != null && !existente.getHashRequisicao().equals(hashRequisicao)) {
+            throw new BusinessException("Chave de idempotência já utilizada com outra requisição.");
+        }
+        if (existente == null || existente.getStatusHttp() == null) {
+            throw new RequisicaoEmAndamentoException(
+                    "Requisição com a chave de idempotência " + chave + " ainda em processamento. Tente novamente em instantes.");
+        }
+
+        RespostaArmazenada armazenada = new RespostaArmazenada(existente.getHashRequisicao(), existente.getStatusHttp(),
+                existente.getLocation(), existente.getCorpo(), existente.getExpiraEm());
+        guardarNoCache(chave, armazenada);
+        acertosBanco.increment();
+        return repetir(armazenada, hashRequisicao);
+    }
+
+    private ResponseEntity<String> repetir(RespostaArmazenada armazenada, String hashRequisicao) {
+        if (!armazenada.hashRequisicao().equals(hashRequisicao)) {
+            throw new BusinessException("Chave de idempotência já utilizada com outra requisição.");
+        }
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.status(armazenada.statusHttp())
+                .header(CABECALHO_REPETIDA, "true");
+        if (armazenada.location() != null) {
+            resposta.location(URI.create(armazenada.location()));
+        }
+        if (armazenada.corpo() == null) {
+            return resposta.build();
+        }
+        return resposta.contentType(MediaType.APPLICATION_JSON).body(armazenada.corpo());
+    }
+
+    private void validarChave(String chave) {
+        if (chave == null || chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new BusinessException("Chave de idempotência deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres.");
+        }
+    }
+
+    private RespostaArmazenada buscarNoCache(String chave) {
+        RespostaArmazenada armazenada;
+        travaCache.lock();
+        try {
+            armazenada = cache.get(chave);
+        } finally {
+            travaCache.unlock();
+        }
+        return armazenada != null && armazenada.expiraEm().isAfter(LocalDateTime.now()) ? armazenada : null;
+    }
+
+    private void guardarNoCache(String chave, RespostaArmazenada armazenada) {
+        travaCache.lock();
+        try {
+            cache.put(chave, armazenada);
+        } finally {
+            travaCache.unlock();
+        }
+    }
+
+    private double tamanhoCache(Map<String, RespostaArmazenada> respostas) {
+        travaCache.lock();
+        try {
+            return respostas.size();
+        } finally {
+            travaCache.unlock();
+        }
+    }
+
+    /**
+     * SHA-256 da operação e do corpo da requisição, para reconhecer a reutilização
+     * de uma chave com outra requisição
+     */
+    private String calcularHash(String operacao, Object requisicao) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operacao.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(requisicao));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível calcular o hash da requisição", e);
+        }
+    }
+
+    private String serializar(Object corpo) {
+        if (corpo == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(corpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível armazenar a resposta idempotente", e);
+        }
+    }
+
+    private static Counter contador(MeterRegistry meterRegistry, String resultado, String origem) {
+        return Counter.builder("pedidos.idempotencia.consultas")
+                .description("Verificações de chaves de idempotência")
+                .tag("resultado", resultado)
+                .tag("origem", origem)
+                .register(meterRegistry);
+    }
+
+    private record Execucao(ResponseEntity<?> resposta, RespostaArmazenada armazenada) {
+    }
+
+    private record RespostaArmazenada(String hashRequisicao, int statusHttp, String location, String corpo,
+                                      LocalDateTime expiraEm) {
+    }
+}
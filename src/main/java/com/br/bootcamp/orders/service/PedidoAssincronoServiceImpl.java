@@ -0,0 +1,256 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.controller.config.PedidoAssincronoProperties;
+import com.br.bootcamp.orders.model.PedidoRecebido;
+import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.dto.RecebimentoPedidoDTO;
+import com.br.bootcamp.orders.model.dto.ResultadoLoteDTO;
+import com.br.bootcamp.orders.model.enums.SituacaoRecebimento;
+import com.br.bootcamp.orders.repository.PedidoRecebidoRepository;
+import com.br.bootcamp.orders.service.contracts.IPedidoAssincronoService;
+import com.br.bootcamp.orders.service.contracts.IPedidoService;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.exception.FilaCheiaException;
+import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class PedidoAssincronoServiceImpl implements IPedidoAssincronoService {
+
+    private static final String MENSAGEM_INTERROMPIDO =
+            "Processamento interrompido por reinicialização; verifique se o pedido foi criado antes de reenviá-lo.";
+
+    /**
+     * Tamanho da coluna {@code pedidos_recebidos.mensagem}
+     */
+    private static final int TAMANHO_MAXIMO_MENSAGEM = 500;
+
+    private final PedidoRecebidoRepository pedidoRecebidoRepository;
+    private final IPedidoService pedidoService;
+    private final TransactionTemplate transactionTemplate;
+    private final PedidoAssincronoProperties propriedades;
+
+    private final BlockingQueue<UUID> fila;
+
+    /**
+     * IDs enfileirados e ainda não processados, para que um mesmo pedido nunca
+     * seja colocado duas vezes na fila (ex.: recebido durante a recuperação)
+     */
+    private final Set<UUID> enfileirados = ConcurrentHashMap.newKeySet();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    public PedidoAssincronoServiceImpl(PedidoRecebidoRepository pedidoRecebidoRepository, IPedidoService pedidoService,
+                                       TransactionTemplate transactionTemplate, PedidoAssincronoProperties propriedades) {
+        this.pedidoRecebidoRepository = pedidoRecebidoRepository;
+        this.pedidoService = pedidoService;
+        this.transactionTemplate = transactionTemplate;
+        this.propriedades = propriedades;
+        this.fila = new ArrayBlockingQueue<>(propriedades.capacidadeFila());
+    }
+
+    /**
+     * Recebe um pedido para processamento assíncrono.
+     *
+     * <p>Não participa da transação de quem chama (por exemplo, a de uma requisição idempotente):
+     * o pedido recebido é gravado antes de entrar na fila, para que os workers o encontrem.</p>
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RecebimentoPedidoDTO receber(PedidoDTO pedidoDTO) {
+        validarFormato(pedidoDTO);
+        if (fila.remainingCapacity() == 0) {
+            throw new FilaCheiaException("Fila de pedidos cheia. Tente novamente em instantes.");
+        }
+
+        PedidoRecebido recebido = pedidoRecebidoRepository.save(new PedidoRecebido(
+                UUID.randomUUID(), pedidoDTO, SituacaoRecebimento.RECEBIDO, null, null, LocalDateTime.now(), null));
+
+        if (!enfileirar(recebido.getId())) {
+            pedidoRecebidoRepository.deleteById(recebido.getId());
+            throw new FilaCheiaException("Fila de pedidos cheia. Tente novamente em instantes.");
+        }
+
+        log.debug("Pedido recebido para processamento assíncrono - ID de acompanhamento: {}", recebido.getId());
+        return RecebimentoPedidoDTO.de(recebido);
+    }
+
+    /**
+     * Consulta a situação de um pedido recebido
+     */
+    @Override
+    public RecebimentoPedidoDTO consultar(UUID id) {
+        return pedidoRecebidoRepository.findById(id)
+                .map(RecebimentoPedidoDTO::de)
+                .orElseThrow(() -> new ResourceNotFoundException("Recebimento não encontrado com ID: " + id));
+    }
+
+    /**
+     * Confere apenas o formato do pedido, sem acessar o banco
+     */
+    private void validarFormato(PedidoDTO pedidoDTO) {
+        if (pedidoDTO == null) {
+            throw new BusinessException("Pedido não pode ser nulo.");
+        }
+        if (pedidoDTO.getClienteId() == null) {
+            throw new BusinessException("Cliente é obrigatório para criar um pedido");
+        }
+        if (pedidoDTO.getTipoPagamento() == null) {
+            throw new BusinessException("Tipo de pagamento é obrigatório.");
+        }
+        if (pedidoDTO.getItens() == null || pedidoDTO.getItens().isEmpty()) {
+            throw new BusinessException("Itens do pedido são obrigatórios.");
+        }
+        for (PedidoDTO.ItemPedidoDTO item : pedidoDTO.getItens()) {
+            if (item == null || item.getProdutoId() == null) {
+                throw new BusinessException("Produto é obrigatório para cada item do pedido");
+            }
+            if (item.getQuantidade() == null || item.getQuantidade() <= 0) {
+                throw new BusinessException("Quantidade deve ser maior que zero para o produto: " + item.getProdutoId());
+            }
+        }
+    }
+
+    private boolean enfileirar(UUID id) {
+        if (!enfileirados.add(id)) {
+            return true;
+        }
+        if (!fila.offer(id)) {
+            enfileirados.remove(id);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Recupera os pedidos deixados pela execução anterior e inicia os workers.
+     *
+     * <p>Pedidos que estavam em processamento podem ou não ter sido criados, então são
+     * rejeitados em vez de reprocessados, evitando pedidos duplicados. Pedidos ainda
+     * não processados voltam para a fila.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        Integer interrompidos = transactionTemplate.execute(status ->
+                pedidoRecebidoRepository.rejeitarTodos(SituacaoRecebimento.PROCESSANDO, MENSAGEM_INTERROMPIDO));
+        if (interrompidos != null && interrompidos > 0) {
+            log.warn("{} pedidos assíncronos interrompidos na execução anterior foram rejeitados", interrompidos);
+        }
+
+        List<UUID> pendentes = pedidoRecebidoRepository.findIdsBySituacao(SituacaoRecebimento.RECEBIDO, Pageable.unpaged());
+        if (!pendentes.isEmpty()) {
+            log.info("Recolocando {} pedidos assíncronos pendentes na fila", pendentes.size());
+            workers.add(Thread.ofVirtual().name("pedidos-recuperacao").start(() -> recolocarNaFila(pendentes)));
+        }
+
+        for (int i = 0; i < propriedades.workers(); i++) {
+            workers.add(Thread.ofVirtual().name("pedidos-worker-" + i).start(this::consumirFila));
+        }
+        log.info("{} workers de pedidos assíncronos iniciados (fila: {}, lote: {})",
+                propriedades.workers(), propriedades.capacidadeFila(), propriedades.tamanhoLote());
+    }
+
+    @PreDestroy
+    public void parar() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    private void recolocarNaFila(List<UUID> pendentes) {
+        try {
+            for (UUID id : pendentes) {
+                if (enfileirados.add(id)) {
+                    fila.put(id);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consumirFila() {
+        List<UUID> lote = new ArrayList<>(propriedades.tamanhoLote());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                lote.add(fila.take());
+                fila.drainTo(lote, propriedades.tamanhoLote() - 1);
+                processarLote(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Erro ao processar lote de {} pedidos assíncronos: {}", lote.size(), e.getMessage(), e);
+            } finally {
+                lote.forEach(enfileirados::remove);
+                lote.clear();
+            }
+        }
+    }
+
+    /**
+     * Processa um lote de pedidos recebidos pela mesma rotina da criação em lote
+     * (uma consulta por tabela para clientes e produtos, validação, cálculo, reserva
+     * de estoque e INSERTs agrupados) e registra o resultado de cada um.
+     */
+    void processarLote(List<UUID> ids) {
+        List<PedidoRecebido> recebidos = transactionTemplate.execute(status -> {
+            pedidoRecebidoRepository.alterarSituacao(ids, SituacaoRecebimento.RECEBIDO, SituacaoRecebimento.PROCESSANDO);
+            return pedidoRecebidoRepository.findByIdInAndSituacaoOrderByRecebidoEm(ids, SituacaoRecebimento.PROCESSANDO);
+        });
+        if (recebidos == null || recebidos.isEmpty()) {
+            return;
+        }
+
+        List<ResultadoLoteDTO> resultados;
+        try {
+            resultados = pedidoService.salvarLote(recebidos.stream().map(PedidoRecebido::getPayload).toList());
+        } catch (RuntimeException e) {
+            log.error("Erro ao processar lote de {} pedidos assíncronos: {}", recebidos.size(), e.getMessage(), e);
+            resultados = new ArrayList<>();
+            for (int i = 0; i < recebidos.size(); i++) {
+                resultados.add(ResultadoLoteDTO.falha(i, e.getMessage()));
+            }
+        }
+
+        Map<UUID, ResultadoLoteDTO> resultadoPorId = new HashMap<>();
+        for (int i = 0; i < recebidos.size(); i++) {
+            resultadoPorId.put(recebidos.get(i).getId(), resultados.get(i));
+        }
+
+        LocalDateTime processadoEm = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status ->
+                pedidoRecebidoRepository.findAllById(resultadoPorId.keySet()).forEach(recebido -> {
+                    ResultadoLoteDTO resultado = resultadoPorId.get(recebido.getId());
+                    recebido.setSituacao(resultado.isSucesso() ? SituacaoRecebimento.CONCLUIDO : SituacaoRecebimento.REJEITADO);
+                    recebido.setPedidoId(resultado.getPedidoId());
+                    recebido.setMensagem(limitarMensagem(resultado.getMensagem()));
+                    recebido.setProcessadoEm(processadoEm);
+                }));
+
+        log.debug("Lote de {} pedidos assíncronos processado", recebidos.size());
+    }
+
+    private String limitarMensagem(String mensagem) {
+        return mensagem != null && mensagem.length() > TAMANHO_MAXIMO_MENSAGEM
+                ? mensagem.substring(0, TAMANHO_MAXIMO_MENSAGEM)
+                : mensagem;
+    }
+}
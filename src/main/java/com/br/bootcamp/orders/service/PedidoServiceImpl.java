@@ -1,31 +1,50 @@
 package com.br.bootcamp.orders.service;
 
 import com.br.bootcamp.orders.model.ItemPedido;
-import com.br.bootcamp.orders.model.Produto;
 import com.br.bootcamp.orders.service.exception.BusinessException;
 import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
 import com.br.bootcamp.orders.model.Pedido;
 import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.dto.ResultadoLoteDTO;
 import com.br.bootcamp.orders.model.enums.StatusPedido;
-import com.br.bootcamp.orders.repository.ClienteRepository;
+import com.br.bootcamp.orders.model.leitura.DetalhePedido;
+import com.br.bootcamp.orders.model.leitura.ResumoPedido;
+import com.br.bootcamp.orders.repository.ContadorRepository;
 import com.br.bootcamp.orders.repository.PedidoRepository;
 import com.br.bootcamp.orders.repository.ProdutoRepository;
 import com.br.bootcamp.orders.service.contracts.IPedidoService;
+import com.br.bootcamp.orders.service.mapper.PedidoMapper;
+import com.br.bootcamp.orders.service.util.CadastroClientes;
+import com.br.bootcamp.orders.service.util.ContextoPedido;
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.MetricasEtapasPedido;
+import com.br.bootcamp.orders.service.util.MetricasEtapasPedido.Etapa;
+import com.br.bootcamp.orders.service.util.MetricasEtapasPedido.Operacao;
+import com.br.bootcamp.orders.service.util.Pagina;
 import com.br.bootcamp.orders.service.util.PedidoCalculator;
 import com.br.bootcamp.orders.service.util.PedidoValidator;
+import com.br.bootcamp.orders.service.util.RegistroEventosPedido;
+import com.br.bootcamp.orders.service.util.ReservaEstoque;
+import com.br.bootcamp.orders.service.util.VendasDiarias;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,19 +52,35 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PedidoServiceImpl implements IPedidoService {
     
+    /**
+     * Quantidade de pedidos persistidos por transação na criação em lote,
+     * alinhada ao {@code hibernate.jdbc.batch_size}
+     */
+    private static final int TAMANHO_BLOCO_PERSISTENCIA = 50;
+    
     private final PedidoRepository pedidoRepository;
     private final ProdutoRepository produtoRepository;
-    private final ClienteRepository clienteRepository;
+    private final CadastroClientes cadastroClientes;
     private final PedidoValidator pedidoValidator;
     private final PedidoCalculator pedidoCalculator;
-    private final ModelMapper modelMapper;
+    private final ReservaEstoque reservaEstoque;
+    private final RegistroEventosPedido registroEventos;
+    private final PedidoMapper pedidoMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final VendasDiarias vendasDiarias;
+    private final MetricasEtapasPedido metricasEtapas;
     
     /**
-     * Lista todos os pedidos
+     * Lista os pedidos, paginados por data e ID (mais recentes primeiro)
      */
     @Override
-    public List<Pedido> listarTodos() {
-        return pedidoRepository.findAll();
+    public Pagina<ResumoPedido> listarTodos(int limite, String cursor) {
+        CursorPaginacao.validarLimite(limite);
+        CursorPaginacao.ChaveData apos = CursorPaginacao.lerDataEId(cursor);
+        Limit consulta = Limit.of(limite + 1);
+        return paginar(apos == null
+                ? pedidoRepository.buscarPagina(consulta)
+                : pedidoRepository.buscarPaginaApos(apos.data(), apos.id(), consulta), limite);
     }
     
     /**
@@ -53,103 +88,216 @@ public class PedidoServiceImpl implements IPedidoService {
      */
     @Override
     public Optional<Pedido> buscarPorId(Long id) {
-        return Optional.ofNullable(pedidoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com ID: " + id)));
+        return pedidoRepository.findById(id);
+    }
+    
+    /**
+     * Busca pedido por ID para exibição, com cliente, itens e produtos em uma consulta
+     */
+    @Override
+    public DetalhePedido buscarDetalhe(Long id) {
+        return pedidoRepository.findById(id)
+                .map(DetalhePedido::de)
+                .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com ID: " + id));
     }
     
     /**
      * Busca pedidos por cliente
      */
     @Override
-    public List<Pedido> buscarPorCliente(Long clienteId) {
-        return pedidoRepository.findByClienteId(clienteId);
+    public Pagina<ResumoPedido> buscarPorCliente(Long clienteId, int limite, String cursor) {
+        CursorPaginacao.validarLimite(limite);
+        CursorPaginacao.ChaveData apos = CursorPaginacao.lerDataEId(cursor);
+        Limit consulta = Limit.of(limite + 1);
+        return paginar(apos == null
+                ? pedidoRepository.buscarPaginaPorCliente(clienteId, consulta)
+                : pedidoRepository.buscarPaginaPorClienteApos(clienteId, apos.data(), apos.id(), consulta), limite);
     }
     
     /**
      * Busca pedidos por status
      */
     @Override
-    public List<Pedido> buscarPorStatus(StatusPedido status) {
-        return pedidoRepository.findByStatus(status);
+    public Pagina<ResumoPedido> buscarPorStatus(StatusPedido status, int limite, String cursor) {
+        CursorPaginacao.validarLimite(limite);
+        CursorPaginacao.ChaveData apos = CursorPaginacao.lerDataEId(cursor);
+        Limit consulta = Limit.of(limite + 1);
+        return paginar(apos == null
+                ? pedidoRepository.buscarPaginaPorStatus(status, consulta)
+                : pedidoRepository.buscarPaginaPorStatusApos(status, apos.data(), apos.id(), consulta), limite);
     }
     
     /**
      * Busca pedidos por data específica
      */
     @Override
-    public List<Pedido> buscarPorData(LocalDate data) {
-        return pedidoRepository.findByDataPedidoDate(data);
+    public Pagina<ResumoPedido> buscarPorData(LocalDate data, int limite, String cursor) {
+        return buscarPorPeriodo(data, data, limite, cursor);
     }
     
     /**
-     * Busca pedidos por período
+     * Busca pedidos por período, do início do primeiro dia ao início do dia seguinte ao último
      */
     @Override
-    public List<Pedido> buscarPorPeriodo(LocalDate dataInicio, LocalDate dataFim) {
+    public Pagina<ResumoPedido> buscarPorPeriodo(LocalDate dataInicio, LocalDate dataFim, int limite, String cursor) {
+        CursorPaginacao.validarLimite(limite);
+        CursorPaginacao.ChaveData apos = CursorPaginacao.lerDataEId(cursor);
         LocalDateTime inicio = dataInicio.atStartOfDay();
-        LocalDateTime fim = dataFim.atTime(23, 59, 59);
-        return pedidoRepository.findByDataPedidoBetween(inicio, fim);
+        LocalDateTime fim = dataFim.plusDays(1).atStartOfDay();
+        Limit consulta = Limit.of(limite + 1);
+        return paginar(apos == null
+                ? pedidoRepository.buscarPaginaPorPeriodo(inicio, fim, consulta)
+                : pedidoRepository.buscarPaginaPorPeriodoApos(inicio, fim, apos.data(), apos.id(), consulta), limite);
     }
     
     /**
      * Salva um novo pedido a partir de DTO
      */
     @Override
+    @Transactional
     public Pedido salvar(PedidoDTO pedidoDTO) {
         log.info("Iniciando criação de novo pedido a partir de DTO");
-        
-        Pedido pedido = new Pedido();
-        pedido.setItens(new ArrayList<>());
 
         try {
-            clienteRepository.findById(pedidoDTO.getClienteId())
-                .ifPresentOrElse(
-                    pedido::setCliente,
-                    () -> { throw new BusinessException("Cliente não encontrado com ID: " + pedidoDTO.getClienteId()); }
-                );
+            ContextoPedido contexto = carregarContexto(List.of(pedidoDTO), Operacao.CRIACAO);
+            Pedido pedido = prepararNovoPedido(pedidoDTO, contexto, Operacao.CRIACAO);
+            metricasEtapas.medir(Operacao.CRIACAO, Etapa.RESERVA, () -> reservaEstoque.reservar(pedido));
             
-            pedido.setTipoPagamento(pedidoDTO.getTipoPagamento());
-
-            pedidoDTO.getItens().forEach(itemDTO -> {
-                Produto produto = produtoRepository.findById(itemDTO.getProdutoId())
-                        .orElseThrow(() -> new BusinessException("Produto não encontrado com ID: " + itemDTO.getProdutoId()));
-
-                ItemPedido item = new ItemPedido();
-                item.setProduto(produto);
-                item.setQuantidade(itemDTO.getQuantidade());
-                item.setPedido(pedido);
-
-                pedido.getItens().add(item);
+            Pedido pedidoSalvo = metricasEtapas.medir(Operacao.CRIACAO, Etapa.GRAVACAO, () -> {
+                Pedido salvo = pedidoRepository.save(pedido);
+                registroEventos.pedidoCriado(salvo);
+                return salvo;
             });
-
-            pedidoValidator.validarPedido(pedido);
-            configurarDadosIniciais(pedido);
-            pedidoCalculator.prepararPedido(pedido);
-            
-            Pedido pedidoSalvo = pedidoRepository.save(pedido);
         
             log.info("Pedido criado com sucesso - ID: {}, Valor Total: {}", 
                     pedidoSalvo.getId(), pedidoSalvo.getValorTotal());
             
             return pedidoSalvo;
 
+        } catch (BusinessException e) {
+            log.warn("Pedido rejeitado: {}", e.getMessage());
+            throw e;
         } catch (RuntimeException e) {
             log.error("Erro ao criar o pedido: {}", e.getMessage(), e);
             throw new BusinessException(e.getMessage());
         }
     }
     
+    /**
+     * Salva um lote de pedidos a partir de DTOs
+     */
+    @Override
+    public List<ResultadoLoteDTO> salvarLote(List<PedidoDTO> pedidosDTO) {
+        if (pedidosDTO == null || pedidosDTO.isEmpty()) {
+            throw new BusinessException("O lote deve conter ao menos um pedido.");
+        }
+        log.info("Iniciando criação de lote com {} pedidos", pedidosDTO.size());
+
+        ContextoPedido contexto = carregarContexto(pedidosDTO, Operacao.CRIACAO_LOTE);
+        ResultadoLoteDTO[] resultados = new ResultadoLoteDTO[pedidosDTO.size()];
+        List<Integer> indicesValidos = new ArrayList<>();
+        List<Pedido> pedidosValidos = new ArrayList<>();
+
+        for (int i = 0; i < pedidosDTO.size(); i++) {
+            try {
+                pedidosValidos.add(prepararNovoPedido(pedidosDTO.get(i), contexto, Operacao.CRIACAO_LOTE));
+                indicesValidos.add(i);
+            } catch (RuntimeException e) {
+                log.debug("Pedido {} do lote rejeitado: {}", i, e.getMessage());
+                resultados[i] = ResultadoLoteDTO.falha(i, e.getMessage());
+            }
+        }
+
+        for (int inicio = 0; inicio < pedidosValidos.size(); inicio += TAMANHO_BLOCO_PERSISTENCIA) {
+            int fim = Math.min(inicio + TAMANHO_BLOCO_PERSISTENCIA, pedidosValidos.size());
+            persistirBloco(pedidosValidos.subList(inicio, fim), indicesValidos.subList(inicio, fim), resultados);
+        }
+
+        long sucessos = Arrays.stream(resultados).filter(ResultadoLoteDTO::isSucesso).count();
+        log.info("Lote processado - {} pedidos criados, {} rejeitados", sucessos, resultados.length - sucessos);
+
+        return Arrays.asList(resultados);
+    }
+    
+    /**
+     * Reserva o estoque e persiste um bloco de pedidos em uma única transação, para que o
+     * Hibernate agrupe os INSERTs em lotes JDBC. Um pedido sem estoque é rejeitado
+     * individualmente; uma falha de persistência afeta apenas os pedidos do bloco.
+     *
+     * <p>As reservas de pedidos diferentes do bloco ficam travadas até o commit, então
+     * blocos menores reduzem a contenção com pedidos concorrentes dos mesmos produtos.</p>
+     */
+    private void persistirBloco(List<Pedido> pedidos, List<Integer> indices, ResultadoLoteDTO[] resultados) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Pedido> reservados = new ArrayList<>();
+                List<Integer> indicesReservados = new ArrayList<>();
+                for (int i = 0; i < pedidos.size(); i++) {
+                    Pedido pedido = pedidos.get(i);
+                    try {
+                        metricasEtapas.medir(Operacao.CRIACAO_LOTE, Etapa.RESERVA, () -> reservaEstoque.reservar(pedido));
+                        reservados.add(pedido);
+                        indicesReservados.add(indices.get(i));
+                    } catch (BusinessException e) {
+                        log.debug("Pedido {} do lote rejeitado: {}", indices.get(i), e.getMessage());
+                        resultados[indices.get(i)] = ResultadoLoteDTO.falha(indices.get(i), e.getMessage());
+                    }
+                }
+
+                List<Pedido> salvos = metricasEtapas.medir(Operacao.CRIACAO_LOTE, Etapa.GRAVACAO, () -> {
+                    List<Pedido> gravados = pedidoRepository.saveAll(reservados);
+                    registroEventos.pedidosCriados(gravados);
+                    return gravados;
+                });
+                for (int i = 0; i < indicesReservados.size(); i++) {
+                    Pedido salvo = salvos.get(i);
+                    int indice = indicesReservados.get(i);
+                    resultados[indice] = ResultadoLoteDTO.sucesso(indice, salvo.getId(), salvo.getValorTotal());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("Erro ao persistir bloco de {} pedidos do lote: {}", pedidos.size(), e.getMessage(), e);
+            indices.forEach(indice -> resultados[indice] =
+                    ResultadoLoteDTO.falha(indice, "Erro ao persistir o pedido: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * Monta, valida e calcula um novo pedido a partir do DTO, usando os registros do contexto
+     */
+    private Pedido prepararNovoPedido(PedidoDTO pedidoDTO, ContextoPedido contexto, Operacao operacao) {
+        if (pedidoDTO == null) {
+            throw new BusinessException("Pedido não pode ser nulo.");
+        }
+        if (pedidoDTO.getItens() == null) {
+            throw new BusinessException("Itens do pedido são obrigatórios.");
+        }
+        
+        Pedido pedido = pedidoMapper.paraEntidade(pedidoDTO, contexto);
+
+        metricasEtapas.medir(operacao, Etapa.VALIDACAO, () -> pedidoValidator.validarPedido(pedido, contexto));
+        configurarDadosIniciais(pedido);
+        metricasEtapas.medir(operacao, Etapa.CALCULO, () -> pedidoCalculator.prepararPedido(pedido, contexto));
+        
+        return pedido;
+    }
+    
     /**
      * Atualiza um pedido existente a partir de DTO
      */
     @Override
+    @Transactional
     public Pedido atualizar(Long id, PedidoDTO pedidoDTO) {
         log.info("Iniciando atualização do pedido ID: {}", id);
         
-        Pedido pedidoExistente = pedidoRepository.findById(id)
+        Pedido pedidoExistente = metricasEtapas.medir(Operacao.ATUALIZACAO, Etapa.PEDIDO, () -> pedidoRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com ID: " + id));
+        SortedMap<Long, Integer> reservadoAntes = ReservaEstoque.quantidadesReservadas(pedidoExistente);
+        StatusPedido statusAnterior = pedidoExistente.getStatus();
 
-        clienteRepository.findById(pedidoDTO.getClienteId())
+        ContextoPedido contexto = carregarContexto(List.of(pedidoDTO), Operacao.ATUALIZACAO);
+
+        contexto.buscarCliente(pedidoDTO.getClienteId())
             .ifPresentOrElse(
                 pedidoExistente::setCliente,
                 () -> { throw new BusinessException("Cliente não encontrado com ID: " + pedidoDTO.getClienteId()); }
@@ -176,12 +324,7 @@ public class PedidoServiceImpl implements IPedidoService {
                 itemExistente.setQuantidade(itemDTO.getQuantidade());
             } else {
                 log.debug("Adicionando novo item para o produto ID: {}", produtoId);
-                Produto produto = produtoRepository.findById(produtoId)
-                        .orElseThrow(() -> new BusinessException("Produto não encontrado com ID: " + produtoId));
-                
-                ItemPedido novoItem = new ItemPedido();
-                novoItem.setProduto(produto);
-                novoItem.setQuantidade(itemDTO.getQuantidade());
+                ItemPedido novoItem = pedidoMapper.paraEntidade(itemDTO, contexto);
                 novoItem.setPedido(pedidoExistente);
                 
                 pedidoExistente.getItens().add(novoItem);
@@ -189,13 +332,25 @@ public class PedidoServiceImpl implements IPedidoService {
         });
 
         try {
-            pedidoValidator.validarPedido(pedidoExistente);
-            pedidoCalculator.prepararPedido(pedidoExistente);
+            metricasEtapas.medir(Operacao.ATUALIZACAO, Etapa.VALIDACAO,
+                    () -> pedidoValidator.validarPedido(pedidoExistente, contexto));
+            metricasEtapas.medir(Operacao.ATUALIZACAO, Etapa.CALCULO,
+                    () -> pedidoCalculator.prepararPedido(pedidoExistente, contexto));
+        } catch (BusinessException e) {
+            throw e;
         } catch (RuntimeException e) {
             throw new BusinessException(e.getMessage());
         }
 
-        Pedido pedidoAtualizado = pedidoRepository.save(pedidoExistente);
+        metricasEtapas.medir(Operacao.ATUALIZACAO, Etapa.RESERVA,
+                () -> reservaEstoque.ajustar(reservadoAntes, pedidoExistente));
+
+        Pedido pedidoAtualizado = metricasEtapas.medir(Operacao.ATUALIZACAO, Etapa.GRAVACAO, () -> {
+            Pedido salvo = pedidoRepository.save(pedidoExistente);
+            registroEventos.statusAlterado(salvo, statusAnterior);
+            return salvo;
+        });
+        vendasDiarias.invalidar(pedidoAtualizado.getDataPedido());
 
         log.info("Pedido ID: {} atualizado com sucesso. Novo valor total: {}",
                 pedidoAtualizado.getId(), pedidoAtualizado.getValorTotal());
@@ -203,6 +358,26 @@ public class PedidoServiceImpl implements IPedidoService {
         return pedidoAtualizado;
     }
     
+    /**
+     * Carrega, com uma consulta por tabela, os clientes e produtos referenciados pelos DTOs,
+     * medindo cada leitura como uma etapa da operação
+     */
+    private ContextoPedido carregarContexto(List<PedidoDTO> pedidosDTO, Operacao operacao) {
+        List<Long> clienteIds = pedidosDTO.stream()
+                .filter(Objects::nonNull)
+                .map(PedidoDTO::getClienteId)
+                .toList();
+        List<Long> produtoIds = pedidosDTO.stream()
+                .filter(pedidoDTO -> pedidoDTO != null && pedidoDTO.getItens() != null)
+                .flatMap(pedidoDTO -> pedidoDTO.getItens().stream())
+                .map(PedidoDTO.ItemPedidoDTO::getProdutoId)
+                .toList();
+        return ContextoPedido.carregar(
+                ids -> metricasEtapas.medir(operacao, Etapa.CLIENTES, () -> cadastroClientes.buscarTodos(ids).values()),
+                ids -> metricasEtapas.medir(operacao, Etapa.PRODUTOS, () -> produtoRepository.findAllById(ids)),
+                clienteIds, produtoIds);
+    }
+    
     /**
      * Configura os dados iniciais do pedido
      */
@@ -218,52 +393,80 @@ public class PedidoServiceImpl implements IPedidoService {
      * Atualiza o status de um pedido
      */
     @Override
+    @Transactional
     public Pedido atualizarStatus(Long id, StatusPedido novoStatus) {
         Pedido pedido = pedidoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com ID: " + id));
+        SortedMap<Long, Integer> reservadoAntes = ReservaEstoque.quantidadesReservadas(pedido);
+        StatusPedido statusAnterior = pedido.getStatus();
         
         pedido.setStatus(novoStatus);
-        return pedidoRepository.save(pedido);
+        reservaEstoque.ajustar(reservadoAntes, pedido);
+        Pedido pedidoAtualizado = pedidoRepository.save(pedido);
+        registroEventos.statusAlterado(pedidoAtualizado, statusAnterior);
+        vendasDiarias.invalidar(pedidoAtualizado.getDataPedido());
+        return pedidoAtualizado;
     }
     
     /**
      * Deleta um pedido
      */
     @Override
+    @Transactional
     public void deletar(Long id) {
-        if (!pedidoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Pedido não encontrado com ID: " + id);
-        }
-        pedidoRepository.deleteById(id);
+        Pedido pedido = pedidoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com ID: " + id));
+        reservaEstoque.liberar(pedido);
+        pedidoRepository.delete(pedido);
+        vendasDiarias.invalidar(pedido.getDataPedido());
     }
     
     /**
      * Conta o total de pedidos
      */
     @Override
-    public long contarPedidos() {
-        return pedidoRepository.count();
+    public long contarPedidos(boolean aproximado) {
+        return aproximado
+                ? pedidoRepository.contarAproximado(ContadorRepository.PEDIDOS)
+                : pedidoRepository.contar(ContadorRepository.PEDIDOS);
+    }
+    
+    /**
+     * Conta os pedidos de cada status
+     */
+    @Override
+    public Map<StatusPedido, Long> contarPedidosPorStatus() {
+        Map<String, Long> porStatus = pedidoRepository.contarPorGrupo(ContadorRepository.PEDIDOS);
+        Map<StatusPedido, Long> contagens = new EnumMap<>(StatusPedido.class);
+        for (StatusPedido status : StatusPedido.values()) {
+            contagens.put(status, porStatus.getOrDefault(status.name(), 0L));
+        }
+        return contagens;
     }
     
     /**
      * Calcula o valor total de um pedido
      */
-    private Double calcularValorTotal(Pedido pedido) {
+    private BigDecimal calcularValorTotal(Pedido pedido) {
         if (pedido == null) {
             throw new BusinessException("Pedido não pode ser nulo para calcular o valor total.");
         }
         
-        BigDecimal valorTotal = pedidoCalculator.calcularValorTotal(pedido);
-        return valorTotal.doubleValue();
+        return pedidoCalculator.calcularValorTotal(pedido);
     }
 
     /**
      * Calcula o valor total de um pedido por ID.
      */
     @Override
-    public Double calcularValorTotal(Long pedidoId) {
+    public BigDecimal calcularValorTotal(Long pedidoId) {
         Pedido pedido = buscarPorId(pedidoId)
                 .orElseThrow(() -> new ResourceNotFoundException("Pedido não encontrado com ID: " + pedidoId));
         return calcularValorTotal(pedido);
     }
-} 
\ No newline at end of file
+
+    private static Pagina<ResumoPedido> paginar(List<ResumoPedido> pedidos, int limite) {
+        return CursorPaginacao.montar(pedidos, limite,
+                pedido -> CursorPaginacao.codificar(pedido.dataPedido(), pedido.id()));
+    }
+}
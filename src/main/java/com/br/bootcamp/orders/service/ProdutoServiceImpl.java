@@ -2,17 +2,30 @@ package com.br.bootcamp.orders.service;
 
 import com.br.bootcamp.orders.model.Produto;
 import com.br.bootcamp.orders.model.dto.ProdutoDTO;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.repository.ContadorRepository;
 import com.br.bootcamp.orders.repository.ProdutoRepository;
 import com.br.bootcamp.orders.service.contracts.IProdutoService;
 import com.br.bootcamp.orders.service.exception.BusinessException;
 import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import com.br.bootcamp.orders.service.mapper.ProdutoMapper;
+import com.br.bootcamp.orders.service.util.BuscaPorNome;
+import com.br.bootcamp.orders.service.util.CatalogoColunar;
+import com.br.bootcamp.orders.service.util.CatalogoProdutos;
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.Pagina;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -20,49 +33,99 @@ import java.util.Optional;
 @Slf4j
 public class ProdutoServiceImpl implements IProdutoService {
     
+    /**
+     * Limite de frações por produto; acima disso o ganho de concorrência é desprezível
+     * frente ao custo de somar as frações em cada leitura
+     */
+    public static final int MAXIMO_FRACOES_ESTOQUE = 64;
+    
+    /**
+     * Maior preço que a coluna {@code produtos.preco} (numeric(10,2)) comporta, usado quando o
+     * filtro não informa o preço máximo
+     */
+    private static final BigDecimal PRECO_SEM_LIMITE = new BigDecimal("99999999.99");
+    
     private final ProdutoRepository produtoRepository;
-    private final ModelMapper modelMapper;
+    private final ProdutoMapper produtoMapper;
+    private final CatalogoProdutos catalogoProdutos;
+    private final CatalogoColunar catalogoColunar;
     
     /**
-     * Lista todos os produtos
+     * Lista os produtos, paginados por ID
      */
     @Override
-    public List<Produto> listarTodos() {
-        return produtoRepository.findAll();
+    public Pagina<Produto> listarTodos(int limite, String cursor) {
+        CursorPaginacao.validarLimite(limite);
+        long aposId = CursorPaginacao.lerId(cursor);
+        return paginarPorId(produtoRepository.findByIdGreaterThanOrderByIdAsc(aposId, Limit.of(limite + 1)), limite);
     }
     
     /**
-     * Busca produto por ID
+     * Busca produto por ID no catálogo em memória
      */
     @Override
     public Optional<Produto> buscarPorId(Long id) {
-        return Optional.ofNullable(produtoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com ID: " + id)));
+        return catalogoProdutos.buscar(id);
     }
     
     /**
-     * Busca produtos por nome
+     * Busca produto por ID diretamente no banco
      */
     @Override
-    public List<Produto> buscarPorNome(String nome) {
-        return produtoRepository.findByNomeContainingIgnoreCase(nome);
+    public Optional<Produto> buscarPorIdAtual(Long id) {
+        return produtoRepository.findById(id);
     }
     
     /**
-     * Busca produtos por faixa de preço
+     * Busca produtos por nome, dos mais semelhantes ao termo para os menos
      */
     @Override
-    public List<Produto> buscarPorFaixaPreco(Double precoMinimo, Double precoMaximo) {
+    public Pagina<Produto> buscarPorNome(String nome, int limite, String cursor) {
+        return BuscaPorNome.buscar(nome, limite, cursor, produtoRepository::buscarPaginaPorNome,
+                produtoRepository::findAllById, Produto::getId);
+    }
+    
+    /**
+     * Busca produtos por faixa de preço, paginados por preço e ID
+     */
+    @Override
+    public Pagina<Produto> buscarPorFaixaPreco(Double precoMinimo, Double precoMaximo, int limite, String cursor) {
         if (precoMinimo == null || precoMaximo == null) {
             throw new BusinessException("Preço mínimo e máximo são obrigatórios.");
         }
-        if (precoMinimo < 0 || precoMaximo < 0) {
-            throw new BusinessException("Preços não podem ser negativos.");
+        validarFaixaPreco(precoMinimo, precoMaximo);
+        CursorPaginacao.validarLimite(limite);
+        CursorPaginacao.ChavePreco apos = CursorPaginacao.lerPrecoEId(cursor);
+        if (catalogoColunar.isPronto()) {
+            return filtrarEmMemoria(BigDecimal.valueOf(precoMinimo), BigDecimal.valueOf(precoMaximo), null, false,
+                    limite, apos);
         }
-        if (precoMinimo > precoMaximo) {
-            throw new BusinessException("Preço mínimo não pode ser maior que o preço máximo.");
+        BigDecimal preco = apos != null ? apos.preco() : BigDecimal.valueOf(precoMinimo);
+        long aposId = apos != null ? apos.id() : 0L;
+        List<Produto> produtos = produtoRepository.buscarPaginaPorFaixaPreco(BigDecimal.valueOf(precoMinimo),
+                BigDecimal.valueOf(precoMaximo), preco, aposId, Limit.of(limite + 1));
+        return paginarPorPreco(produtos, limite);
+    }
+    
+    /**
+     * Filtra produtos por faixa de preço, categoria e estoque, paginados por preço e ID
+     */
+    @Override
+    public Pagina<Produto> filtrar(Double precoMinimo, Double precoMaximo, CategoriaProduto categoria,
+                                   boolean apenasEmEstoque, int limite, String cursor) {
+        validarFaixaPreco(precoMinimo, precoMaximo);
+        CursorPaginacao.validarLimite(limite);
+        CursorPaginacao.ChavePreco apos = CursorPaginacao.lerPrecoEId(cursor);
+        BigDecimal minimo = precoMinimo != null ? BigDecimal.valueOf(precoMinimo) : BigDecimal.ZERO;
+        BigDecimal maximo = precoMaximo != null ? BigDecimal.valueOf(precoMaximo) : PRECO_SEM_LIMITE;
+        if (catalogoColunar.isPronto()) {
+            return filtrarEmMemoria(minimo, maximo, categoria, apenasEmEstoque, limite, apos);
         }
-        return produtoRepository.findByPrecoBetweenOrderByPrecoAsc(BigDecimal.valueOf(precoMinimo), BigDecimal.valueOf(precoMaximo));
+        BigDecimal preco = apos != null ? apos.preco() : minimo;
+        long aposId = apos != null ? apos.id() : 0L;
+        List<Produto> produtos = produtoRepository.buscarPaginaPorFiltro(minimo, maximo, categoria, apenasEmEstoque,
+                preco, aposId, Limit.of(limite + 1));
+        return paginarPorPreco(produtos, limite);
     }
     
     /**
@@ -70,25 +133,40 @@ public class ProdutoServiceImpl implements IProdutoService {
      */
     @Override
     public Produto salvar(ProdutoDTO produtoDTO) {
-        Produto produto = modelMapper.map(produtoDTO, Produto.class);
+        Produto produto = produtoMapper.paraEntidade(produtoDTO);
         validarProduto(produto);
         Produto produtoSalvo = produtoRepository.save(produto);
+        catalogoProdutos.invalidar(produtoSalvo.getId());
         log.info("Produto criado com sucesso - ID: {}, Nome: {}", produtoSalvo.getId(), produtoSalvo.getNome());
         return produtoSalvo;
     }
     
     /**
-     * Atualiza um produto existente a partir de DTO
+     * Atualiza um produto existente a partir de DTO. O estoque de um produto com estoque
+     * fracionado é redistribuído entre as frações, como em {@link #atualizarEstoque(Long, Integer)}.
      */
     @Override
+    @Transactional
     public Produto atualizar(Long id, ProdutoDTO produtoDTO) {
-        if (!produtoRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Produto não encontrado com ID: " + id);
-        }
-        Produto produto = modelMapper.map(produtoDTO, Produto.class);
+        Produto existente = produtoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com ID: " + id));
+        Produto produto = produtoMapper.paraEntidade(produtoDTO);
         produto.setId(id);
         validarProduto(produto);
-        return produtoRepository.save(produto);
+        catalogoProdutos.invalidar(id);
+        if (!existente.isEstoqueFracionado()) {
+            return produtoRepository.save(produto);
+        }
+
+        // A coluna quantidade_estoque de um produto fracionado não é lida e fica zerada
+        int fracoes = existente.getFracoesEstoque();
+        int quantidade = produto.getQuantidadeEstoque();
+        produto.setQuantidadeEstoque(0);
+        Produto produtoAtualizado = produtoRepository.save(produto);
+        produtoRepository.definirEstoque(id, quantidade);
+        produtoAtualizado.setFracoesEstoque(fracoes);
+        produtoAtualizado.setSomaFracoesEstoque(quantidade);
+        return produtoAtualizado;
     }
     
     /**
@@ -100,20 +178,24 @@ public class ProdutoServiceImpl implements IProdutoService {
             throw new ResourceNotFoundException("Produto não encontrado com ID: " + id);
         }
         produtoRepository.deleteById(id);
+        catalogoProdutos.invalidar(id);
     }
     
     /**
      * Conta o total de produtos
      */
     @Override
-    public long contarProdutos() {
-        return produtoRepository.count();
+    public long contarProdutos(boolean aproximado) {
+        return aproximado
+                ? produtoRepository.contarAproximado(ContadorRepository.PRODUTOS)
+                : produtoRepository.contar(ContadorRepository.PRODUTOS);
     }
     
     /**
      * Atualiza o estoque de um produto
      */
     @Override
+    @Transactional
     public Produto atualizarEstoque(Long id, Integer quantidade) {
         Produto produto = produtoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com ID: " + id));
@@ -121,10 +203,39 @@ public class ProdutoServiceImpl implements IProdutoService {
         if (quantidade < 0) {
             throw new BusinessException("A quantidade em estoque não pode ser negativa.");
         }
+        catalogoProdutos.invalidar(id);
+        if (produto.isEstoqueFracionado()) {
+            produtoRepository.definirEstoque(id, quantidade);
+            produto.setSomaFracoesEstoque(quantidade);
+            return produto;
+        }
         produto.setQuantidadeEstoque(quantidade);
         return produtoRepository.save(produto);
     }
     
+    /**
+     * Divide o estoque de um produto em frações
+     */
+    @Override
+    @Transactional
+    public Produto fracionarEstoque(Long id, Integer fracoes) {
+        if (fracoes == null || fracoes < 1 || fracoes > MAXIMO_FRACOES_ESTOQUE) {
+            throw new BusinessException("A quantidade de frações deve estar entre 1 e " + MAXIMO_FRACOES_ESTOQUE + ".");
+        }
+        Produto produto = produtoRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com ID: " + id));
+
+        int total = produtoRepository.fracionarEstoque(id, fracoes);
+        catalogoProdutos.invalidar(id);
+        produto.setFracoesEstoque(fracoes);
+        produto.setSomaFracoesEstoque(fracoes > 1 ? total : null);
+        if (fracoes == 1) {
+            produto.setQuantidadeEstoque(total);
+        }
+        log.info("Estoque do produto ID: {} dividido em {} frações - Total: {}", id, fracoes, total);
+        return produto;
+    }
+    
     private void validarProduto(Produto produto) {
         if (produto.getNome() == null || produto.getNome().trim().isEmpty()) {
             throw new BusinessException("Nome do produto é obrigatório.");
@@ -136,4 +247,46 @@ public class ProdutoServiceImpl implements IProdutoService {
             throw new BusinessException("Quantidade em estoque não pode ser negativa.");
         }
     }
-} 
\ No newline at end of file
+
+    private void validarFaixaPreco(Double precoMinimo, Double precoMaximo) {
+        if ((precoMinimo != null && precoMinimo < 0) || (precoMaximo != null && precoMaximo < 0)) {
+            throw new BusinessException("Preços não podem ser negativos.");
+        }
+        if (precoMinimo != null && precoMaximo != null && precoMinimo > precoMaximo) {
+            throw new BusinessException("Preço mínimo não pode ser maior que o preço máximo.");
+        }
+    }
+
+    /**
+     * Filtra no catálogo colunar e lê do banco, pela chave primária, apenas os produtos da página
+     */
+    private Pagina<Produto> filtrarEmMemoria(BigDecimal precoMinimo, BigDecimal precoMaximo, CategoriaProduto categoria,
+                                             boolean apenasEmEstoque, int limite, CursorPaginacao.ChavePreco apos) {
+        long minimo = CatalogoColunar.centavos(precoMinimo, RoundingMode.CEILING);
+        long maximo = CatalogoColunar.centavos(precoMaximo, RoundingMode.FLOOR);
+        long aposPreco = apos != null ? CatalogoColunar.centavos(apos.preco(), RoundingMode.CEILING) : minimo;
+        long aposId = apos != null ? apos.id() : 0L;
+        Pagina<CatalogoColunar.Resultado> pagina = CursorPaginacao.montar(
+                catalogoColunar.filtrar(minimo, maximo, categoria, apenasEmEstoque, aposPreco, aposId, limite + 1), limite,
+                resultado -> CursorPaginacao.codificar(BigDecimal.valueOf(resultado.preco(), 2).toPlainString(), resultado.id()));
+        List<Long> ids = pagina.itens().stream().map(CatalogoColunar.Resultado::id).toList();
+        if (ids.isEmpty()) {
+            return new Pagina<>(List.of(), pagina.proximoCursor());
+        }
+
+        Map<Long, Produto> carregados = new HashMap<>();
+        produtoRepository.findAllById(ids).forEach(produto -> carregados.put(produto.getId(), produto));
+        // Produtos excluídos desde a última atualização das colunas ficam de fora
+        List<Produto> produtos = ids.stream().map(carregados::get).filter(Objects::nonNull).toList();
+        return new Pagina<>(produtos, pagina.proximoCursor());
+    }
+
+    private static Pagina<Produto> paginarPorPreco(List<Produto> produtos, int limite) {
+        return CursorPaginacao.montar(produtos, limite,
+                produto -> CursorPaginacao.codificar(produto.getPreco().toPlainString(), produto.getId()));
+    }
+
+    private static Pagina<Produto> paginarPorId(List<Produto> produtos, int limite) {
+        return CursorPaginacao.montar(produtos, limite, produto -> CursorPaginacao.codificar(produto.getId()));
+    }
+}
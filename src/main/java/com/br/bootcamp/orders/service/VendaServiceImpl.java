@@ -0,0 +1,34 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.controller.config.VendasDiariasProperties;
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+import com.br.bootcamp.orders.service.contracts.IVendaService;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.util.ExportacaoPedidos;
+import com.br.bootcamp.orders.service.util.VendasDiarias;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class VendaServiceImpl implements IVendaService {
+
+    private final VendasDiarias vendasDiarias;
+    private final VendasDiariasProperties propriedades;
+
+    /**
+     * Consulta as vendas do período, com os dias encerrados atendidos pela memória
+     */
+    @Override
+    public List<VendaDiaria> consultarVendas(LocalDate dataInicio, LocalDate dataFim) {
+        ExportacaoPedidos.validarPeriodo(dataInicio, dataFim);
+        if (ChronoUnit.DAYS.between(dataInicio, dataFim) >= propriedades.diasMaximos()) {
+            throw new BusinessException("O período deve ter no máximo " + propriedades.diasMaximos() + " dias.");
+        }
+        return vendasDiarias.consultar(dataInicio, dataFim);
+    }
+}
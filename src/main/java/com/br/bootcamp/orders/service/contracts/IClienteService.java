@@ -2,8 +2,9 @@ package com.br.bootcamp.orders.service.contracts;
 
 import com.br.bootcamp.orders.model.Cliente;
 import com.br.bootcamp.orders.model.dto.ClienteDTO;
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.Pagina;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,15 +27,18 @@ import java.util.Optional;
 public interface IClienteService {
     
     /**
-     * Lista todos os clientes cadastrados no sistema.
+     * Lista os clientes cadastrados no sistema, uma página por vez.
      * 
-     * <p>Este método retorna uma lista contendo todos os clientes ativos no sistema,
-     * ordenados por ID. A lista pode estar vazia se não houver clientes cadastrados.</p>
+     * <p>Este método retorna uma página dos clientes ativos no sistema, ordenados por ID.
+     * A página seguinte é obtida com o cursor da página atual, sem reler as anteriores.</p>
      * 
-     * @return Lista de todos os clientes cadastrados
+     * @param limite Quantidade máxima de clientes na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de clientes e cursor da página seguinte
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Cliente> listarTodos();
+    Pagina<Cliente> listarTodos(int limite, String cursor);
     
     /**
      * Busca um cliente específico pelo seu ID.
@@ -53,14 +57,18 @@ public interface IClienteService {
      * Busca clientes cujo nome contenha o termo fornecido.
      * 
      * <p>A busca é case-insensitive e retorna todos os clientes cujo nome contenha
-     * o termo especificado. A busca é parcial, não necessitando correspondência exata.</p>
+     * o termo especificado. A busca é parcial, não necessitando correspondência exata.
+     * Os nomes mais semelhantes ao termo (por trigramas) vêm primeiro.</p>
      * 
      * @param nome Termo a ser buscado no nome dos clientes
-     * @return Lista de clientes que contêm o termo no nome
+     * @param limite Quantidade máxima de clientes na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de clientes que contêm o termo no nome, ordenados por semelhança com o termo e ID
      * @throws IllegalArgumentException se o nome for null ou vazio
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Cliente> buscarPorNome(String nome);
+    Pagina<Cliente> buscarPorNome(String nome, int limite, String cursor);
     
     /**
      * Busca um cliente específico pelo seu email.
@@ -123,11 +131,13 @@ public interface IClienteService {
     /**
      * Conta o número total de clientes cadastrados no sistema.
      * 
-     * <p>Este método retorna a contagem total de clientes ativos no sistema,
-     * incluindo todos os registros da tabela de clientes.</p>
+     * <p>A contagem exata vem do contador de clientes, mantido pelo banco na mesma transação
+     * de cada inclusão e exclusão, e não depende do tamanho da tabela. A contagem aproximada
+     * vem das estatísticas do PostgreSQL e pode estar defasada desde a última análise da tabela.</p>
      * 
+     * @param aproximado {@code true} para a estimativa das estatísticas, {@code false} para a contagem exata
      * @return Número total de clientes cadastrados
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    long contarClientes();
+    long contarClientes(boolean aproximado);
 } 
\ No newline at end of file
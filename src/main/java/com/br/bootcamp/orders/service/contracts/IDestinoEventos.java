@@ -0,0 +1,29 @@
+package com.br.bootcamp.orders.service.contracts;
+
+import com.br.bootcamp.orders.model.EventoPedido;
+
+import java.util.List;
+
+/**
+ * Interface que define o destino dos eventos de pedido publicados a partir da caixa
+ * de saída.
+ * 
+ * <p>A implementação é escolhida pela propriedade {@code pedidos.eventos.destino}.
+ * A entrega é "ao menos uma vez": se a publicação falhar, o lote inteiro é enviado
+ * novamente na próxima tentativa, então os consumidores devem ignorar eventos
+ * repetidos pelo {@code id}.</p>
+ * 
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface IDestinoEventos {
+    
+    /**
+     * Publica um lote de eventos, na ordem em que foram gravados.
+     * 
+     * @param eventos Eventos a publicar
+     * @throws RuntimeException se o lote não puder ser entregue; os eventos continuam pendentes
+     */
+    void publicar(List<EventoPedido> eventos);
+}
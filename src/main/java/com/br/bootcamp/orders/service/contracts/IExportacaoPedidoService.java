@@ -0,0 +1,33 @@
+package com.br.bootcamp.orders.service.contracts;
+
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Interface que define os contratos para a exportação de pedidos.
+ *
+ * <p>A exportação lê os pedidos do período por um cursor do banco e os escreve na saída
+ * à medida que chegam, então a memória usada não depende do tamanho do período.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface IExportacaoPedidoService {
+
+    /**
+     * Exporta os pedidos de um período, dos mais antigos para os mais recentes.
+     *
+     * @param dataInicio Primeiro dia do período
+     * @param dataFim Último dia do período (inclusive)
+     * @param formato Formato da exportação
+     * @param saida Destino da exportação, que não é fechado
+     * @return Quantidade de pedidos exportados
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o período for inválido
+     * @throws IOException se a escrita falhar (por exemplo, quando o cliente desconecta)
+     */
+    long exportar(LocalDate dataInicio, LocalDate dataFim, FormatoExportacao formato, OutputStream saida) throws IOException;
+}
@@ -0,0 +1,39 @@
+package com.br.bootcamp.orders.service.contracts;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Interface que define os contratos para as requisições idempotentes (cabeçalho
+ * {@code Idempotency-Key}).
+ *
+ * <p>A primeira requisição com uma chave executa a operação e guarda a resposta; as
+ * repetições com a mesma chave recebem essa resposta sem executar a operação de novo.
+ * As respostas mais recentes ficam em um cache LRU em memória e todas ficam gravadas
+ * no banco até vencerem.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface IIdempotenciaService {
+
+    /**
+     * Executa a operação uma única vez por chave. A operação e a gravação da resposta
+     * acontecem na mesma transação: se a resposta não puder ser guardada, a operação é
+     * desfeita e a chave fica livre para uma nova tentativa.
+     *
+     * @param chave Valor do cabeçalho Idempotency-Key
+     * @param operacao Identificação da operação (método e caminho), para que a mesma
+     *                 chave não seja aproveitada por outra operação
+     * @param requisicao Corpo da requisição, comparado com o da requisição original
+     * @param acao Operação a executar quando a chave ainda não foi utilizada
+     * @return Resposta da operação ou, em uma repetição, a resposta original
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se a chave for inválida
+     *         ou já tiver sido utilizada com outra requisição
+     * @throws com.br.bootcamp.orders.service.exception.RequisicaoEmAndamentoException se a
+     *         requisição original ainda estiver em processamento
+     */
+    ResponseEntity<?> executar(String chave, String operacao, Object requisicao, Supplier<ResponseEntity<?>> acao);
+}
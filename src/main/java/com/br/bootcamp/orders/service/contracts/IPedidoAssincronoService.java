@@ -0,0 +1,44 @@
+package com.br.bootcamp.orders.service.contracts;
+
+import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.dto.RecebimentoPedidoDTO;
+
+import java.util.UUID;
+
+/**
+ * Interface que define os contratos para o recebimento assíncrono de pedidos.
+ * 
+ * <p>Em vez de validar, calcular e gravar o pedido durante a requisição, o pedido
+ * é apenas conferido quanto ao formato, gravado em uma área de recebimento e colocado
+ * em uma fila limitada. Workers em segundo plano processam a fila em pequenos lotes,
+ * com as mesmas regras da criação síncrona.</p>
+ * 
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface IPedidoAssincronoService {
+    
+    /**
+     * Recebe um pedido para processamento assíncrono.
+     * 
+     * <p>Apenas o formato do pedido é conferido (cliente, tipo de pagamento e itens
+     * informados, com quantidades positivas); a existência de cliente e produtos, o
+     * estoque e os valores são verificados no processamento.</p>
+     * 
+     * @param pedidoDTO Dados do pedido
+     * @return Recebimento com o identificador de acompanhamento, na situação RECEBIDO
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o formato do pedido for inválido
+     * @throws com.br.bootcamp.orders.service.exception.FilaCheiaException se a fila de processamento estiver cheia
+     */
+    RecebimentoPedidoDTO receber(PedidoDTO pedidoDTO);
+    
+    /**
+     * Consulta a situação do processamento de um pedido recebido.
+     * 
+     * @param id Identificador de acompanhamento retornado no recebimento
+     * @return Situação atual do recebimento (e o ID do pedido, quando concluído)
+     * @throws com.br.bootcamp.orders.service.exception.ResourceNotFoundException se o recebimento não existir
+     */
+    RecebimentoPedidoDTO consultar(UUID id);
+}
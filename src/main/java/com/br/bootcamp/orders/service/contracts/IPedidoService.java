@@ -2,10 +2,17 @@ package com.br.bootcamp.orders.service.contracts;
 
 import com.br.bootcamp.orders.model.Pedido;
 import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.dto.ResultadoLoteDTO;
 import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.leitura.DetalhePedido;
+import com.br.bootcamp.orders.model.leitura.ResumoPedido;
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.Pagina;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -30,16 +37,19 @@ import java.util.Optional;
 public interface IPedidoService {
     
     /**
-     * Lista todos os pedidos cadastrados no sistema.
+     * Lista os pedidos cadastrados no sistema, uma página por vez.
      * 
-     * <p>Este método retorna uma lista contendo todos os pedidos ativos no sistema,
-     * ordenados por data de criação (mais recentes primeiro). A lista pode estar
-     * vazia se não houver pedidos cadastrados.</p>
+     * <p>Este método retorna uma página dos pedidos ativos no sistema, ordenados por
+     * data de criação (mais recentes primeiro) e ID. A página seguinte é obtida com o
+     * cursor da página atual, sem reler as anteriores.</p>
      * 
-     * @return Lista de todos os pedidos cadastrados
+     * @param limite Quantidade máxima de pedidos na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de pedidos e cursor da página seguinte
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Pedido> listarTodos();
+    Pagina<ResumoPedido> listarTodos(int limite, String cursor);
     
     /**
      * Busca um pedido específico pelo seu ID.
@@ -54,6 +64,17 @@ public interface IPedidoService {
      */
     Optional<Pedido> buscarPorId(Long id);
     
+    /**
+     * Busca um pedido pelo ID para exibição, com os seus itens.
+     * 
+     * <p>O pedido, o cliente, os itens e os produtos são lidos em uma única consulta.</p>
+     * 
+     * @param id ID único do pedido
+     * @return Pedido com os itens e a identificação do cliente e dos produtos
+     * @throws com.br.bootcamp.orders.service.exception.ResourceNotFoundException se o pedido não existir
+     */
+    DetalhePedido buscarDetalhe(Long id);
+    
     /**
      * Busca pedidos de um cliente específico.
      * 
@@ -61,11 +82,14 @@ public interface IPedidoService {
      * ordenados por data de criação (mais recentes primeiro).</p>
      * 
      * @param clienteId ID do cliente
-     * @return Lista de pedidos do cliente especificado
+     * @param limite Quantidade máxima de pedidos na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de pedidos do cliente especificado
      * @throws IllegalArgumentException se o ID do cliente for null ou negativo
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Pedido> buscarPorCliente(Long clienteId);
+    Pagina<ResumoPedido> buscarPorCliente(Long clienteId, int limite, String cursor);
     
     /**
      * Busca pedidos por status específico.
@@ -74,11 +98,14 @@ public interface IPedidoService {
      * ordenados por data de criação (mais recentes primeiro).</p>
      * 
      * @param status Status dos pedidos a serem buscados
-     * @return Lista de pedidos com o status especificado
+     * @param limite Quantidade máxima de pedidos na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de pedidos com o status especificado
      * @throws IllegalArgumentException se o status for null
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Pedido> buscarPorStatus(StatusPedido status);
+    Pagina<ResumoPedido> buscarPorStatus(StatusPedido status, int limite, String cursor);
     
     /**
      * Busca pedidos dentro de um período específico.
@@ -88,11 +115,14 @@ public interface IPedidoService {
      * 
      * @param dataInicio Data de início do período (inclusive)
      * @param dataFim Data de fim do período (inclusive)
-     * @return Lista de pedidos no período especificado
+     * @param limite Quantidade máxima de pedidos na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de pedidos no período especificado, dos mais recentes para os mais antigos
      * @throws IllegalArgumentException se as datas forem null ou se a data de início for posterior à data de fim
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Pedido> buscarPorPeriodo(LocalDate dataInicio, LocalDate dataFim);
+    Pagina<ResumoPedido> buscarPorPeriodo(LocalDate dataInicio, LocalDate dataFim, int limite, String cursor);
     
     /**
      * Busca pedidos por data específica.
@@ -101,11 +131,14 @@ public interface IPedidoService {
      * inclusive. A data deve estar no formato LocalDateTime.</p>
      * 
      * @param data Data específica para busca de pedidos
-     * @return Lista de pedidos criados na data especificada
+     * @param limite Quantidade máxima de pedidos na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de pedidos criados na data especificada, dos mais recentes para os mais antigos
      * @throws IllegalArgumentException se a data for null
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Pedido> buscarPorData(LocalDate data);
+    Pagina<ResumoPedido> buscarPorData(LocalDate data, int limite, String cursor);
     
     /**
      * Salva um novo pedido no sistema.
@@ -127,6 +160,20 @@ public interface IPedidoService {
      */
     Pedido salvar(PedidoDTO pedido);
     
+    /**
+     * Salva um lote de pedidos no sistema.
+     * 
+     * <p>Este método aplica a cada pedido as mesmas validações do método salvar, mas
+     * resolve os clientes e produtos de todo o lote com poucas consultas e persiste
+     * os pedidos válidos em lotes JDBC. Pedidos inválidos não interrompem o lote:
+     * o resultado de cada pedido é informado individualmente.</p>
+     * 
+     * @param pedidos Pedidos a serem salvos
+     * @return Resultado de cada pedido, na mesma ordem da lista recebida
+     * @throws RuntimeException se o lote for nulo ou vazio
+     */
+    List<ResultadoLoteDTO> salvarLote(List<PedidoDTO> pedidos);
+    
     /**
      * Atualiza os dados de um pedido existente.
      * 
@@ -158,13 +205,26 @@ public interface IPedidoService {
     /**
      * Conta o número total de pedidos cadastrados no sistema.
      * 
-     * <p>Este método retorna a contagem total de pedidos ativos no sistema,
-     * incluindo todos os registros da tabela de pedidos.</p>
+     * <p>A contagem exata vem do contador de pedidos, mantido pelo banco na mesma transação
+     * de cada inclusão e exclusão, e não depende do tamanho da tabela. A contagem aproximada
+     * vem das estatísticas do PostgreSQL e pode estar defasada desde a última análise da tabela.</p>
      * 
+     * @param aproximado {@code true} para a estimativa das estatísticas, {@code false} para a contagem exata
      * @return Número total de pedidos cadastrados
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    long contarPedidos();
+    long contarPedidos(boolean aproximado);
+    
+    /**
+     * Conta os pedidos de cada status.
+     * 
+     * <p>As contagens vêm dos contadores por status, mantidos pelo banco na mesma transação
+     * de cada inclusão, exclusão e mudança de status, e não dependem do tamanho da tabela.</p>
+     * 
+     * @return Quantidade de pedidos de cada {@link StatusPedido}, na ordem do enum (0 para os status sem pedidos)
+     * @throws RuntimeException se houver erro na consulta ao banco de dados
+     */
+    Map<StatusPedido, Long> contarPedidosPorStatus();
     
     /**
      * Atualiza o status de um pedido.
@@ -189,9 +249,9 @@ public interface IPedidoService {
      * quantidades de cada item.</p>
      * 
      * @param pedidoId ID do pedido para cálculo do valor total
-     * @return Valor total calculado do pedido
+     * @return Valor total calculado do pedido, com duas casas decimais
      * @throws IllegalArgumentException se o pedidoId for null ou negativo
      * @throws RuntimeException se houver erro no cálculo
      */
-    Double calcularValorTotal(Long pedidoId);
+    BigDecimal calcularValorTotal(Long pedidoId);
 } 
\ No newline at end of file
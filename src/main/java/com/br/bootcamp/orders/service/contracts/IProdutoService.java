@@ -2,8 +2,10 @@ package com.br.bootcamp.orders.service.contracts;
 
 import com.br.bootcamp.orders.model.Produto;
 import com.br.bootcamp.orders.model.dto.ProdutoDTO;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.Pagina;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -27,15 +29,18 @@ import java.util.Optional;
 public interface IProdutoService {
     
     /**
-     * Lista todos os produtos cadastrados no sistema.
+     * Lista os produtos cadastrados no sistema, uma página por vez.
      * 
-     * <p>Este método retorna uma lista contendo todos os produtos ativos no sistema,
-     * ordenados por ID. A lista pode estar vazia se não houver produtos cadastrados.</p>
+     * <p>Este método retorna uma página dos produtos ativos no sistema, ordenados por ID.
+     * A página seguinte é obtida com o cursor da página atual, sem reler as anteriores.</p>
      * 
-     * @return Lista de todos os produtos cadastrados
+     * @param limite Quantidade máxima de produtos na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de produtos e cursor da página seguinte
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Produto> listarTodos();
+    Pagina<Produto> listarTodos(int limite, String cursor);
     
     /**
      * Busca um produto específico pelo seu ID.
@@ -50,32 +55,72 @@ public interface IProdutoService {
      */
     Optional<Produto> buscarPorId(Long id);
     
+    /**
+     * Busca um produto específico pelo seu ID, lendo sempre do banco de dados.
+     * 
+     * <p>{@link #buscarPorId(Long)} pode devolver o produto guardado em memória, com o estoque
+     * lido há até {@code pedidos.catalogo.validade-estoque}. Este método ignora a memória e deve
+     * ser usado quando o valor precisa ser o atual, como o preço de um novo pedido.</p>
+     * 
+     * @param id ID único do produto a ser buscado
+     * @return Optional contendo o produto lido do banco, ou vazio se não encontrado
+     * @throws RuntimeException se houver erro na consulta ao banco de dados
+     */
+    Optional<Produto> buscarPorIdAtual(Long id);
+    
     /**
      * Busca produtos cujo nome contenha o termo fornecido.
      * 
      * <p>A busca é case-insensitive e retorna todos os produtos cujo nome contenha
-     * o termo especificado. A busca é parcial, não necessitando correspondência exata.</p>
+     * o termo especificado. A busca é parcial, não necessitando correspondência exata.
+     * Os nomes mais semelhantes ao termo (por trigramas) vêm primeiro.</p>
      * 
      * @param nome Termo a ser buscado no nome dos produtos
-     * @return Lista de produtos que contêm o termo no nome
+     * @param limite Quantidade máxima de produtos na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de produtos que contêm o termo no nome, ordenados por semelhança com o termo e ID
      * @throws IllegalArgumentException se o nome for null ou vazio
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Produto> buscarPorNome(String nome);
+    Pagina<Produto> buscarPorNome(String nome, int limite, String cursor);
     
     /**
      * Busca produtos dentro de uma faixa de preço específica.
      * 
      * <p>Este método retorna todos os produtos cujo preço esteja entre o valor mínimo
-     * e máximo especificados, inclusive.</p>
+     * e máximo especificados, inclusive. Com o catálogo colunar habilitado, a busca é
+     * respondida em memória e apenas os produtos da página são lidos do banco.</p>
      * 
      * @param precoMinimo Preço mínimo da faixa (inclusive)
      * @param precoMaximo Preço máximo da faixa (inclusive)
-     * @return Lista de produtos dentro da faixa de preço especificada
+     * @param limite Quantidade máxima de produtos na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página de produtos dentro da faixa de preço especificada, ordenados por preço e ID
      * @throws IllegalArgumentException se os preços forem negativos ou se o mínimo for maior que o máximo
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    List<Produto> buscarPorFaixaPreco(Double precoMinimo, Double precoMaximo);
+    Pagina<Produto> buscarPorFaixaPreco(Double precoMinimo, Double precoMaximo, int limite, String cursor);
+    
+    /**
+     * Filtra os produtos do catálogo por faixa de preço, categoria e disponibilidade em estoque.
+     * 
+     * <p>Os filtros não informados não restringem a busca. Com o catálogo colunar habilitado,
+     * o filtro é respondido em memória e apenas os produtos da página são lidos do banco.</p>
+     * 
+     * @param precoMinimo Preço mínimo (inclusive), ou {@code null} para nenhum
+     * @param precoMaximo Preço máximo (inclusive), ou {@code null} para nenhum
+     * @param categoria Categoria dos produtos, ou {@code null} para todas
+     * @param apenasEmEstoque Se {@code true}, apenas produtos com estoque maior que zero
+     * @param limite Quantidade máxima de produtos na página (entre 1 e {@link CursorPaginacao#LIMITE_MAXIMO})
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @return Página dos produtos que atendem aos filtros, ordenados por preço e ID
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se os preços, o limite ou o cursor forem inválidos
+     * @throws RuntimeException se houver erro na consulta ao banco de dados
+     */
+    Pagina<Produto> filtrar(Double precoMinimo, Double precoMaximo, CategoriaProduto categoria,
+                            boolean apenasEmEstoque, int limite, String cursor);
     
     /**
      * Salva um novo produto no sistema.
@@ -98,7 +143,8 @@ public interface IProdutoService {
      * Atualiza os dados de um produto existente.
      * 
      * <p>Este método atualiza os dados de um produto existente, aplicando as mesmas
-     * validações do método salvar.</p>
+     * validações do método salvar. Se o estoque do produto estiver fracionado, a quantidade
+     * informada é redistribuída entre as frações, que continuam as mesmas.</p>
      * 
      * @param id ID do produto a ser atualizado
      * @param produto Novos dados do produto
@@ -124,13 +170,15 @@ public interface IProdutoService {
     /**
      * Conta o número total de produtos cadastrados no sistema.
      * 
-     * <p>Este método retorna a contagem total de produtos ativos no sistema,
-     * incluindo todos os registros da tabela de produtos.</p>
+     * <p>A contagem exata vem do contador de produtos, mantido pelo banco na mesma transação
+     * de cada inclusão e exclusão, e não depende do tamanho da tabela. A contagem aproximada
+     * vem das estatísticas do PostgreSQL e pode estar defasada desde a última análise da tabela.</p>
      * 
+     * @param aproximado {@code true} para a estimativa das estatísticas, {@code false} para a contagem exata
      * @return Número total de produtos cadastrados
      * @throws RuntimeException se houver erro na consulta ao banco de dados
      */
-    long contarProdutos();
+    long contarProdutos(boolean aproximado);
     
     /**
      * Atualiza a quantidade em estoque de um produto.
@@ -145,4 +193,19 @@ public interface IProdutoService {
      * @throws RuntimeException se o produto não existir ou houver erro na atualização
      */
     Produto atualizarEstoque(Long id, Integer novaQuantidade);
+    
+    /**
+     * Divide o estoque de um produto em frações independentes.
+     * 
+     * <p>Indicado para produtos muito disputados (ex.: promoções relâmpago): cada reserva
+     * trava apenas uma fração sorteada, em vez da linha do produto, permitindo reservas
+     * concorrentes. O estoque visível continua sendo o total, igual à soma das frações.
+     * Informar 1 fração consolida o estoque novamente em um único contador.</p>
+     * 
+     * @param id ID do produto
+     * @param fracoes Quantidade de frações (entre 1 e 64)
+     * @return Produto com o estoque redistribuído
+     * @throws RuntimeException se o produto não existir ou a quantidade de frações for inválida
+     */
+    Produto fracionarEstoque(Long id, Integer fracoes);
 } 
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.br.bootcamp.orders.service.contracts;
+
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface que define os contratos para o relatório de vendas.
+ *
+ * <p>As vendas são lidas de agregados por dia, status e tipo de pagamento, mantidos pelo banco
+ * na mesma transação de cada inclusão, alteração e exclusão de pedido, então o custo da consulta
+ * depende da quantidade de dias do período, e não da quantidade de pedidos.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface IVendaService {
+
+    /**
+     * Consulta a quantidade de pedidos, a receita e o valor médio por pedido de cada dia do
+     * período, por status e tipo de pagamento.
+     *
+     * @param dataInicio Primeiro dia do período
+     * @param dataFim Último dia do período (inclusive)
+     * @return Vendas ordenadas por dia, status e tipo de pagamento; combinações sem pedidos ficam de fora
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o período for inválido
+     *         ou mais longo que o permitido
+     */
+    List<VendaDiaria> consultarVendas(LocalDate dataInicio, LocalDate dataFim);
+}
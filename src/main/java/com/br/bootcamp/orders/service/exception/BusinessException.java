@@ -3,10 +3,16 @@ package com.br.bootcamp.orders.service.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * Violação de regra de negócio, respondida com 400 pelo {@link GlobalExceptionHandler}.
+ *
+ * <p>Pedidos rejeitados por validação ou estoque fazem parte do fluxo normal e a mensagem
+ * basta para identificá-los, por isso a pilha de chamadas não é capturada.</p>
+ */
 @ResponseStatus(HttpStatus.BAD_REQUEST)
 public class BusinessException extends RuntimeException {
 
     public BusinessException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.br.bootcamp.orders.service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class FilaCheiaException extends RuntimeException {
+
+    public FilaCheiaException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,10 @@
 package com.br.bootcamp.orders.service.exception;
 
 import com.br.bootcamp.orders.model.dto.ErrorResponseDTO;
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
 import com.br.bootcamp.orders.model.enums.StatusPedido;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -42,6 +44,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(FilaCheiaException.class)
+    public ResponseEntity<ErrorResponseDTO> handleFilaCheiaException(FilaCheiaException ex, HttpServletRequest request) {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(RequisicaoEmAndamentoException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRequisicaoEmAndamentoException(RequisicaoEmAndamentoException ex, HttpServletRequest request) {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ErrorResponseDTO> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
         String message = "Parâmetro inválido: '" + ex.getName() + "'. Valor fornecido: '" + ex.getValue() + "'";
@@ -52,6 +80,13 @@ public class GlobalExceptionHandler {
                                          .collect(Collectors.joining(", "));
             message = "Status inválido: '" + ex.getValue() + "'. Os valores aceitos são: " + validStatuses + ".";
         }
+
+        if (ex.getRequiredType() != null && ex.getRequiredType() == FormatoExportacao.class) {
+            String validFormats = Arrays.stream(FormatoExportacao.values())
+                                        .map(FormatoExportacao::getExtensao)
+                                        .collect(Collectors.joining(", "));
+            message = "Formato inválido: '" + ex.getValue() + "'. Os valores aceitos são: " + validFormats + ".";
+        }
         
         ErrorResponseDTO errorResponse = new ErrorResponseDTO(
                 LocalDateTime.now(),
@@ -0,0 +1,12 @@
+package com.br.bootcamp.orders.service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class RequisicaoEmAndamentoException extends RuntimeException {
+
+    public RequisicaoEmAndamentoException(String message) {
+        super(message);
+    }
+}
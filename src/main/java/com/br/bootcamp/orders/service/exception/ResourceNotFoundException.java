@@ -3,10 +3,17 @@ package com.br.bootcamp.orders.service.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * Registro inexistente, respondido com 404 pelo {@link GlobalExceptionHandler}.
+ *
+ * <p>É um resultado esperado (IDs digitados errado, registros removidos, varreduras de bots),
+ * então a exceção não captura a pilha de chamadas: a resposta só usa a mensagem, e capturar a
+ * pilha custaria mais que a própria busca.</p>
+ */
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class ResourceNotFoundException extends RuntimeException {
 
     public ResourceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
-} 
\ No newline at end of file
+}
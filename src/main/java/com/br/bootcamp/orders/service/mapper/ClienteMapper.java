@@ -0,0 +1,29 @@
+package com.br.bootcamp.orders.service.mapper;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.dto.ClienteDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapeador entre {@link ClienteDTO} e {@link Cliente}, gerado na compilação pelo MapStruct.
+ * 
+ * <p>Um campo do DTO sem destino na entidade, ou da entidade sem origem no DTO e sem
+ * {@code ignore}, falha a compilação.</p>
+ * 
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Mapper
+public interface ClienteMapper {
+    
+    /**
+     * Cria um cliente com os dados do DTO, sem ID.
+     * 
+     * @param clienteDTO Dados do cliente
+     * @return Novo cliente, ou {@code null} se o DTO for {@code null}
+     */
+    @Mapping(target = "id", ignore = true)
+    Cliente paraEntidade(ClienteDTO clienteDTO);
+}
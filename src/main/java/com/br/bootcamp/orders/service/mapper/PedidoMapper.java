@@ -0,0 +1,100 @@
+package com.br.bootcamp.orders.service.mapper;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.ItemPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.util.ContextoPedido;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Context;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+/**
+ * Mapeador entre {@link PedidoDTO} e {@link Pedido}, gerado na compilação pelo MapStruct.
+ * 
+ * <p>O cliente e os produtos referenciados pelos IDs do DTO são lidos do {@link ContextoPedido},
+ * carregado antes em uma consulta por tabela. A data, o status, os preços e os valores são
+ * definidos pelo serviço e pelo {@link com.br.bootcamp.orders.service.util.PedidoCalculator},
+ * nunca pelo DTO. Um campo do DTO sem destino na entidade, ou da entidade sem origem no DTO e
+ * sem {@code ignore}, falha a compilação.</p>
+ * 
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Mapper
+public interface PedidoMapper {
+    
+    /**
+     * Cria um novo pedido com o cliente, o tipo de pagamento e os itens do DTO.
+     * 
+     * @param pedidoDTO Dados do pedido, com a lista de itens preenchida
+     * @param contexto Contexto com o cliente e os produtos referenciados pelo DTO
+     * @return Novo pedido, com os itens vinculados a ele
+     * @throws BusinessException se o cliente ou algum produto não estiver no contexto
+     */
+    @BeanMapping(ignoreUnmappedSourceProperties = {"dataPedido", "status"})
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "cliente", source = "clienteId")
+    @Mapping(target = "dataPedido", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "valorTotal", ignore = true)
+    Pedido paraEntidade(PedidoDTO pedidoDTO, @Context ContextoPedido contexto);
+    
+    /**
+     * Cria um item com o produto e a quantidade do DTO, ainda sem pedido.
+     * 
+     * @param itemDTO Dados do item
+     * @param contexto Contexto com o produto referenciado pelo item
+     * @return Novo item
+     * @throws BusinessException se o produto não estiver no contexto
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "pedido", ignore = true)
+    @Mapping(target = "produto", source = "produtoId")
+    @Mapping(target = "precoUnitario", ignore = true)
+    @Mapping(target = "subtotal", ignore = true)
+    @Mapping(target = "dataPedido", ignore = true)
+    ItemPedido paraEntidade(PedidoDTO.ItemPedidoDTO itemDTO, @Context ContextoPedido contexto);
+    
+    /**
+     * Vincula os itens mapeados ao pedido.
+     * 
+     * @param pedido Pedido mapeado
+     */
+    @AfterMapping
+    default void vincularItens(@MappingTarget Pedido pedido) {
+        pedido.getItens().forEach(item -> item.setPedido(pedido));
+    }
+    
+    /**
+     * Busca no contexto o cliente referenciado pelo DTO.
+     * 
+     * @param clienteId ID do cliente
+     * @param contexto Contexto com o cliente
+     * @return Cliente do contexto
+     * @throws BusinessException se o cliente não estiver no contexto
+     */
+    default Cliente buscarCliente(Long clienteId, @Context ContextoPedido contexto) {
+        return contexto.buscarCliente(clienteId)
+                .orElseThrow(() -> new BusinessException("Cliente não encontrado com ID: " + clienteId));
+    }
+    
+    /**
+     * Busca no contexto o produto referenciado pelo item.
+     * 
+     * @param produtoId ID do produto
+     * @param contexto Contexto com o produto
+     * @return Produto do contexto
+     * @throws BusinessException se o produto não estiver no contexto
+     */
+    default Produto buscarProduto(Long produtoId, @Context ContextoPedido contexto) {
+        return contexto.buscarProduto(produtoId)
+                .orElseThrow(() -> new BusinessException("Produto não encontrado com ID: " + produtoId));
+    }
+}
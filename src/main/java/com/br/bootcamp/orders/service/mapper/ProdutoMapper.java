@@ -0,0 +1,34 @@
+package com.br.bootcamp.orders.service.mapper;
+
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.dto.ProdutoDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapeador entre {@link ProdutoDTO} e {@link Produto}, gerado na compilação pelo MapStruct.
+ * 
+ * <p>Um campo do DTO sem destino na entidade, ou da entidade sem origem no DTO e sem
+ * {@code ignore}, falha a compilação.</p>
+ * 
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Mapper
+public interface ProdutoMapper {
+    
+    /**
+     * Cria um produto com os dados do DTO, sem ID e com o estoque em uma fração.
+     * 
+     * <p>As frações do estoque são mantidas pelo
+     * {@link com.br.bootcamp.orders.repository.EstoqueRepository}, nunca pelo DTO.</p>
+     * 
+     * @param produtoDTO Dados do produto
+     * @return Novo produto, ou {@code null} se o DTO for {@code null}
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "fracoesEstoque", ignore = true)
+    @Mapping(target = "somaFracoesEstoque", ignore = true)
+    Produto paraEntidade(ProdutoDTO produtoDTO);
+}
@@ -0,0 +1,102 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.leitura.SimilaridadeNome;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Busca paginada por parte do nome, com os resultados mais semelhantes ao termo primeiro.
+ *
+ * <p>A consulta nativa filtra com {@code nome ILIKE '%termo%'}, atendido pelo índice de
+ * trigramas do nome, e ordena por {@code similarity(nome, termo) DESC, id}; a página seguinte
+ * continua a partir da semelhança e do ID do último resultado. A consulta devolve apenas IDs e
+ * semelhanças, e os registros da página são carregados em seguida pela chave primária.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BuscaPorNome {
+
+    /**
+     * Semelhança usada como cursor da primeira página: maior que qualquer semelhança (máximo 1)
+     */
+    public static final float SIMILARIDADE_INICIAL = 2.0f;
+
+    private BuscaPorNome() {
+    }
+
+    /**
+     * Consulta de uma página de IDs por nome, ordenada por semelhança e ID
+     */
+    @FunctionalInterface
+    public interface Consulta {
+
+        /**
+         * @param termo Termo buscado, para o cálculo da semelhança
+         * @param padrao Padrão do {@code ILIKE} (ver {@link #padrao(String)})
+         * @param similaridade Semelhança do último resultado da página anterior
+         * @param id ID do último resultado da página anterior
+         * @param limite Quantidade máxima de resultados
+         * @return IDs e semelhanças dos resultados, em ordem
+         */
+        List<SimilaridadeNome> buscar(String termo, String padrao, float similaridade, long id, int limite);
+    }
+
+    /**
+     * Busca uma página de registros cujo nome contenha o termo.
+     *
+     * @param termo Termo buscado
+     * @param limite Quantidade máxima de registros na página
+     * @param cursor Cursor recebido na página anterior, ou {@code null} para a primeira página
+     * @param consulta Consulta da página de IDs
+     * @param carregar Carrega os registros pelos IDs, em qualquer ordem
+     * @param extrairId Extrai o ID de um registro
+     * @return Página de registros na ordem da consulta e cursor da página seguinte
+     * @throws com.br.bootcamp.orders.service.exception.BusinessException se o limite ou o cursor forem inválidos
+     */
+    public static <T> Pagina<T> buscar(String termo, int limite, String cursor, Consulta consulta,
+                                       Function<List<Long>, List<T>> carregar, Function<T, Long> extrairId) {
+        CursorPaginacao.validarLimite(limite);
+        CursorPaginacao.ChaveSimilaridade apos = CursorPaginacao.lerSimilaridadeEId(cursor);
+        List<SimilaridadeNome> resultados = consulta.buscar(termo, padrao(termo),
+                apos != null ? apos.similaridade() : SIMILARIDADE_INICIAL, apos != null ? apos.id() : 0L, limite + 1);
+
+        Pagina<SimilaridadeNome> pagina = CursorPaginacao.montar(resultados, limite,
+                resultado -> CursorPaginacao.codificar(resultado.getSimilaridade(), resultado.getId()));
+        List<Long> ids = pagina.itens().stream().map(SimilaridadeNome::getId).toList();
+        if (ids.isEmpty()) {
+            return new Pagina<>(List.of(), pagina.proximoCursor());
+        }
+
+        Map<Long, T> carregados = new HashMap<>();
+        carregar.apply(ids).forEach(registro -> carregados.put(extrairId.apply(registro), registro));
+        // Registros excluídos entre as duas consultas ficam de fora
+        List<T> ordenados = new ArrayList<>(ids.size());
+        ids.stream().map(carregados::get).filter(Objects::nonNull).forEach(ordenados::add);
+        return new Pagina<>(ordenados, pagina.proximoCursor());
+    }
+
+    /**
+     * Monta o padrão do {@code ILIKE} que encontra o termo em qualquer posição, escapando os
+     * caracteres especiais do {@code LIKE} ({@code %}, {@code _} e a barra invertida).
+     *
+     * @param termo Termo buscado
+     * @return Padrão {@code %termo%}
+     */
+    public static String padrao(String termo) {
+        StringBuilder padrao = new StringBuilder(termo.length() + 2).append('%');
+        for (char c : termo.toCharArray()) {
+            if (c == '%' || c == '_' || c == '\\') {
+                padrao.append('\\');
+            }
+            padrao.append(c);
+        }
+        return padrao.append('%').toString();
+    }
+}
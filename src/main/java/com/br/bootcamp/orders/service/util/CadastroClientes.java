@@ -0,0 +1,206 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.CadastroClientesProperties;
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.repository.ClienteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Classe utilitária que mantém em memória os clientes consultados e um filtro dos emails cadastrados.
+ *
+ * <p>Os clientes ficam em um cache por ID limitado por {@code pedidos.clientes.capacidade}, com
+ * os menos usados removidos primeiro, e são lidos novamente do banco depois de
+ * {@code pedidos.clientes.validade}. A busca por email guarda apenas o ID do cliente e confere
+ * o email do cliente encontrado, então um email alterado nunca devolve o cliente errado desta
+ * instância. A instância devolvida é compartilhada entre as consultas e não deve ser alterada.</p>
+ *
+ * <p>O {@link FiltroBloom} de emails é montado na inicialização com todos os emails cadastrados
+ * e recebe os emails gravados depois. Um email que o filtro não contém certamente não está
+ * cadastrado por esta instância nem existia na inicialização, e o cadastro dispensa a consulta
+ * ao banco; emails gravados por outras instâncias continuam barrados pela restrição única do
+ * banco. Enquanto o filtro não estiver pronto, todo email é tratado como possivelmente cadastrado.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class CadastroClientes {
+
+    private final ClienteRepository clienteRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CadastroClientesProperties propriedades;
+
+    private final Cache<Long, Cliente> clientes;
+    private final Cache<String, Long> idsPorEmail;
+
+    private final Counter emailsAusentes;
+    private final Counter emailsPossiveis;
+
+    /**
+     * Filtro em montagem ou montado; recebe os emails gravados desde o início da montagem
+     */
+    private volatile FiltroBloom emails;
+    private volatile boolean filtroPronto;
+
+    public CadastroClientes(ClienteRepository clienteRepository, TransactionTemplate transactionTemplate,
+                            CadastroClientesProperties propriedades, MeterRegistry meterRegistry) {
+        this.clienteRepository = clienteRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.propriedades = propriedades;
+        this.clientes = Caffeine.newBuilder()
+                .maximumSize(propriedades.capacidade())
+                .expireAfterWrite(propriedades.validade())
+                .recordStats()
+                .build();
+        this.idsPorEmail = Caffeine.newBuilder()
+                .maximumSize(propriedades.capacidade())
+                .expireAfterWrite(propriedades.validade())
+                .build();
+
+        MetricasCache.registrar(meterRegistry, "pedidos.clientes", "cadastro de clientes", clientes);
+        this.emailsAusentes = contadorFiltro(meterRegistry, "ausente", "Emails descartados pelo filtro sem consultar o banco");
+        this.emailsPossiveis = contadorFiltro(meterRegistry, "possivel", "Emails que o filtro não descartou e exigiram consulta ao banco");
+    }
+
+    /**
+     * Monta o filtro de emails com os clientes cadastrados.
+     *
+     * <p>O filtro é dimensionado para o maior valor entre {@code pedidos.clientes.emails-esperados}
+     * e o dobro dos clientes existentes. Os emails são lidos em blocos, sem carregar os clientes.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void montarFiltro() {
+        long inicio = System.nanoTime();
+        long existentes = clienteRepository.count();
+        FiltroBloom filtro = FiltroBloom.dimensionar(Math.max(propriedades.emailsEsperados(), existentes * 2),
+                propriedades.taxaFalsosPositivos());
+        filtroPronto = false;
+        emails = filtro;
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> cadastrados = clienteRepository.listarEmails()) {
+                cadastrados.forEach(filtro::adicionar);
+            }
+        });
+        filtroPronto = true;
+        log.info("Filtro de emails montado com {} clientes em {} ms ({} bits, {} funções)", existentes,
+                (System.nanoTime() - inicio) / 1_000_000, filtro.getTamanhoEmBits(), filtro.getFuncoes());
+    }
+
+    /**
+     * Verifica se o email pode já estar cadastrado.
+     *
+     * @param email Email a ser verificado
+     * @return {@code false} se o email certamente não está cadastrado (salvo por outra instância);
+     *         {@code true} se ele precisa ser consultado no banco
+     */
+    public boolean podeExistirEmail(String email) {
+        FiltroBloom filtro = emails;
+        if (!filtroPronto || filtro == null || email == null) {
+            return true;
+        }
+        if (filtro.podeConter(email)) {
+            emailsPossiveis.increment();
+            return true;
+        }
+        emailsAusentes.increment();
+        return false;
+    }
+
+    /**
+     * Busca um cliente pelo ID, lendo do banco apenas se ele não estiver em memória.
+     *
+     * @param id ID do cliente
+     * @return Cliente encontrado, ou vazio se não existir (IDs inexistentes não ficam em memória)
+     */
+    public Optional<Cliente> buscar(Long id) {
+        return Optional.ofNullable(clientes.get(id, chave -> clienteRepository.findById(chave).orElse(null)));
+    }
+
+    /**
+     * Busca os clientes com os IDs informados, lendo do banco, em uma única consulta, apenas
+     * os que não estiverem em memória.
+     *
+     * @param ids IDs dos clientes
+     * @return Clientes encontrados por ID (IDs inexistentes ficam de fora)
+     */
+    public Map<Long, Cliente> buscarTodos(Collection<Long> ids) {
+        return clientes.getAll(ids, faltantes -> {
+            Map<Long, Cliente> encontrados = new HashMap<>();
+            clienteRepository.findAllById(Set.copyOf(faltantes))
+                    .forEach(cliente -> encontrados.put(cliente.getId(), cliente));
+            return encontrados;
+        });
+    }
+
+    /**
+     * Busca um cliente pelo email.
+     *
+     * @param email Email do cliente
+     * @return Cliente encontrado, ou vazio se não existir
+     */
+    public Optional<Cliente> buscarPorEmail(String email) {
+        Long id = idsPorEmail.getIfPresent(email);
+        if (id != null) {
+            Optional<Cliente> cliente = buscar(id).filter(encontrado -> email.equals(encontrado.getEmail()));
+            if (cliente.isPresent()) {
+                return cliente;
+            }
+            idsPorEmail.invalidate(email);
+        }
+
+        Cliente cliente = clienteRepository.findByEmail(email);
+        if (cliente == null) {
+            return Optional.empty();
+        }
+        clientes.put(cliente.getId(), cliente);
+        idsPorEmail.put(email, cliente.getId());
+        return Optional.of(cliente);
+    }
+
+    /**
+     * Registra um cliente gravado: o email passa a constar no filtro e o cliente é removido da
+     * memória, para que a próxima consulta o leia do banco.
+     *
+     * @param cliente Cliente incluído ou alterado
+     */
+    public void registrar(Cliente cliente) {
+        FiltroBloom filtro = emails;
+        if (filtro != null && cliente.getEmail() != null) {
+            filtro.adicionar(cliente.getEmail());
+        }
+        invalidar(cliente.getId());
+    }
+
+    /**
+     * Remove um cliente da memória.
+     *
+     * @param id ID do cliente alterado ou excluído
+     */
+    public void invalidar(Long id) {
+        clientes.invalidate(id);
+    }
+
+    private static Counter contadorFiltro(MeterRegistry meterRegistry, String resultado, String descricao) {
+        return Counter.builder("pedidos.clientes.filtro.consultas")
+                .description(descricao)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
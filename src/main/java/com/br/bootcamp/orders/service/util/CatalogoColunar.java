@@ -0,0 +1,417 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.CatalogoColunarProperties;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.model.leitura.ColunasProduto;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Classe utilitária que mantém em memória, em colunas, o preço, a categoria e o estoque de
+ * todos os produtos, para responder aos filtros do catálogo sem consultar o banco.
+ *
+ * <p>Habilitado por {@code pedidos.catalogo-colunar.habilitado}. As colunas são vetores
+ * primitivos paralelos (preço em centavos, código da categoria e estoque visível) ordenados
+ * por preço e ID: uma busca localiza a faixa de preço por busca binária e percorre apenas a
+ * faixa, conferindo categoria e estoque posição a posição, até completar a página.</p>
+ *
+ * <p>As colunas são montadas na inicialização e atualizadas pelos produtos alterados, que o
+ * {@link CatalogoProdutos} informa depois da confirmação (ver {@link #atualizar(Collection)}):
+ * os IDs alterados ao mesmo tempo são relidos do banco em uma única consulta. As reservas de
+ * estoque não são relidas: suas variações são somadas ao estoque das colunas (ver
+ * {@link #ajustarEstoque(Map)}). Mudanças de estoque e de categoria são gravadas nas próprias
+ * colunas; inclusões, exclusões e mudanças de preço montam novas colunas, publicadas de uma vez.
+ * Uma busca pode ver uma mudança de estoque ou de categoria pouco antes ou pouco depois de a
+ * alteração ser aplicada; o estoque usado nos pedidos continua sendo o do banco.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class CatalogoColunar {
+
+    /**
+     * Código da categoria nas colunas para produtos sem categoria
+     */
+    private static final byte SEM_CATEGORIA = -1;
+
+    private final ProdutoRepository produtoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Transação própria, somente leitura, das releituras: {@link #atualizar(Collection)} é chamado
+     * depois da confirmação de outra transação, cujos recursos ainda podem estar associados à thread
+     */
+    private final TransactionTemplate releitura;
+    private final boolean habilitado;
+
+    /**
+     * IDs alterados ainda não aplicados às colunas
+     */
+    private final Set<Long> pendentes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Variações de estoque reservadas ainda não aplicadas às colunas, por ID de produto
+     */
+    private final Map<Long, Integer> variacoesPendentes = new ConcurrentHashMap<>();
+
+    /**
+     * Indica se alguma thread está aplicando os IDs pendentes; as demais apenas os registram
+     */
+    private final AtomicBoolean aplicando = new AtomicBoolean();
+
+    private volatile Colunas colunas;
+
+    public CatalogoColunar(ProdutoRepository produtoRepository, TransactionTemplate transactionTemplate,
+                           CatalogoColunarProperties propriedades) {
+        this.produtoRepository = produtoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.releitura = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.releitura.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.releitura.setReadOnly(true);
+        this.habilitado = propriedades.habilitado();
+    }
+
+    /**
+     * Monta as colunas com todos os produtos cadastrados, lidos em blocos já na ordem de preço e ID.
+     * Os produtos alterados durante a montagem são aplicados ao final.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void montar() {
+        if (!habilitado) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        int estimativa = (int) Math.min(Integer.MAX_VALUE - 8, produtoRepository.count());
+        Colunas montadas = transactionTemplate.execute(status -> {
+            try (Stream<ColunasProduto> linhas = produtoRepository.listarColunas()) {
+                Colunas.Construtor construtor = new Colunas.Construtor(estimativa);
+                linhas.forEach(construtor::adicionar);
+                return construtor.construir();
+            }
+        });
+        colunas = montadas;
+        log.info("Catálogo colunar montado com {} produtos em {} ms", montadas.tamanho,
+                (System.nanoTime() - inicio) / 1_000_000);
+        aplicarPendentes();
+    }
+
+    /**
+     * Indica se as colunas estão montadas e podem responder às buscas.
+     *
+     * @return {@code true} se habilitado e montado
+     */
+    public boolean isPronto() {
+        return colunas != null;
+    }
+
+    /**
+     * Relê do banco os produtos alterados e os aplica às colunas.
+     *
+     * <p>Deve ser chamado depois que a alteração estiver confirmada no banco; os produtos são
+     * relidos em uma transação nova. Se outra thread
+     * já estiver aplicando alterações, os IDs ficam pendentes e são aplicados por ela, junto
+     * com os demais, sem bloquear quem os registrou.</p>
+     *
+     * @param ids IDs dos produtos incluídos, alterados ou excluídos
+     */
+    public void atualizar(Collection<Long> ids) {
+        if (!habilitado || ids.isEmpty()) {
+            return;
+        }
+        pendentes.addAll(ids);
+        aplicarPendentes();
+    }
+
+    /**
+     * Soma ao estoque das colunas as variações reservadas, sem consultar o banco.
+     *
+     * <p>Deve ser chamado depois que a reserva estiver confirmada no banco. As variações são
+     * aplicadas antes dos IDs relidos registrados até então, que já as incluem; produtos que
+     * não estão nas colunas são ignorados.</p>
+     *
+     * @param variacoes Quantidade reservada por ID de produto (negativa quando devolvida ao estoque)
+     */
+    public void ajustarEstoque(Map<Long, Integer> variacoes) {
+        if (!habilitado || variacoes.isEmpty()) {
+            return;
+        }
+        variacoes.forEach((id, variacao) -> variacoesPendentes.merge(id, variacao, Integer::sum));
+        aplicarPendentes();
+    }
+
+    /**
+     * Busca uma página dos produtos dentro da faixa de preço que atendem aos filtros, após o
+     * produto com o preço e o ID informados.
+     *
+     * @param precoMinimo Preço mínimo, em centavos
+     * @param precoMaximo Preço máximo, em centavos
+     * @param categoria Categoria dos produtos, ou {@code null} para todas
+     * @param apenasEmEstoque Se {@code true}, apenas produtos com estoque maior que zero
+     * @param aposPreco Preço, em centavos, do último produto da página anterior (o preço mínimo na primeira)
+     * @param aposId ID do último produto da página anterior (0 na primeira)
+     * @param limite Quantidade máxima de produtos
+     * @return Produtos encontrados, em ordem de preço e ID
+     * @throws IllegalStateException se as colunas ainda não estiverem montadas
+     */
+    public List<Resultado> filtrar(long precoMinimo, long precoMaximo, CategoriaProduto categoria,
+                                   boolean apenasEmEstoque, long aposPreco, long aposId, int limite) {
+        Colunas atuais = colunas;
+        if (atuais == null) {
+            throw new IllegalStateException("O catálogo colunar não está montado");
+        }
+        return atuais.filtrar(precoMinimo, precoMaximo, categoria != null ? (byte) categoria.ordinal() : SEM_CATEGORIA,
+                categoria == null, apenasEmEstoque, aposPreco, aposId, limite);
+    }
+
+    /**
+     * Converte um preço para centavos, limitado ao intervalo de {@code long}.
+     *
+     * @param preco Preço
+     * @param arredondamento Arredondamento das frações de centavo
+     * @return Preço em centavos
+     */
+    public static long centavos(BigDecimal preco, RoundingMode arredondamento) {
+        BigDecimal centavos = preco.movePointRight(2).setScale(0, arredondamento);
+        return centavos.max(BigDecimal.valueOf(Long.MIN_VALUE)).min(BigDecimal.valueOf(Long.MAX_VALUE)).longValue();
+    }
+
+    private void aplicarPendentes() {
+        // A thread que termina de aplicar confere de novo os pendentes registrados enquanto aplicava
+        while (colunas != null && (!pendentes.isEmpty() || !variacoesPendentes.isEmpty())
+                && aplicando.compareAndSet(false, true)) {
+            Set<Long> ids = new HashSet<>();
+            try {
+                for (Long id : variacoesPendentes.keySet()) {
+                    Integer variacao = variacoesPendentes.remove(id);
+                    if (variacao != null) {
+                        colunas.ajustarEstoque(id, variacao);
+                    }
+                }
+                for (Long id : pendentes) {
+                    if (pendentes.remove(id)) {
+                        ids.add(id);
+                    }
+                }
+                if (!ids.isEmpty()) {
+                    List<ColunasProduto> alterados = releitura.execute(status -> produtoRepository.buscarColunas(ids));
+                    colunas = colunas.aplicar(ids, alterados);
+                }
+            } catch (RuntimeException e) {
+                // Os IDs voltam a ficar pendentes e são aplicados na próxima atualização
+                pendentes.addAll(ids);
+                log.warn("Falha ao atualizar o catálogo colunar com os produtos {}", ids, e);
+                return;
+            } finally {
+                aplicando.set(false);
+            }
+        }
+    }
+
+    /**
+     * Produto encontrado pelo filtro: o ID e o preço em centavos
+     */
+    public record Resultado(long id, long preco) {
+    }
+
+    /**
+     * Vetores paralelos das colunas, ordenados por preço e ID, válidos até {@link #tamanho}
+     */
+    private static final class Colunas {
+
+        private final long[] ids;
+        private final long[] precos;
+        private final byte[] categorias;
+        private final int[] estoques;
+        private final int tamanho;
+
+        /**
+         * IDs em ordem crescente e a posição de cada um nas colunas, montados na primeira
+         * variação de estoque e usados apenas pela thread que aplica as alterações
+         */
+        private long[] idsOrdenados;
+        private int[] posicoes;
+
+        private Colunas(long[] ids, long[] precos, byte[] categorias, int[] estoques, int tamanho) {
+            this.ids = ids;
+            this.precos = precos;
+            this.categorias = categorias;
+            this.estoques = estoques;
+            this.tamanho = tamanho;
+        }
+
+        List<Resultado> filtrar(long precoMinimo, long precoMaximo, byte categoria, boolean todasCategorias,
+                                boolean apenasEmEstoque, long aposPreco, long aposId, int limite) {
+            int inicio = Math.max(primeiroApos(aposPreco, aposId), primeiroApos(precoMinimo - 1, Long.MAX_VALUE));
+            int fim = primeiroApos(precoMaximo, Long.MAX_VALUE);
+            List<Resultado> resultados = new ArrayList<>(Math.min(limite, Math.max(0, fim - inicio)));
+            for (int i = inicio; i < fim && resultados.size() < limite; i++) {
+                // Operadores sem curto-circuito: a condição é avaliada sem desvios dependentes dos dados
+                if ((todasCategorias | categorias[i] == categoria) & (!apenasEmEstoque | estoques[i] > 0)) {
+                    resultados.add(new Resultado(ids[i], precos[i]));
+                }
+            }
+            return resultados;
+        }
+
+        /**
+         * Soma a variação reservada ao estoque do produto, se ele estiver nas colunas.
+         */
+        void ajustarEstoque(long id, int variacao) {
+            if (idsOrdenados == null) {
+                idsOrdenados = Arrays.copyOf(ids, tamanho);
+                Arrays.sort(idsOrdenados);
+                posicoes = new int[tamanho];
+                for (int i = 0; i < tamanho; i++) {
+                    posicoes[Arrays.binarySearch(idsOrdenados, ids[i])] = i;
+                }
+            }
+            int indice = Arrays.binarySearch(idsOrdenados, id);
+            if (indice >= 0) {
+                estoques[posicoes[indice]] -= variacao;
+            }
+        }
+
+        /**
+         * Aplica as colunas relidas dos produtos alterados; os IDs sem colunas foram excluídos.
+         *
+         * @return Estas colunas, se só mudaram estoques e categorias, ou novas colunas
+         */
+        Colunas aplicar(Set<Long> alterados, List<ColunasProduto> linhas) {
+            Set<Long> removidos = new HashSet<>(alterados);
+            List<ColunasProduto> inseridos = new ArrayList<>();
+            for (ColunasProduto linha : linhas) {
+                long preco = centavos(linha.getPreco(), RoundingMode.UNNECESSARY);
+                int posicao = primeiroApos(preco, linha.getId() - 1);
+                if (posicao < tamanho && ids[posicao] == linha.getId() && precos[posicao] == preco) {
+                    // Mesmo preço: o produto continua na mesma posição
+                    categorias[posicao] = codigo(linha.getCategoria());
+                    estoques[posicao] = estoque(linha.getEstoque());
+                    removidos.remove(linha.getId());
+                } else {
+                    // Produto novo ou com preço alterado: sai da posição antiga, se houver, e entra na nova
+                    inseridos.add(linha);
+                }
+            }
+            if (removidos.isEmpty() && inseridos.isEmpty()) {
+                return this;
+            }
+            return reconstruir(removidos, inseridos);
+        }
+
+        private Colunas reconstruir(Set<Long> removidos, List<ColunasProduto> inseridos) {
+            inseridos.sort(Comparator.comparing(ColunasProduto::getPreco).thenComparing(ColunasProduto::getId));
+            long[] ordenadosRemovidos = removidos.stream().mapToLong(Long::longValue).sorted().toArray();
+            Construtor construtor = new Construtor(tamanho + inseridos.size());
+            int proximo = 0;
+            for (int i = 0; i < tamanho; i++) {
+                if (Arrays.binarySearch(ordenadosRemovidos, ids[i]) >= 0) {
+                    continue;
+                }
+                for (; proximo < inseridos.size() && antes(inseridos.get(proximo), precos[i], ids[i]); proximo++) {
+                    construtor.adicionar(inseridos.get(proximo));
+                }
+                construtor.adicionar(ids[i], precos[i], categorias[i], estoques[i]);
+            }
+            for (; proximo < inseridos.size(); proximo++) {
+                construtor.adicionar(inseridos.get(proximo));
+            }
+            return construtor.construir();
+        }
+
+        /**
+         * Primeira posição com preço e ID depois dos informados (ou {@link #tamanho}, se nenhuma)
+         */
+        private int primeiroApos(long preco, long id) {
+            int baixo = 0;
+            int alto = tamanho;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (precos[meio] < preco || (precos[meio] == preco && ids[meio] <= id)) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+
+        private static boolean antes(ColunasProduto linha, long preco, long id) {
+            long precoLinha = centavos(linha.getPreco(), RoundingMode.UNNECESSARY);
+            return precoLinha < preco || (precoLinha == preco && linha.getId() < id);
+        }
+
+        private static byte codigo(String categoria) {
+            return categoria != null ? (byte) CategoriaProduto.valueOf(categoria).ordinal() : SEM_CATEGORIA;
+        }
+
+        private static int estoque(Integer estoque) {
+            return estoque != null ? estoque : 0;
+        }
+
+        /**
+         * Acumula linhas já ordenadas por preço e ID, ampliando os vetores quando necessário
+         */
+        private static final class Construtor {
+
+            private long[] ids;
+            private long[] precos;
+            private byte[] categorias;
+            private int[] estoques;
+            private int tamanho;
+
+            Construtor(int capacidade) {
+                int inicial = Math.max(16, capacidade);
+                ids = new long[inicial];
+                precos = new long[inicial];
+                categorias = new byte[inicial];
+                estoques = new int[inicial];
+            }
+
+            void adicionar(ColunasProduto linha) {
+                adicionar(linha.getId(), centavos(linha.getPreco(), RoundingMode.UNNECESSARY),
+                        codigo(linha.getCategoria()), estoque(linha.getEstoque()));
+            }
+
+            void adicionar(long id, long preco, byte categoria, int estoque) {
+                if (tamanho == ids.length) {
+                    int capacidade = ids.length + (ids.length >> 1);
+                    ids = Arrays.copyOf(ids, capacidade);
+                    precos = Arrays.copyOf(precos, capacidade);
+                    categorias = Arrays.copyOf(categorias, capacidade);
+                    estoques = Arrays.copyOf(estoques, capacidade);
+                }
+                ids[tamanho] = id;
+                precos[tamanho] = preco;
+                categorias[tamanho] = categoria;
+                estoques[tamanho] = estoque;
+                tamanho++;
+            }
+
+            Colunas construir() {
+                return new Colunas(ids, precos, categorias, estoques, tamanho);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.CatalogoProdutosProperties;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Classe utilitária que mantém em memória os produtos consultados por ID.
+ *
+ * <p>Os produtos ficam em um cache limitado por {@code pedidos.catalogo.capacidade}, com os
+ * menos usados removidos primeiro, e cada produto é lido novamente do banco depois de
+ * {@code pedidos.catalogo.validade}. O estoque muda a cada pedido, então um produto lido há
+ * mais de {@code pedidos.catalogo.validade-estoque} é recarregado antes de ser devolvido; os
+ * demais campos só mudam pelo cadastro, que invalida o produto (ver {@link #invalidar(Collection)}).</p>
+ *
+ * <p>A instância devolvida é compartilhada entre as consultas e não deve ser alterada. O preço
+ * usado em novos pedidos não vem deste cache: os pedidos leem os produtos do banco (ver
+ * {@link ContextoPedido} e {@link com.br.bootcamp.orders.service.contracts.IProdutoService#buscarPorIdAtual(Long)}).</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class CatalogoProdutos {
+
+    private final LoadingCache<Long, Entrada> cache;
+    private final long validadeEstoqueNanos;
+    private final CatalogoColunar catalogoColunar;
+
+    public CatalogoProdutos(ProdutoRepository produtoRepository, CatalogoProdutosProperties propriedades,
+                            MeterRegistry meterRegistry, CatalogoColunar catalogoColunar) {
+        this.catalogoColunar = catalogoColunar;
+        this.validadeEstoqueNanos = propriedades.validadeEstoque().toNanos();
+        // Carregamentos e recargas rodam na thread da consulta, para que a recarga do estoque termine antes da resposta
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(propriedades.capacidade())
+                .expireAfterWrite(propriedades.validade())
+                .executor(Runnable::run)
+                .recordStats()
+                .build(id -> produtoRepository.findById(id)
+                        .map(produto -> new Entrada(produto, System.nanoTime()))
+                        .orElse(null));
+
+        MetricasCache.registrar(meterRegistry, "pedidos.catalogo", "catálogo de produtos", cache);
+    }
+
+    /**
+     * Busca um produto pelo ID, lendo do banco apenas se ele não estiver em memória ou se o
+     * estoque em memória estiver mais velho que o permitido.
+     *
+     * @param id ID do produto
+     * @return Produto encontrado, ou vazio se não existir (IDs inexistentes não ficam em memória)
+     */
+    public Optional<Produto> buscar(Long id) {
+        long inicio = System.nanoTime();
+        Entrada entrada = cache.get(id);
+        // Um produto carregado nesta mesma consulta nunca é recarregado, mesmo com validade zero
+        if (entrada != null && inicio - entrada.carregadoEm() > validadeEstoqueNanos) {
+            entrada = cache.refresh(id).join();
+        }
+        return entrada != null ? Optional.of(entrada.produto()) : Optional.empty();
+    }
+
+    /**
+     * Remove os produtos da memória, para que a próxima consulta os leia do banco.
+     *
+     * <p>Dentro de uma transação, os produtos são removidos novamente ao fim dela: uma
+     * consulta feita antes da confirmação teria lido e guardado a versão anterior. O
+     * {@link CatalogoColunar} é atualizado com os produtos apenas se a transação for
+     * confirmada.</p>
+     *
+     * @param ids IDs dos produtos alterados
+     */
+    public void invalidar(Collection<Long> ids) {
+        List<Long> copia = List.copyOf(ids);
+        cache.invalidateAll(copia);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    catalogoColunar.atualizar(copia);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(copia);
+                }
+            });
+        } else {
+            catalogoColunar.atualizar(copia);
+        }
+        log.debug("Produtos removidos do catálogo: {}", copia);
+    }
+
+    /**
+     * Informa ao {@link CatalogoColunar} as variações de estoque de uma reserva, se a transação
+     * for confirmada.
+     *
+     * <p>Os produtos continuam em memória: o estoque devolvido por {@link #buscar(Long)} é
+     * recarregado depois de {@code pedidos.catalogo.validade-estoque}, e apenas as gravações do
+     * cadastro invalidam o produto.</p>
+     *
+     * @param variacoes Quantidade reservada por ID de produto (negativa quando devolvida ao estoque)
+     */
+    public void ajustarEstoque(Map<Long, Integer> variacoes) {
+        Map<Long, Integer> copia = Map.copyOf(variacoes);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    catalogoColunar.ajustarEstoque(copia);
+                }
+            });
+        } else {
+            catalogoColunar.ajustarEstoque(copia);
+        }
+    }
+
+    /**
+     * Remove um produto da memória (ver {@link #invalidar(Collection)}).
+     *
+     * @param id ID do produto alterado
+     */
+    public void invalidar(Long id) {
+        invalidar(List.of(id));
+    }
+
+    /**
+     * Produto em memória e o instante ({@link System#nanoTime()}) em que foi lido do banco
+     */
+    private record Entrada(Produto produto, long carregadoEm) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.br.bootcamp.orders.service.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Aritmética de valores monetários em centavos, em {@code long}.
+ *
+ * <p>Os valores com duas casas decimais (a escala das colunas monetárias do banco) são
+ * convertidos para centavos na entrada e de volta para {@link BigDecimal} na saída, e as
+ * multiplicações e somas intermediárias não criam objetos. O resultado é idêntico ao da mesma
+ * conta em {@link BigDecimal}: mesmo valor e mesma escala 2. Multiplicações e somas que não
+ * cabem em {@code long} lançam {@link ArithmeticException}, e valores com outra escala não são
+ * convertidos (ver {@link #FORA_DA_ESCALA}), para que quem chama refaça a conta em {@link BigDecimal}.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Centavos {
+
+    /**
+     * Escala dos valores monetários convertidos
+     */
+    public static final int ESCALA = 2;
+
+    /**
+     * Resultado de {@link #de(BigDecimal)} para valores que não têm escala 2 ou não cabem em
+     * {@code long}; nenhum valor convertido chega a ele
+     */
+    public static final long FORA_DA_ESCALA = Long.MIN_VALUE;
+
+    /**
+     * Maior precisão convertida: 18 dígitos sempre cabem em {@code long}
+     */
+    private static final int PRECISAO_MAXIMA = 18;
+
+    private Centavos() {
+    }
+
+    /**
+     * Converte um valor com duas casas decimais para centavos.
+     *
+     * @param valor Valor monetário
+     * @return Valor em centavos, ou {@link #FORA_DA_ESCALA} se o valor não tiver escala 2
+     *         ou tiver mais de 18 dígitos
+     */
+    public static long de(BigDecimal valor) {
+        if (valor.scale() != ESCALA || valor.precision() > PRECISAO_MAXIMA) {
+            return FORA_DA_ESCALA;
+        }
+        return valor.unscaledValue().longValue();
+    }
+
+    /**
+     * Converte centavos para um valor com duas casas decimais.
+     *
+     * @param centavos Valor em centavos
+     * @return Valor monetário com escala 2
+     */
+    public static BigDecimal paraValor(long centavos) {
+        return BigDecimal.valueOf(centavos, ESCALA);
+    }
+
+    /**
+     * Multiplica um valor em centavos por uma quantidade.
+     *
+     * @param centavos Valor em centavos
+     * @param quantidade Quantidade
+     * @return Produto em centavos
+     * @throws ArithmeticException se o produto não couber em {@code long}
+     */
+    public static long multiplicar(long centavos, int quantidade) {
+        return Math.multiplyExact(centavos, quantidade);
+    }
+
+    /**
+     * Soma dois valores em centavos.
+     *
+     * @param centavos Valor em centavos
+     * @param parcela Valor somado, em centavos
+     * @return Soma em centavos
+     * @throws ArithmeticException se a soma não couber em {@code long}
+     */
+    public static long somar(long centavos, long parcela) {
+        return Math.addExact(centavos, parcela);
+    }
+}
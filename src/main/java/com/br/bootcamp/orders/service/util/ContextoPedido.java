@@ -0,0 +1,122 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.repository.ClienteRepository;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Contexto compartilhado durante a criação e a atualização de pedidos.
+ *
+ * <p>Carrega todos os clientes e produtos referenciados em uma consulta por tabela
+ * ({@code findAllById}, traduzida para um {@code IN}) e os disponibiliza para o
+ * serviço, o {@link PedidoValidator} e o {@link PedidoCalculator}, evitando que
+ * o mesmo registro seja buscado várias vezes por item ou por pedido. O mesmo
+ * contexto atende tanto a um único pedido quanto a um lote inteiro.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ContextoPedido {
+
+    private final Map<Long, Cliente> clientes;
+    private final Map<Long, Produto> produtos;
+
+    private ContextoPedido(Map<Long, Cliente> clientes, Map<Long, Produto> produtos) {
+        this.clientes = clientes;
+        this.produtos = produtos;
+    }
+
+    /**
+     * Carrega, com uma consulta por tabela, os clientes e produtos com os IDs informados.
+     *
+     * @param clienteRepository Repositório de clientes
+     * @param produtoRepository Repositório de produtos
+     * @param clienteIds IDs dos clientes referenciados pelos pedidos (IDs nulos são ignorados)
+     * @param produtoIds IDs dos produtos referenciados pelos itens (IDs nulos são ignorados)
+     * @return Contexto com os clientes e produtos encontrados
+     */
+    public static ContextoPedido carregar(ClienteRepository clienteRepository, ProdutoRepository produtoRepository,
+                                          Collection<Long> clienteIds, Collection<Long> produtoIds) {
+        return new ContextoPedido(
+                buscarTodos(clienteRepository::findAllById, clienteIds, Cliente::getId),
+                buscarTodos(produtoRepository::findAllById, produtoIds, Produto::getId));
+    }
+
+    /**
+     * Carrega os clientes com os IDs informados pelo {@link CadastroClientes}, que só consulta o
+     * banco para os clientes que não estiverem em memória, e os produtos com uma consulta.
+     *
+     * @param cadastroClientes Cadastro de clientes em memória
+     * @param produtoRepository Repositório de produtos
+     * @param clienteIds IDs dos clientes referenciados pelos pedidos (IDs nulos são ignorados)
+     * @param produtoIds IDs dos produtos referenciados pelos itens (IDs nulos são ignorados)
+     * @return Contexto com os clientes e produtos encontrados
+     */
+    public static ContextoPedido carregar(CadastroClientes cadastroClientes, ProdutoRepository produtoRepository,
+                                          Collection<Long> clienteIds, Collection<Long> produtoIds) {
+        return carregar(ids -> cadastroClientes.buscarTodos(ids).values(), produtoRepository::findAllById,
+                clienteIds, produtoIds);
+    }
+
+    /**
+     * Carrega os clientes e os produtos com os IDs informados pelas consultas recebidas, chamadas
+     * uma vez cada e apenas se houver IDs, por exemplo para medir cada leitura separadamente.
+     *
+     * @param consultaClientes Consulta dos clientes pelos IDs
+     * @param consultaProdutos Consulta dos produtos pelos IDs
+     * @param clienteIds IDs dos clientes referenciados pelos pedidos (IDs nulos são ignorados)
+     * @param produtoIds IDs dos produtos referenciados pelos itens (IDs nulos são ignorados)
+     * @return Contexto com os clientes e produtos encontrados
+     */
+    public static ContextoPedido carregar(Function<Set<Long>, ? extends Iterable<Cliente>> consultaClientes,
+                                          Function<Set<Long>, ? extends Iterable<Produto>> consultaProdutos,
+                                          Collection<Long> clienteIds, Collection<Long> produtoIds) {
+        return new ContextoPedido(
+                buscarTodos(consultaClientes, clienteIds, Cliente::getId),
+                buscarTodos(consultaProdutos, produtoIds, Produto::getId));
+    }
+
+    private static <T> Map<Long, T> buscarTodos(Function<Set<Long>, ? extends Iterable<T>> consulta,
+                                                Collection<Long> ids, Function<T, Long> extrairId) {
+        Set<Long> idsValidos = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, T> encontrados = new HashMap<>();
+        if (!idsValidos.isEmpty()) {
+            consulta.apply(idsValidos).forEach(entidade -> encontrados.put(extrairId.apply(entidade), entidade));
+        }
+        return encontrados;
+    }
+
+    /**
+     * Busca um cliente já carregado no contexto.
+     *
+     * @param clienteId ID do cliente
+     * @return Optional contendo o cliente se ele foi carregado, ou vazio caso contrário
+     */
+    public Optional<Cliente> buscarCliente(Long clienteId) {
+        return Optional.ofNullable(clientes.get(clienteId));
+    }
+
+    /**
+     * Busca um produto já carregado no contexto.
+     *
+     * @param produtoId ID do produto
+     * @return Optional contendo o produto se ele foi carregado, ou vazio caso contrário
+     */
+    public Optional<Produto> buscarProduto(Long produtoId) {
+        return Optional.ofNullable(produtos.get(produtoId));
+    }
+}
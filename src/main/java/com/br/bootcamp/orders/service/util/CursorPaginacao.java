@@ -0,0 +1,204 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.service.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Paginação por cursor (keyset) das listagens.
+ *
+ * <p>Em vez de {@code OFFSET}, que lê e descarta todas as linhas das páginas anteriores,
+ * cada página continua a partir da chave do último registro da página anterior
+ * ({@code WHERE chave > :cursor ORDER BY chave LIMIT :limite}). Com um índice sobre a
+ * chave, o custo de uma página não depende da sua profundidade.</p>
+ *
+ * <p>O cursor entregue ao cliente é a chave do último registro codificada em Base64
+ * (URL-safe), e deve ser tratado como opaco. As consultas buscam um registro além do
+ * limite apenas para saber se existe uma página seguinte.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CursorPaginacao {
+
+    /**
+     * Quantidade de registros por página quando o cliente não informa o limite
+     */
+    public static final int LIMITE_PADRAO = 50;
+
+    /**
+     * Maior quantidade de registros aceita em uma página
+     */
+    public static final int LIMITE_MAXIMO = 500;
+
+    private static final String SEPARADOR = "|";
+
+    private CursorPaginacao() {
+    }
+
+    /**
+     * Valida o limite informado pelo cliente.
+     *
+     * @param limite Quantidade de registros por página
+     * @return O próprio limite
+     * @throws BusinessException se o limite estiver fora do intervalo aceito
+     */
+    public static int validarLimite(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new BusinessException("O limite deve estar entre 1 e " + LIMITE_MAXIMO + ".");
+        }
+        return limite;
+    }
+
+    /**
+     * Monta a página a partir do resultado de uma consulta que buscou até {@code limite + 1} registros.
+     *
+     * @param registros Registros retornados pela consulta
+     * @param limite Quantidade de registros por página
+     * @param cursor Gera o cursor a partir do último registro da página
+     * @return Página com no máximo {@code limite} registros
+     */
+    public static <T> Pagina<T> montar(List<T> registros, int limite, Function<T, String> cursor) {
+        if (registros.size() <= limite) {
+            return new Pagina<>(registros, null);
+        }
+        List<T> itens = registros.subList(0, limite);
+        return new Pagina<>(itens, cursor.apply(itens.get(limite - 1)));
+    }
+
+    /**
+     * Gera o cursor de uma chave composta pelos valores informados
+     */
+    public static String codificar(Object... chave) {
+        StringBuilder texto = new StringBuilder();
+        for (Object valor : chave) {
+            if (!texto.isEmpty()) {
+                texto.append(SEPARADOR);
+            }
+            texto.append(valor);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê o cursor de uma listagem ordenada por ID.
+     *
+     * @param cursor Cursor recebido do cliente ou {@code null} na primeira página
+     * @return ID do último registro da página anterior, ou 0 na primeira página
+     * @throws BusinessException se o cursor for inválido
+     */
+    public static long lerId(String cursor) {
+        if (cursor == null) {
+            return 0L;
+        }
+        return lerLong(decodificar(cursor, 1)[0]);
+    }
+
+    /**
+     * Lê o cursor de uma listagem ordenada por data e ID.
+     *
+     * @param cursor Cursor recebido do cliente ou {@code null} na primeira página
+     * @return Chave do último registro da página anterior, ou {@code null} na primeira página
+     * @throws BusinessException se o cursor for inválido
+     */
+    public static ChaveData lerDataEId(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String[] partes = decodificar(cursor, 2);
+        try {
+            return new ChaveData(LocalDateTime.parse(partes[0]), lerLong(partes[1]));
+        } catch (DateTimeParseException e) {
+            throw cursorInvalido();
+        }
+    }
+
+    /**
+     * Lê o cursor de uma listagem ordenada por preço e ID.
+     *
+     * @param cursor Cursor recebido do cliente ou {@code null} na primeira página
+     * @return Chave do último registro da página anterior, ou {@code null} na primeira página
+     * @throws BusinessException se o cursor for inválido
+     */
+    public static ChavePreco lerPrecoEId(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String[] partes = decodificar(cursor, 2);
+        try {
+            return new ChavePreco(new BigDecimal(partes[0]), lerLong(partes[1]));
+        } catch (NumberFormatException e) {
+            throw cursorInvalido();
+        }
+    }
+
+    /**
+     * Lê o cursor de uma busca ordenada por semelhança (decrescente) e ID.
+     *
+     * @param cursor Cursor recebido do cliente ou {@code null} na primeira página
+     * @return Chave do último registro da página anterior, ou {@code null} na primeira página
+     * @throws BusinessException se o cursor for inválido
+     */
+    public static ChaveSimilaridade lerSimilaridadeEId(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String[] partes = decodificar(cursor, 2);
+        try {
+            return new ChaveSimilaridade(Float.parseFloat(partes[0]), lerLong(partes[1]));
+        } catch (NumberFormatException e) {
+            throw cursorInvalido();
+        }
+    }
+
+    private static String[] decodificar(String cursor, int quantidadePartes) {
+        String texto;
+        try {
+            texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw cursorInvalido();
+        }
+        String[] partes = texto.split("\\" + SEPARADOR, -1);
+        if (partes.length != quantidadePartes) {
+            throw cursorInvalido();
+        }
+        return partes;
+    }
+
+    private static long lerLong(String valor) {
+        try {
+            return Long.parseLong(valor);
+        } catch (NumberFormatException e) {
+            throw cursorInvalido();
+        }
+    }
+
+    private static BusinessException cursorInvalido() {
+        return new BusinessException("Cursor de paginação inválido.");
+    }
+
+    /**
+     * Chave das listagens ordenadas por data e ID
+     */
+    public record ChaveData(LocalDateTime data, Long id) {
+    }
+
+    /**
+     * Chave das listagens ordenadas por preço e ID
+     */
+    public record ChavePreco(BigDecimal preco, Long id) {
+    }
+
+    /**
+     * Chave das buscas ordenadas por semelhança e ID
+     */
+    public record ChaveSimilaridade(float similaridade, Long id) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.EventosPedidoProperties;
+import com.br.bootcamp.orders.model.EventoPedido;
+import com.br.bootcamp.orders.service.contracts.IDestinoEventos;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Destino local dos eventos de pedido: acrescenta cada evento como uma linha JSON
+ * (NDJSON) ao arquivo configurado. É o destino padrão, usado em desenvolvimento e testes.
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "pedidos.eventos.destino", havingValue = "arquivo", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DestinoEventosArquivo implements IDestinoEventos {
+
+    private final ObjectMapper objectMapper;
+    private final EventosPedidoProperties propriedades;
+
+    /**
+     * Serializa as gravações no arquivo sem prender a thread de plataforma durante a
+     * escrita, como {@code synchronized} faria com uma virtual thread
+     */
+    private final ReentrantLock trava = new ReentrantLock();
+
+    @Override
+    public void publicar(List<EventoPedido> eventos) {
+        StringBuilder linhas = new StringBuilder();
+        trava.lock();
+        try {
+            for (EventoPedido evento : eventos) {
+                linhas.append(objectMapper.writeValueAsString(evento)).append('\n');
+            }
+            Files.writeString(propriedades.arquivo(), linhas, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar os eventos de pedido", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível gravar os eventos de pedido em " + propriedades.arquivo(), e);
+        } finally {
+            trava.unlock();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.EventosPedidoProperties;
+import com.br.bootcamp.orders.model.EventoPedido;
+import com.br.bootcamp.orders.service.contracts.IDestinoEventos;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * Destino HTTP dos eventos de pedido: envia cada lote como um array JSON em um único
+ * POST para a URL configurada. Respostas de erro (4xx/5xx) mantêm os eventos pendentes.
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "pedidos.eventos.destino", havingValue = "http")
+public class DestinoEventosHttp implements IDestinoEventos {
+
+    private final RestClient restClient;
+
+    public DestinoEventosHttp(RestClient.Builder restClientBuilder, EventosPedidoProperties propriedades) {
+        if (propriedades.url() == null) {
+            throw new IllegalStateException("pedidos.eventos.url é obrigatório quando pedidos.eventos.destino=http");
+        }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(propriedades.timeoutHttp());
+        requestFactory.setReadTimeout(propriedades.timeoutHttp());
+        this.restClient = restClientBuilder
+                .baseUrl(propriedades.url().toString())
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    @Override
+    public void publicar(List<EventoPedido> eventos) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(eventos)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,179 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
+import com.br.bootcamp.orders.model.leitura.LinhaExportacaoPedido;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Escrita da exportação de pedidos em NDJSON ou CSV.
+ *
+ * <p>As linhas são escritas à medida que chegam do banco, sem montar a lista de pedidos
+ * em memória: além do buffer de saída, só o pedido da linha atual é mantido. Por isso as
+ * linhas de um mesmo pedido precisam vir consecutivas.</p>
+ *
+ * <ul>
+ *   <li><b>NDJSON</b>: um objeto por pedido e por linha, com os itens no array {@code itens}</li>
+ *   <li><b>CSV</b>: cabeçalho seguido de uma linha por item, com os dados do pedido repetidos;
+ *       um pedido sem itens gera uma linha com as colunas do item vazias. Nenhuma coluna
+ *       exportada contém texto livre, então os valores não precisam de aspas</li>
+ * </ul>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ExportacaoPedidos {
+
+    /**
+     * Cabeçalho do CSV
+     */
+    public static final String CABECALHO_CSV =
+            "pedido_id,cliente_id,data_pedido,status,tipo_pagamento,valor_total,produto_id,quantidade,preco_unitario,subtotal";
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private static final JsonFactory JSON = new JsonFactoryBuilder()
+            .rootValueSeparator((String) null)
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private ExportacaoPedidos() {
+    }
+
+    /**
+     * Valida o período da exportação.
+     *
+     * @param dataInicio Primeiro dia do período
+     * @param dataFim Último dia do período (inclusive)
+     * @throws BusinessException se a data de início for posterior à data de fim
+     */
+    public static void validarPeriodo(LocalDate dataInicio, LocalDate dataFim) {
+        if (dataInicio.isAfter(dataFim)) {
+            throw new BusinessException("A data de início deve ser anterior ou igual à data de fim.");
+        }
+    }
+
+    /**
+     * Escreve as linhas no formato informado. A saída não é fechada.
+     *
+     * @param linhas Linhas da exportação, com as linhas de cada pedido consecutivas
+     * @param formato Formato da exportação
+     * @param saida Destino da exportação
+     * @return Quantidade de pedidos exportados
+     * @throws IOException se a escrita falhar (por exemplo, quando o cliente desconecta)
+     */
+    public static long escrever(Stream<LinhaExportacaoPedido> linhas, FormatoExportacao formato, OutputStream saida) throws IOException {
+        return switch (formato) {
+            case NDJSON -> escreverNdjson(linhas.iterator(), saida);
+            case CSV -> escreverCsv(linhas.iterator(), saida);
+        };
+    }
+
+    private static long escreverNdjson(Iterator<LinhaExportacaoPedido> linhas, OutputStream saida) throws IOException {
+        long pedidos = 0;
+        try (JsonGenerator json = JSON.createGenerator(saida)) {
+            Long pedidoAtual = null;
+            while (linhas.hasNext()) {
+                LinhaExportacaoPedido linha = linhas.next();
+                if (!Objects.equals(linha.pedidoId(), pedidoAtual)) {
+                    if (pedidoAtual != null) {
+                        fecharPedido(json);
+                    }
+                    abrirPedido(json, linha);
+                    pedidoAtual = linha.pedidoId();
+                    pedidos++;
+                }
+                if (linha.temItem()) {
+                    json.writeStartObject();
+                    json.writeNumberField("produtoId", linha.produtoId());
+                    json.writeNumberField("quantidade", linha.quantidade());
+                    json.writeNumberField("precoUnitario", linha.precoUnitario());
+                    json.writeNumberField("subtotal", linha.subtotal());
+                    json.writeEndObject();
+                }
+            }
+            if (pedidoAtual != null) {
+                fecharPedido(json);
+            }
+        }
+        return pedidos;
+    }
+
+    private static void abrirPedido(JsonGenerator json, LinhaExportacaoPedido linha) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", linha.pedidoId());
+        json.writeNumberField("clienteId", linha.clienteId());
+        json.writeStringField("dataPedido", linha.dataPedido().toString());
+        json.writeStringField("status", linha.status().name());
+        json.writeStringField("tipoPagamento", linha.tipoPagamento().name());
+        json.writeNumberField("valorTotal", linha.valorTotal());
+        json.writeArrayFieldStart("itens");
+    }
+
+    private static void fecharPedido(JsonGenerator json) throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static long escreverCsv(Iterator<LinhaExportacaoPedido> linhas, OutputStream saida) throws IOException {
+        long pedidos = 0;
+        Writer csv = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        csv.write(CABECALHO_CSV);
+        csv.write('\n');
+        Long pedidoAtual = null;
+        while (linhas.hasNext()) {
+            LinhaExportacaoPedido linha = linhas.next();
+            if (!Objects.equals(linha.pedidoId(), pedidoAtual)) {
+                pedidoAtual = linha.pedidoId();
+                pedidos++;
+            }
+            csv.write(linha.pedidoId().toString());
+            csv.write(',');
+            csv.write(linha.clienteId().toString());
+            csv.write(',');
+            csv.write(linha.dataPedido().toString());
+            csv.write(',');
+            csv.write(linha.status().name());
+            csv.write(',');
+            csv.write(linha.tipoPagamento().name());
+            csv.write(',');
+            csv.write(texto(linha.valorTotal()));
+            csv.write(',');
+            if (linha.temItem()) {
+                csv.write(linha.produtoId().toString());
+                csv.write(',');
+                csv.write(linha.quantidade().toString());
+                csv.write(',');
+                csv.write(texto(linha.precoUnitario()));
+                csv.write(',');
+                csv.write(texto(linha.subtotal()));
+            } else {
+                csv.write(",,,");
+            }
+            csv.write('\n');
+        }
+        csv.flush();
+        return pedidos;
+    }
+
+    private static String texto(BigDecimal valor) {
+        return valor.toPlainString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.br.bootcamp.orders.service.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de textos: responde, sem falsos negativos, se um texto pode ter sido adicionado.
+ *
+ * <p>Cada texto marca {@link #getFuncoes()} bits de um vetor de {@link #getTamanhoEmBits()} bits,
+ * escolhidos por hash duplo sobre um hash de 64 bits do texto em UTF-8. Se algum dos bits de um
+ * texto estiver desmarcado, o texto certamente não foi adicionado; se todos estiverem marcados,
+ * ele provavelmente foi, com a taxa de falsos positivos informada na criação enquanto a
+ * quantidade de textos não passar da esperada. Textos não podem ser removidos.</p>
+ *
+ * <p>Adições e consultas podem ser feitas por várias threads ao mesmo tempo, sem travas.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class FiltroBloom {
+
+    private final AtomicLongArray bits;
+    private final long tamanhoEmBits;
+    private final int funcoes;
+
+    private FiltroBloom(long tamanhoEmBits, int funcoes) {
+        this.bits = new AtomicLongArray(Math.toIntExact((tamanhoEmBits + 63) / 64));
+        this.tamanhoEmBits = tamanhoEmBits;
+        this.funcoes = funcoes;
+    }
+
+    /**
+     * Cria um filtro dimensionado para a quantidade de textos e a taxa de falsos positivos informadas.
+     *
+     * @param textosEsperados Quantidade de textos que devem ser adicionados (mínimo 1)
+     * @param taxaFalsosPositivos Taxa de falsos positivos desejada, entre 0 e 1 (exclusive)
+     * @return Filtro vazio
+     * @throws IllegalArgumentException se a taxa estiver fora do intervalo
+     */
+    public static FiltroBloom dimensionar(long textosEsperados, double taxaFalsosPositivos) {
+        if (!(taxaFalsosPositivos > 0 && taxaFalsosPositivos < 1)) {
+            throw new IllegalArgumentException("A taxa de falsos positivos deve estar entre 0 e 1: " + taxaFalsosPositivos);
+        }
+        long textos = Math.max(1, textosEsperados);
+        // As posições vêm de hashes de 32 bits, então o vetor é limitado a Integer.MAX_VALUE bits
+        long tamanho = Math.min(Integer.MAX_VALUE, Math.max(64,
+                (long) Math.ceil(-textos * Math.log(taxaFalsosPositivos) / (Math.log(2) * Math.log(2)))));
+        int funcoes = Math.max(1, (int) Math.round((double) tamanho / textos * Math.log(2)));
+        return new FiltroBloom(tamanho, funcoes);
+    }
+
+    /**
+     * Adiciona um texto ao filtro.
+     *
+     * @param texto Texto a ser adicionado
+     */
+    public void adicionar(String texto) {
+        long hash = hash(texto);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= funcoes; i++) {
+            long bit = posicao(h1 + i * h2);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long atual = bits.get(indice);
+            while ((atual & mascara) == 0 && !bits.compareAndSet(indice, atual, atual | mascara)) {
+                atual = bits.get(indice);
+            }
+        }
+    }
+
+    /**
+     * Verifica se o texto pode ter sido adicionado.
+     *
+     * @param texto Texto a ser verificado
+     * @return {@code false} se o texto certamente não foi adicionado; {@code true} se provavelmente foi
+     */
+    public boolean podeConter(String texto) {
+        long hash = hash(texto);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= funcoes; i++) {
+            long bit = posicao(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retorna o tamanho do vetor de bits.
+     *
+     * @return Quantidade de bits do filtro
+     */
+    public long getTamanhoEmBits() {
+        return tamanhoEmBits;
+    }
+
+    /**
+     * Retorna a quantidade de bits marcados por texto.
+     *
+     * @return Quantidade de funções de hash
+     */
+    public int getFuncoes() {
+        return funcoes;
+    }
+
+    private long posicao(int hashCombinado) {
+        // Hash negativo é invertido, como no hash duplo de Kirsch e Mitzenmacher
+        return (hashCombinado < 0 ? ~hashCombinado : hashCombinado) % tamanhoEmBits;
+    }
+
+    /**
+     * FNV-1a de 64 bits sobre os bytes UTF-8, seguido da mistura final do MurmurHash3
+     * para espalhar os bits altos e baixos usados como os dois hashes
+     */
+    private static long hash(String texto) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : texto.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
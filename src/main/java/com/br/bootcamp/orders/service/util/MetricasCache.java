@@ -0,0 +1,70 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Registro das métricas dos caches em memória a partir das estatísticas do Caffeine.
+ *
+ * <p>Os valores são lidos das estatísticas a cada coleta; o cache precisa ser criado com
+ * {@code recordStats()}. Com o prefixo {@code pedidos.catalogo}, por exemplo, são registrados:</p>
+ * <ul>
+ *   <li>{@code pedidos.catalogo.consultas}, com a tag {@code resultado} ({@code acerto} ou {@code falta})</li>
+ *   <li>{@code pedidos.catalogo.acertos.taxa}: fração das consultas atendidas pela memória</li>
+ *   <li>{@code pedidos.catalogo.remocoes}: entradas removidas por capacidade ou validade</li>
+ *   <li>{@code pedidos.catalogo.tamanho}: entradas em memória</li>
+ *   <li>{@code pedidos.catalogo.carregamento}: leituras do banco feitas pelo cache</li>
+ * </ul>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class MetricasCache {
+
+    private MetricasCache() {
+    }
+
+    /**
+     * Registra as métricas do cache.
+     *
+     * @param meterRegistry Registro de métricas
+     * @param prefixo Prefixo dos nomes das métricas
+     * @param descricao Descrição do cache usada nas descrições das métricas (por exemplo, "catálogo de produtos")
+     * @param cache Cache criado com {@code recordStats()}
+     */
+    public static void registrar(MeterRegistry meterRegistry, String prefixo, String descricao, Cache<?, ?> cache) {
+        contador(meterRegistry, prefixo + ".consultas", "Consultas ao " + descricao + " atendidas pela memória",
+                cache, CacheStats::hitCount, "resultado", "acerto");
+        contador(meterRegistry, prefixo + ".consultas", "Consultas ao " + descricao + " que leram o banco",
+                cache, CacheStats::missCount, "resultado", "falta");
+        contador(meterRegistry, prefixo + ".remocoes", "Entradas removidas do " + descricao + " por capacidade ou validade",
+                cache, CacheStats::evictionCount);
+        Gauge.builder(prefixo + ".acertos.taxa", cache, memoria -> memoria.stats().hitRate())
+                .description("Fração das consultas ao " + descricao + " atendidas pela memória")
+                .register(meterRegistry);
+        Gauge.builder(prefixo + ".tamanho", cache, Cache::estimatedSize)
+                .description("Entradas mantidas no " + descricao)
+                .register(meterRegistry);
+        FunctionTimer.builder(prefixo + ".carregamento", cache,
+                        memoria -> memoria.stats().loadCount(),
+                        memoria -> memoria.stats().totalLoadTime(), TimeUnit.NANOSECONDS)
+                .description("Leituras do banco feitas pelo " + descricao)
+                .register(meterRegistry);
+    }
+
+    private static void contador(MeterRegistry meterRegistry, String nome, String descricao, Cache<?, ?> cache,
+                                 ToLongFunction<CacheStats> valor, String... tags) {
+        FunctionCounter.builder(nome, cache, memoria -> valor.applyAsLong(memoria.stats()))
+                .description(descricao)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
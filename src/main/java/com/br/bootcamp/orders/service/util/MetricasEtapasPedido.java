@@ -0,0 +1,154 @@
+package com.br.bootcamp.orders.service.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Duração de cada etapa da criação e da atualização de pedidos, no timer {@code pedidos.etapas}
+ * com as tags {@code operacao} e {@code etapa}.
+ *
+ * <p>Os timers de cada operação e das suas etapas são registrados na criação da classe, e cada
+ * medição só lê o relógio e soma a duração ao timer já resolvido, sem consultar o registro de
+ * métricas.
+ * Os timers publicam um histograma com os limites de {@link #LIMITES}, do qual o Prometheus
+ * calcula os percentis de todas as instâncias ({@code histogram_quantile}).</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class MetricasEtapasPedido {
+
+    /**
+     * Nome do timer das etapas
+     */
+    public static final String NOME = "pedidos.etapas";
+
+    /**
+     * Limites do histograma das etapas: das leituras em memória (dezenas de microssegundos) às
+     * gravações lentas no banco
+     */
+    static final Duration[] LIMITES = {
+            Duration.of(50, ChronoUnit.MICROS), Duration.of(100, ChronoUnit.MICROS), Duration.of(250, ChronoUnit.MICROS),
+            Duration.of(500, ChronoUnit.MICROS), Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(5),
+            Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100),
+            Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1)
+    };
+
+    /**
+     * Etapa de uma operação de pedido
+     */
+    public enum Etapa {
+        /** Leitura do pedido existente (apenas na atualização) */
+        PEDIDO("pedido", "Leitura do pedido existente"),
+        /** Leitura dos clientes referenciados, pelo cadastro em memória */
+        CLIENTES("clientes", "Leitura dos clientes referenciados"),
+        /** Leitura dos produtos referenciados */
+        PRODUTOS("produtos", "Leitura dos produtos referenciados"),
+        /** {@link PedidoValidator#validarPedido(com.br.bootcamp.orders.model.Pedido, ContextoPedido)} */
+        VALIDACAO("validacao", "Validação do cliente e dos itens"),
+        /** {@link PedidoCalculator#prepararPedido(com.br.bootcamp.orders.model.Pedido, ContextoPedido)} */
+        CALCULO("calculo", "Preços, subtotais e valor total"),
+        /** Reserva ou ajuste do estoque dos produtos */
+        RESERVA("reserva", "Reserva do estoque"),
+        /** Gravação do pedido e dos seus eventos */
+        GRAVACAO("gravacao", "Gravação do pedido");
+
+        private final String tag;
+        private final String descricao;
+
+        Etapa(String tag, String descricao) {
+            this.tag = tag;
+            this.descricao = descricao;
+        }
+    }
+
+    /**
+     * Operação de pedido medida, com as etapas que ela executa
+     */
+    public enum Operacao {
+        CRIACAO("criacao", Etapa.CLIENTES),
+        CRIACAO_LOTE("criacao_lote", Etapa.CLIENTES),
+        ATUALIZACAO("atualizacao", Etapa.PEDIDO);
+
+        private final String tag;
+        private final Set<Etapa> etapas;
+
+        Operacao(String tag, Etapa primeiraEtapa) {
+            this.tag = tag;
+            this.etapas = EnumSet.range(primeiraEtapa, Etapa.GRAVACAO);
+        }
+    }
+
+    private final Map<Operacao, Map<Etapa, Timer>> timers = new EnumMap<>(Operacao.class);
+
+    public MetricasEtapasPedido(MeterRegistry meterRegistry) {
+        for (Operacao operacao : Operacao.values()) {
+            Map<Etapa, Timer> porEtapa = new EnumMap<>(Etapa.class);
+            for (Etapa etapa : operacao.etapas) {
+                porEtapa.put(etapa, Timer.builder(NOME)
+                        .description(etapa.descricao + " nas operações de pedido")
+                        .tag("operacao", operacao.tag)
+                        .tag("etapa", etapa.tag)
+                        .serviceLevelObjectives(LIMITES)
+                        .register(meterRegistry));
+            }
+            timers.put(operacao, porEtapa);
+        }
+    }
+
+    /**
+     * Executa a etapa e registra a sua duração, inclusive quando ela lança exceção.
+     *
+     * @param operacao Operação de pedido
+     * @param etapa Etapa executada
+     * @param acao Etapa
+     * @return Resultado da etapa
+     */
+    public <T> T medir(Operacao operacao, Etapa etapa, Supplier<T> acao) {
+        long inicio = System.nanoTime();
+        try {
+            return acao.get();
+        } finally {
+            timer(operacao, etapa).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Executa a etapa e registra a sua duração, inclusive quando ela lança exceção.
+     *
+     * @param operacao Operação de pedido
+     * @param etapa Etapa executada
+     * @param acao Etapa
+     */
+    public void medir(Operacao operacao, Etapa etapa, Runnable acao) {
+        long inicio = System.nanoTime();
+        try {
+            acao.run();
+        } finally {
+            timer(operacao, etapa).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Timer de uma etapa
+     *
+     * @param operacao Operação de pedido
+     * @param etapa Etapa
+     * @return Timer da etapa, ou {@code null} se a operação não executar a etapa
+     */
+    public Timer timer(Operacao operacao, Etapa etapa) {
+        return timers.get(operacao).get(etapa);
+    }
+}
@@ -0,0 +1,24 @@
+package com.br.bootcamp.orders.service.util;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem paginada por cursor (keyset).
+ *
+ * @param itens Registros da página, na ordem da listagem
+ * @param proximoCursor Cursor opaco da página seguinte, ou {@code null} na última página
+ * @param <T> Tipo dos registros
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record Pagina<T>(List<T> itens, String proximoCursor) {
+
+    /**
+     * Indica se existe uma página seguinte
+     */
+    public boolean temProxima() {
+        return proximoCursor != null;
+    }
+}
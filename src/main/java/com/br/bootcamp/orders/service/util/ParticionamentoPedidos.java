@@ -0,0 +1,53 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.ParticoesPedidoProperties;
+import com.br.bootcamp.orders.repository.PedidoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Classe utilitária responsável por manter as partições futuras de pedidos e itens.
+ *
+ * <p>Na inicialização e a cada {@code pedidos.particoes.intervalo}, garante que o mês atual e
+ * os próximos {@code pedidos.particoes.meses-a-frente} meses tenham partição própria, para
+ * que os novos pedidos nunca caiam na partição padrão. A criação é feita no banco
+ * ({@code criar_particoes_pedidos}) e serializada entre as instâncias da aplicação. Anexar
+ * uma partição trava as partições padrão até o fim da transação, o que faz esperar as
+ * consultas sem filtro por data (como a busca por ID); com a partição padrão vazia, a espera
+ * é curta. Uma falha é registrada e repetida no próximo ciclo; com a antecedência padrão,
+ * sobram meses até que falte partição.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ParticionamentoPedidos {
+
+    private final PedidoRepository pedidoRepository;
+    private final ParticoesPedidoProperties propriedades;
+
+    /**
+     * Cria as partições que faltam do mês atual até o último mês da antecedência configurada
+     */
+    @Scheduled(fixedDelayString = "${pedidos.particoes.intervalo:PT12H}")
+    public void criarParticoesFuturas() {
+        LocalDate hoje = LocalDate.now();
+        LocalDate ultimoMes = hoje.plusMonths(propriedades.mesesAFrente());
+        try {
+            int criadas = pedidoRepository.criarParticoes(hoje, ultimoMes);
+            if (criadas > 0) {
+                log.info("{} partições mensais de pedidos criadas até {}", criadas, ultimoMes);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao criar as partições futuras de pedidos; nova tentativa em {}: {}",
+                    propriedades.intervalo(), e.getMessage());
+        }
+    }
+}
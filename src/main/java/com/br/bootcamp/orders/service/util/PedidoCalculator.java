@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Classe utilitária responsável por cálculos relacionados a pedidos.
@@ -31,6 +32,11 @@ public class PedidoCalculator {
     /**
      * Calcula o valor total de um pedido.
      * 
+     * <p>A soma é feita em centavos (ver {@link Centavos}) quando todos os preços têm duas
+     * casas decimais e o total cabe em {@code long}; caso contrário, é refeita em
+     * {@link BigDecimal}. O resultado é o mesmo nos dois casos: zero sem escala quando nenhum
+     * item tem preço e quantidade, e o total com escala 2 nos demais.</p>
+     * 
      * @param pedido Pedido para cálculo
      * @return Valor total calculado
      */
@@ -39,11 +45,9 @@ public class PedidoCalculator {
             return BigDecimal.ZERO;
         }
         
-        BigDecimal valorTotal = BigDecimal.ZERO;
-        
-        for (ItemPedido item : pedido.getItens()) {
-            BigDecimal subtotal = calcularSubtotalItem(item);
-            valorTotal = valorTotal.add(subtotal);
+        BigDecimal valorTotal = somarEmCentavos(pedido.getItens());
+        if (valorTotal == null) {
+            valorTotal = somarEmBigDecimal(pedido.getItens());
         }
         
         log.debug("Valor total calculado: {}", valorTotal);
@@ -61,21 +65,90 @@ public class PedidoCalculator {
             return BigDecimal.ZERO;
         }
         
+        long preco = Centavos.de(item.getPrecoUnitario());
+        if (preco != Centavos.FORA_DA_ESCALA) {
+            try {
+                return Centavos.paraValor(Centavos.multiplicar(preco, item.getQuantidade()));
+            } catch (ArithmeticException e) {
+                log.debug("Subtotal fora do limite em centavos, calculado em BigDecimal");
+            }
+        }
         return item.getPrecoUnitario().multiply(BigDecimal.valueOf(item.getQuantidade()));
     }
     
+    /**
+     * Soma os subtotais dos itens em centavos.
+     * 
+     * @param itens Itens do pedido
+     * @return Total com escala 2, zero sem escala se nenhum item tiver preço e quantidade,
+     *         ou {@code null} se algum preço não tiver escala 2 ou a conta não couber em {@code long}
+     */
+    private BigDecimal somarEmCentavos(Iterable<ItemPedido> itens) {
+        long total = 0;
+        boolean somou = false;
+        try {
+            for (ItemPedido item : itens) {
+                if (item.getPrecoUnitario() == null || item.getQuantidade() == null) {
+                    continue;
+                }
+                long preco = Centavos.de(item.getPrecoUnitario());
+                if (preco == Centavos.FORA_DA_ESCALA) {
+                    return null;
+                }
+                total = Centavos.somar(total, Centavos.multiplicar(preco, item.getQuantidade()));
+                somou = true;
+            }
+        } catch (ArithmeticException e) {
+            log.debug("Valor total fora do limite em centavos, calculado em BigDecimal");
+            return null;
+        }
+        return somou ? Centavos.paraValor(total) : BigDecimal.ZERO;
+    }
+    
+    /**
+     * Soma os subtotais dos itens em {@link BigDecimal}, sem limite de valor nem de escala.
+     * 
+     * @param itens Itens do pedido
+     * @return Total calculado
+     */
+    private BigDecimal somarEmBigDecimal(Iterable<ItemPedido> itens) {
+        BigDecimal valorTotal = BigDecimal.ZERO;
+        for (ItemPedido item : itens) {
+            if (item.getPrecoUnitario() != null && item.getQuantidade() != null) {
+                valorTotal = valorTotal.add(item.getPrecoUnitario().multiply(BigDecimal.valueOf(item.getQuantidade())));
+            }
+        }
+        return valorTotal;
+    }
+    
     /**
      * Prepara os itens do pedido com preços e subtotais calculados.
      * 
+     * <p>Os preços são lidos do banco, nunca do catálogo em memória.</p>
+     * 
      * @param pedido Pedido a ser preparado
      */
     public void prepararItens(Pedido pedido) {
+        prepararItens(pedido, produtoService::buscarPorIdAtual);
+    }
+    
+    /**
+     * Prepara os itens do pedido usando os produtos já carregados no contexto.
+     * 
+     * @param pedido Pedido a ser preparado
+     * @param contexto Contexto com os produtos referenciados pelos itens
+     */
+    public void prepararItens(Pedido pedido, ContextoPedido contexto) {
+        prepararItens(pedido, contexto::buscarProduto);
+    }
+    
+    private void prepararItens(Pedido pedido, Function<Long, Optional<Produto>> buscarProduto) {
         if (pedido.getItens() == null || pedido.getItens().isEmpty()) {
             return;
         }
         
         for (ItemPedido item : pedido.getItens()) {
-            prepararItem(item, pedido);
+            prepararItem(item, pedido, buscarProduto);
         }
         
         log.debug("Itens do pedido preparados com sucesso");
@@ -86,10 +159,11 @@ public class PedidoCalculator {
      * 
      * @param item Item a ser preparado
      * @param pedido Pedido ao qual o item pertence
+     * @param buscarProduto Função de busca do produto do item
      */
-    private void prepararItem(ItemPedido item, Pedido pedido) {
+    private void prepararItem(ItemPedido item, Pedido pedido, Function<Long, Optional<Produto>> buscarProduto) {
         // Busca o produto para obter o preço atual
-        Optional<Produto> produtoOpt = produtoService.buscarPorId(item.getProduto().getId());
+        Optional<Produto> produtoOpt = buscarProduto.apply(item.getProduto().getId());
         if (produtoOpt.isPresent()) {
             Produto produto = produtoOpt.get();
             
@@ -131,4 +205,18 @@ public class PedidoCalculator {
         
         log.info("Pedido preparado completamente");
     }
+    
+    /**
+     * Prepara completamente um pedido (itens e valor total) usando os produtos
+     * já carregados no contexto.
+     * 
+     * @param pedido Pedido a ser preparado
+     * @param contexto Contexto com os produtos referenciados pelos itens
+     */
+    public void prepararPedido(Pedido pedido, ContextoPedido contexto) {
+        prepararItens(pedido, contexto);
+        calcularEAtualizarValorTotal(pedido);
+        
+        log.info("Pedido preparado completamente");
+    }
 } 
\ No newline at end of file
@@ -6,17 +6,20 @@ import com.br.bootcamp.orders.model.Pedido;
 import com.br.bootcamp.orders.model.Produto;
 import com.br.bootcamp.orders.service.contracts.IClienteService;
 import com.br.bootcamp.orders.service.contracts.IProdutoService;
+import com.br.bootcamp.orders.service.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Classe utilitária responsável por validar pedidos e seus componentes.
  * 
  * <p>Esta classe centraliza todas as validações relacionadas a pedidos,
- * separando a lógica de validação da lógica de negócio principal.</p>
+ * separando a lógica de validação da lógica de negócio principal. As violações são
+ * lançadas como {@link BusinessException}, já na forma respondida ao cliente.</p>
  * 
  * @author Bootcamp Architecture Software
  * @version 1.0.0
@@ -34,16 +37,31 @@ public class PedidoValidator {
      * Valida se o cliente do pedido existe e é válido.
      * 
      * @param pedido Pedido a ser validado
-     * @throws RuntimeException se o cliente for inválido ou não existir
+     * @throws BusinessException se o cliente for inválido ou não existir
      */
     public void validarCliente(Pedido pedido) {
+        validarCliente(pedido, clienteService::buscarPorId);
+    }
+    
+    /**
+     * Valida o cliente do pedido usando os clientes já carregados no contexto.
+     * 
+     * @param pedido Pedido a ser validado
+     * @param contexto Contexto com os clientes referenciados pelos pedidos
+     * @throws BusinessException se o cliente for inválido ou não existir
+     */
+    public void validarCliente(Pedido pedido, ContextoPedido contexto) {
+        validarCliente(pedido, contexto::buscarCliente);
+    }
+    
+    private void validarCliente(Pedido pedido, Function<Long, Optional<Cliente>> buscarCliente) {
         if (pedido.getCliente() == null || pedido.getCliente().getId() == null) {
-            throw new RuntimeException("Cliente é obrigatório para criar um pedido");
+            throw new BusinessException("Cliente é obrigatório para criar um pedido");
         }
         
-        Optional<Cliente> clienteOpt = clienteService.buscarPorId(pedido.getCliente().getId());
+        Optional<Cliente> clienteOpt = buscarCliente.apply(pedido.getCliente().getId());
         if (clienteOpt.isEmpty()) {
-            throw new RuntimeException("Cliente não encontrado com ID: " + pedido.getCliente().getId());
+            throw new BusinessException("Cliente não encontrado com ID: " + pedido.getCliente().getId());
         }
         
         log.debug("Cliente validado com sucesso: {}", pedido.getCliente().getId());
@@ -53,16 +71,31 @@ public class PedidoValidator {
      * Valida se os itens do pedido são válidos.
      * 
      * @param pedido Pedido a ser validado
-     * @throws RuntimeException se os itens forem inválidos
+     * @throws BusinessException se os itens forem inválidos
      */
     public void validarItens(Pedido pedido) {
+        validarItens(pedido, produtoService::buscarPorId);
+    }
+    
+    /**
+     * Valida os itens do pedido usando os produtos já carregados no contexto.
+     * 
+     * @param pedido Pedido a ser validado
+     * @param contexto Contexto com os produtos referenciados pelos itens
+     * @throws BusinessException se os itens forem inválidos
+     */
+    public void validarItens(Pedido pedido, ContextoPedido contexto) {
+        validarItens(pedido, contexto::buscarProduto);
+    }
+    
+    private void validarItens(Pedido pedido, Function<Long, Optional<Produto>> buscarProduto) {
         if (pedido.getItens() == null || pedido.getItens().isEmpty()) {
             log.warn("Pedido sem itens - valor total será zero");
             return;
         }
         
         for (ItemPedido item : pedido.getItens()) {
-            validarItem(item);
+            validarItem(item, buscarProduto);
         }
         
         log.debug("Itens do pedido validados com sucesso");
@@ -72,28 +105,29 @@ public class PedidoValidator {
      * Valida um item específico do pedido.
      * 
      * @param item Item a ser validado
-     * @throws RuntimeException se o item for inválido
+     * @param buscarProduto Função de busca do produto do item
+     * @throws BusinessException se o item for inválido
      */
-    private void validarItem(ItemPedido item) {
+    private void validarItem(ItemPedido item, Function<Long, Optional<Produto>> buscarProduto) {
         // Valida se o produto existe e obtém a referência
         if (item.getProduto() == null || item.getProduto().getId() == null) {
-            throw new RuntimeException("Produto é obrigatório para cada item do pedido");
+            throw new BusinessException("Produto é obrigatório para cada item do pedido");
         }
         
-        Optional<Produto> produtoOpt = produtoService.buscarPorId(item.getProduto().getId());
+        Optional<Produto> produtoOpt = buscarProduto.apply(item.getProduto().getId());
         if (produtoOpt.isEmpty()) {
-            throw new RuntimeException("Produto não encontrado com ID: " + item.getProduto().getId());
+            throw new BusinessException("Produto não encontrado com ID: " + item.getProduto().getId());
         }
         
         Produto produto = produtoOpt.get();
         
         // Valida a quantidade usando o produto já obtido
         if (produto.getQuantidadeEstoque() < item.getQuantidade()) {
-            throw new RuntimeException("Estoque insuficiente para o produto: " + produto.getNome());
+            throw new BusinessException("Estoque insuficiente para o produto: " + produto.getNome());
         }
         
         if (item.getQuantidade() <= 0) {
-            throw new RuntimeException("Quantidade deve ser maior que zero para o produto: " + produto.getNome());
+            throw new BusinessException("Quantidade deve ser maior que zero para o produto: " + produto.getNome());
         }
     }
     
@@ -101,11 +135,11 @@ public class PedidoValidator {
      * Valida todo o pedido (cliente e itens).
      * 
      * @param pedido Pedido a ser validado
-     * @throws RuntimeException se o pedido for inválido
+     * @throws BusinessException se o pedido for inválido
      */
     public void validarPedido(Pedido pedido) {
         if (pedido == null) {
-            throw new RuntimeException("Pedido não pode ser null");
+            throw new BusinessException("Pedido não pode ser null");
         }
         
         validarCliente(pedido);
@@ -113,4 +147,22 @@ public class PedidoValidator {
         
         log.info("Pedido validado com sucesso");
     }
+    
+    /**
+     * Valida todo o pedido (cliente e itens) usando os registros já carregados no contexto.
+     * 
+     * @param pedido Pedido a ser validado
+     * @param contexto Contexto com o cliente e os produtos referenciados pelo pedido
+     * @throws BusinessException se o pedido for inválido
+     */
+    public void validarPedido(Pedido pedido, ContextoPedido contexto) {
+        if (pedido == null) {
+            throw new BusinessException("Pedido não pode ser null");
+        }
+        
+        validarCliente(pedido, contexto);
+        validarItens(pedido, contexto);
+        
+        log.info("Pedido validado com sucesso");
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.EventosPedidoProperties;
+import com.br.bootcamp.orders.model.EventoPedido;
+import com.br.bootcamp.orders.repository.EventoPedidoRepository;
+import com.br.bootcamp.orders.service.contracts.IDestinoEventos;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Classe utilitária responsável por publicar os eventos da caixa de saída.
+ *
+ * <p>A cada ciclo, trava um lote de eventos pendentes com {@code FOR UPDATE SKIP LOCKED},
+ * envia o lote ao destino configurado e o remove, tudo na mesma transação; lotes cheios
+ * são seguidos imediatamente pelo próximo, até esvaziar a caixa de saída. Várias
+ * instâncias da aplicação podem publicar em paralelo sem enviar o mesmo evento, e uma
+ * falha no destino desfaz a transação, mantendo o lote para o próximo ciclo.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class PublicadorEventosPedido {
+
+    private final EventoPedidoRepository eventoPedidoRepository;
+    private final IDestinoEventos destinoEventos;
+    private final TransactionTemplate transactionTemplate;
+    private final EventosPedidoProperties propriedades;
+
+    private final Counter publicados;
+    private final Counter falhas;
+    private final Timer atrasoPublicacao;
+
+    /**
+     * Idade, em milissegundos, do evento pendente mais antigo na última verificação
+     */
+    private final AtomicLong atrasoPendente = new AtomicLong();
+
+    public PublicadorEventosPedido(EventoPedidoRepository eventoPedidoRepository, IDestinoEventos destinoEventos,
+                                   TransactionTemplate transactionTemplate, EventosPedidoProperties propriedades,
+                                   MeterRegistry meterRegistry) {
+        this.eventoPedidoRepository = eventoPedidoRepository;
+        this.destinoEventos = destinoEventos;
+        this.transactionTemplate = transactionTemplate;
+        this.propriedades = propriedades;
+
+        this.publicados = Counter.builder("pedidos.eventos.publicados")
+                .description("Eventos de pedido publicados no destino")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("pedidos.eventos.falhas")
+                .description("Lotes de eventos de pedido que falharam e serão reenviados")
+                .register(meterRegistry);
+        this.atrasoPublicacao = Timer.builder("pedidos.eventos.atraso")
+                .description("Tempo entre a gravação do evento e sua publicação")
+                .register(meterRegistry);
+        Gauge.builder("pedidos.eventos.atraso.pendente", atrasoPendente, atraso -> atraso.get() / 1000.0)
+                .description("Idade do evento pendente mais antigo, em segundos")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publica os eventos pendentes até esvaziar a caixa de saída
+     */
+    @Scheduled(fixedDelayString = "${pedidos.eventos.intervalo:PT1S}")
+    public void publicarPendentes() {
+        try {
+            int quantidade;
+            do {
+                quantidade = publicarLote();
+            } while (quantidade == propriedades.tamanhoLote());
+        } catch (RuntimeException e) {
+            falhas.increment();
+            log.warn("Falha ao publicar eventos de pedido; nova tentativa em {}: {}", propriedades.intervalo(), e.getMessage());
+        } finally {
+            atualizarAtrasoPendente();
+        }
+    }
+
+    /**
+     * Trava, publica e remove um lote de eventos pendentes
+     *
+     * @return Quantidade de eventos publicados
+     */
+    int publicarLote() {
+        List<EventoPedido> eventos = transactionTemplate.execute(status -> {
+            List<EventoPedido> pendentes = eventoPedidoRepository.travarPendentes(propriedades.tamanhoLote());
+            if (!pendentes.isEmpty()) {
+                destinoEventos.publicar(pendentes);
+                eventoPedidoRepository.deleteAllInBatch(pendentes);
+            }
+            return pendentes;
+        });
+        if (eventos == null || eventos.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        eventos.forEach(evento -> atrasoPublicacao.record(Duration.between(evento.getCriadoEm(), agora)));
+        publicados.increment(eventos.size());
+        log.debug("{} eventos de pedido publicados", eventos.size());
+        return eventos.size();
+    }
+
+    private void atualizarAtrasoPendente() {
+        try {
+            LocalDateTime maisAntigo = eventoPedidoRepository.buscarCriacaoMaisAntiga();
+            atrasoPendente.set(maisAntigo == null ? 0 : Duration.between(maisAntigo, LocalDateTime.now()).toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível medir o atraso dos eventos de pedido: {}", e.getMessage());
+        }
+    }
+}
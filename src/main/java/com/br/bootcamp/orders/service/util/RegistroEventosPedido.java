@@ -0,0 +1,81 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.EventoPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoEventoPedido;
+import com.br.bootcamp.orders.repository.EventoPedidoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Classe utilitária responsável por gravar os eventos de pedido na caixa de saída.
+ *
+ * <p>Os eventos são gravados na transação que altera o pedido (que é obrigatória), de
+ * modo que pedido e evento são confirmados ou desfeitos juntos. A publicação fica a
+ * cargo do {@link PublicadorEventosPedido}, fora da requisição.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class RegistroEventosPedido {
+
+    private final EventoPedidoRepository eventoPedidoRepository;
+
+    /**
+     * Registra a criação de um pedido já persistido.
+     *
+     * @param pedido Pedido criado
+     */
+    public void pedidoCriado(Pedido pedido) {
+        eventoPedidoRepository.save(criarEvento(TipoEventoPedido.PEDIDO_CRIADO, pedido, null));
+    }
+
+    /**
+     * Registra a criação de vários pedidos, com os INSERTs agrupados em lotes JDBC.
+     *
+     * @param pedidos Pedidos criados
+     */
+    public void pedidosCriados(List<Pedido> pedidos) {
+        if (pedidos.isEmpty()) {
+            return;
+        }
+        eventoPedidoRepository.saveAll(pedidos.stream()
+                .map(pedido -> criarEvento(TipoEventoPedido.PEDIDO_CRIADO, pedido, null))
+                .toList());
+    }
+
+    /**
+     * Registra a alteração de status de um pedido, se o status realmente mudou.
+     *
+     * @param pedido Pedido com o novo status
+     * @param statusAnterior Status antes da alteração
+     */
+    public void statusAlterado(Pedido pedido, StatusPedido statusAnterior) {
+        if (pedido.getStatus() == statusAnterior) {
+            return;
+        }
+        eventoPedidoRepository.save(criarEvento(TipoEventoPedido.STATUS_ALTERADO, pedido, statusAnterior));
+    }
+
+    private EventoPedido criarEvento(TipoEventoPedido tipo, Pedido pedido, StatusPedido statusAnterior) {
+        EventoPedido evento = new EventoPedido();
+        evento.setTipo(tipo);
+        evento.setPedidoId(pedido.getId());
+        evento.setClienteId(pedido.getCliente() != null ? pedido.getCliente().getId() : null);
+        evento.setStatus(pedido.getStatus());
+        evento.setStatusAnterior(statusAnterior);
+        evento.setValorTotal(pedido.getValorTotal());
+        evento.setCriadoEm(LocalDateTime.now());
+        return evento;
+    }
+}
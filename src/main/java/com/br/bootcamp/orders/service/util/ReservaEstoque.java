@@ -0,0 +1,146 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.ItemPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Classe utilitária responsável por reservar e devolver o estoque dos produtos de um pedido.
+ *
+ * <p>Em vez de ler o estoque, comparar e gravar (o que permite vender além do disponível
+ * sob concorrência), cada reserva é um {@code UPDATE} condicional executado no banco,
+ * em lote e em ordem de ID de produto. Deve ser chamada dentro da transação que grava
+ * o pedido, para que reserva e pedido sejam confirmados ou desfeitos juntos. As reservas
+ * não removem os produtos do {@link CatalogoProdutos}: o estoque em memória é recarregado
+ * depois de {@code pedidos.catalogo.validade-estoque}, e as variações são somadas ao
+ * catálogo colunar quando a transação é confirmada.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReservaEstoque {
+
+    private final ProdutoRepository produtoRepository;
+    private final CatalogoProdutos catalogoProdutos;
+
+    /**
+     * Calcula a quantidade de cada produto atualmente reservada pelo pedido.
+     *
+     * <p>Pedidos cancelados não reservam estoque.</p>
+     *
+     * @param pedido Pedido a ser analisado (pode ser null)
+     * @return Quantidade reservada por ID de produto, em ordem crescente de ID
+     */
+    public static SortedMap<Long, Integer> quantidadesReservadas(Pedido pedido) {
+        SortedMap<Long, Integer> quantidades = new TreeMap<>();
+        if (pedido == null || pedido.getStatus() == StatusPedido.CANCELADO || pedido.getItens() == null) {
+            return quantidades;
+        }
+
+        for (ItemPedido item : pedido.getItens()) {
+            quantidades.merge(item.getProduto().getId(), item.getQuantidade(), Integer::sum);
+        }
+        return quantidades;
+    }
+
+    /**
+     * Reserva o estoque de todos os itens de um novo pedido.
+     *
+     * @param pedido Pedido cujos itens serão reservados
+     * @throws BusinessException se algum produto não tiver estoque suficiente
+     */
+    public void reservar(Pedido pedido) {
+        ajustar(Collections.emptySortedMap(), pedido);
+    }
+
+    /**
+     * Devolve ao estoque tudo o que o pedido mantinha reservado.
+     *
+     * @param pedido Pedido cujas reservas serão devolvidas
+     */
+    public void liberar(Pedido pedido) {
+        aplicar(quantidadesReservadas(pedido), Map.of(), pedido);
+    }
+
+    /**
+     * Ajusta o estoque pela diferença entre o que o pedido reservava antes da alteração
+     * e o que ele reserva agora (itens, quantidades ou status alterados).
+     *
+     * @param reservadoAntes Quantidades reservadas antes da alteração (ver {@link #quantidadesReservadas(Pedido)})
+     * @param pedido Pedido já alterado
+     * @throws BusinessException se algum produto não tiver estoque suficiente
+     */
+    public void ajustar(SortedMap<Long, Integer> reservadoAntes, Pedido pedido) {
+        aplicar(reservadoAntes, quantidadesReservadas(pedido), pedido);
+    }
+
+    private void aplicar(Map<Long, Integer> antes, Map<Long, Integer> depois, Pedido pedido) {
+        SortedMap<Long, Integer> variacoes = new TreeMap<>(depois);
+        antes.forEach((produtoId, quantidade) -> variacoes.merge(produtoId, -quantidade, Integer::sum));
+        variacoes.values().removeIf(variacao -> variacao == 0);
+
+        if (variacoes.isEmpty()) {
+            return;
+        }
+
+        int[] atualizados = produtoRepository.ajustarEstoque(variacoes);
+
+        List<Long> produtoIds = new ArrayList<>(variacoes.keySet());
+        SortedMap<Long, Integer> aplicadas = new TreeMap<>();
+        Long produtoSemEstoque = null;
+        for (int i = 0; i < produtoIds.size(); i++) {
+            Long produtoId = produtoIds.get(i);
+            if (atualizados[i] > 0) {
+                aplicadas.put(produtoId, variacoes.get(produtoId));
+            } else if (variacoes.get(produtoId) > 0 && produtoSemEstoque == null) {
+                produtoSemEstoque = produtoId;
+            }
+        }
+
+        if (produtoSemEstoque != null) {
+            desfazer(aplicadas);
+            throw new BusinessException("Estoque insuficiente para o produto: " + nomeDoProduto(pedido, produtoSemEstoque));
+        }
+
+        catalogoProdutos.ajustarEstoque(variacoes);
+        log.debug("Estoque ajustado para {} produtos: {}", variacoes.size(), variacoes);
+    }
+
+    /**
+     * Desfaz as variações já aplicadas, para que uma reserva parcial não fique pendente
+     * quando a transação continuar (como na criação em lote)
+     */
+    private void desfazer(SortedMap<Long, Integer> aplicadas) {
+        if (aplicadas.isEmpty()) {
+            return;
+        }
+        SortedMap<Long, Integer> inversas = new TreeMap<>();
+        aplicadas.forEach((produtoId, variacao) -> inversas.put(produtoId, -variacao));
+        produtoRepository.ajustarEstoque(inversas);
+    }
+
+    private String nomeDoProduto(Pedido pedido, Long produtoId) {
+        return pedido.getItens().stream()
+                .map(ItemPedido::getProduto)
+                .filter(produto -> produtoId.equals(produto.getId()))
+                .map(produto -> produto.getNome() != null ? produto.getNome() : String.valueOf(produtoId))
+                .findFirst()
+                .orElse(String.valueOf(produtoId));
+    }
+}
@@ -0,0 +1,25 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToFormatoExportacaoConverter implements Converter<String, FormatoExportacao> {
+
+    @Override
+    public FormatoExportacao convert(String source) {
+        if (source.isEmpty()) {
+            return null;
+        }
+
+        for (FormatoExportacao formato : FormatoExportacao.values()) {
+            // Aceita o nome do formato (ex: "NDJSON") e a extensão (ex: "csv")
+            if (formato.name().equalsIgnoreCase(source) || formato.getExtensao().equalsIgnoreCase(source)) {
+                return formato;
+            }
+        }
+
+        throw new IllegalArgumentException("Formato de exportação inválido: " + source);
+    }
+}
@@ -0,0 +1,122 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.VendasDiariasProperties;
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+import com.br.bootcamp.orders.repository.PedidoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Classe utilitária que lê as vendas diárias e mantém em memória as dos dias encerrados.
+ *
+ * <p>Um dia está encerrado depois que termina: nenhum pedido novo entra nele, e as suas vendas
+ * só mudam quando um pedido antigo é alterado ou excluído. As vendas de cada dia encerrado ficam
+ * em memória, limitadas a {@code pedidos.vendas.capacidade} dias e lidas novamente do banco
+ * depois de {@code pedidos.vendas.validade}; os dias encerrados que faltam em uma consulta são
+ * lidos juntos, em uma única consulta. O dia corrente é sempre lido do banco.</p>
+ *
+ * <p>As alterações de pedidos feitas por esta instância removem o dia do pedido da memória (ver
+ * {@link #invalidar(LocalDateTime)}); as feitas por outras instâncias aparecem quando o dia vence.</p>
+ *
+ * @author Bootcamp Architecture Software
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class VendasDiarias {
+
+    private final PedidoRepository pedidoRepository;
+    private final Cache<LocalDate, List<VendaDiaria>> diasEncerrados;
+
+    public VendasDiarias(PedidoRepository pedidoRepository, VendasDiariasProperties propriedades,
+                         MeterRegistry meterRegistry) {
+        this.pedidoRepository = pedidoRepository;
+        this.diasEncerrados = Caffeine.newBuilder()
+                .maximumSize(propriedades.capacidade())
+                .expireAfterWrite(propriedades.validade())
+                .recordStats()
+                .build();
+
+        MetricasCache.registrar(meterRegistry, "pedidos.vendas", "relatório de vendas diárias", diasEncerrados);
+    }
+
+    /**
+     * Busca as vendas do período, lendo do banco apenas o dia corrente e os dias encerrados
+     * que não estiverem em memória.
+     *
+     * @param dataInicio Primeiro dia do período
+     * @param dataFim Último dia do período (inclusive), não anterior ao primeiro
+     * @return Vendas ordenadas por dia, status e tipo de pagamento
+     */
+    public List<VendaDiaria> consultar(LocalDate dataInicio, LocalDate dataFim) {
+        LocalDate hoje = LocalDate.now();
+        List<VendaDiaria> vendas = new ArrayList<>();
+        if (dataInicio.isBefore(hoje)) {
+            LocalDate ultimoEncerrado = dataFim.isBefore(hoje) ? dataFim : hoje.minusDays(1);
+            List<LocalDate> dias = dataInicio.datesUntil(ultimoEncerrado.plusDays(1)).toList();
+            Map<LocalDate, List<VendaDiaria>> encerrados = diasEncerrados.getAll(dias, this::carregar);
+            dias.forEach(dia -> vendas.addAll(encerrados.get(dia)));
+        }
+        if (!dataFim.isBefore(hoje)) {
+            vendas.addAll(pedidoRepository.buscarVendas(dataInicio.isAfter(hoje) ? dataInicio : hoje, dataFim));
+        }
+        return vendas;
+    }
+
+    /**
+     * Remove da memória o dia de um pedido incluído, alterado ou excluído, para que a próxima
+     * consulta leia as suas vendas do banco.
+     *
+     * <p>Dentro de uma transação, o dia é removido novamente ao fim dela: uma consulta feita
+     * antes da confirmação teria lido e guardado as vendas anteriores.</p>
+     *
+     * @param dataPedido Data do pedido, antes da alteração (e, se a data mudar, também depois)
+     */
+    public void invalidar(LocalDateTime dataPedido) {
+        if (dataPedido == null) {
+            return;
+        }
+        LocalDate dia = dataPedido.toLocalDate();
+        diasEncerrados.invalidate(dia);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    diasEncerrados.invalidate(dia);
+                }
+            });
+        }
+    }
+
+    /**
+     * Lê as vendas dos dias em uma consulta, do primeiro ao último deles; dias sem vendas
+     * ficam em memória com uma lista vazia
+     */
+    private Map<LocalDate, List<VendaDiaria>> carregar(Set<? extends LocalDate> dias) {
+        LocalDate primeiro = Collections.min(dias);
+        LocalDate ultimo = Collections.max(dias);
+        Map<LocalDate, List<VendaDiaria>> porDia = new HashMap<>();
+        dias.forEach(dia -> porDia.put(dia, new ArrayList<>()));
+        for (VendaDiaria venda : pedidoRepository.buscarVendas(primeiro, ultimo)) {
+            List<VendaDiaria> doDia = porDia.get(venda.dia());
+            if (doDia != null) {
+                doDia.add(venda);
+            }
+        }
+        porDia.replaceAll((dia, vendas) -> List.copyOf(vendas));
+        return porDia;
+    }
+}
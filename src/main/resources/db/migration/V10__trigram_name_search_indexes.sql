@@ -0,0 +1,17 @@
+-- Índices de trigramas para a busca por parte do nome de produtos e clientes.
+--
+-- A busca por nome filtra com nome ILIKE '%termo%', que um índice B-tree não atende (o termo
+-- pode estar em qualquer posição), então cada busca percorria a tabela inteira. Um índice GIN
+-- com gin_trgm_ops guarda os trigramas (sequências de três caracteres) de cada nome; o filtro
+-- passa a ler apenas os nomes que contêm todos os trigramas do termo e confere o ILIKE só
+-- nessas linhas. Termos com menos de três caracteres não têm trigramas completos e ainda
+-- percorrem o índice inteiro.
+--
+-- O pg_trgm também fornece a função similarity(), usada para ordenar os resultados.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- GET /api/produtos/nome/{nome}
+CREATE INDEX idx_produtos_nome_trgm ON produtos USING GIN (nome gin_trgm_ops);
+
+-- GET /api/clientes/nome/{nome}
+CREATE INDEX idx_clientes_nome_trgm ON clientes USING GIN (nome gin_trgm_ops);
@@ -0,0 +1,141 @@
+-- Contadores de linhas mantidos na mesma transação das gravações.
+--
+-- As contagens de GET /api/{produtos,clientes,pedidos}/contar faziam count(*), que percorre a
+-- tabela (ou um índice) inteira a cada chamada. Gatilhos por instrução somam as linhas
+-- incluídas e excluídas em cada instrução (e, nos pedidos, as mudanças de status) em
+-- contadores; a contagem passa a ser a soma de poucas linhas, qualquer que seja o tamanho
+-- da tabela, e continua exata, pois o contador é alterado na própria transação da gravação.
+--
+-- Cada contador é dividido em frações, como o estoque fracionado: a transação soma sempre na
+-- fração do seu ID de transação, de modo que gravações concorrentes raramente travam a mesma
+-- linha. Os gatilhos ficam nas tabelas (e não nas partições), então as movimentações entre
+-- partições feitas por criar_particao_pedidos não alteram as contagens. Remover uma partição
+-- diretamente (DROP ou DETACH) não atualiza os contadores.
+CREATE TABLE contadores (
+    nome VARCHAR(50) NOT NULL,
+    fracao SMALLINT NOT NULL,
+    quantidade BIGINT NOT NULL,
+    PRIMARY KEY (nome, fracao)
+);
+
+COMMENT ON TABLE contadores IS 'Contagens de linhas por tabela (e de pedidos por status), divididas em frações; o total é a soma das frações';
+COMMENT ON COLUMN contadores.nome IS 'Tabela contada (produtos, clientes, pedidos) ou pedidos:<StatusPedido>';
+
+CREATE FUNCTION somar_contador(contador TEXT, variacao BIGINT) RETURNS VOID
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF variacao <> 0 THEN
+        INSERT INTO contadores (nome, fracao, quantidade)
+        VALUES (contador, (txid_current() % 16)::smallint, variacao)
+        ON CONFLICT (nome, fracao) DO UPDATE SET quantidade = contadores.quantidade + EXCLUDED.quantidade;
+    END IF;
+END;
+$$;
+
+-- Produtos e clientes: apenas o total
+CREATE FUNCTION contar_linhas_incluidas() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM somar_contador(TG_TABLE_NAME, (SELECT COUNT(*) FROM novas));
+    RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION contar_linhas_excluidas() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    PERFORM somar_contador(TG_TABLE_NAME, -(SELECT COUNT(*) FROM antigas));
+    RETURN NULL;
+END;
+$$;
+
+-- Pedidos: o total e o total por status; os status são somados em ordem de nome, para que
+-- transações concorrentes travem as frações na mesma ordem
+-- (cada operação consulta apenas as tabelas de transição que o seu gatilho declara)
+CREATE FUNCTION contar_pedidos_incluidos() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    variacao RECORD;
+BEGIN
+    PERFORM somar_contador('pedidos', (SELECT COUNT(*) FROM novas));
+    FOR variacao IN SELECT status, COUNT(*) AS quantidade FROM novas GROUP BY status ORDER BY status LOOP
+        PERFORM somar_contador('pedidos:' || variacao.status, variacao.quantidade);
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION contar_pedidos_alterados() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    variacao RECORD;
+BEGIN
+    FOR variacao IN
+        SELECT status, SUM(quantidade) AS quantidade FROM (
+            SELECT status, 1 AS quantidade FROM novas
+            UNION ALL
+            SELECT status, -1 AS quantidade FROM antigas
+        ) alteracoes
+        GROUP BY status
+        ORDER BY status
+    LOOP
+        PERFORM somar_contador('pedidos:' || variacao.status, variacao.quantidade);
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION contar_pedidos_excluidos() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    variacao RECORD;
+BEGIN
+    PERFORM somar_contador('pedidos', -(SELECT COUNT(*) FROM antigas));
+    FOR variacao IN SELECT status, COUNT(*) AS quantidade FROM antigas GROUP BY status ORDER BY status LOOP
+        PERFORM somar_contador('pedidos:' || variacao.status, -variacao.quantidade);
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION zerar_contadores() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    DELETE FROM contadores WHERE nome = TG_TABLE_NAME OR nome LIKE TG_TABLE_NAME || ':%';
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_produtos_contar_inclusoes AFTER INSERT ON produtos
+REFERENCING NEW TABLE AS novas FOR EACH STATEMENT EXECUTE FUNCTION contar_linhas_incluidas();
+CREATE TRIGGER trg_produtos_contar_exclusoes AFTER DELETE ON produtos
+REFERENCING OLD TABLE AS antigas FOR EACH STATEMENT EXECUTE FUNCTION contar_linhas_excluidas();
+CREATE TRIGGER trg_produtos_zerar_contadores AFTER TRUNCATE ON produtos
+FOR EACH STATEMENT EXECUTE FUNCTION zerar_contadores();
+
+CREATE TRIGGER trg_clientes_contar_inclusoes AFTER INSERT ON clientes
+REFERENCING NEW TABLE AS novas FOR EACH STATEMENT EXECUTE FUNCTION contar_linhas_incluidas();
+CREATE TRIGGER trg_clientes_contar_exclusoes AFTER DELETE ON clientes
+REFERENCING OLD TABLE AS antigas FOR EACH STATEMENT EXECUTE FUNCTION contar_linhas_excluidas();
+CREATE TRIGGER trg_clientes_zerar_contadores AFTER TRUNCATE ON clientes
+FOR EACH STATEMENT EXECUTE FUNCTION zerar_contadores();
+
+-- Um gatilho por operação: tabelas de transição não podem ser declaradas em gatilhos de várias operações
+CREATE TRIGGER trg_pedidos_contar_inclusoes AFTER INSERT ON pedidos
+REFERENCING NEW TABLE AS novas FOR EACH STATEMENT EXECUTE FUNCTION contar_pedidos_incluidos();
+CREATE TRIGGER trg_pedidos_contar_alteracoes AFTER UPDATE ON pedidos
+REFERENCING OLD TABLE AS antigas NEW TABLE AS novas FOR EACH STATEMENT EXECUTE FUNCTION contar_pedidos_alterados();
+CREATE TRIGGER trg_pedidos_contar_exclusoes AFTER DELETE ON pedidos
+REFERENCING OLD TABLE AS antigas FOR EACH STATEMENT EXECUTE FUNCTION contar_pedidos_excluidos();
+CREATE TRIGGER trg_pedidos_zerar_contadores AFTER TRUNCATE ON pedidos
+FOR EACH STATEMENT EXECUTE FUNCTION zerar_contadores();
+
+-- Contagens atuais; os gatilhos criados acima bloqueiam as gravações nas tabelas até o fim da migração
+INSERT INTO contadores (nome, fracao, quantidade)
+SELECT 'produtos', 0, COUNT(*) FROM produtos
+UNION ALL
+SELECT 'clientes', 0, COUNT(*) FROM clientes
+UNION ALL
+SELECT 'pedidos', 0, COUNT(*) FROM pedidos
+UNION ALL
+SELECT 'pedidos:' || status, 0, COUNT(*) FROM pedidos GROUP BY status;
@@ -0,0 +1,115 @@
+-- Vendas por dia, status e tipo de pagamento mantidas na mesma transação das gravações.
+--
+-- Os relatórios de faturamento somavam valor_total sobre pedidos a cada consulta. Gatilhos por
+-- instrução, como os dos contadores, somam em vendas_diarias a quantidade e o valor dos pedidos
+-- incluídos, alterados (status, tipo de pagamento, data ou valor) e excluídos; o relatório de um
+-- período lê apenas as linhas dos seus dias. As linhas de cada combinação são divididas em
+-- frações pelo ID da transação, para que os pedidos concorrentes do dia corrente raramente
+-- travem a mesma linha; o total é a soma das frações.
+--
+-- Os gatilhos ficam na tabela (e não nas partições), então as movimentações feitas por
+-- criar_particao_pedidos não alteram as vendas. Remover uma partição diretamente (DROP ou
+-- DETACH) não atualiza as vendas.
+CREATE TABLE vendas_diarias (
+    dia DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    tipo_pagamento VARCHAR(30) NOT NULL,
+    fracao SMALLINT NOT NULL,
+    pedidos BIGINT NOT NULL,
+    receita NUMERIC(16,2) NOT NULL,
+    PRIMARY KEY (dia, status, tipo_pagamento, fracao)
+);
+
+COMMENT ON TABLE vendas_diarias IS 'Quantidade e valor dos pedidos por dia do pedido, status e tipo de pagamento, divididos em frações; o total é a soma das frações';
+
+CREATE FUNCTION somar_vendas(dia DATE, status TEXT, tipo_pagamento TEXT, pedidos BIGINT, receita NUMERIC) RETURNS VOID
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF pedidos <> 0 OR receita <> 0 THEN
+        INSERT INTO vendas_diarias (dia, status, tipo_pagamento, fracao, pedidos, receita)
+        VALUES (dia, status, tipo_pagamento, (txid_current() % 16)::smallint, pedidos, receita)
+        ON CONFLICT ON CONSTRAINT vendas_diarias_pkey DO UPDATE SET
+            pedidos = vendas_diarias.pedidos + EXCLUDED.pedidos,
+            receita = vendas_diarias.receita + EXCLUDED.receita;
+    END IF;
+END;
+$$;
+
+-- As combinações são somadas em ordem, para que transações concorrentes travem as frações na
+-- mesma ordem; cada operação consulta apenas as tabelas de transição que o seu gatilho declara
+CREATE FUNCTION somar_vendas_incluidas() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    variacao RECORD;
+BEGIN
+    FOR variacao IN
+        SELECT data_pedido::date AS dia, status, tipo_pagamento, COUNT(*) AS pedidos, SUM(valor_total) AS receita
+        FROM novas
+        GROUP BY 1, 2, 3
+        ORDER BY 1, 2, 3
+    LOOP
+        PERFORM somar_vendas(variacao.dia, variacao.status, variacao.tipo_pagamento, variacao.pedidos, variacao.receita);
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION somar_vendas_alteradas() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    variacao RECORD;
+BEGIN
+    FOR variacao IN
+        SELECT dia, status, tipo_pagamento, SUM(pedidos) AS pedidos, SUM(receita) AS receita FROM (
+            SELECT data_pedido::date AS dia, status, tipo_pagamento, 1 AS pedidos, valor_total AS receita FROM novas
+            UNION ALL
+            SELECT data_pedido::date, status, tipo_pagamento, -1, -valor_total FROM antigas
+        ) alteracoes
+        GROUP BY 1, 2, 3
+        ORDER BY 1, 2, 3
+    LOOP
+        PERFORM somar_vendas(variacao.dia, variacao.status, variacao.tipo_pagamento, variacao.pedidos, variacao.receita);
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION somar_vendas_excluidas() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    variacao RECORD;
+BEGIN
+    FOR variacao IN
+        SELECT data_pedido::date AS dia, status, tipo_pagamento, COUNT(*) AS pedidos, SUM(valor_total) AS receita
+        FROM antigas
+        GROUP BY 1, 2, 3
+        ORDER BY 1, 2, 3
+    LOOP
+        PERFORM somar_vendas(variacao.dia, variacao.status, variacao.tipo_pagamento, -variacao.pedidos, -variacao.receita);
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
+
+CREATE FUNCTION zerar_vendas() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    DELETE FROM vendas_diarias;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_pedidos_vendas_inclusoes AFTER INSERT ON pedidos
+REFERENCING NEW TABLE AS novas FOR EACH STATEMENT EXECUTE FUNCTION somar_vendas_incluidas();
+CREATE TRIGGER trg_pedidos_vendas_alteracoes AFTER UPDATE ON pedidos
+REFERENCING OLD TABLE AS antigas NEW TABLE AS novas FOR EACH STATEMENT EXECUTE FUNCTION somar_vendas_alteradas();
+CREATE TRIGGER trg_pedidos_vendas_exclusoes AFTER DELETE ON pedidos
+REFERENCING OLD TABLE AS antigas FOR EACH STATEMENT EXECUTE FUNCTION somar_vendas_excluidas();
+CREATE TRIGGER trg_pedidos_zerar_vendas AFTER TRUNCATE ON pedidos
+FOR EACH STATEMENT EXECUTE FUNCTION zerar_vendas();
+
+-- Vendas atuais; os gatilhos criados acima bloqueiam as gravações em pedidos até o fim da migração
+INSERT INTO vendas_diarias (dia, status, tipo_pagamento, fracao, pedidos, receita)
+SELECT data_pedido::date, status, tipo_pagamento, 0, COUNT(*), SUM(valor_total)
+FROM pedidos
+GROUP BY 1, 2, 3;
@@ -0,0 +1,4 @@
+-- Pedidos e itens passam a usar sequências com incremento 50 (allocationSize do Hibernate),
+-- permitindo que os IDs sejam reservados em blocos e os INSERTs agrupados em lotes JDBC.
+ALTER SEQUENCE pedidos_id_seq INCREMENT BY 50;
+ALTER SEQUENCE itens_pedido_id_seq INCREMENT BY 50;
@@ -0,0 +1,18 @@
+-- Estoque fracionado: produtos muito disputados podem ter o estoque dividido em N frações,
+-- para que reservas concorrentes travem linhas diferentes em vez da mesma linha de produtos.
+-- Com fracoes_estoque = 1 (padrão) o estoque continua em produtos.quantidade_estoque.
+ALTER TABLE produtos
+ADD COLUMN fracoes_estoque INTEGER NOT NULL DEFAULT 1;
+
+ALTER TABLE produtos
+ADD CONSTRAINT chk_fracoes_estoque CHECK (fracoes_estoque >= 1);
+
+CREATE TABLE estoque_fracoes (
+    produto_id BIGINT NOT NULL REFERENCES produtos(id) ON DELETE CASCADE,
+    fracao INTEGER NOT NULL,
+    quantidade INTEGER NOT NULL CHECK (quantidade >= 0),
+    PRIMARY KEY (produto_id, fracao)
+);
+
+COMMENT ON COLUMN produtos.fracoes_estoque IS 'Quantidade de frações do estoque (1 = estoque em quantidade_estoque)';
+COMMENT ON TABLE estoque_fracoes IS 'Frações do estoque de produtos com fracoes_estoque > 1; o estoque visível é a soma das frações';
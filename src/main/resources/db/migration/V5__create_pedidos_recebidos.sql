@@ -0,0 +1,18 @@
+-- Área de recebimento dos pedidos aceitos de forma assíncrona (POST /api/pedidos?assincrono=true).
+-- O payload fica gravado antes da resposta 202, de modo que pedidos ainda não processados
+-- sobrevivem a uma reinicialização e são recolocados na fila na subida da aplicação.
+CREATE TABLE pedidos_recebidos (
+    id UUID PRIMARY KEY,
+    payload JSONB NOT NULL,
+    situacao VARCHAR(20) NOT NULL,
+    pedido_id BIGINT,
+    mensagem VARCHAR(500),
+    recebido_em TIMESTAMP NOT NULL,
+    processado_em TIMESTAMP,
+    CONSTRAINT chk_situacao_recebimento CHECK (situacao IN ('RECEBIDO', 'PROCESSANDO', 'CONCLUIDO', 'REJEITADO'))
+);
+
+CREATE INDEX idx_pedidos_recebidos_pendentes ON pedidos_recebidos(recebido_em)
+    WHERE situacao IN ('RECEBIDO', 'PROCESSANDO');
+
+COMMENT ON COLUMN pedidos_recebidos.situacao IS 'Situação do processamento usando enum SituacaoRecebimento';
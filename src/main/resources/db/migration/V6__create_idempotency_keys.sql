@@ -0,0 +1,18 @@
+-- Chaves de idempotência (cabeçalho Idempotency-Key) da criação e atualização de pedidos.
+-- A chave é reservada antes da operação (status_http nulo = em processamento) e, ao final,
+-- recebe a resposta produzida, que é devolvida sem reprocessamento quando o cliente repete
+-- a requisição. Registros vencidos são removidos periodicamente pela aplicação.
+CREATE TABLE chaves_idempotencia (
+    chave VARCHAR(255) PRIMARY KEY,
+    hash_requisicao VARCHAR(64) NOT NULL,
+    status_http INTEGER,
+    location VARCHAR(500),
+    corpo TEXT,
+    criado_em TIMESTAMP NOT NULL,
+    expira_em TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_chaves_idempotencia_expira_em ON chaves_idempotencia(expira_em);
+
+COMMENT ON COLUMN chaves_idempotencia.hash_requisicao IS 'SHA-256 da operação e do corpo da requisição original';
+COMMENT ON COLUMN chaves_idempotencia.corpo IS 'Corpo JSON da resposta original, devolvido exatamente como foi gerado';
@@ -0,0 +1,21 @@
+-- Caixa de saída (outbox) dos eventos de pedido. Cada evento é gravado na mesma transação
+-- que cria o pedido ou altera seu status, e um publicador em segundo plano o envia ao
+-- destino configurado e o remove da tabela. Eventos não publicados nunca são perdidos:
+-- se o envio falhar, continuam na tabela para a próxima tentativa.
+CREATE SEQUENCE eventos_pedido_id_seq INCREMENT BY 50;
+
+CREATE TABLE eventos_pedido (
+    id BIGINT PRIMARY KEY DEFAULT nextval('eventos_pedido_id_seq'),
+    tipo VARCHAR(20) NOT NULL,
+    pedido_id BIGINT NOT NULL,
+    cliente_id BIGINT,
+    status VARCHAR(20) NOT NULL,
+    status_anterior VARCHAR(20),
+    valor_total DECIMAL(10,2),
+    criado_em TIMESTAMP NOT NULL,
+    CONSTRAINT chk_tipo_evento_pedido CHECK (tipo IN ('PEDIDO_CRIADO', 'STATUS_ALTERADO'))
+);
+
+ALTER SEQUENCE eventos_pedido_id_seq OWNED BY eventos_pedido.id;
+
+COMMENT ON COLUMN eventos_pedido.tipo IS 'Tipo do evento usando enum TipoEventoPedido';
@@ -0,0 +1,16 @@
+-- Índices das listagens paginadas por cursor (keyset). Cada índice termina nas colunas de
+-- ordenação da listagem, de modo que a página seguinte começa com uma busca no índice a
+-- partir do cursor e lê apenas as linhas da página, qualquer que seja a sua profundidade.
+
+-- GET /api/pedidos, /api/pedidos/data e /api/pedidos/periodo: ORDER BY data_pedido DESC, id DESC
+CREATE INDEX idx_pedidos_data_pedido_id ON pedidos(data_pedido, id);
+
+-- GET /api/pedidos/cliente/{id} e /api/pedidos/status: filtro por igualdade seguido da ordenação.
+-- Substituem os índices de coluna única, que são prefixos dos novos.
+CREATE INDEX idx_pedidos_cliente_data_pedido_id ON pedidos(cliente_id, data_pedido, id);
+CREATE INDEX idx_pedidos_status_data_pedido_id ON pedidos(status, data_pedido, id);
+DROP INDEX idx_pedidos_cliente_id;
+DROP INDEX idx_pedidos_status;
+
+-- GET /api/produtos/preco: ORDER BY preco, id. As listagens por ID usam a chave primária.
+CREATE INDEX idx_produtos_preco_id ON produtos(preco, id);
@@ -0,0 +1,152 @@
+-- Particionamento mensal de pedidos e itens_pedido por data_pedido.
+--
+-- As duas tabelas são recriadas como tabelas particionadas por faixa de data_pedido, com uma
+-- partição por mês e os mesmos limites nas duas (os itens de um pedido ficam sempre na
+-- partição do mesmo mês). Consultas com filtro por data_pedido leem apenas as partições do
+-- período; vacuum, índices e estatísticas passam a ser mantidos por mês, e o histórico antigo
+-- pode ser removido partição a partição.
+--
+-- A chave primária de uma tabela particionada precisa conter a coluna de particionamento, por
+-- isso as chaves passam a ser (id, data_pedido) e os itens repetem a data do pedido, usada
+-- também na chave estrangeira. Os IDs continuam vindo das mesmas sequências e permanecem únicos.
+
+-- Tabelas atuais: renomeadas e removidas depois da cópia. Os índices e as chaves primárias são
+-- removidos ou renomeados antes, para liberar os nomes para as novas tabelas.
+ALTER TABLE itens_pedido RENAME TO itens_pedido_legado;
+ALTER TABLE pedidos RENAME TO pedidos_legado;
+ALTER TABLE itens_pedido_legado RENAME CONSTRAINT itens_pedido_pkey TO itens_pedido_legado_pkey;
+ALTER TABLE pedidos_legado RENAME CONSTRAINT pedidos_pkey TO pedidos_legado_pkey;
+DROP INDEX idx_pedidos_data_pedido_id, idx_pedidos_cliente_data_pedido_id, idx_pedidos_status_data_pedido_id,
+    idx_pedidos_tipo_pagamento, idx_itens_pedido_pedido_id, idx_itens_pedido_produto_id;
+ALTER SEQUENCE pedidos_id_seq OWNED BY NONE;
+ALTER SEQUENCE itens_pedido_id_seq OWNED BY NONE;
+
+CREATE TABLE pedidos (
+    id BIGINT NOT NULL DEFAULT nextval('pedidos_id_seq'),
+    cliente_id BIGINT NOT NULL REFERENCES clientes(id),
+    data_pedido TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    valor_total NUMERIC(10,2) NOT NULL,
+    tipo_pagamento VARCHAR(30) NOT NULL DEFAULT 'DINHEIRO',
+    CONSTRAINT pedidos_pkey PRIMARY KEY (id, data_pedido),
+    CONSTRAINT chk_status_pedido CHECK (status IN (
+        'PENDENTE', 'APROVADO', 'EM_PREPARACAO', 'ENVIADO', 'ENTREGUE', 'CANCELADO'
+    )),
+    CONSTRAINT chk_tipo_pagamento CHECK (tipo_pagamento IN (
+        'DINHEIRO', 'CARTAO_CREDITO', 'CARTAO_DEBITO', 'PIX', 'TRANSFERENCIA',
+        'BOLETO', 'CARTEIRA_DIGITAL', 'VALE_REFEICAO', 'VALE_ALIMENTACAO',
+        'CUPOM', 'OUTROS'
+    ))
+) PARTITION BY RANGE (data_pedido);
+
+CREATE TABLE itens_pedido (
+    id BIGINT NOT NULL DEFAULT nextval('itens_pedido_id_seq'),
+    pedido_id BIGINT NOT NULL,
+    data_pedido TIMESTAMP NOT NULL,
+    produto_id BIGINT NOT NULL REFERENCES produtos(id),
+    quantidade INTEGER NOT NULL,
+    preco_unitario NUMERIC(10,2) NOT NULL,
+    subtotal NUMERIC(10,2) NOT NULL,
+    CONSTRAINT itens_pedido_pkey PRIMARY KEY (id, data_pedido),
+    CONSTRAINT fk_itens_pedido_pedido FOREIGN KEY (pedido_id, data_pedido)
+        REFERENCES pedidos(id, data_pedido) ON DELETE CASCADE
+) PARTITION BY RANGE (data_pedido);
+
+ALTER SEQUENCE pedidos_id_seq OWNED BY pedidos.id;
+ALTER SEQUENCE itens_pedido_id_seq OWNED BY itens_pedido.id;
+
+-- Índices declarados nas tabelas particionadas são criados em cada partição, inclusive nas futuras
+CREATE INDEX idx_pedidos_data_pedido_id ON pedidos(data_pedido, id);
+CREATE INDEX idx_pedidos_cliente_data_pedido_id ON pedidos(cliente_id, data_pedido, id);
+CREATE INDEX idx_pedidos_status_data_pedido_id ON pedidos(status, data_pedido, id);
+CREATE INDEX idx_pedidos_tipo_pagamento ON pedidos(tipo_pagamento);
+CREATE INDEX idx_itens_pedido_pedido_id ON itens_pedido(pedido_id);
+CREATE INDEX idx_itens_pedido_produto_id ON itens_pedido(produto_id);
+
+-- Partições padrão: recebem os pedidos de meses que ainda não têm partição própria, em vez de
+-- rejeitar o INSERT. Ficam vazias enquanto as partições futuras forem criadas com antecedência.
+CREATE TABLE pedidos_padrao PARTITION OF pedidos DEFAULT;
+CREATE TABLE itens_pedido_padrao PARTITION OF itens_pedido DEFAULT;
+
+COMMENT ON COLUMN pedidos.status IS 'Status do pedido usando enum StatusPedido';
+COMMENT ON COLUMN pedidos.tipo_pagamento IS 'Tipo de pagamento usando enum TipoPagamento';
+COMMENT ON COLUMN itens_pedido.data_pedido IS 'Data do pedido, repetida para particionar os itens junto com o pedido';
+
+-- Cria as partições de pedidos e itens do mês que contém a data informada.
+--
+-- As partições são criadas como tabelas avulsas e depois anexadas. Pedidos do mês que já
+-- estejam na partição padrão são movidos para a nova partição antes de anexá-la, com as
+-- partições padrão travadas em EXCLUSIVE. O ATTACH trava as tabelas particionadas em SHARE
+-- UPDATE EXCLUSIVE, mas também as partições padrão em ACCESS EXCLUSIVE, para conferir que
+-- nenhuma linha delas pertence ao novo mês. Os travamentos duram até o fim da transação:
+-- enquanto isso, esperam as gravações de meses sem partição própria e as consultas que leem
+-- as partições padrão (as que não filtram por data_pedido, como a busca por ID). A espera é
+-- curta com as partições padrão vazias, o que as partições criadas com antecedência
+-- garantem; mover muitas linhas da partição padrão bloqueia essas operações durante a cópia.
+-- Retorna falso se as partições do mês já existirem.
+CREATE FUNCTION criar_particao_pedidos(mes DATE) RETURNS BOOLEAN
+LANGUAGE plpgsql AS $$
+DECLARE
+    inicio TIMESTAMP := date_trunc('month', mes);
+    fim TIMESTAMP := date_trunc('month', mes) + INTERVAL '1 month';
+    particao_pedidos TEXT := 'pedidos_' || to_char(mes, 'YYYY_MM');
+    particao_itens TEXT := 'itens_pedido_' || to_char(mes, 'YYYY_MM');
+BEGIN
+    -- Serializa as criações de várias instâncias da aplicação
+    PERFORM pg_advisory_xact_lock(hashtext('criar_particao_pedidos'));
+    IF to_regclass(particao_pedidos) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE pedidos INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', particao_pedidos);
+    EXECUTE format('CREATE TABLE %I (LIKE itens_pedido INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', particao_itens);
+
+    LOCK TABLE pedidos_padrao, itens_pedido_padrao IN EXCLUSIVE MODE;
+    EXECUTE format('WITH movidos AS (DELETE FROM itens_pedido_padrao WHERE data_pedido >= $1 AND data_pedido < $2 '
+                   || 'RETURNING *) INSERT INTO %I SELECT * FROM movidos', particao_itens) USING inicio, fim;
+    EXECUTE format('WITH movidos AS (DELETE FROM pedidos_padrao WHERE data_pedido >= $1 AND data_pedido < $2 '
+                   || 'RETURNING *) INSERT INTO %I SELECT * FROM movidos', particao_pedidos) USING inicio, fim;
+
+    EXECUTE format('ALTER TABLE pedidos ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', particao_pedidos, inicio, fim);
+    EXECUTE format('ALTER TABLE itens_pedido ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', particao_itens, inicio, fim);
+    RETURN TRUE;
+END;
+$$;
+
+-- Cria as partições de todos os meses entre as duas datas (inclusive) que ainda não existem.
+-- Retorna a quantidade de meses criados.
+CREATE FUNCTION criar_particoes_pedidos(inicio DATE, fim DATE) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    mes DATE;
+    criadas INTEGER := 0;
+BEGIN
+    FOR mes IN SELECT generate_series(date_trunc('month', inicio), date_trunc('month', fim), INTERVAL '1 month')::date LOOP
+        IF criar_particao_pedidos(mes) THEN
+            criadas := criadas + 1;
+        END IF;
+    END LOOP;
+    RETURN criadas;
+END;
+$$;
+
+-- Partições de todo o histórico existente e dos próximos meses; a aplicação mantém a
+-- antecedência depois (pedidos.particoes.meses-a-frente)
+SELECT criar_particoes_pedidos(
+    COALESCE((SELECT MIN(data_pedido)::date FROM pedidos_legado), CURRENT_DATE),
+    (CURRENT_DATE + INTERVAL '3 months')::date);
+
+INSERT INTO pedidos (id, cliente_id, data_pedido, status, valor_total, tipo_pagamento)
+SELECT id, cliente_id, data_pedido, status, valor_total, tipo_pagamento
+FROM pedidos_legado;
+
+INSERT INTO itens_pedido (id, pedido_id, data_pedido, produto_id, quantidade, preco_unitario, subtotal)
+SELECT i.id, i.pedido_id, p.data_pedido, i.produto_id, i.quantidade, i.preco_unitario, i.subtotal
+FROM itens_pedido_legado i
+JOIN pedidos_legado p ON p.id = i.pedido_id;
+
+DROP TABLE itens_pedido_legado;
+DROP TABLE pedidos_legado;
+
+ANALYZE pedidos;
+ANALYZE itens_pedido;
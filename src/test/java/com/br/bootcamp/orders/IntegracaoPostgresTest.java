@@ -0,0 +1,22 @@
+package com.br.bootcamp.orders;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base dos testes de integração que precisam do PostgreSQL real (travas de linha,
+ * planos de execução, particionamento), executados em um container com as migrações do Flyway.
+ *
+ * <p>Os testes são ignorados quando não há Docker disponível.</p>
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class IntegracaoPostgresTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+}
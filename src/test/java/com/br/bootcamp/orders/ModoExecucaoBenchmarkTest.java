@@ -0,0 +1,213 @@
+package com.br.bootcamp.orders;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.repository.ClienteRepository;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark de vazão e latência (p99) de GET /api/pedidos/{id} e POST /api/pedidos com a
+ * aplicação rodando com threads de plataforma (padrão) e com o perfil {@code virtual}.
+ *
+ * <p>Cada modo sobe a aplicação completa em uma porta aleatória, contra o mesmo PostgreSQL,
+ * e recebe a mesma carga de clientes concorrentes. Os resultados são registrados no log;
+ * o teste falha apenas se alguma requisição falhar. Executado com {@code mvn test -Pcarga}.</p>
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Benchmark dos modos de execução (threads de plataforma x virtual threads)")
+class ModoExecucaoBenchmarkTest {
+
+    private static final int CLIENTES_CONCORRENTES = 400;
+    private static final int PRODUTOS = 50;
+    private static final Duration AQUECIMENTO = Duration.ofSeconds(5);
+    private static final Duration MEDICAO = Duration.ofSeconds(15);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15");
+
+    @TempDir
+    Path diretorio;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    @DisplayName("Deve comparar vazão e p99 com threads de plataforma e com virtual threads")
+    void deveCompararVazaoELatenciaDosModos() throws Exception {
+        // Act
+        Map<String, Resultado> plataforma = medir(false);
+        Map<String, Resultado> virtual = medir(true);
+
+        // Assert
+        log.info(String.format("%n%-22s %-12s %12s %10s %10s", "Endpoint", "Modo", "req/s", "p50 (ms)", "p99 (ms)"));
+        for (String endpoint : plataforma.keySet()) {
+            log.info(plataforma.get(endpoint).formatar(endpoint, "plataforma"));
+            log.info(virtual.get(endpoint).formatar(endpoint, "virtual"));
+        }
+        for (Resultado resultado : Stream.concat(plataforma.values().stream(), virtual.values().stream()).toList()) {
+            assertEquals(0, resultado.falhas());
+            assertTrue(resultado.requisicoes() > 0);
+        }
+    }
+
+    private Map<String, Resultado> medir(boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder aplicacao = new SpringApplicationBuilder(OrdersApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true",
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.br.bootcamp.orders=WARN",
+                        "pedidos.eventos.arquivo=" + diretorio.resolve("eventos-" + virtualThreads + ".ndjson"));
+        if (virtualThreads) {
+            aplicacao.profiles("virtual");
+        }
+
+        try (ServletWebServerApplicationContext contexto = (ServletWebServerApplicationContext) aplicacao.run()) {
+            String base = "http://localhost:" + contexto.getWebServer().getPort() + "/api/pedidos";
+            Long clienteId = criarCliente(contexto.getBean(ClienteRepository.class), virtualThreads);
+            List<Long> produtoIds = criarProdutos(contexto.getBean(ProdutoRepository.class));
+            long pedidoId = objectMapper.readTree(enviar(criarPedido(base, clienteId, produtoIds)).body()).get("id").asLong();
+
+            Function<Long, HttpRequest> buscar = i -> HttpRequest.newBuilder(URI.create(base + "/" + pedidoId)).GET().build();
+            Function<Long, HttpRequest> criar = i -> criarPedido(base, clienteId, produtoIds);
+
+            carga(buscar, AQUECIMENTO);
+            carga(criar, AQUECIMENTO);
+            return Map.of(
+                    "GET /api/pedidos/{id}", carga(buscar, MEDICAO),
+                    "POST /api/pedidos", carga(criar, MEDICAO));
+        }
+    }
+
+    /**
+     * Dispara requisições em laço a partir de clientes concorrentes durante o tempo informado
+     */
+    private Resultado carga(Function<Long, HttpRequest> requisicao, Duration duracao) throws Exception {
+        long fim = System.nanoTime() + duracao.toNanos();
+        AtomicLong falhas = new AtomicLong();
+        List<Future<long[]>> clientes = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTES_CONCORRENTES; c++) {
+                clientes.add(executor.submit(() -> {
+                    long[] latencias = new long[1024];
+                    int quantidade = 0;
+                    for (long i = 0; System.nanoTime() < fim; i++) {
+                        long inicio = System.nanoTime();
+                        HttpResponse<String> resposta = enviar(requisicao.apply(i));
+                        long latencia = System.nanoTime() - inicio;
+                        if (resposta.statusCode() >= 400) {
+                            falhas.incrementAndGet();
+                        }
+                        if (quantidade == latencias.length) {
+                            latencias = Arrays.copyOf(latencias, quantidade * 2);
+                        }
+                        latencias[quantidade++] = latencia;
+                    }
+                    return Arrays.copyOf(latencias, quantidade);
+                }));
+            }
+        }
+
+        List<long[]> porCliente = new ArrayList<>();
+        for (Future<long[]> cliente : clientes) {
+            porCliente.add(cliente.get());
+        }
+        long[] latencias = porCliente.stream().flatMapToLong(LongStream::of).sorted().toArray();
+        return new Resultado(latencias.length, falhas.get(), latencias.length / (duracao.toNanos() / 1e9),
+                percentil(latencias, 0.50), percentil(latencias, 0.99));
+    }
+
+    private HttpResponse<String> enviar(HttpRequest requisicao) throws IOException, InterruptedException {
+        return httpClient.send(requisicao, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest criarPedido(String base, Long clienteId, List<Long> produtoIds) {
+        Long produtoId = produtoIds.get(ThreadLocalRandom.current().nextInt(produtoIds.size()));
+        String corpo = "{\"clienteId\":" + clienteId + ",\"tipoPagamento\":\"PIX\","
+                + "\"itens\":[{\"produtoId\":" + produtoId + ",\"quantidade\":1}]}";
+        return HttpRequest.newBuilder(URI.create(base))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private Long criarCliente(ClienteRepository clienteRepository, boolean virtualThreads) {
+        Cliente cliente = new Cliente();
+        cliente.setNome("Cliente benchmark");
+        cliente.setEmail("benchmark-" + virtualThreads + "@example.com");
+        return clienteRepository.save(cliente).getId();
+    }
+
+    private List<Long> criarProdutos(ProdutoRepository produtoRepository) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < PRODUTOS; i++) {
+            Produto produto = new Produto();
+            produto.setNome("Produto benchmark " + i);
+            produto.setPreco(new BigDecimal("19.90"));
+            produto.setQuantidadeEstoque(10_000_000);
+            produto.setCategoria(CategoriaProduto.OUTROS);
+            ids.add(produtoRepository.save(produto).getId());
+        }
+        return ids;
+    }
+
+    private static double percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1e6;
+    }
+
+    private record Resultado(long requisicoes, long falhas, double vazao, double p50, double p99) {
+
+        String formatar(String endpoint, String modo) {
+            return String.format("%-22s %-12s %12.0f %10.2f %10.2f", endpoint, modo, vazao, p50, p99);
+        }
+    }
+}
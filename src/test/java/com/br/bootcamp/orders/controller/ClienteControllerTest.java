@@ -6,6 +6,7 @@ import com.br.bootcamp.orders.service.contracts.IClienteService;
 import com.br.bootcamp.orders.service.exception.BusinessException;
 import com.br.bootcamp.orders.service.exception.GlobalExceptionHandler;
 import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import com.br.bootcamp.orders.service.util.Pagina;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -58,7 +59,7 @@ class ClienteControllerTest {
                 criarCliente(1L, "João", "joao@test.com"),
                 criarCliente(2L, "Maria", "maria@test.com")
         );
-        when(clienteService.listarTodos()).thenReturn(clientes);
+        when(clienteService.listarTodos(50, null)).thenReturn(new Pagina<>(clientes, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/clientes"))
@@ -70,7 +71,7 @@ class ClienteControllerTest {
                 .andExpect(jsonPath("$[1].id").value(2))
                 .andExpect(jsonPath("$[1].nome").value("Maria"));
 
-        verify(clienteService).listarTodos();
+        verify(clienteService).listarTodos(50, null);
     }
 
     @Test
@@ -95,7 +96,7 @@ class ClienteControllerTest {
     @DisplayName("Deve retornar 404 quando cliente não existe por ID")
     void deveRetornar404QuandoClienteNaoExistePorId() throws Exception {
         // Arrange
-        when(clienteService.buscarPorId(1L)).thenThrow(new ResourceNotFoundException("Cliente não encontrado com ID: 1"));
+        when(clienteService.buscarPorId(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         mockMvc.perform(get("/api/clientes/1"))
@@ -114,7 +115,7 @@ class ClienteControllerTest {
                 criarCliente(1L, "João Silva", "joao@test.com"),
                 criarCliente(2L, "João Santos", "joao2@test.com")
         );
-        when(clienteService.buscarPorNome("João")).thenReturn(clientes);
+        when(clienteService.buscarPorNome("João", 50, null)).thenReturn(new Pagina<>(clientes, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/clientes/nome/João"))
@@ -124,7 +125,7 @@ class ClienteControllerTest {
                 .andExpect(jsonPath("$[0].nome").value("João Silva"))
                 .andExpect(jsonPath("$[1].nome").value("João Santos"));
 
-        verify(clienteService).buscarPorNome("João");
+        verify(clienteService).buscarPorNome("João", 50, null);
     }
 
     @Test
@@ -164,14 +165,14 @@ class ClienteControllerTest {
     @DisplayName("Deve contar clientes com sucesso")
     void deveContarClientesComSucesso() throws Exception {
         // Arrange
-        when(clienteService.contarClientes()).thenReturn(5L);
+        when(clienteService.contarClientes(false)).thenReturn(5L);
 
         // Act & Assert
         mockMvc.perform(get("/api/clientes/contar"))
                 .andExpect(status().isOk())
                 .andExpect(content().string("5"));
 
-        verify(clienteService).contarClientes();
+        verify(clienteService).contarClientes(false);
     }
 
     @Test
@@ -1,42 +1,81 @@
 package com.br.bootcamp.orders.controller;
 
 import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.ItemPedido;
 import com.br.bootcamp.orders.model.Pedido;
 import com.br.bootcamp.orders.model.Produto;
 import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.dto.RecebimentoPedidoDTO;
+import com.br.bootcamp.orders.model.dto.ResultadoLoteDTO;
 import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
+import com.br.bootcamp.orders.model.enums.SituacaoRecebimento;
 import com.br.bootcamp.orders.model.enums.StatusPedido;
 import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.model.leitura.DetalhePedido;
+import com.br.bootcamp.orders.model.leitura.ResumoPedido;
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+import com.br.bootcamp.orders.service.contracts.IExportacaoPedidoService;
+import com.br.bootcamp.orders.service.contracts.IIdempotenciaService;
+import com.br.bootcamp.orders.service.contracts.IPedidoAssincronoService;
 import com.br.bootcamp.orders.service.contracts.IPedidoService;
+import com.br.bootcamp.orders.service.contracts.IVendaService;
 import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.exception.FilaCheiaException;
+import com.br.bootcamp.orders.service.exception.RequisicaoEmAndamentoException;
 import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import com.br.bootcamp.orders.service.util.Pagina;
+import com.br.bootcamp.orders.service.util.StringToFormatoExportacaoConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.format.support.FormattingConversionService;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("Testes para PedidoController")
@@ -45,10 +84,23 @@ class PedidoControllerTest {
     @Mock
     private IPedidoService pedidoService;
 
+    @Mock
+    private IPedidoAssincronoService pedidoAssincronoService;
+
+    @Mock
+    private IIdempotenciaService idempotenciaService;
+
+    @Mock
+    private IExportacaoPedidoService exportacaoPedidoService;
+
+    @Mock
+    private IVendaService vendaService;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
     private Pedido pedido;
+    private ResumoPedido resumo;
     private PedidoDTO pedidoDTO;
     private Cliente cliente;
     private Produto produto;
@@ -56,7 +108,12 @@ class PedidoControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        mockMvc = MockMvcBuilders.standaloneSetup(new PedidoController(pedidoService)).build();
+        FormattingConversionService conversoes = new DefaultFormattingConversionService();
+        conversoes.addConverter(new StringToFormatoExportacaoConverter());
+        mockMvc = MockMvcBuilders.standaloneSetup(new PedidoController(pedidoService, pedidoAssincronoService,
+                        idempotenciaService, exportacaoPedidoService, vendaService))
+                .setConversionService(conversoes)
+                .build();
         objectMapper = new ObjectMapper();
 
         // Setup dados de teste
@@ -80,6 +137,9 @@ class PedidoControllerTest {
         pedido.setValorTotal(new BigDecimal("1500.00"));
         pedido.setItens(new ArrayList<>());
 
+        resumo = new ResumoPedido(1L, 1L, "João Silva", pedido.getDataPedido(), StatusPedido.PENDENTE, TipoPagamento.PIX,
+                new BigDecimal("1500.00"));
+
         pedidoDTO = new PedidoDTO();
         pedidoDTO.setClienteId(1L);
         pedidoDTO.setStatus(StatusPedido.PENDENTE);
@@ -91,70 +151,108 @@ class PedidoControllerTest {
     @DisplayName("Deve listar todos os pedidos com sucesso")
     void deveListarTodosOsPedidosComSucesso() throws Exception {
         // Arrange
-        List<Pedido> pedidos = List.of(pedido);
-        when(pedidoService.listarTodos()).thenReturn(pedidos);
+        List<ResumoPedido> pedidos = List.of(resumo);
+        when(pedidoService.listarTodos(50, null)).thenReturn(new Pagina<>(pedidos, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/pedidos"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[0].cliente.id").value(1))
-                .andExpect(jsonPath("$[0].status").value("PENDENTE"));
+                .andExpect(jsonPath("$[0].clienteId").value(1))
+                .andExpect(jsonPath("$[0].clienteNome").value("João Silva"))
+                .andExpect(jsonPath("$[0].status").value("PENDENTE"))
+                .andExpect(jsonPath("$[0].itens").doesNotExist());
+
+        verify(pedidoService).listarTodos(50, null);
+    }
+
+    @Test
+    @DisplayName("Deve informar a página seguinte no cabeçalho Link")
+    void deveInformarPaginaSeguinteNoCabecalhoLink() throws Exception {
+        // Arrange
+        when(pedidoService.buscarPorStatus(StatusPedido.PENDENTE, 1, "abc")).thenReturn(new Pagina<>(List.of(resumo), "def"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/status?status=PENDENTE&limit=1&after=abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(header().string("Link",
+                        "<http://localhost/api/pedidos/status?status=PENDENTE&limit=1&after=def>; rel=\"next\""));
+
+        verify(pedidoService).buscarPorStatus(StatusPedido.PENDENTE, 1, "abc");
+    }
 
-        verify(pedidoService).listarTodos();
+    @Test
+    @DisplayName("Não deve informar cabeçalho Link na última página")
+    void naoDeveInformarCabecalhoLinkNaUltimaPagina() throws Exception {
+        // Arrange
+        when(pedidoService.listarTodos(50, null)).thenReturn(new Pagina<>(List.of(resumo), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Link"));
     }
 
     @Test
     @DisplayName("Deve buscar pedido por ID com sucesso")
     void deveBuscarPedidoPorIdComSucesso() throws Exception {
         // Arrange
-        when(pedidoService.buscarPorId(1L)).thenReturn(Optional.of(pedido));
+        pedido.getItens().add(new ItemPedido(5L, pedido, produto, 1, new BigDecimal("1500.00"), new BigDecimal("1500.00"),
+                pedido.getDataPedido()));
+        when(pedidoService.buscarDetalhe(1L)).thenReturn(DetalhePedido.de(pedido));
 
         // Act & Assert
         mockMvc.perform(get("/api/pedidos/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.cliente.id").value(1))
-                .andExpect(jsonPath("$.status").value("PENDENTE"));
-
-        verify(pedidoService).buscarPorId(1L);
+                .andExpect(jsonPath("$.cliente.nome").value("João Silva"))
+                .andExpect(jsonPath("$.cliente.email").doesNotExist())
+                .andExpect(jsonPath("$.status").value("PENDENTE"))
+                .andExpect(jsonPath("$.itens[0].produtoId").value(1))
+                .andExpect(jsonPath("$.itens[0].produtoNome").value("Notebook"))
+                .andExpect(jsonPath("$.itens[0].subtotal").value(1500.00))
+                .andExpect(jsonPath("$.itens[0].pedido").doesNotExist());
+
+        verify(pedidoService).buscarDetalhe(1L);
     }
 
     @Test
     @DisplayName("Deve retornar 404 quando pedido não encontrado por ID")
     void deveRetornar404QuandoPedidoNaoEncontradoPorId() throws Exception {
         // Arrange
-        when(pedidoService.buscarPorId(999L)).thenThrow(new ResourceNotFoundException("Pedido não encontrado"));
+        when(pedidoService.buscarDetalhe(999L)).thenThrow(new ResourceNotFoundException("Pedido não encontrado"));
 
         // Act & Assert
         mockMvc.perform(get("/api/pedidos/999"))
                 .andExpect(status().isNotFound());
 
-        verify(pedidoService).buscarPorId(999L);
+        verify(pedidoService).buscarDetalhe(999L);
     }
 
     @Test
     @DisplayName("Deve buscar pedidos por cliente com sucesso")
     void deveBuscarPedidosPorClienteComSucesso() throws Exception {
         // Arrange
-        List<Pedido> pedidos = List.of(pedido);
-        when(pedidoService.buscarPorCliente(1L)).thenReturn(pedidos);
+        List<ResumoPedido> pedidos = List.of(resumo);
+        when(pedidoService.buscarPorCliente(1L, 50, null)).thenReturn(new Pagina<>(pedidos, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/pedidos/cliente/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[0].cliente.id").value(1));
+                .andExpect(jsonPath("$[0].clienteId").value(1));
 
-        verify(pedidoService).buscarPorCliente(1L);
+        verify(pedidoService).buscarPorCliente(1L, 50, null);
     }
 
     @Test
     @DisplayName("Deve buscar pedidos por status com sucesso")
     void deveBuscarPedidosPorStatusComSucesso() throws Exception {
         // Arrange
-        List<Pedido> pedidos = List.of(pedido);
-        when(pedidoService.buscarPorStatus(StatusPedido.PENDENTE)).thenReturn(pedidos);
+        List<ResumoPedido> pedidos = List.of(resumo);
+        when(pedidoService.buscarPorStatus(StatusPedido.PENDENTE, 50, null)).thenReturn(new Pagina<>(pedidos, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/pedidos/status")
@@ -163,7 +261,7 @@ class PedidoControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].status").value("PENDENTE"));
 
-        verify(pedidoService).buscarPorStatus(StatusPedido.PENDENTE);
+        verify(pedidoService).buscarPorStatus(StatusPedido.PENDENTE, 50, null);
     }
 
     @Test
@@ -171,8 +269,8 @@ class PedidoControllerTest {
     void deveBuscarPedidosPorDataComSucesso() throws Exception {
         // Arrange
         LocalDate data = LocalDate.of(2024, 1, 15);
-        List<Pedido> pedidos = List.of(pedido);
-        when(pedidoService.buscarPorData(data)).thenReturn(pedidos);
+        List<ResumoPedido> pedidos = List.of(resumo);
+        when(pedidoService.buscarPorData(data, 50, null)).thenReturn(new Pagina<>(pedidos, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/pedidos/data")
@@ -180,7 +278,7 @@ class PedidoControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1));
 
-        verify(pedidoService).buscarPorData(data);
+        verify(pedidoService).buscarPorData(data, 50, null);
     }
 
     @Test
@@ -189,8 +287,8 @@ class PedidoControllerTest {
         // Arrange
         LocalDate dataInicio = LocalDate.of(2024, 1, 1);
         LocalDate dataFim = LocalDate.of(2024, 1, 31);
-        List<Pedido> pedidos = List.of(pedido);
-        when(pedidoService.buscarPorPeriodo(dataInicio, dataFim)).thenReturn(pedidos);
+        List<ResumoPedido> pedidos = List.of(resumo);
+        when(pedidoService.buscarPorPeriodo(dataInicio, dataFim, 50, null)).thenReturn(new Pagina<>(pedidos, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/pedidos/periodo")
@@ -199,33 +297,249 @@ class PedidoControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(1));
 
-        verify(pedidoService).buscarPorPeriodo(dataInicio, dataFim);
+        verify(pedidoService).buscarPorPeriodo(dataInicio, dataFim, 50, null);
+    }
+
+    @Test
+    @DisplayName("Deve exportar pedidos do período em NDJSON por padrão")
+    void deveExportarPedidosEmNdjson() throws Exception {
+        // Arrange
+        LocalDate dataInicio = LocalDate.of(2024, 1, 1);
+        LocalDate dataFim = LocalDate.of(2024, 1, 31);
+        when(exportacaoPedidoService.exportar(eq(dataInicio), eq(dataFim), eq(FormatoExportacao.NDJSON), any()))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(3, OutputStream.class).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/api/pedidos/exportacao")
+                .param("dataInicio", "01/01/2024")
+                .param("dataFim", "31/01/2024"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"pedidos-2024-01-01-2024-01-31.ndjson\""))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("Deve compactar a exportação em gzip quando o cliente aceitar")
+    void deveCompactarExportacaoEmGzip() throws Exception {
+        // Arrange
+        String csv = "pedido_id,cliente_id\n1,1\n";
+        when(exportacaoPedidoService.exportar(any(), any(), eq(FormatoExportacao.CSV), any()))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(3, OutputStream.class).write(csv.getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/api/pedidos/exportacao")
+                .param("dataInicio", "01/01/2024")
+                .param("dataFim", "31/01/2024")
+                .param("formato", "csv")
+                .header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult resposta = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        // Assert
+        byte[] compactado = resposta.getResponse().getContentAsByteArray();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compactado))) {
+            assertEquals(csv, new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve compactar a exportação quando o gzip for recusado com peso zero")
+    void naoDeveCompactarExportacaoComGzipRecusado() throws Exception {
+        // Arrange
+        when(exportacaoPedidoService.exportar(any(), any(), eq(FormatoExportacao.NDJSON), any()))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(3, OutputStream.class).write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/api/pedidos/exportacao")
+                .param("dataInicio", "01/01/2024")
+                .param("dataFim", "31/01/2024")
+                .header("Accept-Encoding", "gzip;q=0, *"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("Deve compactar a exportação em gzip quando o cliente aceitar qualquer codificação")
+    void deveCompactarExportacaoQuandoAceitarQualquerCodificacao() throws Exception {
+        // Arrange
+        when(exportacaoPedidoService.exportar(any(), any(), eq(FormatoExportacao.NDJSON), any())).thenReturn(0L);
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/api/pedidos/exportacao")
+                .param("dataInicio", "01/01/2024")
+                .param("dataFim", "31/01/2024")
+                .header("Accept-Encoding", "identity, *;q=0.5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 ao exportar período com início após o fim")
+    void deveRetornar400AoExportarPeriodoInvertido() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/exportacao")
+                .param("dataInicio", "31/01/2024")
+                .param("dataFim", "01/01/2024"))
+                .andExpect(status().isBadRequest());
+
+        verify(exportacaoPedidoService, never()).exportar(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 ao exportar em formato desconhecido")
+    void deveRetornar400AoExportarEmFormatoDesconhecido() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/exportacao")
+                .param("dataInicio", "01/01/2024")
+                .param("dataFim", "31/01/2024")
+                .param("formato", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verify(exportacaoPedidoService, never()).exportar(any(), any(), any(), any());
     }
 
     @Test
     @DisplayName("Deve contar total de pedidos com sucesso")
     void deveContarTotalDePedidosComSucesso() throws Exception {
         // Arrange
-        when(pedidoService.contarPedidos()).thenReturn(5L);
+        when(pedidoService.contarPedidos(false)).thenReturn(5L);
 
         // Act & Assert
         mockMvc.perform(get("/api/pedidos/contar"))
                 .andExpect(status().isOk())
                 .andExpect(content().string("5"));
 
-        verify(pedidoService).contarPedidos();
+        verify(pedidoService).contarPedidos(false);
+    }
+
+    @Test
+    @DisplayName("Deve contar pedidos por status com sucesso")
+    void deveContarPedidosPorStatusComSucesso() throws Exception {
+        // Arrange
+        Map<StatusPedido, Long> contagens = new EnumMap<>(StatusPedido.class);
+        contagens.put(StatusPedido.PENDENTE, 7L);
+        contagens.put(StatusPedido.CANCELADO, 2L);
+        when(pedidoService.contarPedidosPorStatus()).thenReturn(contagens);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/contar/status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.PENDENTE").value(7))
+                .andExpect(jsonPath("$.CANCELADO").value(2));
+
+        verify(pedidoService).contarPedidosPorStatus();
+    }
+
+    @Test
+    @DisplayName("Deve consultar vendas de período encerrado exigindo revalidação pelo ETag")
+    void deveConsultarVendasDePeriodoEncerradoExigindoRevalidacao() throws Exception {
+        // Arrange
+        LocalDate dia = LocalDate.of(2024, 1, 15);
+        when(vendaService.consultarVendas(dia, dia)).thenReturn(List.of(
+                VendaDiaria.de(dia, StatusPedido.ENTREGUE, TipoPagamento.PIX, 4, new BigDecimal("1000.00"))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/vendas")
+                        .param("dataInicio", "15/01/2024")
+                        .param("dataFim", "15/01/2024"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[0].status").value("ENTREGUE"))
+                .andExpect(jsonPath("$[0].pedidos").value(4))
+                .andExpect(jsonPath("$[0].receita").value(1000.00))
+                .andExpect(jsonPath("$[0].ticketMedio").value(250.00));
+
+        verify(vendaService).consultarVendas(dia, dia);
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 quando as vendas não mudaram desde o ETag informado")
+    void deveResponderNaoModificadoQuandoVendasNaoMudaram() throws Exception {
+        // Arrange
+        LocalDate dia = LocalDate.of(2024, 1, 15);
+        when(vendaService.consultarVendas(dia, dia))
+                .thenReturn(List.of(VendaDiaria.de(dia, StatusPedido.ENTREGUE, TipoPagamento.PIX, 4, new BigDecimal("1000.00"))))
+                .thenReturn(List.of(VendaDiaria.de(dia, StatusPedido.ENTREGUE, TipoPagamento.PIX, 4, new BigDecimal("1000.00"))))
+                .thenReturn(List.of(VendaDiaria.de(dia, StatusPedido.CANCELADO, TipoPagamento.PIX, 4, new BigDecimal("1000.00"))));
+        String etag = mockMvc.perform(get("/api/pedidos/vendas")
+                        .param("dataInicio", "15/01/2024")
+                        .param("dataFim", "15/01/2024"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/vendas")
+                        .param("dataInicio", "15/01/2024")
+                        .param("dataFim", "15/01/2024")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        // Pedido antigo alterado: o mesmo ETag recebe as vendas novas
+        mockMvc.perform(get("/api/pedidos/vendas")
+                        .param("dataInicio", "15/01/2024")
+                        .param("dataFim", "15/01/2024")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CANCELADO"));
+    }
+
+    @Test
+    @DisplayName("Deve consultar vendas de período com o dia corrente sem permitir cache")
+    void deveConsultarVendasDoDiaCorrenteSemPermitirCache() throws Exception {
+        // Arrange
+        LocalDate hoje = LocalDate.now();
+        when(vendaService.consultarVendas(hoje.minusDays(6), hoje)).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/vendas")
+                        .param("dataInicio", hoje.minusDays(6).format(DateTimeFormatter.ofPattern("dd/MM/yyyy")))
+                        .param("dataFim", hoje.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$").isEmpty());
     }
 
     @Test
     @DisplayName("Deve calcular valor total do pedido com sucesso")
     void deveCalcularValorTotalDoPedidoComSucesso() throws Exception {
         // Arrange
-        when(pedidoService.calcularValorTotal(1L)).thenReturn(1500.0);
+        when(pedidoService.calcularValorTotal(1L)).thenReturn(new BigDecimal("1500.10"));
 
         // Act & Assert
         mockMvc.perform(get("/api/pedidos/1/valor-total"))
                 .andExpect(status().isOk())
-                .andExpect(content().string("1500.0"));
+                .andExpect(content().string("1500.10"));
 
         verify(pedidoService).calcularValorTotal(1L);
     }
@@ -259,6 +573,68 @@ class PedidoControllerTest {
                 .andExpect(jsonPath("$.status").value("PENDENTE"));
 
         verify(pedidoService).salvar(pedidoDTO);
+        verify(idempotenciaService, never()).executar(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve criar pedido uma única vez por Idempotency-Key")
+    @SuppressWarnings("unchecked")
+    void deveCriarPedidoUmaUnicaVezPorChaveDeIdempotencia() throws Exception {
+        // Arrange
+        when(pedidoService.salvar(pedidoDTO)).thenReturn(pedido);
+        when(idempotenciaService.executar(eq("pedido-123"), eq("POST /api/pedidos"), eq(pedidoDTO), any()))
+                .thenAnswer(invocation -> ((Supplier<ResponseEntity<?>>) invocation.getArgument(3)).get());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pedidos")
+                .header("Idempotency-Key", "pedido-123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pedidoDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1));
+
+        verify(pedidoService).salvar(pedidoDTO);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta original ao repetir Idempotency-Key")
+    void deveDevolverRespostaOriginalAoRepetirChaveDeIdempotencia() throws Exception {
+        // Arrange
+        ResponseEntity<?> original = ResponseEntity.status(201)
+                .header("Idempotent-Replayed", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("{\"id\":1,\"status\":\"PENDENTE\"}");
+        when(idempotenciaService.executar(eq("pedido-123"), eq("POST /api/pedidos"), eq(pedidoDTO), any()))
+                .thenAnswer(invocation -> original);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pedidos")
+                .header("Idempotency-Key", "pedido-123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pedidoDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.status").value("PENDENTE"));
+
+        verify(pedidoService, never()).salvar(pedidoDTO);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 409 quando a requisição original ainda estiver em processamento")
+    void deveRetornar409QuandoRequisicaoOriginalEmProcessamento() throws Exception {
+        // Arrange
+        when(idempotenciaService.executar(eq("pedido-123"), eq("PUT /api/pedidos/1"), eq(pedidoDTO), any()))
+                .thenThrow(new RequisicaoEmAndamentoException("Requisição ainda em processamento."));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/pedidos/1")
+                .header("Idempotency-Key", "pedido-123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pedidoDTO)))
+                .andExpect(status().isConflict());
+
+        verify(pedidoService, never()).atualizar(1L, pedidoDTO);
     }
 
     @Test
@@ -276,6 +652,82 @@ class PedidoControllerTest {
         verify(pedidoService).salvar(pedidoDTO);
     }
 
+    @Test
+    @DisplayName("Deve receber pedido assíncrono retornando 202 com o identificador de acompanhamento")
+    void deveReceberPedidoAssincrono() throws Exception {
+        // Arrange
+        UUID id = UUID.fromString("3f1c9a52-8d7e-4b7a-9f3e-2a4b6c8d0e1f");
+        when(pedidoAssincronoService.receber(pedidoDTO)).thenReturn(new RecebimentoPedidoDTO(
+                id, SituacaoRecebimento.RECEBIDO, null, null, LocalDateTime.now(), null));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pedidos")
+                .param("assincrono", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pedidoDTO)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/pedidos/recebimentos/" + id))
+                .andExpect(jsonPath("$.id").value(id.toString()))
+                .andExpect(jsonPath("$.situacao").value("RECEBIDO"));
+
+        verify(pedidoAssincronoService).receber(pedidoDTO);
+        verify(pedidoService, never()).salvar(pedidoDTO);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 503 quando a fila de pedidos assíncronos estiver cheia")
+    void deveRetornar503QuandoFilaDePedidosAssincronosEstiverCheia() throws Exception {
+        // Arrange
+        when(pedidoAssincronoService.receber(pedidoDTO))
+                .thenThrow(new FilaCheiaException("Fila de pedidos cheia. Tente novamente em instantes."));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pedidos")
+                .param("assincrono", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(pedidoDTO)))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("Deve consultar a situação de um pedido assíncrono")
+    void deveConsultarSituacaoDePedidoAssincrono() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(pedidoAssincronoService.consultar(id)).thenReturn(new RecebimentoPedidoDTO(
+                id, SituacaoRecebimento.CONCLUIDO, 10L, null, LocalDateTime.now(), LocalDateTime.now()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/pedidos/recebimentos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.situacao").value("CONCLUIDO"))
+                .andExpect(jsonPath("$.pedidoId").value(10));
+
+        verify(pedidoAssincronoService).consultar(id);
+    }
+
+    @Test
+    @DisplayName("Deve criar pedidos em lote retornando o resultado de cada pedido")
+    void deveCriarPedidosEmLote() throws Exception {
+        // Arrange
+        List<PedidoDTO> lote = List.of(pedidoDTO, pedidoDTO);
+        when(pedidoService.salvarLote(lote)).thenReturn(List.of(
+                ResultadoLoteDTO.sucesso(0, 1L, new BigDecimal("1500.00")),
+                ResultadoLoteDTO.falha(1, "Estoque insuficiente para o produto: Notebook")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/pedidos/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(lote)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sucesso").value(true))
+                .andExpect(jsonPath("$[0].pedidoId").value(1))
+                .andExpect(jsonPath("$[1].sucesso").value(false))
+                .andExpect(jsonPath("$[1].mensagem").value("Estoque insuficiente para o produto: Notebook"));
+
+        verify(pedidoService).salvarLote(lote);
+    }
+
     @Test
     @DisplayName("Deve atualizar pedido com sucesso")
     void deveAtualizarPedidoComSucesso() throws Exception {
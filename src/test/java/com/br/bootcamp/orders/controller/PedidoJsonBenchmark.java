@@ -0,0 +1,53 @@
+package com.br.bootcamp.orders.controller;
+
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.service.util.PedidosSinteticos;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da serialização em JSON de um {@link Pedido} completo (cliente, itens e produtos),
+ * como os endpoints de pedidos respondem, com 1 a 500 itens (ver {@link PedidosSinteticos}). O
+ * {@link ObjectMapper} é montado pelo {@link Jackson2ObjectMapperBuilder}, a mesma base da
+ * configuração do Spring Boot. Faz parte da suíte do perfil {@code benchmarks}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoJsonBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int linhas;
+
+    private ObjectMapper objectMapper;
+    private Pedido pedido;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        pedido = PedidosSinteticos.montar(linhas, linhas);
+    }
+
+    @Benchmark
+    public byte[] serializar() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pedido);
+    }
+}
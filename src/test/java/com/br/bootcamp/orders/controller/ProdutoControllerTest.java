@@ -6,6 +6,7 @@ import com.br.bootcamp.orders.model.enums.CategoriaProduto;
 import com.br.bootcamp.orders.service.contracts.IProdutoService;
 import com.br.bootcamp.orders.service.exception.BusinessException;
 import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import com.br.bootcamp.orders.service.util.Pagina;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -72,7 +73,7 @@ class ProdutoControllerTest {
     void deveListarTodosOsProdutosComSucesso() throws Exception {
         // Arrange
         List<Produto> produtos = List.of(produto);
-        when(produtoService.listarTodos()).thenReturn(produtos);
+        when(produtoService.listarTodos(50, null)).thenReturn(new Pagina<>(produtos, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/produtos"))
@@ -81,7 +82,7 @@ class ProdutoControllerTest {
                 .andExpect(jsonPath("$[0].nome").value("Notebook Dell Inspiron"))
                 .andExpect(jsonPath("$[0].categoria").value("ELETRONICOS"));
 
-        verify(produtoService).listarTodos();
+        verify(produtoService).listarTodos(50, null);
     }
 
     @Test
@@ -104,7 +105,7 @@ class ProdutoControllerTest {
     @DisplayName("Deve retornar 404 quando produto não encontrado por ID")
     void deveRetornar404QuandoProdutoNaoEncontradoPorId() throws Exception {
         // Arrange
-        when(produtoService.buscarPorId(999L)).thenThrow(new ResourceNotFoundException("Produto não encontrado"));
+        when(produtoService.buscarPorId(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         mockMvc.perform(get("/api/produtos/999"))
@@ -118,7 +119,7 @@ class ProdutoControllerTest {
     void deveBuscarProdutosPorNomeComSucesso() throws Exception {
         // Arrange
         List<Produto> produtos = List.of(produto);
-        when(produtoService.buscarPorNome("Notebook")).thenReturn(produtos);
+        when(produtoService.buscarPorNome("Notebook", 50, null)).thenReturn(new Pagina<>(produtos, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/produtos/nome/Notebook"))
@@ -126,7 +127,7 @@ class ProdutoControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].nome").value("Notebook Dell Inspiron"));
 
-        verify(produtoService).buscarPorNome("Notebook");
+        verify(produtoService).buscarPorNome("Notebook", 50, null);
     }
 
     @Test
@@ -134,7 +135,7 @@ class ProdutoControllerTest {
     void deveBuscarProdutosPorFaixaPrecoComSucesso() throws Exception {
         // Arrange
         List<Produto> produtos = List.of(produto);
-        when(produtoService.buscarPorFaixaPreco(1000.0, 5000.0)).thenReturn(produtos);
+        when(produtoService.buscarPorFaixaPreco(1000.0, 5000.0, 50, null)).thenReturn(new Pagina<>(produtos, null));
 
         // Act & Assert
         mockMvc.perform(get("/api/produtos/preco")
@@ -144,14 +145,14 @@ class ProdutoControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].nome").value("Notebook Dell Inspiron"));
 
-        verify(produtoService).buscarPorFaixaPreco(1000.0, 5000.0);
+        verify(produtoService).buscarPorFaixaPreco(1000.0, 5000.0, 50, null);
     }
 
     @Test
     @DisplayName("Deve retornar 400 quando parâmetros de preço inválidos")
     void deveRetornar400QuandoParametrosDePrecoInvalidos() throws Exception {
         // Arrange
-        when(produtoService.buscarPorFaixaPreco(-100.0, 5000.0))
+        when(produtoService.buscarPorFaixaPreco(-100.0, 5000.0, 50, null))
                 .thenThrow(new BusinessException("Preço mínimo não pode ser negativo"));
 
         // Act & Assert
@@ -160,21 +161,54 @@ class ProdutoControllerTest {
                 .param("precoMaximo", "5000.0"))
                 .andExpect(status().isBadRequest());
 
-        verify(produtoService).buscarPorFaixaPreco(-100.0, 5000.0);
+        verify(produtoService).buscarPorFaixaPreco(-100.0, 5000.0, 50, null);
+    }
+
+    @Test
+    @DisplayName("Deve filtrar produtos por preço, categoria e estoque com sucesso")
+    void deveFiltrarProdutosComSucesso() throws Exception {
+        // Arrange
+        when(produtoService.filtrar(1000.0, null, CategoriaProduto.ELETRONICOS, true, 20, null))
+                .thenReturn(new Pagina<>(List.of(produto), null));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/produtos/filtro")
+                .param("precoMinimo", "1000.0")
+                .param("categoria", "ELETRONICOS")
+                .param("emEstoque", "true")
+                .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+
+        verify(produtoService).filtrar(1000.0, null, CategoriaProduto.ELETRONICOS, true, 20, null);
     }
 
     @Test
     @DisplayName("Deve contar total de produtos com sucesso")
     void deveContarTotalDeProdutosComSucesso() throws Exception {
         // Arrange
-        when(produtoService.contarProdutos()).thenReturn(15L);
+        when(produtoService.contarProdutos(false)).thenReturn(15L);
 
         // Act & Assert
         mockMvc.perform(get("/api/produtos/contar"))
                 .andExpect(status().isOk())
                 .andExpect(content().string("15"));
 
-        verify(produtoService).contarProdutos();
+        verify(produtoService).contarProdutos(false);
+    }
+
+    @Test
+    @DisplayName("Deve contar produtos pela estimativa do banco")
+    void deveContarProdutosAproximadamente() throws Exception {
+        // Arrange
+        when(produtoService.contarProdutos(true)).thenReturn(1_000_000L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/produtos/contar").param("aproximado", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1000000"));
+
+        verify(produtoService).contarProdutos(true);
     }
 
     @Test
@@ -279,6 +313,27 @@ class ProdutoControllerTest {
         verify(produtoService).atualizarEstoque(1L, 20);
     }
 
+    @Test
+    @DisplayName("Deve fracionar estoque do produto com sucesso")
+    void deveFracionarEstoqueDoProdutoComSucesso() throws Exception {
+        // Arrange
+        Produto produtoFracionado = new Produto();
+        produtoFracionado.setId(1L);
+        produtoFracionado.setFracoesEstoque(16);
+        produtoFracionado.setSomaFracoesEstoque(20);
+        when(produtoService.fracionarEstoque(1L, 16)).thenReturn(produtoFracionado);
+
+        // Act & Assert
+        mockMvc.perform(put("/api/produtos/1/estoque/fracoes")
+                .param("fracoes", "16"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fracoesEstoque").value(16))
+                .andExpect(jsonPath("$.quantidadeEstoque").value(20))
+                .andExpect(jsonPath("$.somaFracoesEstoque").doesNotExist());
+
+        verify(produtoService).fracionarEstoque(1L, 16);
+    }
+
     @Test
     @DisplayName("Deve retornar 404 quando produto não encontrado para atualização de estoque")
     void deveRetornar404QuandoProdutoNaoEncontradoParaAtualizacaoDeEstoque() throws Exception {
@@ -0,0 +1,35 @@
+package com.br.bootcamp.orders.model.dto;
+
+import com.br.bootcamp.orders.model.PedidoRecebido;
+import com.br.bootcamp.orders.model.enums.SituacaoRecebimento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("Testes para RecebimentoPedidoDTO")
+class RecebimentoPedidoDTOTest {
+
+    @Test
+    @DisplayName("Deve criar DTO a partir do pedido recebido sem expor o payload")
+    void deveCriarDtoAPartirDoPedidoRecebido() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime recebidoEm = LocalDateTime.of(2024, 1, 15, 10, 30);
+        LocalDateTime processadoEm = recebidoEm.plusSeconds(1);
+        PedidoRecebido recebido = new PedidoRecebido(id, new PedidoDTO(), SituacaoRecebimento.CONCLUIDO,
+                10L, null, recebidoEm, processadoEm);
+
+        RecebimentoPedidoDTO dto = RecebimentoPedidoDTO.de(recebido);
+
+        assertEquals(id, dto.getId());
+        assertEquals(SituacaoRecebimento.CONCLUIDO, dto.getSituacao());
+        assertEquals(10L, dto.getPedidoId());
+        assertNull(dto.getMensagem());
+        assertEquals(recebidoEm, dto.getRecebidoEm());
+        assertEquals(processadoEm, dto.getProcessadoEm());
+    }
+}
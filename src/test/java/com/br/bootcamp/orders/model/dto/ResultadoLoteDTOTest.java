@@ -0,0 +1,39 @@
+package com.br.bootcamp.orders.model.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para ResultadoLoteDTO")
+class ResultadoLoteDTOTest {
+
+    @Test
+    @DisplayName("Deve criar resultado de sucesso")
+    void deveCriarResultadoDeSucesso() {
+        ResultadoLoteDTO resultado = ResultadoLoteDTO.sucesso(3, 10L, new BigDecimal("150.00"));
+
+        assertEquals(3, resultado.getIndice());
+        assertTrue(resultado.isSucesso());
+        assertEquals(10L, resultado.getPedidoId());
+        assertEquals(new BigDecimal("150.00"), resultado.getValorTotal());
+        assertNull(resultado.getMensagem());
+    }
+
+    @Test
+    @DisplayName("Deve criar resultado de falha")
+    void deveCriarResultadoDeFalha() {
+        ResultadoLoteDTO resultado = ResultadoLoteDTO.falha(1, "Cliente não encontrado com ID: 99");
+
+        assertEquals(1, resultado.getIndice());
+        assertFalse(resultado.isSucesso());
+        assertNull(resultado.getPedidoId());
+        assertNull(resultado.getValorTotal());
+        assertEquals("Cliente não encontrado com ID: 99", resultado.getMensagem());
+    }
+}
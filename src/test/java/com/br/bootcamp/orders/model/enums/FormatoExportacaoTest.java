@@ -0,0 +1,25 @@
+package com.br.bootcamp.orders.model.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Testes para FormatoExportacao")
+class FormatoExportacaoTest {
+
+    @Test
+    @DisplayName("Deve retornar Content-Type e extensão de cada formato")
+    void deveRetornarTipoConteudoEExtensao() {
+        assertEquals("application/x-ndjson", FormatoExportacao.NDJSON.getTipoConteudo());
+        assertEquals("ndjson", FormatoExportacao.NDJSON.getExtensao());
+        assertEquals("text/csv", FormatoExportacao.CSV.getTipoConteudo());
+        assertEquals("csv", FormatoExportacao.CSV.getExtensao());
+    }
+
+    @Test
+    @DisplayName("Deve retornar descrição no toString")
+    void deveRetornarDescricaoNoToString() {
+        assertEquals("CSV", FormatoExportacao.CSV.toString());
+    }
+}
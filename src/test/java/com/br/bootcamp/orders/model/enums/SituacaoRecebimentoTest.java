@@ -0,0 +1,36 @@
+package com.br.bootcamp.orders.model.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para SituacaoRecebimento")
+class SituacaoRecebimentoTest {
+
+    @Test
+    @DisplayName("Deve retornar descrição correta para cada situação")
+    void deveRetornarDescricaoCorreta() {
+        assertEquals("Recebido", SituacaoRecebimento.RECEBIDO.getDescricao());
+        assertEquals("Processando", SituacaoRecebimento.PROCESSANDO.getDescricao());
+        assertEquals("Concluído", SituacaoRecebimento.CONCLUIDO.getDescricao());
+        assertEquals("Rejeitado", SituacaoRecebimento.REJEITADO.getDescricao());
+    }
+
+    @Test
+    @DisplayName("Deve identificar situações finais corretamente")
+    void deveIdentificarSituacoesFinaisCorretamente() {
+        assertFalse(SituacaoRecebimento.RECEBIDO.isFinal());
+        assertFalse(SituacaoRecebimento.PROCESSANDO.isFinal());
+        assertTrue(SituacaoRecebimento.CONCLUIDO.isFinal());
+        assertTrue(SituacaoRecebimento.REJEITADO.isFinal());
+    }
+
+    @Test
+    @DisplayName("Deve retornar descrição no toString")
+    void deveRetornarDescricaoNoToString() {
+        assertEquals("Concluído", SituacaoRecebimento.CONCLUIDO.toString());
+    }
+}
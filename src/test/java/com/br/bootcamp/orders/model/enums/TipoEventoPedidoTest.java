@@ -0,0 +1,23 @@
+package com.br.bootcamp.orders.model.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Testes para TipoEventoPedido")
+class TipoEventoPedidoTest {
+
+    @Test
+    @DisplayName("Deve retornar descrição correta para cada tipo de evento")
+    void deveRetornarDescricaoCorreta() {
+        assertEquals("Pedido Criado", TipoEventoPedido.PEDIDO_CRIADO.getDescricao());
+        assertEquals("Status Alterado", TipoEventoPedido.STATUS_ALTERADO.getDescricao());
+    }
+
+    @Test
+    @DisplayName("Deve retornar descrição no toString")
+    void deveRetornarDescricaoNoToString() {
+        assertEquals("Status Alterado", TipoEventoPedido.STATUS_ALTERADO.toString());
+    }
+}
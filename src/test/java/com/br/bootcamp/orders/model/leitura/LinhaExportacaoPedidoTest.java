@@ -0,0 +1,30 @@
+package com.br.bootcamp.orders.model.leitura;
+
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para LinhaExportacaoPedido")
+class LinhaExportacaoPedidoTest {
+
+    @Test
+    @DisplayName("Deve indicar se a linha traz um item, considerando pedidos sem itens")
+    void deveIndicarSeALinhaTrazItem() {
+        LocalDateTime data = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+        LinhaExportacaoPedido comItem = new LinhaExportacaoPedido(1L, 2L, data, StatusPedido.PENDENTE, TipoPagamento.PIX,
+                BigDecimal.TEN, 3L, 1, BigDecimal.TEN, BigDecimal.TEN);
+        LinhaExportacaoPedido semItem = new LinhaExportacaoPedido(1L, 2L, data, StatusPedido.PENDENTE, TipoPagamento.PIX,
+                BigDecimal.ZERO, null, null, null, null);
+
+        assertTrue(comItem.temItem());
+        assertFalse(semItem.temItem());
+    }
+}
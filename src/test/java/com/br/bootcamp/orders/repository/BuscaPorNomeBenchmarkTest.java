@@ -0,0 +1,119 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.IntegracaoPostgresTest;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.service.contracts.IProdutoService;
+import com.br.bootcamp.orders.service.util.BuscaPorNome;
+import com.br.bootcamp.orders.service.util.Pagina;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark da busca de produtos por parte do nome em um catálogo de {@link #TOTAL_PRODUTOS} produtos.
+ *
+ * <p>Compara, pela mediana de {@link #REPETICOES} execuções, a primeira página da busca atual
+ * (filtro {@code ILIKE} atendido pelo índice de trigramas e ordenação por semelhança) com a
+ * consulta que a busca usava antes ({@code upper(nome) LIKE upper(?)} ordenada por ID), que
+ * o índice não atende e percorre a tabela. O termo buscado é raro, como costuma ser em uma
+ * busca por nome. Os resultados são registrados no log; o teste falha se a busca atual não
+ * for ao menos {@link #GANHO_MINIMO} vezes mais rápida. Executado com {@code mvn test -Pcarga}.</p>
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark da busca de produtos por nome com índice de trigramas")
+class BuscaPorNomeBenchmarkTest extends IntegracaoPostgresTest {
+
+    private static final int TOTAL_PRODUTOS = 5_000_000;
+    private static final int PRODUTOS_BUSCADOS = 30;
+    private static final String TERMO = "Italiana";
+    private static final int REPETICOES = 7;
+    private static final double GANHO_MINIMO = 10.0;
+
+    /**
+     * Consulta derivada que a busca por nome usava antes dos índices de trigramas
+     */
+    private static final String CONSULTA_ANTERIOR = "SELECT id, nome FROM produtos "
+            + "WHERE upper(nome) LIKE upper(?) ESCAPE '\\' AND id > 0 ORDER BY id LIMIT 51";
+
+    @Autowired
+    private IProdutoService produtoService;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long ultimoIdAnterior;
+
+    @BeforeAll
+    void carregarProdutos() {
+        ultimoIdAnterior = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM produtos", Long.class);
+        jdbcTemplate.update("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "SELECT (ARRAY['Notebook','Mouse','Teclado','Monitor','Cadeira','Mesa','Fone','Caneta','Livro','Camiseta'])[1 + i % 10]"
+                + " || ' ' || (ARRAY['Dell','Gamer','Office','Sem Fio','Azul','Premium','Compacto','Básico'])[1 + (i / 10) % 8]"
+                + " || ' ' || i, 10.00, 100, 'OUTROS' FROM generate_series(1, ?) i", TOTAL_PRODUTOS - PRODUTOS_BUSCADOS);
+        jdbcTemplate.update("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "SELECT 'Cafeteira ' || ? || ' ' || i, 10.00, 100, 'OUTROS' FROM generate_series(1, ?) i",
+                TERMO, PRODUTOS_BUSCADOS);
+        jdbcTemplate.execute("ANALYZE produtos");
+    }
+
+    @AfterAll
+    void removerProdutos() {
+        jdbcTemplate.update("DELETE FROM produtos WHERE id > ?", ultimoIdAnterior);
+    }
+
+    @Test
+    @DisplayName("Deve buscar por nome pelo índice de trigramas mais rápido que a consulta anterior")
+    void deveBuscarPorNomeMaisRapidoQueConsultaAnterior() {
+        // Arrange
+        String padrao = BuscaPorNome.padrao(TERMO);
+        List<String> plano = jdbcTemplate.queryForList("EXPLAIN SELECT id, similarity(nome, '" + TERMO + "') "
+                + "FROM produtos WHERE nome ILIKE '" + padrao + "'", String.class);
+
+        // Act
+        long[] atuais = new long[REPETICOES];
+        long[] anteriores = new long[REPETICOES];
+        Pagina<Produto> pagina = null;
+        for (int i = 0; i < REPETICOES; i++) {
+            long inicio = System.nanoTime();
+            pagina = produtoService.buscarPorNome(TERMO, 50, null);
+            atuais[i] = System.nanoTime() - inicio;
+
+            inicio = System.nanoTime();
+            jdbcTemplate.queryForList(CONSULTA_ANTERIOR, padrao);
+            anteriores[i] = System.nanoTime() - inicio;
+        }
+
+        // Assert
+        double atual = mediana(atuais);
+        double anterior = mediana(anteriores);
+        log.info(String.format("%nBusca por nome em %d produtos: atual %.2f ms, anterior %.2f ms (%.1fx)",
+                produtoRepository.count(), atual, anterior, anterior / atual));
+        assertEquals(PRODUTOS_BUSCADOS, pagina.itens().size());
+        assertTrue(plano.stream().anyMatch(linha -> linha.contains("idx_produtos_nome_trgm")), String.join("\n", plano));
+        assertTrue(anterior >= atual * GANHO_MINIMO,
+                String.format("atual %.2f ms, anterior %.2f ms", atual, anterior));
+    }
+
+    private static double mediana(long[] tempos) {
+        long[] ordenados = tempos.clone();
+        Arrays.sort(ordenados);
+        return ordenados[ordenados.length / 2] / 1e6;
+    }
+}
@@ -0,0 +1,133 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.IntegracaoPostgresTest;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes de integração para os contadores de linhas mantidos pelo banco")
+class ContadorRepositoryTest extends IntegracaoPostgresTest {
+
+    /**
+     * Mês sem partição própria até o teste de movimentação criá-la
+     */
+    private static final LocalDate MES_SEM_PARTICAO = LocalDate.of(2033, 7, 1);
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long clienteId;
+
+    @BeforeEach
+    void setUp() {
+        clienteId = jdbcTemplate.queryForObject("INSERT INTO clientes (nome, email) VALUES ('Cliente contadores', ?) "
+                + "RETURNING id", Long.class, "contadores-" + System.nanoTime() + "@example.com");
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar inclusões, mudanças de status e exclusões em lote")
+    void deveAcompanharGravacoesEmLote() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "SELECT 'Produto contador ' || n, 10.00, 5, 'OUTROS' FROM generate_series(1, 250) n");
+
+        // Act
+        inserirPedidos(300, "PENDENTE", LocalDate.of(2024, 3, 1));
+        jdbcTemplate.update("UPDATE pedidos SET status = 'APROVADO' WHERE cliente_id = ? AND id % 3 = 0", clienteId);
+        jdbcTemplate.update("UPDATE pedidos SET status = 'CANCELADO' WHERE cliente_id = ? AND id % 5 = 0", clienteId);
+        jdbcTemplate.update("DELETE FROM pedidos WHERE cliente_id = ? AND id % 7 = 0", clienteId);
+        jdbcTemplate.update("DELETE FROM produtos WHERE nome LIKE 'Produto contador %' AND id % 2 = 0");
+
+        // Assert
+        assertContadoresConferem();
+    }
+
+    @Test
+    @DisplayName("Deve desfazer os contadores junto com a transação revertida")
+    void deveDesfazerContadoresNaTransacaoRevertida() {
+        // Arrange
+        long pedidosAntes = pedidoRepository.contar(ContadorRepository.PEDIDOS);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            inserirPedidos(50, "PENDENTE", LocalDate.of(2024, 3, 1));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(pedidosAntes, pedidoRepository.contar(ContadorRepository.PEDIDOS));
+        assertContadoresConferem();
+    }
+
+    @Test
+    @DisplayName("Não deve contar duas vezes os pedidos movidos para uma partição nova")
+    void naoDeveContarPedidosMovidosEntreParticoes() {
+        // Arrange
+        inserirPedidos(40, "ENVIADO", MES_SEM_PARTICAO);
+
+        // Act
+        jdbcTemplate.queryForObject("SELECT criar_particao_pedidos(?)", Boolean.class, MES_SEM_PARTICAO);
+
+        // Assert
+        assertContadoresConferem();
+    }
+
+    @Test
+    @DisplayName("Deve estimar as linhas da tabela particionada pela soma das partições")
+    void deveEstimarLinhasDaTabelaParticionada() {
+        // Arrange
+        inserirPedidos(500, "ENTREGUE", LocalDate.of(2024, 3, 1));
+        jdbcTemplate.execute("ANALYZE pedidos");
+        jdbcTemplate.execute("ANALYZE clientes");
+
+        // Act
+        long pedidos = pedidoRepository.contarAproximado(ContadorRepository.PEDIDOS);
+        long clientes = clienteRepository.contarAproximado(ContadorRepository.CLIENTES);
+
+        // Assert
+        assertEquals(pedidoRepository.count(), pedidos);
+        assertEquals(clienteRepository.count(), clientes);
+        assertTrue(pedidos >= 500);
+    }
+
+    private void inserirPedidos(int quantidade, String status, LocalDate mes) {
+        jdbcTemplate.update("INSERT INTO pedidos (cliente_id, data_pedido, status, tipo_pagamento, valor_total) "
+                + "SELECT ?, ?::timestamp + n * INTERVAL '1 minute', ?, 'PIX', 20.00 FROM generate_series(1, ?) n",
+                clienteId, mes.atStartOfDay(), status, quantidade);
+    }
+
+    private void assertContadoresConferem() {
+        assertEquals(produtoRepository.count(), produtoRepository.contar(ContadorRepository.PRODUTOS));
+        assertEquals(clienteRepository.count(), clienteRepository.contar(ContadorRepository.CLIENTES));
+        assertEquals(pedidoRepository.count(), pedidoRepository.contar(ContadorRepository.PEDIDOS));
+
+        Map<String, Long> porStatus = pedidoRepository.contarPorGrupo(ContadorRepository.PEDIDOS);
+        for (StatusPedido status : StatusPedido.values()) {
+            Long esperado = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pedidos WHERE status = ?",
+                    Long.class, status.name());
+            assertEquals(esperado, porStatus.getOrDefault(status.name(), 0L), status.name());
+        }
+    }
+}
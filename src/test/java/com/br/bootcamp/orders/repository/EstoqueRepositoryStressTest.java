@@ -0,0 +1,155 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.IntegracaoPostgresTest;
+import com.br.bootcamp.orders.model.ItemPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.util.ReservaEstoque;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de estresse das reservas concorrentes de um mesmo produto, comparando o estoque
+ * em uma única linha com o estoque fracionado.
+ */
+@Slf4j
+@Tag("stress")
+@DisplayName("Testes de estresse para EstoqueRepository")
+class EstoqueRepositoryStressTest extends IntegracaoPostgresTest {
+
+    private static final int THREADS = 8;
+    private static final int RESERVAS_POR_THREAD = 250;
+    private static final int FRACOES = 16;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private ReservaEstoque reservaEstoque;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Não deve vender além do estoque fracionado sob concorrência")
+    void naoDeveVenderAlemDoEstoqueFracionado() throws Exception {
+        // Arrange
+        Produto produto = criarProduto(500, FRACOES);
+
+        // Act
+        int reservados = reservarConcorrentemente(produto);
+
+        // Assert
+        assertTrue(reservados <= 500);
+        assertEquals(500 - reservados, estoqueVisivel(produto.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve comparar a vazão do estoque fracionado com a linha única")
+    void deveCompararVazaoDoEstoqueFracionadoComLinhaUnica() throws Exception {
+        // Arrange
+        int total = THREADS * RESERVAS_POR_THREAD;
+        Produto linhaUnica = criarProduto(2 * total, 1);
+        Produto fracionado = criarProduto(2 * total, FRACOES);
+
+        // Act
+        long inicioLinhaUnica = System.nanoTime();
+        int reservadosLinhaUnica = reservarConcorrentemente(linhaUnica);
+        double segundosLinhaUnica = (System.nanoTime() - inicioLinhaUnica) / 1e9;
+
+        long inicioFracionado = System.nanoTime();
+        int reservadosFracionado = reservarConcorrentemente(fracionado);
+        double segundosFracionado = (System.nanoTime() - inicioFracionado) / 1e9;
+
+        // Assert
+        log.info("Reservas/s - linha única: {}, {} frações: {}",
+                Math.round(reservadosLinhaUnica / segundosLinhaUnica), FRACOES,
+                Math.round(reservadosFracionado / segundosFracionado));
+        assertEquals(total, reservadosLinhaUnica);
+        assertEquals(total, reservadosFracionado);
+        assertEquals(total, estoqueVisivel(linhaUnica.getId()));
+        assertEquals(total, estoqueVisivel(fracionado.getId()));
+    }
+
+    /**
+     * Dispara reservas de uma unidade em paralelo. Cada transação mantém a trava por
+     * alguns milissegundos, simulando a gravação do pedido antes do commit.
+     */
+    private int reservarConcorrentemente(Produto produto) throws Exception {
+        AtomicInteger reservados = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                tarefas.add(executor.submit(() -> {
+                    for (int i = 0; i < RESERVAS_POR_THREAD; i++) {
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> {
+                                reservaEstoque.reservar(criarPedido(produto));
+                                jdbcTemplate.queryForObject("SELECT pg_sleep(0.002)::text", String.class);
+                            });
+                            reservados.incrementAndGet();
+                        } catch (BusinessException e) {
+                            // Estoque esgotado
+                        }
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return reservados.get();
+    }
+
+    private Produto criarProduto(int estoque, int fracoes) {
+        Produto produto = new Produto();
+        produto.setNome("Produto promocional");
+        produto.setPreco(new BigDecimal("9.90"));
+        produto.setQuantidadeEstoque(estoque);
+        produto.setCategoria(CategoriaProduto.OUTROS);
+        Produto salvo = produtoRepository.save(produto);
+        if (fracoes > 1) {
+            transactionTemplate.executeWithoutResult(status -> produtoRepository.fracionarEstoque(salvo.getId(), fracoes));
+        }
+        return salvo;
+    }
+
+    private Pedido criarPedido(Produto produto) {
+        Pedido pedido = new Pedido();
+        pedido.setStatus(StatusPedido.PENDENTE);
+        ItemPedido item = new ItemPedido();
+        item.setProduto(produto);
+        item.setQuantidade(1);
+        pedido.setItens(List.of(item));
+        return pedido;
+    }
+
+    private int estoqueVisivel(Long produtoId) {
+        return produtoRepository.findById(produtoId).orElseThrow().getQuantidadeEstoque();
+    }
+}
@@ -0,0 +1,94 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.IntegracaoPostgresTest;
+import com.br.bootcamp.orders.model.EventoPedido;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoEventoPedido;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes de integração para EventoPedidoRepository")
+class EventoPedidoRepositoryTest extends IntegracaoPostgresTest {
+
+    @Autowired
+    private EventoPedidoRepository eventoPedidoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        eventoPedidoRepository.deleteAllInBatch();
+        eventoPedidoRepository.saveAll(LongStream.rangeClosed(1, 4)
+                .mapToObj(pedidoId -> new EventoPedido(null, TipoEventoPedido.PEDIDO_CRIADO, pedidoId, 1L,
+                        StatusPedido.PENDENTE, null, null, LocalDateTime.now()))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Publicadores concorrentes devem travar lotes disjuntos de eventos")
+    void publicadoresConcorrentesDevemTravarLotesDisjuntos() throws Exception {
+        // Arrange
+        CountDownLatch primeiroTravou = new CountDownLatch(1);
+        CountDownLatch segundoTerminou = new CountDownLatch(1);
+
+        // Act
+        CompletableFuture<List<Long>> primeiro = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            List<Long> ids = ids(eventoPedidoRepository.travarPendentes(2));
+            primeiroTravou.countDown();
+            aguardar(segundoTerminou);
+            return ids;
+        }));
+        aguardar(primeiroTravou);
+        List<Long> segundo = transactionTemplate.execute(status -> ids(eventoPedidoRepository.travarPendentes(10)));
+        segundoTerminou.countDown();
+
+        // Assert
+        Set<Long> todos = new HashSet<>(primeiro.get());
+        todos.addAll(segundo);
+        assertEquals(2, primeiro.get().size());
+        assertEquals(2, segundo.size());
+        assertEquals(4, todos.size());
+        assertTrue(primeiro.get().get(0) < segundo.get(0));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a criação do evento pendente mais antigo")
+    void deveRetornarCriacaoDoEventoPendenteMaisAntigo() {
+        // Act
+        LocalDateTime maisAntigo = eventoPedidoRepository.buscarCriacaoMaisAntiga();
+        eventoPedidoRepository.deleteAllInBatch();
+
+        // Assert
+        assertTrue(maisAntigo.isBefore(LocalDateTime.now().plusSeconds(1)));
+        assertNull(eventoPedidoRepository.buscarCriacaoMaisAntiga());
+    }
+
+    private static List<Long> ids(List<EventoPedido> eventos) {
+        return eventos.stream().map(EventoPedido::getId).toList();
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.IntegracaoPostgresTest;
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.ItemPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.service.contracts.IExportacaoPedidoService;
+import com.br.bootcamp.orders.service.contracts.IPedidoService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Benchmark das consultas por período e das inclusões de pedidos à medida que o histórico cresce.
+ *
+ * <p>O histórico é carregado em etapas, um mês particionado de cada vez, para trás a partir
+ * do mês medido. Ao fim de cada etapa são medidas, pela mediana de {@link #REPETICOES}
+ * execuções, a primeira página da listagem do mês medido, a exportação do mês inteiro e a
+ * inclusão de um lote de pedidos nele. Com o particionamento, as consultas leem apenas as
+ * partições do mês e as inclusões mantêm apenas os índices da partição do mês, então os
+ * tempos não devem acompanhar o tamanho do histórico. Os resultados são registrados no log;
+ * o teste falha se algum tempo da última etapa passar de {@link #CRESCIMENTO_MAXIMO} vezes o
+ * da primeira. Executado com {@code mvn test -Pcarga}.</p>
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark das tabelas de pedidos particionadas com o crescimento do histórico")
+class ParticionamentoPedidosBenchmarkTest extends IntegracaoPostgresTest {
+
+    /**
+     * Meses de histórico ao fim de cada etapa
+     */
+    private static final int[] ETAPAS = {1, 12, 48};
+    private static final int REPETICOES = 7;
+    private static final int LOTE_INCLUSAO = 500;
+    private static final double CRESCIMENTO_MAXIMO = 3.0;
+
+    // Meses exclusivos do teste, para não misturar com os pedidos dos outros testes
+    private static final YearMonth MES_MEDIDO = YearMonth.of(2045, 12);
+    private static final YearMonth PRIMEIRO_MES = MES_MEDIDO.minusMonths(ETAPAS[ETAPAS.length - 1] - 1);
+
+    @Autowired
+    private IPedidoService pedidoService;
+
+    @Autowired
+    private IExportacaoPedidoService exportacaoPedidoService;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Cliente cliente;
+    private Produto produto;
+
+    @BeforeAll
+    void criarCadastros() {
+        cliente = new Cliente();
+        cliente.setNome("Cliente particionamento");
+        cliente.setEmail("particionamento-" + System.nanoTime() + "@example.com");
+        cliente = clienteRepository.save(cliente);
+        Long produtoId = jdbcTemplate.queryForObject("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "VALUES ('Produto particionamento', 10.00, 0, 'OUTROS') RETURNING id", Long.class);
+        produto = produtoRepository.findById(produtoId).orElseThrow();
+    }
+
+    @AfterAll
+    void removerPedidos() {
+        jdbcTemplate.update("DELETE FROM pedidos WHERE data_pedido >= ? AND data_pedido < ?",
+                PRIMEIRO_MES.atDay(1).atStartOfDay(), MES_MEDIDO.plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("Deve manter consultas por período e inclusões estáveis com o crescimento do histórico")
+    void deveManterTemposEstaveisComCrescimentoDoHistorico() throws Exception {
+        // Act
+        List<Medicao> medicoes = new ArrayList<>();
+        int carregados = 0;
+        for (int meses : ETAPAS) {
+            for (; carregados < meses; carregados++) {
+                carregarMes(MES_MEDIDO.minusMonths(carregados));
+            }
+            jdbcTemplate.execute("ANALYZE pedidos");
+            jdbcTemplate.execute("ANALYZE itens_pedido");
+            medicoes.add(medir(meses));
+        }
+
+        // Assert
+        log.info(String.format("%n%-10s %12s %12s %18s %16s", "Histórico", "Pedidos", "Página (ms)",
+                "Exportação (ms)", "Inclusão (ms)"));
+        medicoes.forEach(medicao -> log.info(medicao.formatar()));
+        Medicao primeira = medicoes.get(0);
+        Medicao ultima = medicoes.get(medicoes.size() - 1);
+        assertTrue(ultima.pagina() <= primeira.pagina() * CRESCIMENTO_MAXIMO, ultima.formatar());
+        assertTrue(ultima.exportacao() <= primeira.exportacao() * CRESCIMENTO_MAXIMO, ultima.formatar());
+        assertTrue(ultima.inclusao() <= primeira.inclusao() * CRESCIMENTO_MAXIMO, ultima.formatar());
+    }
+
+    /**
+     * Cria as partições do mês e o preenche com um pedido a cada dois minutos, com um item cada
+     */
+    private void carregarMes(YearMonth mes) {
+        LocalDateTime inicio = mes.atDay(1).atStartOfDay();
+        LocalDateTime fim = mes.plusMonths(1).atDay(1).atStartOfDay();
+        pedidoRepository.criarParticoes(mes.atDay(1), mes.atDay(1));
+        jdbcTemplate.update("INSERT INTO pedidos (cliente_id, data_pedido, status, tipo_pagamento, valor_total) "
+                + "SELECT ?, d, 'ENTREGUE', 'PIX', 20.00 "
+                + "FROM generate_series(?::timestamp, ?::timestamp - INTERVAL '1 second', INTERVAL '2 minutes') d",
+                cliente.getId(), inicio, fim);
+        jdbcTemplate.update("INSERT INTO itens_pedido (pedido_id, data_pedido, produto_id, quantidade, preco_unitario, subtotal) "
+                + "SELECT id, data_pedido, ?, 2, 10.00, 20.00 FROM pedidos WHERE data_pedido >= ? AND data_pedido < ?",
+                produto.getId(), inicio, fim);
+    }
+
+    private Medicao medir(int meses) throws Exception {
+        long[] paginas = new long[REPETICOES];
+        long[] exportacoes = new long[REPETICOES];
+        long[] inclusoes = new long[REPETICOES];
+        for (int i = 0; i < REPETICOES; i++) {
+            long inicio = System.nanoTime();
+            pedidoService.buscarPorPeriodo(MES_MEDIDO.atDay(1), MES_MEDIDO.atEndOfMonth(), 50, null);
+            paginas[i] = System.nanoTime() - inicio;
+
+            inicio = System.nanoTime();
+            exportacaoPedidoService.exportar(MES_MEDIDO.atDay(1), MES_MEDIDO.atEndOfMonth(), FormatoExportacao.NDJSON,
+                    OutputStream.nullOutputStream());
+            exportacoes[i] = System.nanoTime() - inicio;
+
+            List<Pedido> lote = criarLote();
+            inicio = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> pedidoRepository.saveAll(lote));
+            inclusoes[i] = System.nanoTime() - inicio;
+
+            // O lote incluído é removido para que o mês medido tenha o mesmo tamanho em todas as etapas
+            jdbcTemplate.update("DELETE FROM pedidos WHERE data_pedido >= ? AND data_pedido < ? AND tipo_pagamento = 'CUPOM'",
+                    MES_MEDIDO.atDay(1).atStartOfDay(), MES_MEDIDO.plusMonths(1).atDay(1).atStartOfDay());
+        }
+        Long pedidos = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pedidos WHERE data_pedido >= ? AND data_pedido < ?",
+                Long.class, PRIMEIRO_MES.atDay(1).atStartOfDay(), MES_MEDIDO.plusMonths(1).atDay(1).atStartOfDay());
+        return new Medicao(meses, pedidos, mediana(paginas), mediana(exportacoes), mediana(inclusoes));
+    }
+
+    private List<Pedido> criarLote() {
+        LocalDateTime data = MES_MEDIDO.atDay(15).atTime(12, 0);
+        List<Pedido> lote = new ArrayList<>(LOTE_INCLUSAO);
+        for (int i = 0; i < LOTE_INCLUSAO; i++) {
+            Pedido pedido = new Pedido(null, cliente, data.plusSeconds(i), StatusPedido.PENDENTE, TipoPagamento.CUPOM,
+                    new BigDecimal("10.00"), new ArrayList<>());
+            ItemPedido item = new ItemPedido();
+            item.setPedido(pedido);
+            item.setProduto(produto);
+            item.setQuantidade(1);
+            item.setPrecoUnitario(new BigDecimal("10.00"));
+            item.setSubtotal(new BigDecimal("10.00"));
+            pedido.getItens().add(item);
+            lote.add(pedido);
+        }
+        return lote;
+    }
+
+    private static double mediana(long[] tempos) {
+        long[] ordenados = tempos.clone();
+        Arrays.sort(ordenados);
+        return ordenados[ordenados.length / 2] / 1e6;
+    }
+
+    private record Medicao(int meses, long pedidos, double pagina, double exportacao, double inclusao) {
+
+        String formatar() {
+            return String.format("%-10s %12d %12.2f %18.2f %16.2f", meses + " meses", pedidos, pagina, exportacao, inclusao);
+        }
+    }
+}
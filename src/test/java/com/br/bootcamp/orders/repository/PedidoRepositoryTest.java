@@ -0,0 +1,339 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.IntegracaoPostgresTest;
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.model.leitura.DetalhePedido;
+import com.br.bootcamp.orders.model.leitura.ResumoPedido;
+import com.br.bootcamp.orders.service.contracts.IPedidoService;
+import com.br.bootcamp.orders.service.util.Pagina;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes de integração para as consultas de leitura de PedidoRepository")
+class PedidoRepositoryTest extends IntegracaoPostgresTest {
+
+    private static final int TOTAL_PEDIDOS = 25;
+
+    /**
+     * Cópia de idx_pedidos_data_pedido_id em uma partição (por exemplo, pedidos_padrao_data_pedido_id_idx)
+     */
+    private static final Pattern INDICE_DATA = Pattern.compile("pedidos_(padrao|\\d{4}_\\d{2})_data_pedido_id_idx");
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private IPedidoService pedidoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private List<Pedido> pedidos;
+
+    @BeforeEach
+    void setUp() {
+        pedidoRepository.deleteAllInBatch();
+        Cliente cliente = new Cliente();
+        cliente.setNome("Cliente paginação");
+        cliente.setEmail("paginacao-" + System.nanoTime() + "@example.com");
+        Cliente salvo = clienteRepository.save(cliente);
+
+        // Poucas datas distintas, para que várias páginas terminem no meio de um empate
+        LocalDateTime base = LocalDateTime.of(2024, 5, 10, 12, 0);
+        pedidos = pedidoRepository.saveAll(IntStream.range(0, TOTAL_PEDIDOS)
+                .mapToObj(i -> new Pedido(null, salvo, base.plusMinutes(i % 4),
+                        i % 2 == 0 ? StatusPedido.PENDENTE : StatusPedido.APROVADO, TipoPagamento.PIX,
+                        new BigDecimal("10.00"), new ArrayList<>()))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os pedidos uma única vez, dos mais recentes para os mais antigos")
+    void devePercorrerTodosOsPedidosUmaUnicaVez() {
+        // Arrange
+        List<Long> esperados = pedidos.stream()
+                .sorted(Comparator.comparing(Pedido::getDataPedido).thenComparing(Pedido::getId).reversed())
+                .map(Pedido::getId)
+                .toList();
+
+        // Act
+        List<Long> percorridos = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            Pagina<ResumoPedido> pagina = pedidoService.listarTodos(7, cursor);
+            pagina.itens().forEach(pedido -> percorridos.add(pedido.id()));
+            cursor = pagina.proximoCursor();
+            paginas++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(esperados, percorridos);
+        assertEquals(4, paginas);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer apenas os pedidos do status informado")
+    void devePercorrerPedidosDoStatus() {
+        // Act
+        List<ResumoPedido> percorridos = new ArrayList<>();
+        String cursor = null;
+        do {
+            Pagina<ResumoPedido> pagina = pedidoService.buscarPorStatus(StatusPedido.APROVADO, 5, cursor);
+            percorridos.addAll(pagina.itens());
+            cursor = pagina.proximoCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(TOTAL_PEDIDOS / 2, percorridos.size());
+        assertTrue(percorridos.stream().allMatch(pedido -> pedido.status() == StatusPedido.APROVADO));
+        assertEquals(percorridos.size(), percorridos.stream().map(ResumoPedido::id).distinct().count());
+    }
+
+    @Test
+    @DisplayName("Deve posicionar a página seguinte pelo índice, sem ler as páginas anteriores")
+    void devePosicionarPaginaSeguintePeloIndice() {
+        // Act
+        String texto = plano("SELECT * FROM pedidos WHERE status = 'PENDENTE' "
+                + "AND data_pedido <= '2024-05-10 12:02' AND (data_pedido < '2024-05-10 12:02' OR id < 10) "
+                + "ORDER BY data_pedido DESC, id DESC LIMIT 51");
+
+        // Assert
+        assertTrue(texto.contains("status_data_pedido_id_idx"), texto);
+        assertTrue(texto.contains("Index Cond") && texto.contains("data_pedido <="), texto);
+        assertFalse(texto.contains("Sort"), texto);
+    }
+
+    @Test
+    @DisplayName("Deve incluir os pedidos do último instante do dia na busca por data")
+    void deveIncluirPedidosDoUltimoInstanteDoDia() {
+        // Arrange
+        Pedido ultimo = pedidoRepository.save(new Pedido(null, pedidos.get(0).getCliente(),
+                LocalDateTime.of(2024, 5, 10, 23, 59, 59, 500_000_000), StatusPedido.PENDENTE, TipoPagamento.PIX,
+                new BigDecimal("10.00"), new ArrayList<>()));
+        pedidoRepository.save(new Pedido(null, pedidos.get(0).getCliente(), LocalDateTime.of(2024, 5, 11, 0, 0),
+                StatusPedido.PENDENTE, TipoPagamento.PIX, new BigDecimal("10.00"), new ArrayList<>()));
+
+        // Act
+        Pagina<ResumoPedido> dia = pedidoService.buscarPorData(LocalDate.of(2024, 5, 10), 100, null);
+        Pagina<ResumoPedido> periodo = pedidoService.buscarPorPeriodo(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 10), 100, null);
+
+        // Assert
+        assertEquals(TOTAL_PEDIDOS + 1, dia.itens().size());
+        assertEquals(ultimo.getId(), dia.itens().get(0).id());
+        assertEquals(TOTAL_PEDIDOS + 1, periodo.itens().size());
+    }
+
+    @Test
+    @DisplayName("Deve buscar os pedidos de uma data pelo índice de data, sem ordenar")
+    void deveBuscarPedidosDaDataPeloIndice() {
+        // Act
+        String texto = plano("SELECT * FROM pedidos WHERE data_pedido >= '2024-05-10' AND data_pedido < '2024-05-11' "
+                + "ORDER BY data_pedido DESC, id DESC LIMIT 51");
+
+        // Assert
+        assertTrue(INDICE_DATA.matcher(texto).find(), texto);
+        assertTrue(texto.contains("Index Cond") && texto.contains("data_pedido >=") && texto.contains("data_pedido <"), texto);
+        assertFalse(texto.contains("Sort"), texto);
+    }
+
+    @Test
+    @DisplayName("Deve buscar a página seguinte de um período pelo índice a partir do cursor")
+    void deveBuscarPaginaSeguinteDoPeriodoPeloIndice() {
+        // Act
+        String texto = plano("SELECT * FROM pedidos WHERE data_pedido >= '2024-05-01' AND data_pedido < '2024-06-01' "
+                + "AND data_pedido <= '2024-05-10 12:02' AND (data_pedido < '2024-05-10 12:02' OR id < 10) "
+                + "ORDER BY data_pedido DESC, id DESC LIMIT 51");
+
+        // Assert
+        assertTrue(INDICE_DATA.matcher(texto).find(), texto);
+        assertTrue(texto.contains("Index Cond") && texto.contains("data_pedido <="), texto);
+        assertFalse(texto.contains("Sort"), texto);
+    }
+
+    @Test
+    @DisplayName("Deve buscar os pedidos de um cliente no período pelo índice composto")
+    void deveBuscarPedidosDoClienteNoPeriodoPeloIndiceComposto() {
+        // Act
+        String texto = plano("SELECT * FROM pedidos WHERE cliente_id = 1 "
+                + "AND data_pedido >= '2024-05-01' AND data_pedido < '2024-06-01' "
+                + "ORDER BY data_pedido DESC, id DESC LIMIT 51");
+
+        // Assert
+        assertTrue(texto.contains("cliente_id_data_pedido_id_idx"), texto);
+        assertTrue(texto.contains("Index Cond") && texto.contains("data_pedido >="), texto);
+        assertFalse(texto.contains("Sort"), texto);
+    }
+
+    @Test
+    @DisplayName("Não deve restringir a varredura do índice quando a data é convertida na consulta")
+    void naoDeveRestringirVarreduraComDataConvertida() {
+        // Act
+        String texto = plano("SELECT * FROM pedidos WHERE CAST(data_pedido AS date) = '2024-05-10' "
+                + "ORDER BY data_pedido DESC, id DESC LIMIT 51");
+
+        // Assert
+        assertFalse(texto.contains("Index Cond"), texto);
+        assertTrue(texto.contains("Filter"), texto);
+    }
+
+    @Test
+    @DisplayName("Deve mover para a nova partição os pedidos e itens do mês que estavam na partição padrão")
+    void deveMoverPedidosDaParticaoPadraoParaNovaParticao() {
+        // Arrange
+        Long produtoId = jdbcTemplate.queryForObject("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "VALUES ('Produto partição', 5.00, 10, 'OUTROS') RETURNING id", Long.class);
+        jdbcTemplate.update("INSERT INTO itens_pedido (pedido_id, data_pedido, produto_id, quantidade, preco_unitario, subtotal) "
+                + "VALUES (?, ?, ?, 1, 5.00, 5.00)", pedidos.get(0).getId(), pedidos.get(0).getDataPedido(), produtoId);
+
+        // Act
+        pedidoRepository.criarParticoes(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31));
+
+        // Assert
+        assertEquals(TOTAL_PEDIDOS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pedidos_2024_05", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM itens_pedido_2024_05", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pedidos_padrao "
+                + "WHERE data_pedido >= '2024-05-01' AND data_pedido < '2024-06-01'", Integer.class));
+        assertEquals(1, pedidoService.buscarDetalhe(pedidos.get(0).getId()).itens().size());
+        assertEquals(0, pedidoRepository.criarParticoes(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31)));
+    }
+
+    @Test
+    @DisplayName("Deve ler apenas as partições de pedidos e itens do período consultado")
+    void deveLerApenasParticoesDoPeriodo() {
+        // Arrange
+        pedidoRepository.criarParticoes(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 6, 1));
+
+        // Act
+        String listagem = plano("SELECT * FROM pedidos WHERE data_pedido >= '2024-05-01' AND data_pedido < '2024-06-01' "
+                + "ORDER BY data_pedido DESC, id DESC LIMIT 51");
+        String exportacao = plano("SELECT * FROM pedidos p LEFT JOIN itens_pedido i ON i.pedido_id = p.id "
+                + "AND i.data_pedido >= '2024-05-01' AND i.data_pedido < '2024-06-01' "
+                + "WHERE p.data_pedido >= '2024-05-01' AND p.data_pedido < '2024-06-01' ORDER BY p.data_pedido, p.id, i.id");
+
+        // Assert
+        for (String texto : List.of(listagem, exportacao)) {
+            assertTrue(texto.contains("pedidos_2024_05"), texto);
+            assertFalse(texto.contains("pedidos_2024_04") || texto.contains("pedidos_2024_06"), texto);
+            assertFalse(texto.contains("pedidos_padrao"), texto);
+        }
+        assertTrue(exportacao.contains("itens_pedido_2024_05"), exportacao);
+    }
+
+    @Test
+    @DisplayName("Deve listar cada página com uma única instrução SQL, sem carregar entidades")
+    void deveListarCadaPaginaComUmaUnicaInstrucao() {
+        // Arrange
+        Statistics estatisticas = estatisticasZeradas();
+
+        // Act
+        Pagina<ResumoPedido> primeira = pedidoService.listarTodos(10, null);
+        Pagina<ResumoPedido> segunda = pedidoService.buscarPorCliente(pedidos.get(0).getCliente().getId(), 10, primeira.proximoCursor());
+
+        // Assert
+        assertEquals(10, segunda.itens().size());
+        assertEquals("Cliente paginação", segunda.itens().get(0).clienteNome());
+        assertEquals(2, estatisticas.getPrepareStatementCount());
+        assertEquals(0, estatisticas.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Deve ler o detalhe do pedido com cliente, itens e produtos em uma única instrução SQL")
+    void deveLerDetalheComUmaUnicaInstrucao() {
+        // Arrange
+        Long pedidoId = pedidos.get(0).getId();
+        Long produtoId = jdbcTemplate.queryForObject("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "VALUES ('Produto detalhe', 5.00, 10, 'OUTROS') RETURNING id", Long.class);
+        LocalDateTime dataPedido = pedidos.get(0).getDataPedido();
+        jdbcTemplate.update("INSERT INTO itens_pedido (pedido_id, data_pedido, produto_id, quantidade, preco_unitario, subtotal) "
+                + "VALUES (?, ?, ?, 1, 5.00, 5.00), (?, ?, ?, 1, 5.00, 5.00)",
+                pedidoId, dataPedido, produtoId, pedidoId, dataPedido, produtoId);
+        Statistics estatisticas = estatisticasZeradas();
+
+        // Act
+        DetalhePedido detalhe = pedidoService.buscarDetalhe(pedidoId);
+
+        // Assert
+        assertEquals(2, detalhe.itens().size());
+        assertEquals("Produto detalhe", detalhe.itens().get(0).produtoNome());
+        assertEquals("Cliente paginação", detalhe.cliente().nome());
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o pedido por ID pronto para serializar fora da transação")
+    void deveDevolverPedidoProntoParaSerializarForaDaTransacao() throws Exception {
+        // Arrange
+        Long pedidoId = pedidos.get(0).getId();
+        Long produtoId = jdbcTemplate.queryForObject("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "VALUES ('Produto serializado', 5.00, 10, 'OUTROS') RETURNING id", Long.class);
+        jdbcTemplate.update("INSERT INTO itens_pedido (pedido_id, data_pedido, produto_id, quantidade, preco_unitario, subtotal) "
+                + "VALUES (?, ?, ?, 1, 5.00, 5.00)", pedidoId, pedidos.get(0).getDataPedido(), produtoId);
+
+        // Act
+        Pedido pedido = pedidoRepository.findById(pedidoId).orElseThrow();
+        String json = objectMapper.writeValueAsString(pedido);
+
+        // Assert
+        assertTrue(Hibernate.isInitialized(pedido.getItens()));
+        assertTrue(Hibernate.isInitialized(pedido.getItens().get(0).getProduto()));
+        assertTrue(json.contains("Produto serializado"), json);
+    }
+
+    /**
+     * Plano da consulta com a varredura sequencial desabilitada, para que o resultado não
+     * dependa do volume da tabela de teste: se o plano ainda não usar o índice, é porque a
+     * consulta não permite.
+     */
+    private String plano(String sql) {
+        List<String> plano = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        });
+        return String.join("\n", plano);
+    }
+
+    private Statistics estatisticasZeradas() {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.setStatisticsEnabled(true);
+        estatisticas.clear();
+        return estatisticas;
+    }
+}
@@ -0,0 +1,139 @@
+package com.br.bootcamp.orders.repository;
+
+import com.br.bootcamp.orders.IntegracaoPostgresTest;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+import com.br.bootcamp.orders.service.contracts.IPedidoService;
+import com.br.bootcamp.orders.service.contracts.IVendaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayName("Testes de integração para a reconciliação das vendas diárias com os pedidos")
+class VendaDiariaRepositoryTest extends IntegracaoPostgresTest {
+
+    /**
+     * Período que cobre todos os pedidos gravados pelos testes, para comparar a tabela inteira
+     */
+    private static final LocalDate PRIMEIRO_DIA = LocalDate.of(2000, 1, 1);
+    private static final LocalDate ULTIMO_DIA = LocalDate.of(2099, 12, 31);
+
+    /**
+     * Vendas recalculadas a partir de todos os pedidos
+     */
+    private static final String RECALCULAR_VENDAS = """
+            SELECT data_pedido::date AS dia, status, tipo_pagamento, COUNT(*) AS pedidos, SUM(valor_total) AS receita
+            FROM pedidos
+            GROUP BY 1, 2, 3
+            ORDER BY 1, 2, 3""";
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private IPedidoService pedidoService;
+
+    @Autowired
+    private IVendaService vendaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long clienteId;
+    private long produtoId;
+
+    @BeforeEach
+    void setUp() {
+        clienteId = jdbcTemplate.queryForObject("INSERT INTO clientes (nome, email) VALUES ('Cliente vendas', ?) "
+                + "RETURNING id", Long.class, "vendas-" + System.nanoTime() + "@example.com");
+        produtoId = jdbcTemplate.queryForObject("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "VALUES ('Produto vendas', 12.50, 1000, 'OUTROS') RETURNING id", Long.class);
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com o recálculo depois de inclusões, alterações e exclusões pelo serviço")
+    void deveCoincidirComRecalculoPeloServico() {
+        // Arrange
+        Pedido primeiro = pedidoService.salvar(novoPedido(TipoPagamento.PIX, 2));
+        Pedido segundo = pedidoService.salvar(novoPedido(TipoPagamento.BOLETO, 3));
+        Pedido terceiro = pedidoService.salvar(novoPedido(TipoPagamento.PIX, 1));
+
+        // Act
+        pedidoService.atualizarStatus(primeiro.getId(), StatusPedido.APROVADO);
+        pedidoService.atualizar(segundo.getId(), new PedidoDTO(clienteId, null, StatusPedido.EM_PREPARACAO,
+                TipoPagamento.CARTAO_CREDITO, List.of(new PedidoDTO.ItemPedidoDTO(produtoId, 5))));
+        pedidoService.deletar(terceiro.getId());
+
+        // Assert
+        assertVendasConferem();
+        List<VendaDiaria> hoje = vendaService.consultarVendas(LocalDate.now(), LocalDate.now());
+        assertFalse(hoje.isEmpty());
+        assertEquals(recalcular().stream().filter(venda -> venda.dia().equals(LocalDate.now())).toList(), hoje);
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com o recálculo depois de gravações em lote, inclusive mudando a data do pedido")
+    void deveCoincidirComRecalculoEmLote() {
+        // Arrange
+        jdbcTemplate.update("INSERT INTO pedidos (cliente_id, data_pedido, status, tipo_pagamento, valor_total) "
+                + "SELECT ?, TIMESTAMP '2024-02-01' + n * INTERVAL '17 minutes', "
+                + "(ARRAY['PENDENTE', 'APROVADO', 'ENTREGUE'])[n % 3 + 1], (ARRAY['PIX', 'BOLETO'])[n % 2 + 1], "
+                + "(n % 50) + 0.99 FROM generate_series(1, 2000) n", clienteId);
+
+        // Act
+        jdbcTemplate.update("UPDATE pedidos SET status = 'CANCELADO' WHERE cliente_id = ? AND id % 4 = 0", clienteId);
+        jdbcTemplate.update("UPDATE pedidos SET valor_total = valor_total * 2, tipo_pagamento = 'DINHEIRO' "
+                + "WHERE cliente_id = ? AND id % 5 = 0", clienteId);
+        jdbcTemplate.update("UPDATE pedidos SET data_pedido = data_pedido + INTERVAL '40 days' "
+                + "WHERE cliente_id = ? AND id % 6 = 0", clienteId);
+        jdbcTemplate.update("DELETE FROM pedidos WHERE cliente_id = ? AND id % 7 = 0", clienteId);
+
+        // Assert
+        assertVendasConferem();
+    }
+
+    @Test
+    @DisplayName("Deve reler o dia encerrado em memória depois que o serviço altera um pedido dele")
+    void deveRelerDiaEncerradoAlteradoPeloServico() {
+        // Arrange
+        LocalDate dia = LocalDate.of(2024, 6, 3);
+        long pedidoId = jdbcTemplate.queryForObject("INSERT INTO pedidos (cliente_id, data_pedido, status, tipo_pagamento, "
+                + "valor_total) VALUES (?, ?, 'PENDENTE', 'PIX', 40.00) RETURNING id", Long.class, clienteId, dia.atTime(10, 0));
+        vendaService.consultarVendas(dia, dia);
+
+        // Act
+        pedidoService.atualizarStatus(pedidoId, StatusPedido.CANCELADO);
+
+        // Assert
+        assertEquals(recalcular().stream().filter(venda -> venda.dia().equals(dia)).toList(),
+                vendaService.consultarVendas(dia, dia));
+    }
+
+    private PedidoDTO novoPedido(TipoPagamento tipoPagamento, int quantidade) {
+        return new PedidoDTO(clienteId, null, null, tipoPagamento, List.of(new PedidoDTO.ItemPedidoDTO(produtoId, quantidade)));
+    }
+
+    private void assertVendasConferem() {
+        assertEquals(recalcular(), pedidoRepository.buscarVendas(PRIMEIRO_DIA, ULTIMO_DIA));
+    }
+
+    private List<VendaDiaria> recalcular() {
+        return jdbcTemplate.query(RECALCULAR_VENDAS, (rs, rowNum) -> VendaDiaria.de(
+                rs.getObject("dia", LocalDate.class),
+                StatusPedido.valueOf(rs.getString("status")),
+                TipoPagamento.valueOf(rs.getString("tipo_pagamento")),
+                rs.getLong("pedidos"),
+                rs.getBigDecimal("receita")));
+    }
+}
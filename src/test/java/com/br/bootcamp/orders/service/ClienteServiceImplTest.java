@@ -1,24 +1,42 @@
 package com.br.bootcamp.orders.service;
 
+import com.br.bootcamp.orders.controller.config.CadastroClientesProperties;
 import com.br.bootcamp.orders.model.Cliente;
 import com.br.bootcamp.orders.model.dto.ClienteDTO;
+import com.br.bootcamp.orders.model.leitura.SimilaridadeNome;
+import com.br.bootcamp.orders.repository.ContadorRepository;
 import com.br.bootcamp.orders.repository.ClienteRepository;
 import com.br.bootcamp.orders.service.exception.BusinessException;
 import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import com.br.bootcamp.orders.service.mapper.ClienteMapper;
+import com.br.bootcamp.orders.service.util.BuscaPorNome;
+import com.br.bootcamp.orders.service.util.CadastroClientes;
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.Pagina;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
@@ -34,14 +52,21 @@ class ClienteServiceImplTest {
     private ClienteRepository clienteRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ClienteMapper clienteMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CadastroClientes cadastroClientes;
 
     private ClienteServiceImpl clienteService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        clienteService = new ClienteServiceImpl(clienteRepository, modelMapper);
+        cadastroClientes = new CadastroClientes(clienteRepository, new TransactionTemplate(transactionManager),
+                new CadastroClientesProperties(100, Duration.ofMinutes(10), 1000, 0.01), new SimpleMeterRegistry());
+        clienteService = new ClienteServiceImpl(clienteRepository, clienteMapper, cadastroClientes);
     }
 
     @Test
@@ -52,16 +77,35 @@ class ClienteServiceImplTest {
                 criarCliente(1L, "João", "joao@test.com"),
                 criarCliente(2L, "Maria", "maria@test.com")
         );
-        when(clienteRepository.findAll()).thenReturn(clientes);
+        when(clienteRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(51))).thenReturn(clientes);
 
         // Act
-        List<Cliente> resultado = clienteService.listarTodos();
+        Pagina<Cliente> resultado = clienteService.listarTodos(50, null);
 
         // Assert
-        assertEquals(2, resultado.size());
-        assertEquals("João", resultado.get(0).getNome());
-        assertEquals("Maria", resultado.get(1).getNome());
-        verify(clienteRepository).findAll();
+        assertEquals(2, resultado.itens().size());
+        assertEquals("João", resultado.itens().get(0).getNome());
+        assertEquals("Maria", resultado.itens().get(1).getNome());
+        assertNull(resultado.proximoCursor());
+        verify(clienteRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(51));
+    }
+
+    @Test
+    @DisplayName("Deve listar a página seguinte de clientes a partir do cursor")
+    void deveListarPaginaSeguinteDeClientes() {
+        // Arrange
+        List<Cliente> clientes = Arrays.asList(
+                criarCliente(3L, "João", "joao@test.com"),
+                criarCliente(4L, "Maria", "maria@test.com")
+        );
+        when(clienteRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(2))).thenReturn(clientes);
+
+        // Act
+        Pagina<Cliente> resultado = clienteService.listarTodos(1, CursorPaginacao.codificar(2L));
+
+        // Assert
+        assertEquals(1, resultado.itens().size());
+        assertEquals(3L, CursorPaginacao.lerId(resultado.proximoCursor()));
     }
 
     @Test
@@ -81,36 +125,37 @@ class ClienteServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve lançar exceção quando cliente não existe por ID")
-    void deveLancarExcecaoQuandoClienteNaoExistePorId() {
+    @DisplayName("Deve retornar vazio sem lançar exceção quando cliente não existe por ID")
+    void deveRetornarVazioQuandoClienteNaoExistePorId() {
         // Arrange
         when(clienteRepository.findById(1L)).thenReturn(Optional.empty());
 
-        // Act & Assert
-        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> clienteService.buscarPorId(1L));
-        
-        assertEquals("Cliente não encontrado com ID: 1", exception.getMessage());
+        // Act
+        Optional<Cliente> resultado = clienteService.buscarPorId(1L);
+
+        // Assert
+        assertTrue(resultado.isEmpty());
         verify(clienteRepository).findById(1L);
     }
 
     @Test
-    @DisplayName("Deve buscar clientes por nome")
+    @DisplayName("Deve buscar clientes por nome na ordem de semelhança")
     void deveBuscarClientesPorNome() {
         // Arrange
-        List<Cliente> clientes = Arrays.asList(
+        when(clienteRepository.buscarPaginaPorNome("João", "%João%", BuscaPorNome.SIMILARIDADE_INICIAL, 0L, 51))
+                .thenReturn(List.of(similaridade(2L, 0.8f), similaridade(1L, 0.5f)));
+        when(clienteRepository.findAllById(List.of(2L, 1L))).thenReturn(Arrays.asList(
                 criarCliente(1L, "João Silva", "joao@test.com"),
-                criarCliente(2L, "João Santos", "joao2@test.com")
-        );
-        when(clienteRepository.findByNomeContainingIgnoreCase("João")).thenReturn(clientes);
+                criarCliente(2L, "João", "joao2@test.com")
+        ));
 
         // Act
-        List<Cliente> resultado = clienteService.buscarPorNome("João");
+        Pagina<Cliente> resultado = clienteService.buscarPorNome("João", 50, null);
 
         // Assert
-        assertEquals(2, resultado.size());
-        assertTrue(resultado.stream().allMatch(c -> c.getNome().contains("João")));
-        verify(clienteRepository).findByNomeContainingIgnoreCase("João");
+        assertEquals(List.of(2L, 1L), resultado.itens().stream().map(Cliente::getId).toList());
+        assertFalse(resultado.temProxima());
+        verify(clienteRepository).buscarPaginaPorNome("João", "%João%", BuscaPorNome.SIMILARIDADE_INICIAL, 0L, 51);
     }
 
     @Test
@@ -151,7 +196,7 @@ class ClienteServiceImplTest {
         Cliente cliente = criarCliente(1L, "João", "joao@test.com");
         
         when(clienteRepository.existsByEmail("joao@test.com")).thenReturn(false);
-        when(modelMapper.map(clienteDTO, Cliente.class)).thenReturn(cliente);
+        when(clienteMapper.paraEntidade(clienteDTO)).thenReturn(cliente);
         when(clienteRepository.save(cliente)).thenReturn(cliente);
 
         // Act
@@ -161,7 +206,7 @@ class ClienteServiceImplTest {
         assertNotNull(resultado);
         assertEquals("João", resultado.getNome());
         verify(clienteRepository).existsByEmail("joao@test.com");
-        verify(modelMapper).map(clienteDTO, Cliente.class);
+        verify(clienteMapper).paraEntidade(clienteDTO);
         verify(clienteRepository).save(cliente);
     }
 
@@ -181,6 +226,75 @@ class ClienteServiceImplTest {
         verify(clienteRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Não deve consultar o banco quando o filtro descarta o email")
+    void naoDeveConsultarBancoQuandoFiltroDescartaEmail() {
+        // Arrange
+        when(clienteRepository.count()).thenReturn(1L);
+        when(clienteRepository.listarEmails()).thenReturn(Stream.of("maria@test.com"));
+        cadastroClientes.montarFiltro();
+        ClienteDTO clienteDTO = new ClienteDTO("João", "joao@test.com", "123", "Rua A");
+        Cliente cliente = criarCliente(1L, "João", "joao@test.com");
+        when(clienteMapper.paraEntidade(clienteDTO)).thenReturn(cliente);
+        when(clienteRepository.save(cliente)).thenReturn(cliente);
+
+        // Act
+        clienteService.salvar(clienteDTO);
+
+        // Assert
+        verify(clienteRepository, never()).existsByEmail(any());
+        verify(clienteRepository).save(cliente);
+        assertTrue(cadastroClientes.podeExistirEmail("joao@test.com"));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o filtro não descarta o email")
+    void deveConsultarBancoQuandoFiltroNaoDescartaEmail() {
+        // Arrange
+        when(clienteRepository.count()).thenReturn(1L);
+        when(clienteRepository.listarEmails()).thenReturn(Stream.of("joao@test.com"));
+        cadastroClientes.montarFiltro();
+        ClienteDTO clienteDTO = new ClienteDTO("João", "joao@test.com", "123", "Rua A");
+        when(clienteRepository.existsByEmail("joao@test.com")).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> clienteService.salvar(clienteDTO));
+        verify(clienteRepository).existsByEmail("joao@test.com");
+    }
+
+    @Test
+    @DisplayName("Deve traduzir a violação da restrição única do email para a mensagem de email duplicado")
+    void deveTraduzirViolacaoDaRestricaoDeEmailUnico() {
+        // Arrange
+        ClienteDTO clienteDTO = new ClienteDTO("João", "joao@test.com", "123", "Rua A");
+        Cliente cliente = criarCliente(null, "João", "joao@test.com");
+        when(clienteRepository.existsByEmail("joao@test.com")).thenReturn(false);
+        when(clienteMapper.paraEntidade(clienteDTO)).thenReturn(cliente);
+        when(clienteRepository.save(cliente)).thenThrow(new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"), "clientes_email_key")));
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> clienteService.salvar(clienteDTO));
+
+        assertEquals("Já existe um cliente cadastrado com este email: joao@test.com", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve manter outras violações de integridade sem tradução")
+    void deveManterOutrasViolacoesDeIntegridade() {
+        // Arrange
+        ClienteDTO clienteDTO = new ClienteDTO("João", "joao@test.com", "123", "Rua A");
+        Cliente cliente = criarCliente(null, "João", "joao@test.com");
+        when(clienteRepository.existsByEmail("joao@test.com")).thenReturn(false);
+        when(clienteMapper.paraEntidade(clienteDTO)).thenReturn(cliente);
+        when(clienteRepository.save(cliente)).thenThrow(new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", new SQLException("not null", "23502"), null)));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> clienteService.salvar(clienteDTO));
+    }
+
     @Test
     @DisplayName("Deve atualizar cliente com sucesso")
     void deveAtualizarClienteComSucesso() {
@@ -189,7 +303,7 @@ class ClienteServiceImplTest {
         Cliente cliente = criarCliente(1L, "João Atualizado", "joao@test.com");
         
         when(clienteRepository.existsById(1L)).thenReturn(true);
-        when(modelMapper.map(clienteDTO, Cliente.class)).thenReturn(cliente);
+        when(clienteMapper.paraEntidade(clienteDTO)).thenReturn(cliente);
         when(clienteRepository.save(cliente)).thenReturn(cliente);
 
         // Act
@@ -200,7 +314,7 @@ class ClienteServiceImplTest {
         assertEquals("João Atualizado", resultado.getNome());
         assertEquals(1L, resultado.getId());
         verify(clienteRepository).existsById(1L);
-        verify(modelMapper).map(clienteDTO, Cliente.class);
+        verify(clienteMapper).paraEntidade(clienteDTO);
         verify(clienteRepository).save(cliente);
     }
 
@@ -254,14 +368,43 @@ class ClienteServiceImplTest {
     @DisplayName("Deve contar clientes")
     void deveContarClientes() {
         // Arrange
-        when(clienteRepository.count()).thenReturn(5L);
+        when(clienteRepository.contar(ContadorRepository.CLIENTES)).thenReturn(5L);
 
         // Act
-        long resultado = clienteService.contarClientes();
+        long resultado = clienteService.contarClientes(false);
 
         // Assert
         assertEquals(5L, resultado);
-        verify(clienteRepository).count();
+        verify(clienteRepository).contar(ContadorRepository.CLIENTES);
+        verify(clienteRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Deve contar clientes pela estimativa do banco")
+    void deveContarClientesAproximadamente() {
+        // Arrange
+        when(clienteRepository.contarAproximado(ContadorRepository.CLIENTES)).thenReturn(1_000_000L);
+
+        // Act
+        long resultado = clienteService.contarClientes(true);
+
+        // Assert
+        assertEquals(1_000_000L, resultado);
+        verify(clienteRepository, never()).contar(ContadorRepository.CLIENTES);
+    }
+
+    private SimilaridadeNome similaridade(Long id, float similaridade) {
+        return new SimilaridadeNome() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Float getSimilaridade() {
+                return similaridade;
+            }
+        };
     }
 
     private Cliente criarCliente(Long id, String nome, String email) {
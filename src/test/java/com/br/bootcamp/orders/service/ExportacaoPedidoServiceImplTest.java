@@ -0,0 +1,71 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.model.leitura.LinhaExportacaoPedido;
+import com.br.bootcamp.orders.repository.PedidoRepository;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para ExportacaoPedidoServiceImpl")
+class ExportacaoPedidoServiceImplTest {
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    private ExportacaoPedidoServiceImpl exportacaoPedidoService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        exportacaoPedidoService = new ExportacaoPedidoServiceImpl(pedidoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve consultar do início do primeiro dia até o início do dia seguinte ao último e fechar o stream")
+    void deveConsultarPeriodoSemiabertoEFecharStream() throws Exception {
+        // Arrange
+        AtomicBoolean fechado = new AtomicBoolean();
+        LinhaExportacaoPedido linha = new LinhaExportacaoPedido(1L, 1L, LocalDateTime.of(2024, 1, 31, 23, 59, 59, 999_999_000),
+                StatusPedido.PENDENTE, TipoPagamento.PIX, BigDecimal.TEN, null, null, null, null);
+        when(pedidoRepository.exportarPorPeriodo(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0)))
+                .thenReturn(Stream.of(linha).onClose(() -> fechado.set(true)));
+
+        // Act
+        long pedidos = exportacaoPedidoService.exportar(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31),
+                FormatoExportacao.NDJSON, new ByteArrayOutputStream());
+
+        // Assert
+        assertEquals(1, pedidos);
+        assertTrue(fechado.get());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período invertido sem consultar o banco")
+    void deveRejeitarPeriodoInvertido() {
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> exportacaoPedidoService.exportar(LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 1, 1), FormatoExportacao.CSV, new ByteArrayOutputStream()));
+        verify(pedidoRepository, never()).exportarPorPeriodo(any(), any());
+    }
+}
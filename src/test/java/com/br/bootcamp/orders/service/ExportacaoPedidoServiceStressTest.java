@@ -0,0 +1,144 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.IntegracaoPostgresTest;
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
+import com.br.bootcamp.orders.service.contracts.IExportacaoPedidoService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de estresse da exportação de um milhão de pedidos.
+ *
+ * <p>O perfil "carga" executa os testes com heap fixo ({@code -Xmx512m}), menor do que o
+ * necessário para carregar os pedidos exportados de uma vez. Além de concluir sem faltar
+ * memória, a exportação não pode fazer crescer o heap vivo: a saída força uma coleta a
+ * cada {@link #INTERVALO_MEDICAO} linhas e registra o heap ocupado depois dela.</p>
+ */
+@Slf4j
+@Tag("stress")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Testes de estresse para a exportação de pedidos")
+class ExportacaoPedidoServiceStressTest extends IntegracaoPostgresTest {
+
+    private static final int TOTAL_PEDIDOS = 1_000_000;
+    private static final int INTERVALO_MEDICAO = 100_000;
+    private static final long CRESCIMENTO_MAXIMO_HEAP = 32L * 1024 * 1024;
+
+    // Período exclusivo do teste, para não misturar com os pedidos dos outros testes
+    private static final LocalDate INICIO = LocalDate.of(2031, 1, 1);
+    private static final LocalDate FIM = LocalDate.of(2031, 12, 31);
+
+    @Autowired
+    private IExportacaoPedidoService exportacaoPedidoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void carregarPedidos() {
+        long clienteId = jdbcTemplate.queryForObject("INSERT INTO clientes (nome, email) VALUES ('Cliente exportação', ?) "
+                + "RETURNING id", Long.class, "exportacao-" + System.nanoTime() + "@example.com");
+        long produtoId = jdbcTemplate.queryForObject("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "VALUES ('Produto exportação', 10.00, 0, 'OUTROS') RETURNING id", Long.class);
+
+        jdbcTemplate.queryForObject("SELECT criar_particoes_pedidos(?, ?)", Integer.class, INICIO, FIM);
+
+        // Um pedido a cada 31 segundos cobre o ano de 2031, com um item por pedido
+        jdbcTemplate.update("INSERT INTO pedidos (cliente_id, data_pedido, status, tipo_pagamento, valor_total) "
+                + "SELECT ?, TIMESTAMP '2031-01-01' + n * INTERVAL '31 seconds', 'ENTREGUE', 'PIX', 20.00 "
+                + "FROM generate_series(0, ? - 1) n", clienteId, TOTAL_PEDIDOS);
+        jdbcTemplate.update("INSERT INTO itens_pedido (pedido_id, data_pedido, produto_id, quantidade, preco_unitario, subtotal) "
+                + "SELECT id, data_pedido, ?, 2, 10.00, 20.00 FROM pedidos WHERE data_pedido >= '2031-01-01' AND data_pedido < '2032-01-01'",
+                produtoId);
+        jdbcTemplate.execute("ANALYZE pedidos");
+        jdbcTemplate.execute("ANALYZE itens_pedido");
+    }
+
+    @AfterAll
+    void removerPedidos() {
+        jdbcTemplate.update("DELETE FROM pedidos WHERE data_pedido >= '2031-01-01' AND data_pedido < '2032-01-01'");
+    }
+
+    @ParameterizedTest
+    @EnumSource(FormatoExportacao.class)
+    @DisplayName("Deve exportar um milhão de pedidos sem fazer crescer o heap")
+    void deveExportarUmMilhaoDePedidosSemCrescerOHeap(FormatoExportacao formato) throws Exception {
+        // Arrange
+        MedidorSaida saida = new MedidorSaida();
+        long heapInicial = heapAposColeta();
+
+        // Act
+        long inicio = System.nanoTime();
+        long pedidos = exportacaoPedidoService.exportar(INICIO, FIM, formato, saida);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        // Assert
+        long crescimento = saida.maiorHeap - heapInicial;
+        log.info("Exportação {}: {} pedidos, {} MB em {} s ({} pedidos/s), heap vivo inicial {} MB, crescimento máximo {} MB",
+                formato, pedidos, saida.bytes / (1024 * 1024), String.format("%.1f", segundos),
+                String.format("%.0f", pedidos / segundos), heapInicial / (1024 * 1024), crescimento / (1024 * 1024));
+        assertEquals(TOTAL_PEDIDOS, pedidos);
+        assertEquals(formato == FormatoExportacao.CSV ? TOTAL_PEDIDOS + 1 : TOTAL_PEDIDOS, saida.linhas);
+        assertTrue(saida.medicoes >= TOTAL_PEDIDOS / INTERVALO_MEDICAO - 1, "medições: " + saida.medicoes);
+        assertTrue(crescimento < CRESCIMENTO_MAXIMO_HEAP, "crescimento do heap: " + crescimento + " bytes");
+    }
+
+    private static long heapAposColeta() {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Saída que descarta os bytes, contando as linhas e medindo o heap vivo periodicamente
+     */
+    private static final class MedidorSaida extends OutputStream {
+
+        private long bytes;
+        private long linhas;
+        private long medicoes;
+        private long maiorHeap;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                contarLinha();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    contarLinha();
+                }
+            }
+        }
+
+        private void contarLinha() {
+            linhas++;
+            if (linhas % INTERVALO_MEDICAO == 0) {
+                maiorHeap = Math.max(maiorHeap, heapAposColeta());
+                medicoes++;
+            }
+        }
+    }
+}
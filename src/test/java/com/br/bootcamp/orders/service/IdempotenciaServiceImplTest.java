@@ -0,0 +1,296 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.controller.config.IdempotenciaProperties;
+import com.br.bootcamp.orders.model.ChaveIdempotencia;
+import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.repository.ChaveIdempotenciaRepository;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.exception.RequisicaoEmAndamentoException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para IdempotenciaServiceImpl")
+class IdempotenciaServiceImplTest {
+
+    private static final String OPERACAO = "POST /api/pedidos";
+
+    @Mock
+    private ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotenciaServiceImpl idempotenciaService;
+    private AtomicInteger execucoes;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        idempotenciaService = new IdempotenciaServiceImpl(chaveIdempotenciaRepository,
+                new TransactionTemplate(transactionManager), new ObjectMapper(),
+                new IdempotenciaProperties(2, Duration.ofHours(24), Duration.ofHours(1)), meterRegistry);
+        execucoes = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve executar a operação e guardar a resposta na primeira requisição")
+    void deveExecutarOperacaoEGuardarRespostaNaPrimeiraRequisicao() {
+        // Arrange
+        when(chaveIdempotenciaRepository.reservar(eq("chave-1"), anyString(), any(), any())).thenReturn(1);
+
+        // Act
+        ResponseEntity<?> resposta = idempotenciaService.executar("chave-1", OPERACAO, criarPedidoDTO(), criarPedido());
+
+        // Assert
+        assertEquals(HttpStatus.CREATED, resposta.getStatusCode());
+        assertEquals(1, execucoes.get());
+        verify(chaveIdempotenciaRepository).concluir("chave-1", 201, "/api/pedidos/1", "{\"id\":1}");
+        verify(transactionManager).commit(transactionStatus);
+        assertEquals(1.0, contagem("miss", "banco"));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta do cache sem executar a operação novamente")
+    void deveDevolverRespostaDoCacheSemExecutarNovamente() {
+        // Arrange
+        when(chaveIdempotenciaRepository.reservar(eq("chave-1"), anyString(), any(), any())).thenReturn(1);
+        idempotenciaService.executar("chave-1", OPERACAO, criarPedidoDTO(), criarPedido());
+
+        // Act
+        ResponseEntity<?> repetida = idempotenciaService.executar("chave-1", OPERACAO, criarPedidoDTO(), criarPedido());
+
+        // Assert
+        assertEquals(1, execucoes.get());
+        assertEquals(HttpStatus.CREATED, repetida.getStatusCode());
+        assertEquals("{\"id\":1}", repetida.getBody());
+        assertEquals(URI.create("/api/pedidos/1"), repetida.getHeaders().getLocation());
+        assertEquals("true", repetida.getHeaders().getFirst(IdempotenciaServiceImpl.CABECALHO_REPETIDA));
+        verify(chaveIdempotenciaRepository, times(1)).reservar(anyString(), anyString(), any(), any());
+        assertEquals(1.0, contagem("hit", "memoria"));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a resposta gravada no banco quando não estiver no cache")
+    void deveDevolverRespostaGravadaNoBanco() {
+        // Arrange
+        String hash = hashDaRequisicao();
+        when(chaveIdempotenciaRepository.reservar(eq("chave-2"), anyString(), any(), any())).thenReturn(0);
+        when(chaveIdempotenciaRepository.findById("chave-2")).thenReturn(Optional.of(new ChaveIdempotencia(
+                "chave-2", hash, 201, "/api/pedidos/7", "{\"id\":7}", LocalDateTime.now(), LocalDateTime.now().plusHours(1))));
+
+        // Act
+        ResponseEntity<?> repetida = idempotenciaService.executar("chave-2", OPERACAO, criarPedidoDTO(), criarPedido());
+
+        // Assert
+        assertEquals(0, execucoes.get());
+        assertEquals(HttpStatus.CREATED, repetida.getStatusCode());
+        assertEquals("{\"id\":7}", repetida.getBody());
+        assertEquals(1.0, contagem("hit", "banco"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar chave reutilizada com outra requisição")
+    void deveRecusarChaveReutilizadaComOutraRequisicao() {
+        // Arrange
+        when(chaveIdempotenciaRepository.reservar(eq("chave-1"), anyString(), any(), any())).thenReturn(1);
+        idempotenciaService.executar("chave-1", OPERACAO, criarPedidoDTO(), criarPedido());
+        PedidoDTO outroPedido = criarPedidoDTO();
+        outroPedido.setClienteId(2L);
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> idempotenciaService.executar("chave-1", OPERACAO, outroPedido, criarPedido()));
+        assertThrows(BusinessException.class,
+                () -> idempotenciaService.executar("chave-1", "PUT /api/pedidos/1", criarPedidoDTO(), criarPedido()));
+
+        assertEquals("Chave de idempotência já utilizada com outra requisição.", exception.getMessage());
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    @DisplayName("Deve retornar conflito enquanto a requisição original estiver em processamento")
+    void deveRetornarConflitoEnquantoRequisicaoOriginalEmProcessamento() {
+        // Arrange
+        String hash = hashDaRequisicao();
+        when(chaveIdempotenciaRepository.reservar(eq("chave-3"), anyString(), any(), any())).thenReturn(0);
+        when(chaveIdempotenciaRepository.findById("chave-3")).thenReturn(Optional.of(new ChaveIdempotencia(
+                "chave-3", hash, null, null, null, LocalDateTime.now(), LocalDateTime.now().plusHours(1))));
+
+        // Act & Assert
+        assertThrows(RequisicaoEmAndamentoException.class,
+                () -> idempotenciaService.executar("chave-3", OPERACAO, criarPedidoDTO(), criarPedido()));
+        assertEquals(0, execucoes.get());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a chave quando a operação falhar")
+    void deveLiberarChaveQuandoOperacaoFalhar() {
+        // Arrange
+        when(chaveIdempotenciaRepository.reservar(eq("chave-4"), anyString(), any(), any())).thenReturn(1);
+
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> idempotenciaService.executar("chave-4", OPERACAO, criarPedidoDTO(),
+                () -> {
+                    throw new BusinessException("Cliente não encontrado");
+                }));
+
+        verify(chaveIdempotenciaRepository).liberar("chave-4");
+        verify(chaveIdempotenciaRepository, never()).concluir(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve desfazer a operação e liberar a chave quando a resposta não puder ser guardada")
+    void deveDesfazerOperacaoELiberarChaveQuandoRespostaNaoPuderSerGuardada() {
+        // Arrange
+        when(chaveIdempotenciaRepository.reservar(eq("chave-6"), anyString(), any(), any())).thenReturn(1);
+        when(chaveIdempotenciaRepository.concluir(eq("chave-6"), anyInt(), any(), any()))
+                .thenThrow(new IllegalStateException("Conexão encerrada"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> idempotenciaService.executar("chave-6", OPERACAO, criarPedidoDTO(), criarPedido()));
+
+        InOrder ordem = inOrder(transactionManager, chaveIdempotenciaRepository);
+        ordem.verify(transactionManager).rollback(transactionStatus);
+        ordem.verify(chaveIdempotenciaRepository).liberar("chave-6");
+        verify(transactionManager, never()).commit(any());
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    @DisplayName("Deve guardar resposta sem corpo")
+    void deveGuardarRespostaSemCorpo() {
+        // Arrange
+        when(chaveIdempotenciaRepository.reservar(eq("chave-5"), anyString(), any(), any())).thenReturn(1);
+
+        // Act
+        idempotenciaService.executar("chave-5", OPERACAO, criarPedidoDTO(), () -> ResponseEntity.noContent().build());
+        ResponseEntity<?> repetida = idempotenciaService.executar("chave-5", OPERACAO, criarPedidoDTO(), criarPedido());
+
+        // Assert
+        verify(chaveIdempotenciaRepository).concluir(eq("chave-5"), eq(204), isNull(), isNull());
+        assertEquals(HttpStatus.NO_CONTENT, repetida.getStatusCode());
+        assertNull(repetida.getBody());
+    }
+
+    @Test
+    @DisplayName("Deve descartar as respostas menos usadas quando o cache estiver cheio")
+    void deveDescartarRespostasMenosUsadasQuandoCacheCheio() {
+        // Arrange
+        String hash = hashDaRequisicao();
+        when(chaveIdempotenciaRepository.reservar(anyString(), anyString(), any(), any())).thenReturn(1);
+        for (String chave : List.of("a", "b", "c")) {
+            idempotenciaService.executar(chave, OPERACAO, criarPedidoDTO(), criarPedido());
+        }
+        when(chaveIdempotenciaRepository.reservar(eq("a"), anyString(), any(), any())).thenReturn(0);
+        when(chaveIdempotenciaRepository.findById("a")).thenReturn(Optional.of(new ChaveIdempotencia(
+                "a", hash, 201, null, "{\"id\":1}", LocalDateTime.now(), LocalDateTime.now().plusHours(1))));
+
+        // Act
+        idempotenciaService.executar("a", OPERACAO, criarPedidoDTO(), criarPedido());
+
+        // Assert
+        assertEquals(3, execucoes.get());
+        assertEquals(1.0, contagem("hit", "banco"));
+        assertEquals(2.0, meterRegistry.get("pedidos.idempotencia.cache.tamanho").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve recusar chave vazia ou longa demais")
+    void deveRecusarChaveInvalida() {
+        // Act & Assert
+        assertThrows(BusinessException.class,
+                () -> idempotenciaService.executar(" ", OPERACAO, criarPedidoDTO(), criarPedido()));
+        assertThrows(BusinessException.class,
+                () -> idempotenciaService.executar("x".repeat(256), OPERACAO, criarPedidoDTO(), criarPedido()));
+    }
+
+    @Test
+    @DisplayName("Deve remover as chaves vencidas")
+    void deveRemoverChavesVencidas() {
+        // Arrange
+        when(chaveIdempotenciaRepository.removerExpiradas(any())).thenReturn(3);
+
+        // Act
+        idempotenciaService.removerExpiradas();
+
+        // Assert
+        verify(chaveIdempotenciaRepository).removerExpiradas(any(LocalDateTime.class));
+    }
+
+    private Supplier<ResponseEntity<?>> criarPedido() {
+        return () -> {
+            execucoes.incrementAndGet();
+            return ResponseEntity.created(URI.create("/api/pedidos/1")).body(Map.of("id", 1));
+        };
+    }
+
+    private PedidoDTO criarPedidoDTO() {
+        PedidoDTO pedidoDTO = new PedidoDTO();
+        pedidoDTO.setClienteId(1L);
+        pedidoDTO.setTipoPagamento(TipoPagamento.PIX);
+        pedidoDTO.setItens(List.of(new PedidoDTO.ItemPedidoDTO(1L, 2)));
+        return pedidoDTO;
+    }
+
+    /**
+     * Obtém o hash calculado pelo serviço para a requisição padrão
+     */
+    private String hashDaRequisicao() {
+        String[] hash = new String[1];
+        when(chaveIdempotenciaRepository.reservar(eq("captura"), anyString(), any(), any())).thenAnswer(invocation -> {
+            hash[0] = invocation.getArgument(1);
+            return 0;
+        });
+        when(chaveIdempotenciaRepository.findById("captura")).thenReturn(Optional.empty());
+        assertThrows(RequisicaoEmAndamentoException.class,
+                () -> idempotenciaService.executar("captura", OPERACAO, criarPedidoDTO(), criarPedido()));
+        return hash[0];
+    }
+
+    private double contagem(String resultado, String origem) {
+        return meterRegistry.get("pedidos.idempotencia.consultas")
+                .tag("resultado", resultado).tag("origem", origem).counter().count();
+    }
+}
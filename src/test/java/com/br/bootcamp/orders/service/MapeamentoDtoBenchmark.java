@@ -0,0 +1,115 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.dto.ClienteDTO;
+import com.br.bootcamp.orders.model.dto.ProdutoDTO;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.service.mapper.ClienteMapper;
+import com.br.bootcamp.orders.service.mapper.ClienteMapperImpl;
+import com.br.bootcamp.orders.service.mapper.ProdutoMapper;
+import com.br.bootcamp.orders.service.mapper.ProdutoMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do mapeamento dos DTOs de entrada para as entidades feito por
+ * {@link ClienteServiceImpl} e {@link ProdutoServiceImpl} ao salvar e atualizar, pelos mapeadores
+ * gerados na compilação ({@link ClienteMapper}, {@link ProdutoMapper}) e pelo {@link ModelMapper}
+ * com a estratégia {@code STRICT}, como era configurado antes deles.
+ *
+ * <p>Os benchmarks {@code *ParaEntidade} medem o mapeamento com o mapeador já usado; os
+ * {@code primeiroMapeamento*} medem, uma chamada por vez, um mapeador novo mapeando pela primeira
+ * vez, o custo que o {@link ModelMapper} tinha na primeira requisição de cada tipo. Faz parte da
+ * suíte do perfil {@code benchmarks} e é comparado por {@code MapeamentoDtoBenchmarkTest} com
+ * {@code mvn test -Pcarga}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoDtoBenchmark {
+
+    @Param({"mapStruct", "modelMapper"})
+    public String mapeador;
+
+    private final ClienteDTO clienteDTO = new ClienteDTO("Cliente Benchmark", "cliente.benchmark@example.com",
+            "(11) 99999-0000", "Rua dos Benchmarks, 100 - São Paulo/SP");
+
+    private final ProdutoDTO produtoDTO = new ProdutoDTO("Notebook Benchmark", "Notebook de 15 polegadas",
+            new BigDecimal("3500.00"), 10, CategoriaProduto.ELETRONICOS);
+
+    private ClienteMapper clienteMapper;
+    private ProdutoMapper produtoMapper;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        if (usaModelMapper()) {
+            ModelMapper modelMapper = novoModelMapper();
+            clienteMapper = clienteDTO -> modelMapper.map(clienteDTO, Cliente.class);
+            produtoMapper = produtoDTO -> modelMapper.map(produtoDTO, Produto.class);
+        } else {
+            clienteMapper = new ClienteMapperImpl();
+            produtoMapper = new ProdutoMapperImpl();
+        }
+    }
+
+    @Benchmark
+    public Cliente clienteDTOParaEntidade() {
+        return clienteMapper.paraEntidade(clienteDTO);
+    }
+
+    @Benchmark
+    public Produto produtoDTOParaEntidade() {
+        return produtoMapper.paraEntidade(produtoDTO);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public Cliente primeiroMapeamentoCliente() {
+        return usaModelMapper()
+                ? novoModelMapper().map(clienteDTO, Cliente.class)
+                : new ClienteMapperImpl().paraEntidade(clienteDTO);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 20)
+    public Produto primeiroMapeamentoProduto() {
+        return usaModelMapper()
+                ? novoModelMapper().map(produtoDTO, Produto.class)
+                : new ProdutoMapperImpl().paraEntidade(produtoDTO);
+    }
+
+    private boolean usaModelMapper() {
+        return "modelMapper".equals(mapeador);
+    }
+
+    private static ModelMapper novoModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+        return modelMapper;
+    }
+}
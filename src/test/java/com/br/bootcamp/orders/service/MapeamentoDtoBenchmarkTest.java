@@ -0,0 +1,59 @@
+package com.br.bootcamp.orders.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa o {@link MapeamentoDtoBenchmark} com o profiler de GC e compara, em cada benchmark, o
+ * tempo e os bytes alocados por chamada dos mapeadores gerados com os do {@code ModelMapper}. Os
+ * resultados do JMH são registrados no log; o teste falha se os mapeadores gerados não forem mais
+ * rápidos e não alocarem menos. Executado com {@code mvn test -Pcarga}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Benchmark JMH dos mapeadores gerados contra o ModelMapper")
+class MapeamentoDtoBenchmarkTest {
+
+    private static final String ALOCACAO = "gc.alloc.rate.norm";
+
+    @Test
+    @DisplayName("Deve mapear os DTOs mais rápido e alocando menos pelos mapeadores gerados")
+    void deveMapearMaisRapidoEAlocandoMenosPelosMapeadoresGerados() throws Exception {
+        // Act
+        Collection<RunResult> resultados = new Runner(new OptionsBuilder()
+                .include(MapeamentoDtoBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend("-Dlogback.configurationFile=logback-benchmark.xml")
+                .build()).run();
+
+        // Assert
+        Map<String, Map<String, RunResult>> porBenchmark = resultados.stream().collect(Collectors.groupingBy(
+                resultado -> resultado.getParams().getBenchmark(),
+                Collectors.toMap(resultado -> resultado.getParams().getParam("mapeador"), resultado -> resultado)));
+        assertEquals(4, porBenchmark.size());
+        porBenchmark.forEach((benchmark, porMapeador) -> {
+            RunResult mapStruct = porMapeador.get("mapStruct");
+            RunResult modelMapper = porMapeador.get("modelMapper");
+            double alocacaoMapStruct = mapStruct.getSecondaryResults().get(ALOCACAO).getScore();
+            double alocacaoModelMapper = modelMapper.getSecondaryResults().get(ALOCACAO).getScore();
+            log.info(String.format("%s: gerado %.1f %s e %.0f B, ModelMapper %.1f %s e %.0f B", benchmark,
+                    mapStruct.getPrimaryResult().getScore(), mapStruct.getPrimaryResult().getScoreUnit(), alocacaoMapStruct,
+                    modelMapper.getPrimaryResult().getScore(), modelMapper.getPrimaryResult().getScoreUnit(), alocacaoModelMapper));
+            assertTrue(mapStruct.getPrimaryResult().getScore() < modelMapper.getPrimaryResult().getScore(), benchmark + ": tempo");
+            assertTrue(alocacaoMapStruct < alocacaoModelMapper, benchmark + ": alocação");
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.controller.config.PedidoAssincronoProperties;
+import com.br.bootcamp.orders.model.PedidoRecebido;
+import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.dto.RecebimentoPedidoDTO;
+import com.br.bootcamp.orders.model.dto.ResultadoLoteDTO;
+import com.br.bootcamp.orders.model.enums.SituacaoRecebimento;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.repository.PedidoRecebidoRepository;
+import com.br.bootcamp.orders.service.contracts.IPedidoService;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.exception.FilaCheiaException;
+import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para PedidoAssincronoServiceImpl")
+class PedidoAssincronoServiceImplTest {
+
+    @Mock
+    private PedidoRecebidoRepository pedidoRecebidoRepository;
+
+    @Mock
+    private IPedidoService pedidoService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PedidoAssincronoServiceImpl pedidoAssincronoService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pedidoAssincronoService = new PedidoAssincronoServiceImpl(pedidoRecebidoRepository, pedidoService,
+                new TransactionTemplate(transactionManager), new PedidoAssincronoProperties(1, 1, 50));
+        when(pedidoRecebidoRepository.save(any(PedidoRecebido.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Deve receber pedido gravando-o como RECEBIDO")
+    void deveReceberPedidoGravandoComoRecebido() {
+        // Act
+        RecebimentoPedidoDTO recebimento = pedidoAssincronoService.receber(criarPedidoDTO());
+
+        // Assert
+        assertNotNull(recebimento.getId());
+        assertEquals(SituacaoRecebimento.RECEBIDO, recebimento.getSituacao());
+        assertNotNull(recebimento.getRecebidoEm());
+        verify(pedidoRecebidoRepository).save(any(PedidoRecebido.class));
+        verify(pedidoService, never()).salvar(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar pedido com formato inválido sem gravá-lo")
+    void deveRecusarPedidoComFormatoInvalido() {
+        // Arrange
+        PedidoDTO semItens = criarPedidoDTO();
+        semItens.setItens(List.of());
+        PedidoDTO quantidadeInvalida = criarPedidoDTO();
+        quantidadeInvalida.getItens().get(0).setQuantidade(0);
+
+        // Act & Assert
+        assertEquals("Itens do pedido são obrigatórios.",
+                assertThrows(BusinessException.class, () -> pedidoAssincronoService.receber(semItens)).getMessage());
+        assertEquals("Quantidade deve ser maior que zero para o produto: 1",
+                assertThrows(BusinessException.class, () -> pedidoAssincronoService.receber(quantidadeInvalida)).getMessage());
+        verify(pedidoRecebidoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar pedido quando a fila estiver cheia")
+    void deveRecusarPedidoQuandoFilaEstiverCheia() {
+        // Arrange
+        pedidoAssincronoService.receber(criarPedidoDTO());
+
+        // Act & Assert
+        FilaCheiaException exception = assertThrows(FilaCheiaException.class,
+                () -> pedidoAssincronoService.receber(criarPedidoDTO()));
+
+        assertEquals("Fila de pedidos cheia. Tente novamente em instantes.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve consultar recebimento existente")
+    void deveConsultarRecebimentoExistente() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        PedidoRecebido recebido = criarRecebido(id);
+        recebido.setSituacao(SituacaoRecebimento.CONCLUIDO);
+        recebido.setPedidoId(10L);
+        when(pedidoRecebidoRepository.findById(id)).thenReturn(Optional.of(recebido));
+
+        // Act
+        RecebimentoPedidoDTO recebimento = pedidoAssincronoService.consultar(id);
+
+        // Assert
+        assertEquals(SituacaoRecebimento.CONCLUIDO, recebimento.getSituacao());
+        assertEquals(10L, recebimento.getPedidoId());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao consultar recebimento inexistente")
+    void deveLancarExcecaoAoConsultarRecebimentoInexistente() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(pedidoRecebidoRepository.findById(id)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
+                () -> pedidoAssincronoService.consultar(id));
+
+        assertEquals("Recebimento não encontrado com ID: " + id, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve processar lote registrando pedidos concluídos e rejeitados")
+    void deveProcessarLoteRegistrandoConcluidosERejeitados() {
+        // Arrange
+        PedidoRecebido primeiro = criarRecebido(UUID.randomUUID());
+        PedidoRecebido segundo = criarRecebido(UUID.randomUUID());
+        primeiro.setSituacao(SituacaoRecebimento.PROCESSANDO);
+        segundo.setSituacao(SituacaoRecebimento.PROCESSANDO);
+        List<UUID> ids = List.of(primeiro.getId(), segundo.getId());
+
+        when(pedidoRecebidoRepository.findByIdInAndSituacaoOrderByRecebidoEm(ids, SituacaoRecebimento.PROCESSANDO))
+                .thenReturn(List.of(primeiro, segundo));
+        when(pedidoService.salvarLote(anyList())).thenReturn(List.of(
+                ResultadoLoteDTO.sucesso(0, 10L, new BigDecimal("150.00")),
+                ResultadoLoteDTO.falha(1, "Estoque insuficiente para o produto: Notebook")));
+        when(pedidoRecebidoRepository.findAllById(any())).thenReturn(List.of(primeiro, segundo));
+
+        // Act
+        pedidoAssincronoService.processarLote(ids);
+
+        // Assert
+        verify(pedidoRecebidoRepository).alterarSituacao(ids, SituacaoRecebimento.RECEBIDO, SituacaoRecebimento.PROCESSANDO);
+        verify(pedidoService).salvarLote(List.of(primeiro.getPayload(), segundo.getPayload()));
+        assertEquals(SituacaoRecebimento.CONCLUIDO, primeiro.getSituacao());
+        assertEquals(10L, primeiro.getPedidoId());
+        assertNotNull(primeiro.getProcessadoEm());
+        assertEquals(SituacaoRecebimento.REJEITADO, segundo.getSituacao());
+        assertNull(segundo.getPedidoId());
+        assertEquals("Estoque insuficiente para o produto: Notebook", segundo.getMensagem());
+    }
+
+    @Test
+    @DisplayName("Não deve processar pedidos que já foram retirados da fila")
+    void naoDeveProcessarPedidosJaRetiradosDaFila() {
+        // Arrange
+        List<UUID> ids = List.of(UUID.randomUUID());
+        when(pedidoRecebidoRepository.findByIdInAndSituacaoOrderByRecebidoEm(ids, SituacaoRecebimento.PROCESSANDO))
+                .thenReturn(List.of());
+
+        // Act
+        pedidoAssincronoService.processarLote(ids);
+
+        // Assert
+        verify(pedidoService, never()).salvarLote(anyList());
+    }
+
+    private PedidoDTO criarPedidoDTO() {
+        PedidoDTO pedidoDTO = new PedidoDTO();
+        pedidoDTO.setClienteId(1L);
+        pedidoDTO.setTipoPagamento(TipoPagamento.PIX);
+        pedidoDTO.setItens(List.of(new PedidoDTO.ItemPedidoDTO(1L, 2)));
+        return pedidoDTO;
+    }
+
+    private PedidoRecebido criarRecebido(UUID id) {
+        return new PedidoRecebido(id, criarPedidoDTO(), SituacaoRecebimento.RECEBIDO,
+                null, null, LocalDateTime.now(), null);
+    }
+}
@@ -1,41 +1,81 @@
 package com.br.bootcamp.orders.service;
 
+import com.br.bootcamp.orders.controller.config.CadastroClientesProperties;
 import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.ItemPedido;
 import com.br.bootcamp.orders.model.Pedido;
 import com.br.bootcamp.orders.model.Produto;
 import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.dto.ResultadoLoteDTO;
 import com.br.bootcamp.orders.model.enums.StatusPedido;
 import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.model.leitura.DetalhePedido;
+import com.br.bootcamp.orders.model.leitura.ResumoPedido;
 import com.br.bootcamp.orders.repository.ClienteRepository;
+import com.br.bootcamp.orders.repository.ContadorRepository;
 import com.br.bootcamp.orders.repository.PedidoRepository;
 import com.br.bootcamp.orders.repository.ProdutoRepository;
 import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.contracts.IClienteService;
+import com.br.bootcamp.orders.service.contracts.IProdutoService;
 import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import com.br.bootcamp.orders.service.mapper.PedidoMapper;
+import com.br.bootcamp.orders.service.mapper.PedidoMapperImpl;
+import com.br.bootcamp.orders.service.util.CadastroClientes;
+import com.br.bootcamp.orders.service.util.CatalogoProdutos;
+import com.br.bootcamp.orders.service.util.ContextoPedido;
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.MetricasEtapasPedido;
+import com.br.bootcamp.orders.service.util.Pagina;
 import com.br.bootcamp.orders.service.util.PedidoCalculator;
 import com.br.bootcamp.orders.service.util.PedidoValidator;
+import com.br.bootcamp.orders.service.util.RegistroEventosPedido;
+import com.br.bootcamp.orders.service.util.ReservaEstoque;
+import com.br.bootcamp.orders.service.util.VendasDiarias;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyIterable;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,16 +98,34 @@ class PedidoServiceImplTest {
     private PedidoCalculator pedidoCalculator;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ReservaEstoque reservaEstoque;
+
+    @Mock
+    private RegistroEventosPedido registroEventos;
+
+    private final PedidoMapper pedidoMapper = new PedidoMapperImpl();
+
+    @Mock
+    private VendasDiarias vendasDiarias;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
 
     private PedidoServiceImpl pedidoService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        meterRegistry = new SimpleMeterRegistry();
         pedidoService = new PedidoServiceImpl(
-                pedidoRepository, produtoRepository, clienteRepository,
-                pedidoValidator, pedidoCalculator, modelMapper
+                pedidoRepository, produtoRepository, criarCadastroClientes(),
+                pedidoValidator, pedidoCalculator, reservaEstoque, registroEventos, pedidoMapper, transactionTemplate, vendasDiarias,
+                new MetricasEtapasPedido(meterRegistry)
         );
     }
 
@@ -75,20 +133,66 @@ class PedidoServiceImplTest {
     @DisplayName("Deve listar todos os pedidos")
     void deveListarTodosOsPedidos() {
         // Arrange
-        List<Pedido> pedidos = Arrays.asList(
-                criarPedido(1L, StatusPedido.PENDENTE),
-                criarPedido(2L, StatusPedido.APROVADO)
+        List<ResumoPedido> pedidos = Arrays.asList(
+                criarResumo(1L, StatusPedido.PENDENTE),
+                criarResumo(2L, StatusPedido.APROVADO)
         );
-        when(pedidoRepository.findAll()).thenReturn(pedidos);
+        when(pedidoRepository.buscarPagina(Limit.of(51))).thenReturn(pedidos);
+
+        // Act
+        Pagina<ResumoPedido> resultado = pedidoService.listarTodos(50, null);
+
+        // Assert
+        assertEquals(2, resultado.itens().size());
+        assertEquals(StatusPedido.PENDENTE, resultado.itens().get(0).status());
+        assertEquals(StatusPedido.APROVADO, resultado.itens().get(1).status());
+        assertFalse(resultado.temProxima());
+        verify(pedidoRepository).buscarPagina(Limit.of(51));
+    }
+
+    @Test
+    @DisplayName("Deve gerar cursor a partir do último pedido quando houver mais registros que o limite")
+    void deveGerarCursorQuandoHouverProximaPagina() {
+        // Arrange
+        ResumoPedido primeiro = criarResumo(3L, StatusPedido.PENDENTE);
+        ResumoPedido segundo = criarResumo(2L, StatusPedido.PENDENTE);
+        ResumoPedido excedente = criarResumo(1L, StatusPedido.PENDENTE);
+        when(pedidoRepository.buscarPagina(Limit.of(3))).thenReturn(List.of(primeiro, segundo, excedente));
 
         // Act
-        List<Pedido> resultado = pedidoService.listarTodos();
+        Pagina<ResumoPedido> resultado = pedidoService.listarTodos(2, null);
 
         // Assert
-        assertEquals(2, resultado.size());
-        assertEquals(StatusPedido.PENDENTE, resultado.get(0).getStatus());
-        assertEquals(StatusPedido.APROVADO, resultado.get(1).getStatus());
-        verify(pedidoRepository).findAll();
+        assertEquals(List.of(primeiro, segundo), resultado.itens());
+        CursorPaginacao.ChaveData cursor = CursorPaginacao.lerDataEId(resultado.proximoCursor());
+        assertEquals(segundo.dataPedido(), cursor.data());
+        assertEquals(2L, cursor.id());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a listagem a partir do cursor")
+    void deveContinuarListagemAPartirDoCursor() {
+        // Arrange
+        LocalDateTime data = LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000);
+        String cursor = CursorPaginacao.codificar(data, 10L);
+        when(pedidoRepository.buscarPaginaApos(data, 10L, Limit.of(51))).thenReturn(List.of(criarResumo(9L, StatusPedido.PENDENTE)));
+
+        // Act
+        Pagina<ResumoPedido> resultado = pedidoService.listarTodos(50, cursor);
+
+        // Assert
+        assertEquals(1, resultado.itens().size());
+        verify(pedidoRepository).buscarPaginaApos(data, 10L, Limit.of(51));
+        verify(pedidoRepository, never()).buscarPagina(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o limite da página for inválido")
+    void deveLancarExcecaoQuandoLimiteInvalido() {
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> pedidoService.listarTodos(0, null));
+        assertThrows(BusinessException.class, () -> pedidoService.listarTodos(CursorPaginacao.LIMITE_MAXIMO + 1, null));
+        verify(pedidoRepository, never()).buscarPagina(any());
     }
 
     @Test
@@ -108,95 +212,132 @@ class PedidoServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve lançar exceção quando pedido não existe por ID")
-    void deveLancarExcecaoQuandoPedidoNaoExistePorId() {
+    @DisplayName("Deve retornar vazio sem lançar exceção quando pedido não existe por ID")
+    void deveRetornarVazioQuandoPedidoNaoExistePorId() {
+        // Arrange
+        when(pedidoRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<Pedido> resultado = pedidoService.buscarPorId(1L);
+
+        // Assert
+        assertTrue(resultado.isEmpty());
+        verify(pedidoRepository).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve montar o detalhe do pedido a partir da consulta com cliente, itens e produtos")
+    void deveBuscarDetalheDoPedido() {
+        // Arrange
+        Pedido pedido = criarPedido(1L, StatusPedido.PENDENTE);
+        ItemPedido item = new ItemPedido(5L, pedido, criarProduto(1L), 2, new BigDecimal("75.00"), new BigDecimal("150.00"),
+                pedido.getDataPedido());
+        pedido.getItens().add(item);
+        when(pedidoRepository.findById(1L)).thenReturn(Optional.of(pedido));
+
+        // Act
+        DetalhePedido resultado = pedidoService.buscarDetalhe(1L);
+
+        // Assert
+        assertEquals(1L, resultado.id());
+        assertEquals("João", resultado.cliente().nome());
+        assertEquals(1, resultado.itens().size());
+        assertEquals(1L, resultado.itens().get(0).produtoId());
+        assertEquals("Notebook", resultado.itens().get(0).produtoNome());
+        assertEquals(new BigDecimal("150.00"), resultado.itens().get(0).subtotal());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o detalhe do pedido não existe")
+    void deveLancarExcecaoQuandoDetalheNaoExiste() {
         // Arrange
         when(pedidoRepository.findById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> pedidoService.buscarPorId(1L));
-        
+                () -> pedidoService.buscarDetalhe(1L));
         assertEquals("Pedido não encontrado com ID: 1", exception.getMessage());
-        verify(pedidoRepository).findById(1L);
     }
 
     @Test
     @DisplayName("Deve buscar pedidos por cliente")
     void deveBuscarPedidosPorCliente() {
         // Arrange
-        List<Pedido> pedidos = Arrays.asList(
-                criarPedido(1L, StatusPedido.PENDENTE),
-                criarPedido(2L, StatusPedido.APROVADO)
+        List<ResumoPedido> pedidos = Arrays.asList(
+                criarResumo(1L, StatusPedido.PENDENTE),
+                criarResumo(2L, StatusPedido.APROVADO)
         );
-        when(pedidoRepository.findByClienteId(1L)).thenReturn(pedidos);
+        when(pedidoRepository.buscarPaginaPorCliente(1L, Limit.of(51))).thenReturn(pedidos);
 
         // Act
-        List<Pedido> resultado = pedidoService.buscarPorCliente(1L);
+        Pagina<ResumoPedido> resultado = pedidoService.buscarPorCliente(1L, 50, null);
 
         // Assert
-        assertEquals(2, resultado.size());
-        verify(pedidoRepository).findByClienteId(1L);
+        assertEquals(2, resultado.itens().size());
+        verify(pedidoRepository).buscarPaginaPorCliente(1L, Limit.of(51));
     }
 
     @Test
     @DisplayName("Deve buscar pedidos por status")
     void deveBuscarPedidosPorStatus() {
         // Arrange
-        List<Pedido> pedidos = Arrays.asList(
-                criarPedido(1L, StatusPedido.PENDENTE),
-                criarPedido(2L, StatusPedido.PENDENTE)
+        List<ResumoPedido> pedidos = Arrays.asList(
+                criarResumo(1L, StatusPedido.PENDENTE),
+                criarResumo(2L, StatusPedido.PENDENTE)
         );
-        when(pedidoRepository.findByStatus(StatusPedido.PENDENTE)).thenReturn(pedidos);
+        when(pedidoRepository.buscarPaginaPorStatus(StatusPedido.PENDENTE, Limit.of(51))).thenReturn(pedidos);
 
         // Act
-        List<Pedido> resultado = pedidoService.buscarPorStatus(StatusPedido.PENDENTE);
+        Pagina<ResumoPedido> resultado = pedidoService.buscarPorStatus(StatusPedido.PENDENTE, 50, null);
 
         // Assert
-        assertEquals(2, resultado.size());
-        assertTrue(resultado.stream().allMatch(p -> p.getStatus() == StatusPedido.PENDENTE));
-        verify(pedidoRepository).findByStatus(StatusPedido.PENDENTE);
+        assertEquals(2, resultado.itens().size());
+        assertTrue(resultado.itens().stream().allMatch(p -> p.status() == StatusPedido.PENDENTE));
+        verify(pedidoRepository).buscarPaginaPorStatus(StatusPedido.PENDENTE, Limit.of(51));
     }
 
     @Test
-    @DisplayName("Deve buscar pedidos por data")
+    @DisplayName("Deve buscar pedidos por data do início do dia ao início do dia seguinte")
     void deveBuscarPedidosPorData() {
         // Arrange
         LocalDate data = LocalDate.of(2024, 1, 15);
-        List<Pedido> pedidos = Arrays.asList(
-                criarPedido(1L, StatusPedido.PENDENTE),
-                criarPedido(2L, StatusPedido.APROVADO)
+        List<ResumoPedido> pedidos = Arrays.asList(
+                criarResumo(1L, StatusPedido.PENDENTE),
+                criarResumo(2L, StatusPedido.APROVADO)
         );
-        when(pedidoRepository.findByDataPedidoDate(data)).thenReturn(pedidos);
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 15, 0, 0);
+        LocalDateTime fim = LocalDateTime.of(2024, 1, 16, 0, 0);
+        when(pedidoRepository.buscarPaginaPorPeriodo(inicio, fim, Limit.of(51))).thenReturn(pedidos);
 
         // Act
-        List<Pedido> resultado = pedidoService.buscarPorData(data);
+        Pagina<ResumoPedido> resultado = pedidoService.buscarPorData(data, 50, null);
 
         // Assert
-        assertEquals(2, resultado.size());
-        verify(pedidoRepository).findByDataPedidoDate(data);
+        assertEquals(2, resultado.itens().size());
+        verify(pedidoRepository).buscarPaginaPorPeriodo(inicio, fim, Limit.of(51));
     }
 
     @Test
-    @DisplayName("Deve buscar pedidos por período")
+    @DisplayName("Deve buscar pedidos por período até o início do dia seguinte ao último")
     void deveBuscarPedidosPorPeriodo() {
         // Arrange
         LocalDate dataInicio = LocalDate.of(2024, 1, 1);
         LocalDate dataFim = LocalDate.of(2024, 1, 31);
-        List<Pedido> pedidos = Arrays.asList(
-                criarPedido(1L, StatusPedido.PENDENTE),
-                criarPedido(2L, StatusPedido.APROVADO)
+        List<ResumoPedido> pedidos = Arrays.asList(
+                criarResumo(1L, StatusPedido.PENDENTE),
+                criarResumo(2L, StatusPedido.APROVADO)
         );
-        when(pedidoRepository.findByDataPedidoBetween(any(), any())).thenReturn(pedidos);
+        when(pedidoRepository.buscarPaginaPorPeriodo(any(), any(), any())).thenReturn(pedidos);
 
         // Act
-        List<Pedido> resultado = pedidoService.buscarPorPeriodo(dataInicio, dataFim);
+        Pagina<ResumoPedido> resultado = pedidoService.buscarPorPeriodo(dataInicio, dataFim, 50, null);
 
         // Assert
-        assertEquals(2, resultado.size());
-        verify(pedidoRepository).findByDataPedidoBetween(
+        assertEquals(2, resultado.itens().size());
+        verify(pedidoRepository).buscarPaginaPorPeriodo(
                 dataInicio.atStartOfDay(),
-                dataFim.atTime(23, 59, 59)
+                LocalDate.of(2024, 2, 1).atStartOfDay(),
+                Limit.of(51)
         );
     }
 
@@ -209,22 +350,70 @@ class PedidoServiceImplTest {
         Produto produto = criarProduto(1L);
         Pedido pedido = criarPedido(1L, StatusPedido.PENDENTE);
         
-        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(produtoRepository.findById(1L)).thenReturn(Optional.of(produto));
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of(cliente));
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of(produto));
         when(pedidoRepository.save(any(Pedido.class))).thenReturn(pedido);
-        doNothing().when(pedidoValidator).validarPedido(any(Pedido.class));
-        doNothing().when(pedidoCalculator).prepararPedido(any(Pedido.class));
+        doNothing().when(pedidoValidator).validarPedido(any(Pedido.class), any(ContextoPedido.class));
+        doNothing().when(pedidoCalculator).prepararPedido(any(Pedido.class), any(ContextoPedido.class));
 
         // Act
         Pedido resultado = pedidoService.salvar(pedidoDTO);
 
         // Assert
         assertNotNull(resultado);
-        verify(clienteRepository).findById(1L);
-        verify(produtoRepository).findById(1L);
-        verify(pedidoValidator).validarPedido(any(Pedido.class));
-        verify(pedidoCalculator).prepararPedido(any(Pedido.class));
+        verify(clienteRepository).findAllById(Set.of(1L));
+        verify(produtoRepository).findAllById(Set.of(1L));
+        verify(pedidoValidator).validarPedido(any(Pedido.class), any(ContextoPedido.class));
+        verify(pedidoCalculator).prepararPedido(any(Pedido.class), any(ContextoPedido.class));
+        verify(reservaEstoque).reservar(any(Pedido.class));
         verify(pedidoRepository).save(any(Pedido.class));
+        verify(registroEventos).pedidoCriado(pedido);
+        assertEtapasMedidas("criacao", "clientes", "produtos", "validacao", "calculo", "reserva", "gravacao");
+    }
+
+    @ParameterizedTest(name = "{0} itens")
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("Deve executar um número constante de consultas independentemente da quantidade de itens")
+    void deveExecutarNumeroConstanteDeConsultasAoSalvarPedido(int quantidadeItens) {
+        // Arrange
+        IClienteService clienteService = mock(IClienteService.class);
+        IProdutoService produtoService = mock(IProdutoService.class);
+        PedidoServiceImpl service = new PedidoServiceImpl(
+                pedidoRepository, produtoRepository, criarCadastroClientes(),
+                new PedidoValidator(clienteService, produtoService), new PedidoCalculator(produtoService),
+                new ReservaEstoque(produtoRepository, mock(CatalogoProdutos.class)), registroEventos, pedidoMapper, transactionTemplate,
+                vendasDiarias, new MetricasEtapasPedido(meterRegistry)
+        );
+
+        List<Produto> produtos = LongStream.rangeClosed(1, quantidadeItens)
+                .mapToObj(this::criarProduto)
+                .toList();
+        PedidoDTO pedidoDTO = criarPedidoDTO();
+        pedidoDTO.setItens(produtos.stream()
+                .map(produto -> new PedidoDTO.ItemPedidoDTO(produto.getId(), 1))
+                .collect(Collectors.toList()));
+
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarCliente(1L)));
+        when(produtoRepository.findAllById(anyIterable())).thenReturn(produtos);
+        when(produtoRepository.ajustarEstoque(any())).thenAnswer(invocation -> {
+            int[] atualizados = new int[invocation.<SortedMap<Long, Integer>>getArgument(0).size()];
+            Arrays.fill(atualizados, 1);
+            return atualizados;
+        });
+        when(pedidoRepository.save(any(Pedido.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Pedido resultado = service.salvar(pedidoDTO);
+
+        // Assert
+        assertEquals(quantidadeItens, resultado.getItens().size());
+        assertEquals(new BigDecimal("75.00").multiply(BigDecimal.valueOf(quantidadeItens)), resultado.getValorTotal());
+        assertEquals(2, mockingDetails(produtoRepository).getInvocations().size());
+        assertEquals(1, mockingDetails(clienteRepository).getInvocations().size());
+        verify(clienteService, never()).buscarPorId(anyLong());
+        verify(produtoRepository).findAllById(anyIterable());
+        verify(produtoRepository).ajustarEstoque(any());
+        verify(produtoService, never()).buscarPorId(anyLong());
     }
 
     @Test
@@ -232,14 +421,33 @@ class PedidoServiceImplTest {
     void deveLancarExcecaoAoSalvarPedidoComClienteInexistente() {
         // Arrange
         PedidoDTO pedidoDTO = criarPedidoDTO();
-        when(clienteRepository.findById(1L)).thenReturn(Optional.empty());
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of());
 
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> pedidoService.salvar(pedidoDTO));
         
         assertEquals("Cliente não encontrado com ID: 1", exception.getMessage());
-        verify(clienteRepository).findById(1L);
+        verify(clienteRepository).findAllById(Set.of(1L));
+        verify(pedidoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve propagar a rejeição do validador sem encapsulá-la em outra exceção")
+    void devePropagarRejeicaoDoValidadorSemEncapsular() {
+        // Arrange
+        PedidoDTO pedidoDTO = criarPedidoDTO();
+        BusinessException rejeicao = new BusinessException("Estoque insuficiente para o produto: Produto 1");
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarCliente(1L)));
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarProduto(1L)));
+        doThrow(rejeicao).when(pedidoValidator).validarPedido(any(Pedido.class), any(ContextoPedido.class));
+
+        // Act
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> pedidoService.salvar(pedidoDTO));
+
+        // Assert
+        assertSame(rejeicao, exception);
         verify(pedidoRepository, never()).save(any());
     }
 
@@ -250,17 +458,130 @@ class PedidoServiceImplTest {
         PedidoDTO pedidoDTO = criarPedidoDTO();
         Cliente cliente = criarCliente(1L);
         
-        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(produtoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of(cliente));
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of());
 
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> pedidoService.salvar(pedidoDTO));
         
         assertEquals("Produto não encontrado com ID: 1", exception.getMessage());
-        verify(clienteRepository).findById(1L);
-        verify(produtoRepository).findById(1L);
+        verify(clienteRepository).findAllById(Set.of(1L));
+        verify(produtoRepository).findAllById(Set.of(1L));
+        verify(pedidoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve salvar lote resolvendo clientes e produtos com uma consulta por tabela")
+    void deveSalvarLoteResolvendoClientesEProdutosComUmaConsultaPorTabela() {
+        // Arrange
+        List<PedidoDTO> lote = List.of(criarPedidoDTO(), criarPedidoDTO(), criarPedidoDTO());
+        
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarCliente(1L)));
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarProduto(1L)));
+        when(pedidoRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Pedido> pedidos = invocation.getArgument(0);
+            for (int i = 0; i < pedidos.size(); i++) {
+                pedidos.get(i).setId(10L + i);
+            }
+            return pedidos;
+        });
+
+        // Act
+        List<ResultadoLoteDTO> resultados = pedidoService.salvarLote(lote);
+
+        // Assert
+        assertEquals(3, resultados.size());
+        assertTrue(resultados.stream().allMatch(ResultadoLoteDTO::isSucesso));
+        assertEquals(10L, resultados.get(0).getPedidoId());
+        assertEquals(12L, resultados.get(2).getPedidoId());
+        verify(clienteRepository).findAllById(Set.of(1L));
+        verify(produtoRepository).findAllById(Set.of(1L));
+        verify(pedidoRepository).saveAll(anyList());
         verify(pedidoRepository, never()).save(any());
+        verify(registroEventos).pedidosCriados(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve salvar lote com falhas parciais")
+    void deveSalvarLoteComFalhasParciais() {
+        // Arrange
+        PedidoDTO pedidoClienteInexistente = criarPedidoDTO();
+        pedidoClienteInexistente.setClienteId(99L);
+        List<PedidoDTO> lote = List.of(criarPedidoDTO(), pedidoClienteInexistente);
+        
+        when(clienteRepository.findAllById(Set.of(1L, 99L))).thenReturn(List.of(criarCliente(1L)));
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarProduto(1L)));
+        when(pedidoRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Pedido> pedidos = invocation.getArgument(0);
+            pedidos.forEach(pedido -> pedido.setId(1L));
+            return pedidos;
+        });
+
+        // Act
+        List<ResultadoLoteDTO> resultados = pedidoService.salvarLote(lote);
+
+        // Assert
+        assertTrue(resultados.get(0).isSucesso());
+        assertEquals(1L, resultados.get(0).getPedidoId());
+        assertFalse(resultados.get(1).isSucesso());
+        assertEquals(1, resultados.get(1).getIndice());
+        assertEquals("Cliente não encontrado com ID: 99", resultados.get(1).getMensagem());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar apenas o pedido do lote sem estoque suficiente")
+    void deveRejeitarApenasPedidoDoLoteSemEstoqueSuficiente() {
+        // Arrange
+        List<PedidoDTO> lote = List.of(criarPedidoDTO(), criarPedidoDTO());
+        
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarCliente(1L)));
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarProduto(1L)));
+        doNothing()
+                .doThrow(new BusinessException("Estoque insuficiente para o produto: Produto 1"))
+                .when(reservaEstoque).reservar(any(Pedido.class));
+        when(pedidoRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Pedido> pedidos = invocation.getArgument(0);
+            pedidos.forEach(pedido -> pedido.setId(1L));
+            return pedidos;
+        });
+
+        // Act
+        List<ResultadoLoteDTO> resultados = pedidoService.salvarLote(lote);
+
+        // Assert
+        assertTrue(resultados.get(0).isSucesso());
+        assertFalse(resultados.get(1).isSucesso());
+        assertEquals("Estoque insuficiente para o produto: Produto 1", resultados.get(1).getMensagem());
+        verify(reservaEstoque, times(2)).reservar(any(Pedido.class));
+        verify(pedidoRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve marcar como falha os pedidos de um bloco que não pôde ser persistido")
+    void deveMarcarComoFalhaPedidosDeBlocoNaoPersistido() {
+        // Arrange
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarCliente(1L)));
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of(criarProduto(1L)));
+        when(pedidoRepository.saveAll(anyList())).thenThrow(new RuntimeException("conexão perdida"));
+
+        // Act
+        List<ResultadoLoteDTO> resultados = pedidoService.salvarLote(List.of(criarPedidoDTO()));
+
+        // Assert
+        assertFalse(resultados.get(0).isSucesso());
+        assertEquals("Erro ao persistir o pedido: conexão perdida", resultados.get(0).getMensagem());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao salvar lote vazio")
+    void deveLancarExcecaoAoSalvarLoteVazio() {
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> pedidoService.salvarLote(List.of()));
+        
+        assertEquals("O lote deve conter ao menos um pedido.", exception.getMessage());
+        verify(pedidoRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -273,11 +594,11 @@ class PedidoServiceImplTest {
         Produto produto = criarProduto(1L);
         
         when(pedidoRepository.findById(1L)).thenReturn(Optional.of(pedidoExistente));
-        when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
-        when(produtoRepository.findById(1L)).thenReturn(Optional.of(produto));
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of(cliente));
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of(produto));
         when(pedidoRepository.save(any(Pedido.class))).thenReturn(pedidoExistente);
-        doNothing().when(pedidoValidator).validarPedido(any(Pedido.class));
-        doNothing().when(pedidoCalculator).prepararPedido(any(Pedido.class));
+        doNothing().when(pedidoValidator).validarPedido(any(Pedido.class), any(ContextoPedido.class));
+        doNothing().when(pedidoCalculator).prepararPedido(any(Pedido.class), any(ContextoPedido.class));
 
         // Act
         Pedido resultado = pedidoService.atualizar(1L, pedidoDTO);
@@ -285,11 +606,12 @@ class PedidoServiceImplTest {
         // Assert
         assertNotNull(resultado);
         verify(pedidoRepository).findById(1L);
-        verify(clienteRepository).findById(1L);
-        verify(produtoRepository).findById(1L);
-        verify(pedidoValidator).validarPedido(any(Pedido.class));
-        verify(pedidoCalculator).prepararPedido(any(Pedido.class));
+        verify(clienteRepository).findAllById(Set.of(1L));
+        verify(produtoRepository).findAllById(Set.of(1L));
+        verify(pedidoValidator).validarPedido(any(Pedido.class), any(ContextoPedido.class));
+        verify(pedidoCalculator).prepararPedido(any(Pedido.class), any(ContextoPedido.class));
         verify(pedidoRepository).save(any(Pedido.class));
+        assertEtapasMedidas("atualizacao", "pedido", "clientes", "produtos", "validacao", "calculo", "reserva", "gravacao");
     }
 
     @Test
@@ -323,7 +645,31 @@ class PedidoServiceImplTest {
         assertNotNull(resultado);
         assertEquals(StatusPedido.APROVADO, resultado.getStatus());
         verify(pedidoRepository).findById(1L);
+        verify(reservaEstoque).ajustar(any(), any(Pedido.class));
         verify(pedidoRepository).save(pedido);
+        verify(registroEventos).statusAlterado(pedido, StatusPedido.PENDENTE);
+        verify(vendasDiarias).invalidar(pedido.getDataPedido());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o estoque reservado ao cancelar o pedido")
+    void deveDevolverEstoqueReservadoAoCancelarPedido() {
+        // Arrange
+        Pedido pedido = criarPedido(1L, StatusPedido.PENDENTE);
+        ItemPedido item = new ItemPedido();
+        item.setProduto(criarProduto(1L));
+        item.setQuantidade(3);
+        item.setPedido(pedido);
+        pedido.setItens(new ArrayList<>(List.of(item)));
+        when(pedidoRepository.findById(1L)).thenReturn(Optional.of(pedido));
+        when(pedidoRepository.save(pedido)).thenReturn(pedido);
+
+        // Act
+        pedidoService.atualizarStatus(1L, StatusPedido.CANCELADO);
+
+        // Assert
+        verify(reservaEstoque).ajustar(new TreeMap<>(Map.of(1L, 3)), pedido);
+        assertTrue(ReservaEstoque.quantidadesReservadas(pedido).isEmpty());
     }
 
     @Test
@@ -342,47 +688,83 @@ class PedidoServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve deletar pedido com sucesso")
+    @DisplayName("Deve deletar pedido com sucesso devolvendo o estoque reservado")
     void deveDeletarPedidoComSucesso() {
         // Arrange
-        when(pedidoRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(pedidoRepository).deleteById(1L);
+        Pedido pedido = criarPedido(1L, StatusPedido.PENDENTE);
+        when(pedidoRepository.findById(1L)).thenReturn(Optional.of(pedido));
+        doNothing().when(pedidoRepository).delete(pedido);
 
         // Act
         assertDoesNotThrow(() -> pedidoService.deletar(1L));
 
         // Assert
-        verify(pedidoRepository).existsById(1L);
-        verify(pedidoRepository).deleteById(1L);
+        verify(pedidoRepository).findById(1L);
+        verify(reservaEstoque).liberar(pedido);
+        verify(pedidoRepository).delete(pedido);
+        verify(vendasDiarias).invalidar(pedido.getDataPedido());
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao deletar pedido inexistente")
     void deveLancarExcecaoAoDeletarPedidoInexistente() {
         // Arrange
-        when(pedidoRepository.existsById(1L)).thenReturn(false);
+        when(pedidoRepository.findById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> pedidoService.deletar(1L));
         
         assertEquals("Pedido não encontrado com ID: 1", exception.getMessage());
-        verify(pedidoRepository).existsById(1L);
-        verify(pedidoRepository, never()).deleteById(any());
+        verify(pedidoRepository).findById(1L);
+        verify(reservaEstoque, never()).liberar(any());
+        verify(pedidoRepository, never()).delete(any());
     }
 
     @Test
     @DisplayName("Deve contar pedidos")
     void deveContarPedidos() {
         // Arrange
-        when(pedidoRepository.count()).thenReturn(5L);
+        when(pedidoRepository.contar(ContadorRepository.PEDIDOS)).thenReturn(5L);
 
         // Act
-        long resultado = pedidoService.contarPedidos();
+        long resultado = pedidoService.contarPedidos(false);
 
         // Assert
         assertEquals(5L, resultado);
-        verify(pedidoRepository).count();
+        verify(pedidoRepository).contar(ContadorRepository.PEDIDOS);
+        verify(pedidoRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Deve contar pedidos pela estimativa do banco")
+    void deveContarPedidosAproximadamente() {
+        // Arrange
+        when(pedidoRepository.contarAproximado(ContadorRepository.PEDIDOS)).thenReturn(1_000_000L);
+
+        // Act
+        long resultado = pedidoService.contarPedidos(true);
+
+        // Assert
+        assertEquals(1_000_000L, resultado);
+        verify(pedidoRepository, never()).contar(ContadorRepository.PEDIDOS);
+    }
+
+    @Test
+    @DisplayName("Deve contar pedidos por status, com zero para os status sem pedidos")
+    void deveContarPedidosPorStatus() {
+        // Arrange
+        when(pedidoRepository.contarPorGrupo(ContadorRepository.PEDIDOS))
+                .thenReturn(Map.of("PENDENTE", 7L, "CANCELADO", 2L));
+
+        // Act
+        Map<StatusPedido, Long> resultado = pedidoService.contarPedidosPorStatus();
+
+        // Assert
+        assertEquals(List.of(StatusPedido.values()), List.copyOf(resultado.keySet()));
+        assertEquals(7L, resultado.get(StatusPedido.PENDENTE));
+        assertEquals(2L, resultado.get(StatusPedido.CANCELADO));
+        assertEquals(0L, resultado.get(StatusPedido.ENTREGUE));
     }
 
     @Test
@@ -394,10 +776,10 @@ class PedidoServiceImplTest {
         when(pedidoCalculator.calcularValorTotal(pedido)).thenReturn(new BigDecimal("150.00"));
 
         // Act
-        Double resultado = pedidoService.calcularValorTotal(1L);
+        BigDecimal resultado = pedidoService.calcularValorTotal(1L);
 
         // Assert
-        assertEquals(150.0, resultado);
+        assertEquals(new BigDecimal("150.00"), resultado);
         verify(pedidoRepository).findById(1L);
         verify(pedidoCalculator).calcularValorTotal(pedido);
     }
@@ -417,6 +799,13 @@ class PedidoServiceImplTest {
         verify(pedidoCalculator, never()).calcularValorTotal(any());
     }
 
+    private void assertEtapasMedidas(String operacao, String... etapas) {
+        for (String etapa : etapas) {
+            assertEquals(1, meterRegistry.get(MetricasEtapasPedido.NOME)
+                    .tags("operacao", operacao, "etapa", etapa).timer().count(), etapa);
+        }
+    }
+
     private PedidoDTO criarPedidoDTO() {
         PedidoDTO pedidoDTO = new PedidoDTO();
         pedidoDTO.setClienteId(1L);
@@ -443,6 +832,15 @@ class PedidoServiceImplTest {
         return pedido;
     }
 
+    private CadastroClientes criarCadastroClientes() {
+        return new CadastroClientes(clienteRepository, transactionTemplate,
+                new CadastroClientesProperties(100, Duration.ofMinutes(10), 1000, 0.01), new SimpleMeterRegistry());
+    }
+
+    private ResumoPedido criarResumo(Long id, StatusPedido status) {
+        return new ResumoPedido(id, 1L, "João", LocalDateTime.now(), status, TipoPagamento.PIX, new BigDecimal("150.00"));
+    }
+
     private Cliente criarCliente(Long id) {
         Cliente cliente = new Cliente();
         cliente.setId(id);
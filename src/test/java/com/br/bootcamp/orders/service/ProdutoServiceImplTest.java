@@ -1,31 +1,51 @@
 package com.br.bootcamp.orders.service;
 
+import com.br.bootcamp.orders.controller.config.CatalogoColunarProperties;
+import com.br.bootcamp.orders.controller.config.CatalogoProdutosProperties;
 import com.br.bootcamp.orders.model.Produto;
 import com.br.bootcamp.orders.model.dto.ProdutoDTO;
 import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.model.leitura.ColunasProduto;
+import com.br.bootcamp.orders.model.leitura.SimilaridadeNome;
+import com.br.bootcamp.orders.repository.ContadorRepository;
 import com.br.bootcamp.orders.repository.ProdutoRepository;
 import com.br.bootcamp.orders.service.exception.BusinessException;
 import com.br.bootcamp.orders.service.exception.ResourceNotFoundException;
+import com.br.bootcamp.orders.service.mapper.ProdutoMapper;
+import com.br.bootcamp.orders.service.util.BuscaPorNome;
+import com.br.bootcamp.orders.service.util.CatalogoColunar;
+import com.br.bootcamp.orders.service.util.CatalogoProdutos;
+import com.br.bootcamp.orders.service.util.CursorPaginacao;
+import com.br.bootcamp.orders.service.util.Pagina;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,14 +56,27 @@ class ProdutoServiceImplTest {
     private ProdutoRepository produtoRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ProdutoMapper produtoMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private ProdutoServiceImpl produtoService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        produtoService = new ProdutoServiceImpl(produtoRepository, modelMapper);
+        produtoService = criarServico(false);
+    }
+
+    private ProdutoServiceImpl criarServico(boolean catalogoColunarHabilitado) {
+        CatalogoColunar catalogoColunar = new CatalogoColunar(produtoRepository, new TransactionTemplate(transactionManager),
+                new CatalogoColunarProperties(catalogoColunarHabilitado));
+        CatalogoProdutos catalogoProdutos = new CatalogoProdutos(produtoRepository,
+                new CatalogoProdutosProperties(100, Duration.ofMinutes(10), Duration.ofMinutes(10)), new SimpleMeterRegistry(),
+                catalogoColunar);
+        catalogoColunar.montar();
+        return new ProdutoServiceImpl(produtoRepository, produtoMapper, catalogoProdutos, catalogoColunar);
     }
 
     @Test
@@ -54,16 +87,17 @@ class ProdutoServiceImplTest {
                 criarProduto(1L, "Notebook", new BigDecimal("3500.00")),
                 criarProduto(2L, "Smartphone", new BigDecimal("2500.00"))
         );
-        when(produtoRepository.findAll()).thenReturn(produtos);
+        when(produtoRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(51))).thenReturn(produtos);
 
         // Act
-        List<Produto> resultado = produtoService.listarTodos();
+        Pagina<Produto> resultado = produtoService.listarTodos(50, null);
 
         // Assert
-        assertEquals(2, resultado.size());
-        assertEquals("Notebook", resultado.get(0).getNome());
-        assertEquals("Smartphone", resultado.get(1).getNome());
-        verify(produtoRepository).findAll();
+        assertEquals(2, resultado.itens().size());
+        assertEquals("Notebook", resultado.itens().get(0).getNome());
+        assertEquals("Smartphone", resultado.itens().get(1).getNome());
+        assertFalse(resultado.temProxima());
+        verify(produtoRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(51));
     }
 
     @Test
@@ -83,36 +117,93 @@ class ProdutoServiceImplTest {
     }
 
     @Test
-    @DisplayName("Deve lançar exceção quando produto não existe por ID")
-    void deveLancarExcecaoQuandoProdutoNaoExistePorId() {
+    @DisplayName("Deve retornar vazio sem lançar exceção quando produto não existe por ID")
+    void deveRetornarVazioQuandoProdutoNaoExistePorId() {
         // Arrange
         when(produtoRepository.findById(1L)).thenReturn(Optional.empty());
 
-        // Act & Assert
-        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
-                () -> produtoService.buscarPorId(1L));
-        
-        assertEquals("Produto não encontrado com ID: 1", exception.getMessage());
+        // Act
+        Optional<Produto> resultado = produtoService.buscarPorId(1L);
+
+        // Assert
+        assertTrue(resultado.isEmpty());
         verify(produtoRepository).findById(1L);
     }
 
     @Test
-    @DisplayName("Deve buscar produtos por nome")
+    @DisplayName("Deve atender a segunda busca por ID pelo catálogo em memória")
+    void deveAtenderSegundaBuscaPorIdPeloCatalogo() {
+        // Arrange
+        Produto produto = criarProduto(1L, "Notebook", new BigDecimal("3500.00"));
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(produto));
+
+        // Act
+        produtoService.buscarPorId(1L);
+        Optional<Produto> resultado = produtoService.buscarPorId(1L);
+
+        // Assert
+        assertEquals("Notebook", resultado.get().getNome());
+        verify(produtoRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve ler o produto do banco ao buscar o valor atual")
+    void deveLerProdutoDoBancoAoBuscarValorAtual() {
+        // Arrange
+        when(produtoRepository.findById(1L))
+                .thenReturn(Optional.of(criarProduto(1L, "Notebook", new BigDecimal("3500.00"))))
+                .thenReturn(Optional.of(criarProduto(1L, "Notebook", new BigDecimal("3900.00"))));
+        produtoService.buscarPorId(1L);
+
+        // Act
+        Optional<Produto> resultado = produtoService.buscarPorIdAtual(1L);
+
+        // Assert
+        assertEquals(new BigDecimal("3900.00"), resultado.get().getPreco());
+        verify(produtoRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve remover o produto do catálogo ao atualizá-lo")
+    void deveRemoverProdutoDoCatalogoAoAtualizar() {
+        // Arrange
+        ProdutoDTO produtoDTO = new ProdutoDTO("Notebook", "Descrição", new BigDecimal("3900.00"), 10, CategoriaProduto.ELETRONICOS);
+        Produto atualizado = criarProduto(1L, "Notebook", new BigDecimal("3900.00"));
+        when(produtoRepository.findById(1L))
+                .thenReturn(Optional.of(criarProduto(1L, "Notebook", new BigDecimal("3500.00"))))
+                .thenReturn(Optional.of(atualizado));
+        when(produtoMapper.paraEntidade(produtoDTO)).thenReturn(atualizado);
+        when(produtoRepository.save(atualizado)).thenReturn(atualizado);
+        produtoService.buscarPorId(1L);
+
+        // Act
+        produtoService.atualizar(1L, produtoDTO);
+        Optional<Produto> resultado = produtoService.buscarPorId(1L);
+
+        // Assert
+        assertEquals(new BigDecimal("3900.00"), resultado.get().getPreco());
+        // Primeira busca, leitura do produto existente pela atualização e busca depois dela
+        verify(produtoRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve buscar produtos por nome na ordem de semelhança")
     void deveBuscarProdutosPorNome() {
         // Arrange
-        List<Produto> produtos = Arrays.asList(
-                criarProduto(1L, "Notebook Dell", new BigDecimal("3500.00")),
+        when(produtoRepository.buscarPaginaPorNome("Notebook", "%Notebook%", BuscaPorNome.SIMILARIDADE_INICIAL, 0L, 51))
+                .thenReturn(List.of(similaridade(2L, 0.6f), similaridade(1L, 0.4f)));
+        when(produtoRepository.findAllById(List.of(2L, 1L))).thenReturn(Arrays.asList(
+                criarProduto(1L, "Notebook Dell Inspiron", new BigDecimal("3500.00")),
                 criarProduto(2L, "Notebook HP", new BigDecimal("3200.00"))
-        );
-        when(produtoRepository.findByNomeContainingIgnoreCase("Notebook")).thenReturn(produtos);
+        ));
 
         // Act
-        List<Produto> resultado = produtoService.buscarPorNome("Notebook");
+        Pagina<Produto> resultado = produtoService.buscarPorNome("Notebook", 50, null);
 
         // Assert
-        assertEquals(2, resultado.size());
-        assertTrue(resultado.stream().allMatch(p -> p.getNome().contains("Notebook")));
-        verify(produtoRepository).findByNomeContainingIgnoreCase("Notebook");
+        assertEquals(List.of(2L, 1L), resultado.itens().stream().map(Produto::getId).toList());
+        assertFalse(resultado.temProxima());
+        verify(produtoRepository).buscarPaginaPorNome("Notebook", "%Notebook%", BuscaPorNome.SIMILARIDADE_INICIAL, 0L, 51);
     }
 
     @Test
@@ -123,16 +214,101 @@ class ProdutoServiceImplTest {
                 criarProduto(1L, "Produto 1", new BigDecimal("100.00")),
                 criarProduto(2L, "Produto 2", new BigDecimal("200.00"))
         );
-        when(produtoRepository.findByPrecoBetweenOrderByPrecoAsc(
-                BigDecimal.valueOf(100.0), BigDecimal.valueOf(300.0))).thenReturn(produtos);
+        when(produtoRepository.buscarPaginaPorFaixaPreco(BigDecimal.valueOf(100.0), BigDecimal.valueOf(300.0),
+                BigDecimal.valueOf(100.0), 0L, Limit.of(51))).thenReturn(produtos);
+
+        // Act
+        Pagina<Produto> resultado = produtoService.buscarPorFaixaPreco(100.0, 300.0, 50, null);
+
+        // Assert
+        assertEquals(2, resultado.itens().size());
+        verify(produtoRepository).buscarPaginaPorFaixaPreco(BigDecimal.valueOf(100.0), BigDecimal.valueOf(300.0),
+                BigDecimal.valueOf(100.0), 0L, Limit.of(51));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a busca por faixa de preço a partir do preço e do ID do cursor")
+    void deveContinuarBuscaPorFaixaDePrecoAPartirDoCursor() {
+        // Arrange
+        List<Produto> produtos = Arrays.asList(
+                criarProduto(7L, "Produto 7", new BigDecimal("150.00")),
+                criarProduto(3L, "Produto 3", new BigDecimal("180.00"))
+        );
+        when(produtoRepository.buscarPaginaPorFaixaPreco(BigDecimal.valueOf(100.0), BigDecimal.valueOf(300.0),
+                new BigDecimal("150.00"), 5L, Limit.of(2))).thenReturn(produtos);
+
+        // Act
+        Pagina<Produto> resultado = produtoService.buscarPorFaixaPreco(100.0, 300.0, 1,
+                CursorPaginacao.codificar("150.00", 5L));
+
+        // Assert
+        assertEquals(1, resultado.itens().size());
+        CursorPaginacao.ChavePreco cursor = CursorPaginacao.lerPrecoEId(resultado.proximoCursor());
+        assertEquals(new BigDecimal("150.00"), cursor.preco());
+        assertEquals(7L, cursor.id());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por categoria e estoque no banco quando o catálogo colunar estiver desabilitado")
+    void deveFiltrarNoBancoSemCatalogoColunar() {
+        // Arrange
+        List<Produto> produtos = List.of(criarProduto(1L, "Notebook", new BigDecimal("3500.00")));
+        when(produtoRepository.buscarPaginaPorFiltro(BigDecimal.ZERO, new BigDecimal("99999999.99"),
+                CategoriaProduto.ELETRONICOS, true, BigDecimal.ZERO, 0L, Limit.of(51))).thenReturn(produtos);
+
+        // Act
+        Pagina<Produto> resultado = produtoService.filtrar(null, null, CategoriaProduto.ELETRONICOS, true, 50, null);
+
+        // Assert
+        assertEquals(1, resultado.itens().size());
+        assertFalse(resultado.temProxima());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por faixa de preço no catálogo colunar e ler do banco apenas a página")
+    void deveBuscarPorFaixaDePrecoNoCatalogoColunar() {
+        // Arrange
+        when(produtoRepository.count()).thenReturn(3L);
+        when(produtoRepository.listarColunas()).thenReturn(Stream.of(
+                colunas(3L, "90.00", "ELETRONICOS", 1),
+                colunas(1L, "150.00", "ELETRONICOS", 5),
+                colunas(2L, "180.00", "VESTUARIO", 0)));
+        ProdutoServiceImpl servico = criarServico(true);
+        when(produtoRepository.findAllById(List.of(1L))).thenReturn(List.of(
+                criarProduto(1L, "Produto 1", new BigDecimal("150.00"))));
+
+        // Act
+        Pagina<Produto> resultado = servico.buscarPorFaixaPreco(100.0, 300.0, 1, null);
+
+        // Assert
+        assertEquals(List.of(1L), resultado.itens().stream().map(Produto::getId).toList());
+        CursorPaginacao.ChavePreco cursor = CursorPaginacao.lerPrecoEId(resultado.proximoCursor());
+        assertEquals(new BigDecimal("150.00"), cursor.preco());
+        assertEquals(1L, cursor.id());
+        verify(produtoRepository, never()).buscarPaginaPorFaixaPreco(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve continuar o filtro no catálogo colunar a partir do cursor, sem produtos fora de estoque")
+    void deveContinuarFiltroNoCatalogoColunar() {
+        // Arrange
+        when(produtoRepository.count()).thenReturn(3L);
+        when(produtoRepository.listarColunas()).thenReturn(Stream.of(
+                colunas(1L, "150.00", "ELETRONICOS", 5),
+                colunas(2L, "180.00", "ELETRONICOS", 0),
+                colunas(4L, "200.00", "ELETRONICOS", 2)));
+        ProdutoServiceImpl servico = criarServico(true);
+        when(produtoRepository.findAllById(List.of(4L))).thenReturn(List.of(
+                criarProduto(4L, "Produto 4", new BigDecimal("200.00"))));
 
         // Act
-        List<Produto> resultado = produtoService.buscarPorFaixaPreco(100.0, 300.0);
+        Pagina<Produto> resultado = servico.filtrar(null, null, CategoriaProduto.ELETRONICOS, true, 50,
+                CursorPaginacao.codificar("150.00", 1L));
 
         // Assert
-        assertEquals(2, resultado.size());
-        verify(produtoRepository).findByPrecoBetweenOrderByPrecoAsc(
-                BigDecimal.valueOf(100.0), BigDecimal.valueOf(300.0));
+        assertEquals(List.of(4L), resultado.itens().stream().map(Produto::getId).toList());
+        assertFalse(resultado.temProxima());
+        verify(produtoRepository, never()).buscarPaginaPorFiltro(any(), any(), any(), anyBoolean(), any(), any(), any());
     }
 
     @Test
@@ -140,10 +316,10 @@ class ProdutoServiceImplTest {
     void deveLancarExcecaoAoBuscarPorFaixaDePrecoComValoresNull() {
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class,
-                () -> produtoService.buscarPorFaixaPreco(null, 300.0));
+                () -> produtoService.buscarPorFaixaPreco(null, 300.0, 50, null));
         
         assertEquals("Preço mínimo e máximo são obrigatórios.", exception.getMessage());
-        verify(produtoRepository, never()).findByPrecoBetweenOrderByPrecoAsc(any(), any());
+        verify(produtoRepository, never()).buscarPaginaPorFaixaPreco(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -151,10 +327,10 @@ class ProdutoServiceImplTest {
     void deveLancarExcecaoAoBuscarPorFaixaDePrecoComValoresNegativos() {
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class,
-                () -> produtoService.buscarPorFaixaPreco(-100.0, 300.0));
+                () -> produtoService.buscarPorFaixaPreco(-100.0, 300.0, 50, null));
         
         assertEquals("Preços não podem ser negativos.", exception.getMessage());
-        verify(produtoRepository, never()).findByPrecoBetweenOrderByPrecoAsc(any(), any());
+        verify(produtoRepository, never()).buscarPaginaPorFaixaPreco(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -162,10 +338,10 @@ class ProdutoServiceImplTest {
     void deveLancarExcecaoAoBuscarPorFaixaDePrecoComMinimoMaiorQueMaximo() {
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class,
-                () -> produtoService.buscarPorFaixaPreco(500.0, 300.0));
+                () -> produtoService.buscarPorFaixaPreco(500.0, 300.0, 50, null));
         
         assertEquals("Preço mínimo não pode ser maior que o preço máximo.", exception.getMessage());
-        verify(produtoRepository, never()).findByPrecoBetweenOrderByPrecoAsc(any(), any());
+        verify(produtoRepository, never()).buscarPaginaPorFaixaPreco(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -175,7 +351,7 @@ class ProdutoServiceImplTest {
         ProdutoDTO produtoDTO = new ProdutoDTO("Notebook", "Descrição", new BigDecimal("3500.00"), 10, CategoriaProduto.ELETRONICOS);
         Produto produto = criarProduto(1L, "Notebook", new BigDecimal("3500.00"));
         
-        when(modelMapper.map(produtoDTO, Produto.class)).thenReturn(produto);
+        when(produtoMapper.paraEntidade(produtoDTO)).thenReturn(produto);
         when(produtoRepository.save(produto)).thenReturn(produto);
 
         // Act
@@ -184,7 +360,7 @@ class ProdutoServiceImplTest {
         // Assert
         assertNotNull(resultado);
         assertEquals("Notebook", resultado.getNome());
-        verify(modelMapper).map(produtoDTO, Produto.class);
+        verify(produtoMapper).paraEntidade(produtoDTO);
         verify(produtoRepository).save(produto);
     }
 
@@ -196,14 +372,14 @@ class ProdutoServiceImplTest {
         Produto produto = new Produto();
         produto.setNome("");
         
-        when(modelMapper.map(produtoDTO, Produto.class)).thenReturn(produto);
+        when(produtoMapper.paraEntidade(produtoDTO)).thenReturn(produto);
 
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> produtoService.salvar(produtoDTO));
         
         assertEquals("Nome do produto é obrigatório.", exception.getMessage());
-        verify(modelMapper).map(produtoDTO, Produto.class);
+        verify(produtoMapper).paraEntidade(produtoDTO);
         verify(produtoRepository, never()).save(any());
     }
 
@@ -216,14 +392,14 @@ class ProdutoServiceImplTest {
         produto.setNome("Notebook");
         produto.setPreco(new BigDecimal("0.00"));
         
-        when(modelMapper.map(produtoDTO, Produto.class)).thenReturn(produto);
+        when(produtoMapper.paraEntidade(produtoDTO)).thenReturn(produto);
 
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> produtoService.salvar(produtoDTO));
         
         assertEquals("Preço do produto deve ser maior que zero.", exception.getMessage());
-        verify(modelMapper).map(produtoDTO, Produto.class);
+        verify(produtoMapper).paraEntidade(produtoDTO);
         verify(produtoRepository, never()).save(any());
     }
 
@@ -237,14 +413,14 @@ class ProdutoServiceImplTest {
         produto.setPreco(new BigDecimal("3500.00"));
         produto.setQuantidadeEstoque(-1);
         
-        when(modelMapper.map(produtoDTO, Produto.class)).thenReturn(produto);
+        when(produtoMapper.paraEntidade(produtoDTO)).thenReturn(produto);
 
         // Act & Assert
         BusinessException exception = assertThrows(BusinessException.class,
                 () -> produtoService.salvar(produtoDTO));
         
         assertEquals("Quantidade em estoque não pode ser negativa.", exception.getMessage());
-        verify(modelMapper).map(produtoDTO, Produto.class);
+        verify(produtoMapper).paraEntidade(produtoDTO);
         verify(produtoRepository, never()).save(any());
     }
 
@@ -255,8 +431,8 @@ class ProdutoServiceImplTest {
         ProdutoDTO produtoDTO = new ProdutoDTO("Notebook Atualizado", "Descrição", new BigDecimal("4000.00"), 15, CategoriaProduto.ELETRONICOS);
         Produto produto = criarProduto(1L, "Notebook Atualizado", new BigDecimal("4000.00"));
         
-        when(produtoRepository.existsById(1L)).thenReturn(true);
-        when(modelMapper.map(produtoDTO, Produto.class)).thenReturn(produto);
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(criarProduto(1L, "Notebook", new BigDecimal("3500.00"))));
+        when(produtoMapper.paraEntidade(produtoDTO)).thenReturn(produto);
         when(produtoRepository.save(produto)).thenReturn(produto);
 
         // Act
@@ -266,9 +442,35 @@ class ProdutoServiceImplTest {
         assertNotNull(resultado);
         assertEquals("Notebook Atualizado", resultado.getNome());
         assertEquals(1L, resultado.getId());
-        verify(produtoRepository).existsById(1L);
-        verify(modelMapper).map(produtoDTO, Produto.class);
+        verify(produtoRepository).findById(1L);
+        verify(produtoMapper).paraEntidade(produtoDTO);
         verify(produtoRepository).save(produto);
+        verify(produtoRepository, never()).definirEstoque(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve redistribuir entre as frações o estoque de um produto fracionado atualizado")
+    void deveRedistribuirEntreFracoesAoAtualizarProdutoFracionado() {
+        // Arrange
+        ProdutoDTO produtoDTO = new ProdutoDTO("Notebook Atualizado", "Descrição", new BigDecimal("4000.00"), 100, CategoriaProduto.ELETRONICOS);
+        Produto existente = criarProduto(1L, "Notebook", new BigDecimal("3500.00"));
+        existente.setFracoesEstoque(8);
+        existente.setSomaFracoesEstoque(40);
+        Produto produto = criarProduto(1L, "Notebook Atualizado", new BigDecimal("4000.00"));
+        produto.setQuantidadeEstoque(100);
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(existente));
+        when(produtoMapper.paraEntidade(produtoDTO)).thenReturn(produto);
+        when(produtoRepository.save(produto)).thenReturn(produto);
+
+        // Act
+        Produto resultado = produtoService.atualizar(1L, produtoDTO);
+
+        // Assert
+        assertEquals("Notebook Atualizado", resultado.getNome());
+        assertTrue(resultado.isEstoqueFracionado());
+        assertEquals(8, resultado.getFracoesEstoque());
+        assertEquals(100, resultado.getQuantidadeEstoque());
+        verify(produtoRepository).definirEstoque(1L, 100);
     }
 
     @Test
@@ -276,14 +478,14 @@ class ProdutoServiceImplTest {
     void deveLancarExcecaoAoAtualizarProdutoInexistente() {
         // Arrange
         ProdutoDTO produtoDTO = new ProdutoDTO("Notebook", "Descrição", new BigDecimal("3500.00"), 10, CategoriaProduto.ELETRONICOS);
-        when(produtoRepository.existsById(1L)).thenReturn(false);
+        when(produtoRepository.findById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
                 () -> produtoService.atualizar(1L, produtoDTO));
         
         assertEquals("Produto não encontrado com ID: 1", exception.getMessage());
-        verify(produtoRepository).existsById(1L);
+        verify(produtoRepository).findById(1L);
         verify(produtoRepository, never()).save(any());
     }
 
@@ -321,14 +523,29 @@ class ProdutoServiceImplTest {
     @DisplayName("Deve contar produtos")
     void deveContarProdutos() {
         // Arrange
-        when(produtoRepository.count()).thenReturn(10L);
+        when(produtoRepository.contar(ContadorRepository.PRODUTOS)).thenReturn(10L);
 
         // Act
-        long resultado = produtoService.contarProdutos();
+        long resultado = produtoService.contarProdutos(false);
 
         // Assert
         assertEquals(10L, resultado);
-        verify(produtoRepository).count();
+        verify(produtoRepository).contar(ContadorRepository.PRODUTOS);
+        verify(produtoRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Deve contar produtos pela estimativa do banco")
+    void deveContarProdutosAproximadamente() {
+        // Arrange
+        when(produtoRepository.contarAproximado(ContadorRepository.PRODUTOS)).thenReturn(1_000_000L);
+
+        // Act
+        long resultado = produtoService.contarProdutos(true);
+
+        // Assert
+        assertEquals(1_000_000L, resultado);
+        verify(produtoRepository, never()).contar(ContadorRepository.PRODUTOS);
     }
 
     @Test
@@ -382,6 +599,120 @@ class ProdutoServiceImplTest {
         verify(produtoRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Deve redistribuir entre as frações ao atualizar estoque fracionado")
+    void deveRedistribuirEntreFracoesAoAtualizarEstoqueFracionado() {
+        // Arrange
+        Produto produto = criarProduto(1L, "Notebook", new BigDecimal("3500.00"));
+        produto.setFracoesEstoque(8);
+        produto.setSomaFracoesEstoque(40);
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(produto));
+
+        // Act
+        Produto resultado = produtoService.atualizarEstoque(1L, 100);
+
+        // Assert
+        assertEquals(100, resultado.getQuantidadeEstoque());
+        verify(produtoRepository).definirEstoque(1L, 100);
+        verify(produtoRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve fracionar estoque do produto mantendo o total visível")
+    void deveFracionarEstoqueMantendoTotalVisivel() {
+        // Arrange
+        Produto produto = criarProduto(1L, "Notebook", new BigDecimal("3500.00"));
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(produto));
+        when(produtoRepository.fracionarEstoque(1L, 16)).thenReturn(10);
+
+        // Act
+        Produto resultado = produtoService.fracionarEstoque(1L, 16);
+
+        // Assert
+        assertTrue(resultado.isEstoqueFracionado());
+        assertEquals(16, resultado.getFracoesEstoque());
+        assertEquals(10, resultado.getQuantidadeEstoque());
+        verify(produtoRepository).fracionarEstoque(1L, 16);
+    }
+
+    @Test
+    @DisplayName("Deve consolidar estoque fracionado ao informar uma fração")
+    void deveConsolidarEstoqueFracionadoAoInformarUmaFracao() {
+        // Arrange
+        Produto produto = criarProduto(1L, "Notebook", new BigDecimal("3500.00"));
+        produto.setFracoesEstoque(8);
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(produto));
+        when(produtoRepository.fracionarEstoque(1L, 1)).thenReturn(37);
+
+        // Act
+        Produto resultado = produtoService.fracionarEstoque(1L, 1);
+
+        // Assert
+        assertFalse(resultado.isEstoqueFracionado());
+        assertEquals(37, resultado.getQuantidadeEstoque());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao fracionar estoque com quantidade de frações inválida")
+    void deveLancarExcecaoAoFracionarEstoqueComQuantidadeDeFracoesInvalida() {
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> produtoService.fracionarEstoque(1L, 0));
+
+        assertEquals("A quantidade de frações deve estar entre 1 e 64.", exception.getMessage());
+        assertThrows(BusinessException.class, () -> produtoService.fracionarEstoque(1L, 65));
+        verify(produtoRepository, never()).fracionarEstoque(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao fracionar estoque de produto inexistente")
+    void deveLancarExcecaoAoFracionarEstoqueDeProdutoInexistente() {
+        // Arrange
+        when(produtoRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> produtoService.fracionarEstoque(1L, 4));
+        verify(produtoRepository, never()).fracionarEstoque(any(), anyInt());
+    }
+
+    private ColunasProduto colunas(Long id, String preco, String categoria, Integer estoque) {
+        return new ColunasProduto() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public BigDecimal getPreco() {
+                return new BigDecimal(preco);
+            }
+
+            @Override
+            public String getCategoria() {
+                return categoria;
+            }
+
+            @Override
+            public Integer getEstoque() {
+                return estoque;
+            }
+        };
+    }
+
+    private SimilaridadeNome similaridade(Long id, float similaridade) {
+        return new SimilaridadeNome() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Float getSimilaridade() {
+                return similaridade;
+            }
+        };
+    }
+
     private Produto criarProduto(Long id, String nome, BigDecimal preco) {
         Produto produto = new Produto();
         produto.setId(id);
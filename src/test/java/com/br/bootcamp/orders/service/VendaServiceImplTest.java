@@ -0,0 +1,76 @@
+package com.br.bootcamp.orders.service;
+
+import com.br.bootcamp.orders.controller.config.VendasDiariasProperties;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.util.VendasDiarias;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para VendaServiceImpl")
+class VendaServiceImplTest {
+
+    @Mock
+    private VendasDiarias vendasDiarias;
+
+    private VendaServiceImpl vendaService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        vendaService = new VendaServiceImpl(vendasDiarias, new VendasDiariasProperties(100, Duration.ofHours(1), 31));
+    }
+
+    @Test
+    @DisplayName("Deve consultar as vendas do período e calcular o valor médio por pedido")
+    void deveConsultarVendasDoPeriodo() {
+        // Arrange
+        LocalDate inicio = LocalDate.of(2024, 1, 1);
+        LocalDate fim = LocalDate.of(2024, 1, 31);
+        VendaDiaria venda = VendaDiaria.de(inicio, StatusPedido.ENTREGUE, TipoPagamento.BOLETO, 3, new BigDecimal("100.00"));
+        when(vendasDiarias.consultar(inicio, fim)).thenReturn(List.of(venda));
+
+        // Act
+        List<VendaDiaria> vendas = vendaService.consultarVendas(inicio, fim);
+
+        // Assert
+        assertEquals(List.of(venda), vendas);
+        assertEquals(new BigDecimal("33.33"), vendas.get(0).ticketMedio());
+    }
+
+    @Test
+    @DisplayName("Deve recusar período com início posterior ao fim")
+    void deveRecusarPeriodoInvertido() {
+        // Act & Assert
+        assertThrows(BusinessException.class,
+                () -> vendaService.consultarVendas(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)));
+        verify(vendasDiarias, never()).consultar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar período mais longo que o permitido")
+    void deveRecusarPeriodoLongoDemais() {
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> vendaService.consultarVendas(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)));
+        assertEquals("O período deve ter no máximo 31 dias.", exception.getMessage());
+        verify(vendasDiarias, never()).consultar(any(), any());
+    }
+}
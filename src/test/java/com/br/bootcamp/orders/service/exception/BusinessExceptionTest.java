@@ -59,13 +59,13 @@ class BusinessExceptionTest {
     }
 
     @Test
-    @DisplayName("Deve manter stack trace")
-    void deveManterStackTrace() {
+    @DisplayName("Não deve capturar a pilha de chamadas")
+    void naoDeveCapturarPilhaDeChamadas() {
         BusinessException exception = new BusinessException("Erro de negócio");
         
         StackTraceElement[] stackTrace = exception.getStackTrace();
         
         assertNotNull(stackTrace);
-        assertTrue(stackTrace.length > 0);
+        assertEquals(0, stackTrace.length);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.br.bootcamp.orders.service.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para FilaCheiaException")
+class FilaCheiaExceptionTest {
+
+    @Test
+    @DisplayName("Deve criar FilaCheiaException com mensagem")
+    void deveCriarFilaCheiaExceptionComMensagem() {
+        FilaCheiaException exception = new FilaCheiaException("Fila cheia");
+
+        assertEquals("Fila cheia", exception.getMessage());
+        assertTrue(exception instanceof RuntimeException);
+    }
+
+    @Test
+    @DisplayName("Deve ter anotação ResponseStatus com SERVICE_UNAVAILABLE")
+    void deveTerAnotacaoResponseStatusComServiceUnavailable() {
+        ResponseStatus annotation = FilaCheiaException.class.getAnnotation(ResponseStatus.class);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, annotation.value());
+    }
+}
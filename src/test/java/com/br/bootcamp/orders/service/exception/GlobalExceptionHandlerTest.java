@@ -75,6 +75,41 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody().getTimestamp());
     }
 
+    @Test
+    @DisplayName("Deve tratar FilaCheiaException")
+    void deveTratarFilaCheiaException() {
+        // Arrange
+        FilaCheiaException exception = new FilaCheiaException("Fila de pedidos cheia. Tente novamente em instantes.");
+        
+        // Act
+        ResponseEntity<ErrorResponseDTO> response = handler.handleFilaCheiaException(exception, request);
+        
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(503, response.getBody().getStatus());
+        assertEquals("Service Unavailable", response.getBody().getError());
+        assertEquals("Fila de pedidos cheia. Tente novamente em instantes.", response.getBody().getMessage());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("Deve tratar RequisicaoEmAndamentoException")
+    void deveTratarRequisicaoEmAndamentoException() {
+        // Arrange
+        RequisicaoEmAndamentoException exception = new RequisicaoEmAndamentoException("Requisição ainda em processamento.");
+        
+        // Act
+        ResponseEntity<ErrorResponseDTO> response = handler.handleRequisicaoEmAndamentoException(exception, request);
+        
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(409, response.getBody().getStatus());
+        assertEquals("Conflict", response.getBody().getError());
+        assertEquals("Requisição ainda em processamento.", response.getBody().getMessage());
+    }
+
     @Test
     @DisplayName("Deve tratar MethodArgumentTypeMismatchException com StatusPedido")
     void deveTratarMethodArgumentTypeMismatchExceptionComStatusPedido() {
@@ -0,0 +1,85 @@
+package com.br.bootcamp.orders.service.exception;
+
+import com.br.bootcamp.orders.model.dto.ErrorResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * Benchmark JMH do caminho de uma busca por ID inexistente até o {@link ErrorResponseDTO} do 404:
+ * a exceção é lançada {@code profundidade} chamadas abaixo de quem a trata, como em uma requisição
+ * que passa pelos filtros e pelo despacho do Spring MVC (algo entre 100 e 200 chamadas), e
+ * respondida pelo {@link GlobalExceptionHandler}.
+ *
+ * <p>{@code excecao=semPilha} lança a {@link ResourceNotFoundException} atual, que não captura a
+ * pilha; {@code excecao=comPilha} lança uma exceção comum, como a {@link ResourceNotFoundException}
+ * fazia antes, e a converte antes de chamar o handler. Faz parte da suíte do perfil
+ * {@code benchmarks}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecursoNaoEncontradoBenchmark {
+
+    private static final long ID_INEXISTENTE = 999L;
+
+    @Param({"semPilha", "comPilha"})
+    public String excecao;
+
+    @Param({"20", "150"})
+    public int profundidade;
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private LongFunction<RuntimeException> naoEncontrado;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("GET", "/api/produtos/" + ID_INEXISTENTE);
+        naoEncontrado = switch (excecao) {
+            case "semPilha" -> id -> new ResourceNotFoundException("Produto não encontrado com ID: " + id);
+            case "comPilha" -> id -> new RuntimeException("Produto não encontrado com ID: " + id);
+            default -> throw new IllegalArgumentException("Exceção desconhecida: " + excecao);
+        };
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDTO> responder404() {
+        try {
+            buscar(profundidade);
+            throw new IllegalStateException("A busca deveria ter falhado");
+        } catch (ResourceNotFoundException e) {
+            return handler.handleResourceNotFoundException(e, request);
+        } catch (RuntimeException e) {
+            return handler.handleResourceNotFoundException(new ResourceNotFoundException(e.getMessage()), request);
+        }
+    }
+
+    /**
+     * Desce {@code restantes} chamadas e lança a exceção de registro inexistente no fim
+     */
+    private long buscar(int restantes) {
+        if (restantes == 0) {
+            throw naoEncontrado.apply(ID_INEXISTENTE);
+        }
+        return buscar(restantes - 1) + restantes;
+    }
+}
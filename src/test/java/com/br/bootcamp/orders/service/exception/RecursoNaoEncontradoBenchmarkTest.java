@@ -0,0 +1,64 @@
+package com.br.bootcamp.orders.service.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa o {@link RecursoNaoEncontradoBenchmark} com o profiler de GC e compara, em cada
+ * profundidade, o tempo e os bytes alocados por resposta 404 da exceção sem pilha com os da
+ * exceção que captura a pilha. Os resultados do JMH são registrados no log; o teste falha se a
+ * exceção sem pilha não for mais rápida e não alocar menos. Executado com {@code mvn test -Pcarga}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Benchmark JMH da resposta 404 com e sem captura da pilha")
+class RecursoNaoEncontradoBenchmarkTest {
+
+    private static final String ALOCACAO = "gc.alloc.rate.norm";
+
+    @Test
+    @DisplayName("Deve responder o 404 mais rápido e alocando menos sem capturar a pilha")
+    void deveResponder404MaisRapidoEAlocandoMenosSemPilha() throws Exception {
+        // Act
+        Collection<RunResult> resultados = new Runner(new OptionsBuilder()
+                .include(RecursoNaoEncontradoBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend("-Dlogback.configurationFile=logback-benchmark.xml")
+                .build()).run();
+
+        // Assert
+        Map<Integer, RunResult> semPilha = new TreeMap<>();
+        Map<Integer, RunResult> comPilha = new TreeMap<>();
+        for (RunResult resultado : resultados) {
+            int profundidade = Integer.parseInt(resultado.getParams().getParam("profundidade"));
+            ("semPilha".equals(resultado.getParams().getParam("excecao")) ? semPilha : comPilha)
+                    .put(profundidade, resultado);
+        }
+        assertEquals(2, semPilha.size());
+        assertEquals(2, comPilha.size());
+        semPilha.forEach((profundidade, sem) -> {
+            RunResult com = comPilha.get(profundidade);
+            double tempoSem = sem.getPrimaryResult().getScore();
+            double tempoCom = com.getPrimaryResult().getScore();
+            double alocacaoSem = sem.getSecondaryResults().get(ALOCACAO).getScore();
+            double alocacaoCom = com.getSecondaryResults().get(ALOCACAO).getScore();
+            log.info(String.format("profundidade %d: sem pilha %.1f ns e %.0f B, com pilha %.1f ns e %.0f B",
+                    profundidade, tempoSem, alocacaoSem, tempoCom, alocacaoCom));
+            assertTrue(tempoSem < tempoCom, "profundidade " + profundidade + ": tempo");
+            assertTrue(alocacaoSem < alocacaoCom, "profundidade " + profundidade + ": alocação");
+        });
+    }
+}
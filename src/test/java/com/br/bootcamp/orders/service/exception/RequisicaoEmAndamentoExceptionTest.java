@@ -0,0 +1,30 @@
+package com.br.bootcamp.orders.service.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para RequisicaoEmAndamentoException")
+class RequisicaoEmAndamentoExceptionTest {
+
+    @Test
+    @DisplayName("Deve criar RequisicaoEmAndamentoException com mensagem")
+    void deveCriarRequisicaoEmAndamentoExceptionComMensagem() {
+        RequisicaoEmAndamentoException exception = new RequisicaoEmAndamentoException("Requisição em processamento");
+
+        assertEquals("Requisição em processamento", exception.getMessage());
+        assertTrue(exception instanceof RuntimeException);
+    }
+
+    @Test
+    @DisplayName("Deve ter anotação ResponseStatus com CONFLICT")
+    void deveTerAnotacaoResponseStatusComConflict() {
+        ResponseStatus annotation = RequisicaoEmAndamentoException.class.getAnnotation(ResponseStatus.class);
+
+        assertEquals(HttpStatus.CONFLICT, annotation.value());
+    }
+}
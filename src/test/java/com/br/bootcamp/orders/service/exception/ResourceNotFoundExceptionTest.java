@@ -59,13 +59,13 @@ class ResourceNotFoundExceptionTest {
     }
 
     @Test
-    @DisplayName("Deve manter stack trace")
-    void deveManterStackTrace() {
+    @DisplayName("Não deve capturar a pilha de chamadas")
+    void naoDeveCapturarPilhaDeChamadas() {
         ResourceNotFoundException exception = new ResourceNotFoundException("Recurso não encontrado");
         
         StackTraceElement[] stackTrace = exception.getStackTrace();
         
         assertNotNull(stackTrace);
-        assertTrue(stackTrace.length > 0);
+        assertEquals(0, stackTrace.length);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.br.bootcamp.orders.service.mapper;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.dto.ClienteDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("Testes para ClienteMapper")
+class ClienteMapperTest {
+
+    private final ClienteMapper clienteMapper = new ClienteMapperImpl();
+
+    @Test
+    @DisplayName("Deve criar o cliente com todos os campos do DTO e sem ID")
+    void deveCriarClienteComCamposDoDTO() {
+        // Arrange
+        ClienteDTO clienteDTO = new ClienteDTO("João Silva", "joao@email.com", "(11) 99999-9999", "Rua A, 123");
+
+        // Act
+        Cliente cliente = clienteMapper.paraEntidade(clienteDTO);
+
+        // Assert
+        assertEquals(new Cliente(null, "João Silva", "joao@email.com", "(11) 99999-9999", "Rua A, 123"), cliente);
+    }
+
+    @Test
+    @DisplayName("Deve retornar null para DTO nulo")
+    void deveRetornarNullParaDTONulo() {
+        // Act & Assert
+        assertNull(clienteMapper.paraEntidade(null));
+    }
+}
@@ -0,0 +1,90 @@
+package com.br.bootcamp.orders.service.mapper;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.ItemPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.dto.PedidoDTO;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.repository.ClienteRepository;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.util.ContextoPedido;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para PedidoMapper")
+class PedidoMapperTest {
+
+    private final PedidoMapper pedidoMapper = new PedidoMapperImpl();
+
+    private Cliente cliente;
+    private Produto produto;
+    private ContextoPedido contexto;
+
+    @BeforeEach
+    void setUp() {
+        cliente = new Cliente();
+        cliente.setId(1L);
+        produto = new Produto();
+        produto.setId(10L);
+
+        ClienteRepository clienteRepository = mock(ClienteRepository.class);
+        ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+        when(clienteRepository.findAllById(anyIterable())).thenReturn(List.of(cliente));
+        when(produtoRepository.findAllById(anyIterable())).thenReturn(List.of(produto));
+        contexto = ContextoPedido.carregar(clienteRepository, produtoRepository, Set.of(1L), Set.of(10L));
+    }
+
+    @Test
+    @DisplayName("Deve criar o pedido com o cliente e os produtos do contexto e os itens vinculados a ele")
+    void deveCriarPedidoComRegistrosDoContexto() {
+        // Arrange
+        PedidoDTO pedidoDTO = new PedidoDTO(1L, LocalDateTime.of(2020, 1, 1, 0, 0), StatusPedido.ENTREGUE,
+                TipoPagamento.PIX, List.of(new PedidoDTO.ItemPedidoDTO(10L, 3)));
+
+        // Act
+        Pedido pedido = pedidoMapper.paraEntidade(pedidoDTO, contexto);
+
+        // Assert
+        assertSame(cliente, pedido.getCliente());
+        assertEquals(TipoPagamento.PIX, pedido.getTipoPagamento());
+        assertNull(pedido.getDataPedido());
+        assertNull(pedido.getStatus());
+        assertNull(pedido.getValorTotal());
+        assertEquals(1, pedido.getItens().size());
+        ItemPedido item = pedido.getItens().get(0);
+        assertSame(produto, item.getProduto());
+        assertSame(pedido, item.getPedido());
+        assertEquals(3, item.getQuantidade());
+        assertNull(item.getPrecoUnitario());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o cliente ou o produto não estiverem no contexto")
+    void deveLancarExcecaoQuandoRegistroNaoEstiverNoContexto() {
+        // Arrange
+        PedidoDTO semCliente = new PedidoDTO(2L, null, null, TipoPagamento.PIX, List.of(new PedidoDTO.ItemPedidoDTO(10L, 1)));
+        PedidoDTO semProduto = new PedidoDTO(1L, null, null, TipoPagamento.PIX, List.of(new PedidoDTO.ItemPedidoDTO(20L, 1)));
+
+        // Act & Assert
+        assertEquals("Cliente não encontrado com ID: 2",
+                assertThrows(BusinessException.class, () -> pedidoMapper.paraEntidade(semCliente, contexto)).getMessage());
+        assertEquals("Produto não encontrado com ID: 20",
+                assertThrows(BusinessException.class, () -> pedidoMapper.paraEntidade(semProduto, contexto)).getMessage());
+    }
+}
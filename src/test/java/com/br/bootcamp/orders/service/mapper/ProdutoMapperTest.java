@@ -0,0 +1,40 @@
+package com.br.bootcamp.orders.service.mapper;
+
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.dto.ProdutoDTO;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("Testes para ProdutoMapper")
+class ProdutoMapperTest {
+
+    private final ProdutoMapper produtoMapper = new ProdutoMapperImpl();
+
+    @Test
+    @DisplayName("Deve criar o produto com os campos do DTO, sem ID e com o estoque em uma fração")
+    void deveCriarProdutoComCamposDoDTO() {
+        // Arrange
+        ProdutoDTO produtoDTO = new ProdutoDTO("Notebook", "Notebook 15 polegadas", new BigDecimal("3500.00"), 10,
+                CategoriaProduto.ELETRONICOS);
+
+        // Act
+        Produto produto = produtoMapper.paraEntidade(produtoDTO);
+
+        // Assert
+        assertNull(produto.getId());
+        assertEquals("Notebook", produto.getNome());
+        assertEquals("Notebook 15 polegadas", produto.getDescricao());
+        assertEquals(new BigDecimal("3500.00"), produto.getPreco());
+        assertEquals(10, produto.getQuantidadeEstoque());
+        assertEquals(CategoriaProduto.ELETRONICOS, produto.getCategoria());
+        assertEquals(1, produto.getFracoesEstoque());
+        assertFalse(produto.isEstoqueFracionado());
+    }
+}
@@ -0,0 +1,98 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.leitura.SimilaridadeNome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para BuscaPorNome")
+class BuscaPorNomeTest {
+
+    @Test
+    @DisplayName("Deve escapar os caracteres especiais do LIKE no padrão")
+    void deveEscaparCaracteresEspeciais() {
+        // Assert
+        assertEquals("%Notebook%", BuscaPorNome.padrao("Notebook"));
+        assertEquals("%100\\% algodão\\_A\\\\B%", BuscaPorNome.padrao("100% algodão_A\\B"));
+    }
+
+    @Test
+    @DisplayName("Deve devolver os registros na ordem da consulta, sem os excluídos no intervalo")
+    void deveDevolverRegistrosNaOrdemDaConsulta() {
+        // Arrange
+        BuscaPorNome.Consulta consulta = (termo, padrao, similaridade, id, limite) ->
+                List.of(resultado(3L, 0.9f), resultado(1L, 0.5f), resultado(2L, 0.5f));
+        // O registro 1 foi excluído entre as duas consultas
+        Function<List<Long>, List<Long>> carregar = ids -> List.of(2L, 3L);
+
+        // Act
+        Pagina<Long> pagina = BuscaPorNome.buscar("note", 10, null, consulta, carregar, Function.identity());
+
+        // Assert
+        assertEquals(List.of(3L, 2L), pagina.itens());
+        assertFalse(pagina.temProxima());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir da semelhança e do ID do último registro da página")
+    void deveContinuarAPartirDoUltimoRegistro() {
+        // Arrange
+        List<String> chamadas = new ArrayList<>();
+        BuscaPorNome.Consulta consulta = (termo, padrao, similaridade, id, limite) -> {
+            chamadas.add(similaridade + "/" + id + "/" + limite);
+            return similaridade == BuscaPorNome.SIMILARIDADE_INICIAL
+                    ? List.of(resultado(4L, 0.8f), resultado(2L, 0.6f), resultado(5L, 0.6f))
+                    : List.of(resultado(5L, 0.6f));
+        };
+
+        // Act
+        Pagina<Long> primeira = BuscaPorNome.buscar("note", 2, null, consulta, List::copyOf, Function.identity());
+        Pagina<Long> segunda = BuscaPorNome.buscar("note", 2, primeira.proximoCursor(), consulta, List::copyOf,
+                Function.identity());
+
+        // Assert
+        assertEquals(List.of(4L, 2L), primeira.itens());
+        assertTrue(primeira.temProxima());
+        assertEquals(List.of(5L), segunda.itens());
+        assertFalse(segunda.temProxima());
+        assertEquals(List.of("2.0/0/3", "0.6/2/3"), chamadas);
+    }
+
+    @Test
+    @DisplayName("Não deve carregar registros quando nenhum nome for encontrado")
+    void naoDeveCarregarRegistrosSemResultados() {
+        // Arrange
+        BuscaPorNome.Consulta consulta = (termo, padrao, similaridade, id, limite) -> List.of();
+        Function<List<Long>, List<Long>> carregar = ids -> {
+            throw new AssertionError("Não deveria carregar registros");
+        };
+
+        // Act
+        Pagina<Long> pagina = BuscaPorNome.buscar("xyz", 10, null, consulta, carregar, Function.identity());
+
+        // Assert
+        assertTrue(pagina.itens().isEmpty());
+        assertFalse(pagina.temProxima());
+    }
+
+    private SimilaridadeNome resultado(Long id, float similaridade) {
+        return new SimilaridadeNome() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Float getSimilaridade() {
+                return similaridade;
+            }
+        };
+    }
+}
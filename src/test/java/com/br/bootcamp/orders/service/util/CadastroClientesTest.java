@@ -0,0 +1,133 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.CadastroClientesProperties;
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.repository.ClienteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para CadastroClientes")
+class CadastroClientesTest {
+
+    @Mock
+    private ClienteRepository clienteRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CadastroClientes cadastroClientes;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        cadastroClientes = new CadastroClientes(clienteRepository, new TransactionTemplate(transactionManager),
+                new CadastroClientesProperties(100, Duration.ofMinutes(10), 1000, 0.01), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve ler o banco apenas na primeira busca por ID")
+    void deveLerBancoApenasNaPrimeiraBuscaPorId() {
+        // Arrange
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(criarCliente(1L, "joao@test.com")));
+
+        // Act
+        cadastroClientes.buscar(1L);
+        Optional<Cliente> resultado = cadastroClientes.buscar(1L);
+
+        // Assert
+        assertEquals("joao@test.com", resultado.get().getEmail());
+        verify(clienteRepository, times(1)).findById(1L);
+        assertEquals(1.0, meterRegistry.get("pedidos.clientes.consultas").tag("resultado", "acerto").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve buscar no banco, em uma consulta, apenas os clientes que não estão em memória")
+    void deveBuscarNoBancoApenasClientesForaDaMemoria() {
+        // Arrange
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(criarCliente(1L, "joao@test.com")));
+        when(clienteRepository.findAllById(Set.of(2L, 3L))).thenReturn(List.of(criarCliente(2L, "maria@test.com")));
+        cadastroClientes.buscar(1L);
+
+        // Act
+        Map<Long, Cliente> clientes = cadastroClientes.buscarTodos(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertEquals(Set.of(1L, 2L), clientes.keySet());
+        verify(clienteRepository).findAllById(Set.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Deve conferir o email do cliente em memória na busca por email")
+    void deveConferirEmailDoClienteEmMemoria() {
+        // Arrange
+        when(clienteRepository.findByEmail("joao@test.com")).thenReturn(criarCliente(1L, "joao@test.com"), (Cliente) null);
+        when(clienteRepository.findById(1L)).thenReturn(Optional.of(criarCliente(1L, "joao.novo@test.com")));
+        cadastroClientes.buscarPorEmail("joao@test.com");
+        assertEquals("joao@test.com", cadastroClientes.buscarPorEmail("joao@test.com").get().getEmail());
+
+        // Act
+        cadastroClientes.invalidar(1L);
+        Optional<Cliente> resultado = cadastroClientes.buscarPorEmail("joao@test.com");
+
+        // Assert
+        assertTrue(resultado.isEmpty());
+        verify(clienteRepository, times(2)).findByEmail("joao@test.com");
+    }
+
+    @Test
+    @DisplayName("Deve tratar todo email como possível enquanto o filtro não estiver montado")
+    void deveTratarEmailComoPossivelAntesDoFiltro() {
+        // Act & Assert
+        assertTrue(cadastroClientes.podeExistirEmail("joao@test.com"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar emails fora do filtro e incluir os emails registrados")
+    void deveDescartarEmailsForaDoFiltroEIncluirRegistrados() {
+        // Arrange
+        when(clienteRepository.count()).thenReturn(1L);
+        when(clienteRepository.listarEmails()).thenReturn(Stream.of("joao@test.com"));
+
+        // Act
+        cadastroClientes.montarFiltro();
+        boolean antesDoRegistro = cadastroClientes.podeExistirEmail("maria@test.com");
+        cadastroClientes.registrar(criarCliente(2L, "maria@test.com"));
+
+        // Assert
+        assertTrue(cadastroClientes.podeExistirEmail("joao@test.com"));
+        assertFalse(antesDoRegistro);
+        assertTrue(cadastroClientes.podeExistirEmail("maria@test.com"));
+        assertEquals(1.0, meterRegistry.get("pedidos.clientes.filtro.consultas").tag("resultado", "ausente").counter().count());
+    }
+
+    private Cliente criarCliente(Long id, String email) {
+        Cliente cliente = new Cliente();
+        cliente.setId(id);
+        cliente.setNome("Cliente " + id);
+        cliente.setEmail(email);
+        return cliente;
+    }
+}
@@ -0,0 +1,94 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.OrdersApplication;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.service.contracts.IProdutoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH dos filtros do catálogo pelo repositório (SQL) e pelo {@link CatalogoColunar}.
+ *
+ * <p>Cada modo sobe a aplicação contra um PostgreSQL próprio, com {@link #PRODUTOS} produtos de
+ * preços entre 1,00 e 10.000,00, cinco categorias alternadas e três quartos sem estoque, e mede a primeira
+ * página de uma faixa de preço larga e de um filtro combinado seletivo pelo {@link IProdutoService}.
+ * Nos dois modos os produtos da página são lidos do banco; o que muda é onde o filtro é
+ * resolvido. Executado por {@code CatalogoColunarBenchmarkTest} com {@code mvn test -Pcarga}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CatalogoColunarBenchmark {
+
+    static final int PRODUTOS = 1_000_000;
+
+    @Param({"repositorio", "colunar"})
+    public String modo;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext contexto;
+    private IProdutoService produtoService;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        postgres = new PostgreSQLContainer<>("postgres:15");
+        postgres.start();
+        contexto = new SpringApplicationBuilder(OrdersApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.br.bootcamp.orders=WARN",
+                        "pedidos.catalogo-colunar.habilitado=" + "colunar".equals(modo))
+                .run();
+        JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO produtos (nome, preco, quantidade_estoque, categoria) "
+                + "SELECT 'Produto ' || i, 1 + (i * 7919 % 999900) / 100.0, CASE WHEN i % 4 = 0 THEN 10 ELSE 0 END, "
+                + "(ARRAY['ELETRONICOS','VESTUARIO','CASA_DECORACAO','BELEZA','ESPORTES'])[1 + i % 5] "
+                + "FROM generate_series(1, ?) i", PRODUTOS);
+        jdbcTemplate.execute("ANALYZE produtos");
+        // As colunas foram montadas na inicialização, com a tabela vazia
+        contexto.getBean(CatalogoColunar.class).montar();
+        produtoService = contexto.getBean(IProdutoService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public Pagina<Produto> faixaPreco() {
+        return produtoService.buscarPorFaixaPreco(100.0, 5000.0, 50, null);
+    }
+
+    @Benchmark
+    public Pagina<Produto> filtroCombinado() {
+        return produtoService.filtrar(100.0, 5000.0, CategoriaProduto.BELEZA, true, 50, null);
+    }
+}
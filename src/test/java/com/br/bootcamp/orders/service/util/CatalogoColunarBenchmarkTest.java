@@ -0,0 +1,51 @@
+package com.br.bootcamp.orders.service.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa o {@link CatalogoColunarBenchmark} e compara, em cada benchmark, o tempo médio do
+ * filtro pelo catálogo colunar com o do filtro pelo repositório. Os resultados do JMH são
+ * registrados no log; o teste falha se o catálogo colunar não for mais rápido. Executado com
+ * {@code mvn test -Pcarga}.
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Benchmark JMH do catálogo colunar contra o repositório")
+class CatalogoColunarBenchmarkTest {
+
+    @Test
+    @DisplayName("Deve filtrar o catálogo mais rápido pelas colunas em memória que pelo repositório")
+    void deveFiltrarMaisRapidoPeloCatalogoColunar() throws Exception {
+        // Act
+        Collection<RunResult> resultados = new Runner(new OptionsBuilder()
+                .include(CatalogoColunarBenchmark.class.getName())
+                .build()).run();
+
+        // Assert
+        Map<String, Map<String, Double>> tempos = resultados.stream().collect(Collectors.groupingBy(
+                resultado -> resultado.getParams().getBenchmark(),
+                Collectors.toMap(resultado -> resultado.getParams().getParam("modo"),
+                        resultado -> resultado.getPrimaryResult().getScore())));
+        assertEquals(2, tempos.size());
+        tempos.forEach((benchmark, porModo) -> {
+            log.info(String.format("%s: repositório %.1f µs, colunar %.1f µs", benchmark,
+                    porModo.get("repositorio"), porModo.get("colunar")));
+            assertTrue(porModo.get("colunar") < porModo.get("repositorio"), benchmark + ": " + porModo);
+        });
+    }
+}
@@ -0,0 +1,189 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.CatalogoColunarProperties;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.model.leitura.ColunasProduto;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para CatalogoColunar")
+class CatalogoColunarTest {
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogoColunar catalogo;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        catalogo = criarCatalogo(true);
+        when(produtoRepository.count()).thenReturn(5L);
+        when(produtoRepository.listarColunas()).thenReturn(Stream.of(
+                colunas(4L, "10.00", "ELETRONICOS", 3),
+                colunas(2L, "25.50", "VESTUARIO", 0),
+                colunas(5L, "25.50", "ELETRONICOS", 1),
+                colunas(1L, "99.90", null, 7),
+                colunas(3L, "150.00", "ELETRONICOS", 2)));
+        catalogo.montar();
+    }
+
+    @Test
+    @DisplayName("Deve buscar a faixa de preço em ordem de preço e ID, com limites inclusivos")
+    void deveBuscarFaixaDePrecoEmOrdem() {
+        // Act
+        List<CatalogoColunar.Resultado> resultados = catalogo.filtrar(1000, 9990, null, false, 1000, 0, 10);
+
+        // Assert
+        assertEquals(List.of(4L, 2L, 5L, 1L), ids(resultados));
+        assertEquals(2550, resultados.get(1).preco());
+    }
+
+    @Test
+    @DisplayName("Deve combinar os filtros de categoria e estoque")
+    void deveCombinarFiltrosDeCategoriaEEstoque() {
+        // Act
+        List<CatalogoColunar.Resultado> eletronicos = catalogo.filtrar(0, Long.MAX_VALUE, CategoriaProduto.ELETRONICOS,
+                false, 0, 0, 10);
+        List<CatalogoColunar.Resultado> emEstoque = catalogo.filtrar(0, Long.MAX_VALUE, null, true, 0, 0, 10);
+
+        // Assert
+        assertEquals(List.of(4L, 5L, 3L), ids(eletronicos));
+        assertEquals(List.of(4L, 5L, 1L, 3L), ids(emEstoque));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do preço e do ID do último produto da página anterior")
+    void deveContinuarAPartirDoCursor() {
+        // Act
+        List<CatalogoColunar.Resultado> primeira = catalogo.filtrar(0, Long.MAX_VALUE, null, false, 0, 0, 2);
+        CatalogoColunar.Resultado ultimo = primeira.get(primeira.size() - 1);
+        List<CatalogoColunar.Resultado> segunda = catalogo.filtrar(0, Long.MAX_VALUE, null, false,
+                ultimo.preco(), ultimo.id(), 2);
+
+        // Assert
+        assertEquals(List.of(4L, 2L), ids(primeira));
+        assertEquals(List.of(5L, 1L), ids(segunda));
+    }
+
+    @Test
+    @DisplayName("Deve gravar mudanças de estoque e categoria nas próprias colunas")
+    void deveGravarMudancasDeEstoqueECategoria() {
+        // Arrange
+        when(produtoRepository.buscarColunas(Set.of(2L))).thenReturn(List.of(colunas(2L, "25.50", "ELETRONICOS", 4)));
+
+        // Act
+        catalogo.atualizar(List.of(2L));
+
+        // Assert
+        assertEquals(List.of(4L, 2L, 5L, 3L), ids(catalogo.filtrar(0, Long.MAX_VALUE, CategoriaProduto.ELETRONICOS,
+                true, 0, 0, 10)));
+        verify(transactionManager).getTransaction(argThat(definicao -> definicao.isReadOnly()
+                && definicao.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    @DisplayName("Deve somar às colunas as variações de estoque reservadas sem consultar o banco")
+    void deveSomarVariacoesDeEstoqueSemConsultarBanco() {
+        // Act
+        catalogo.ajustarEstoque(Map.of(5L, 1, 2L, -3, 9L, 4));
+
+        // Assert
+        assertEquals(List.of(4L, 2L, 1L, 3L), ids(catalogo.filtrar(0, Long.MAX_VALUE, null, true, 0, 0, 10)));
+        verify(produtoRepository, never()).buscarColunas(any());
+    }
+
+    @Test
+    @DisplayName("Deve reposicionar produtos com preço alterado, incluir novos e remover excluídos")
+    void deveReposicionarIncluirERemoverProdutos() {
+        // Arrange
+        when(produtoRepository.buscarColunas(any())).thenReturn(List.of(
+                colunas(3L, "5.00", "ELETRONICOS", 2),
+                colunas(6L, "25.50", "BELEZA", 9)));
+
+        // Act
+        catalogo.atualizar(List.of(3L, 6L, 1L));
+
+        // Assert
+        List<CatalogoColunar.Resultado> todos = catalogo.filtrar(0, Long.MAX_VALUE, null, false, 0, 0, 10);
+        assertEquals(List.of(3L, 4L, 2L, 5L, 6L), ids(todos));
+        assertEquals(500, todos.get(0).preco());
+    }
+
+    @Test
+    @DisplayName("Não deve montar nem atualizar as colunas quando desabilitado")
+    void naoDeveMontarQuandoDesabilitado() {
+        // Arrange
+        CatalogoColunar desabilitado = criarCatalogo(false);
+
+        // Act
+        desabilitado.montar();
+        desabilitado.atualizar(List.of(1L));
+
+        // Assert
+        assertFalse(desabilitado.isPronto());
+        assertTrue(catalogo.isPronto());
+        verify(produtoRepository, never()).buscarColunas(any());
+        assertThrows(IllegalStateException.class,
+                () -> desabilitado.filtrar(0, Long.MAX_VALUE, null, false, 0, 0, 10));
+    }
+
+    private CatalogoColunar criarCatalogo(boolean habilitado) {
+        return new CatalogoColunar(produtoRepository, new TransactionTemplate(transactionManager),
+                new CatalogoColunarProperties(habilitado));
+    }
+
+    private static List<Long> ids(List<CatalogoColunar.Resultado> resultados) {
+        return resultados.stream().map(CatalogoColunar.Resultado::id).toList();
+    }
+
+    static ColunasProduto colunas(Long id, String preco, String categoria, Integer estoque) {
+        return new ColunasProduto() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public BigDecimal getPreco() {
+                return new BigDecimal(preco);
+            }
+
+            @Override
+            public String getCategoria() {
+                return categoria;
+            }
+
+            @Override
+            public Integer getEstoque() {
+                return estoque;
+            }
+        };
+    }
+}
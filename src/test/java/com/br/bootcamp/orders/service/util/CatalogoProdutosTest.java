@@ -0,0 +1,248 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.CatalogoColunarProperties;
+import com.br.bootcamp.orders.controller.config.CatalogoProdutosProperties;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para CatalogoProdutos")
+class CatalogoProdutosTest {
+
+    private static final Duration VALIDADE = Duration.ofMinutes(10);
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void limparTransacao() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler o banco apenas na primeira busca e registrar acertos e faltas")
+    void deveLerBancoApenasNaPrimeiraBusca() {
+        // Arrange
+        CatalogoProdutos catalogo = criarCatalogo(VALIDADE);
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(criarProduto(1L, 10)));
+
+        // Act
+        catalogo.buscar(1L);
+        catalogo.buscar(1L);
+        Optional<Produto> resultado = catalogo.buscar(1L);
+
+        // Assert
+        assertEquals(10, resultado.get().getQuantidadeEstoque());
+        verify(produtoRepository, times(1)).findById(1L);
+        assertEquals(2.0, meterRegistry.get("pedidos.catalogo.consultas").tag("resultado", "acerto").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("pedidos.catalogo.consultas").tag("resultado", "falta").functionCounter().count());
+        assertEquals(2.0 / 3, meterRegistry.get("pedidos.catalogo.acertos.taxa").gauge().value(), 1e-9);
+        assertEquals(1.0, meterRegistry.get("pedidos.catalogo.carregamento").functionTimer().count());
+        assertEquals(1.0, meterRegistry.get("pedidos.catalogo.tamanho").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o estoque mais velho que a validade do estoque")
+    void deveRecarregarEstoqueMaisVelhoQueAValidade() {
+        // Arrange
+        CatalogoProdutos catalogo = criarCatalogo(Duration.ZERO);
+        when(produtoRepository.findById(1L))
+                .thenReturn(Optional.of(criarProduto(1L, 10)))
+                .thenReturn(Optional.of(criarProduto(1L, 7)));
+
+        // Act
+        Optional<Produto> primeira = catalogo.buscar(1L);
+        Optional<Produto> segunda = catalogo.buscar(1L);
+
+        // Assert
+        assertEquals(10, primeira.get().getQuantidadeEstoque());
+        assertEquals(7, segunda.get().getQuantidadeEstoque());
+        verify(produtoRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar IDs inexistentes")
+    void naoDeveGuardarIdsInexistentes() {
+        // Arrange
+        CatalogoProdutos catalogo = criarCatalogo(VALIDADE);
+        when(produtoRepository.findById(99L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(criarProduto(99L, 1)));
+
+        // Act
+        Optional<Produto> antes = catalogo.buscar(99L);
+        Optional<Produto> depois = catalogo.buscar(99L);
+
+        // Assert
+        assertTrue(antes.isEmpty());
+        assertTrue(depois.isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve ler o banco novamente depois de invalidar o produto")
+    void deveLerBancoNovamenteDepoisDeInvalidar() {
+        // Arrange
+        CatalogoProdutos catalogo = criarCatalogo(VALIDADE);
+        when(produtoRepository.findById(1L))
+                .thenReturn(Optional.of(criarProduto(1L, 10)))
+                .thenReturn(Optional.of(criarProduto(1L, 4)));
+        catalogo.buscar(1L);
+
+        // Act
+        catalogo.invalidar(1L);
+        Optional<Produto> resultado = catalogo.buscar(1L);
+
+        // Assert
+        assertEquals(4, resultado.get().getQuantidadeEstoque());
+        verify(produtoRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar novamente ao fim da transação o produto lido antes da confirmação")
+    void deveInvalidarNovamenteAoFimDaTransacao() {
+        // Arrange
+        CatalogoProdutos catalogo = criarCatalogo(VALIDADE);
+        when(produtoRepository.findById(1L))
+                .thenReturn(Optional.of(criarProduto(1L, 10)))
+                .thenReturn(Optional.of(criarProduto(1L, 10)))
+                .thenReturn(Optional.of(criarProduto(1L, 4)));
+        catalogo.buscar(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        catalogo.invalidar(List.of(1L));
+        // Consulta concorrente antes da confirmação: ainda lê o estoque anterior
+        catalogo.buscar(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        Optional<Produto> resultado = catalogo.buscar(1L);
+
+        // Assert
+        assertEquals(4, resultado.get().getQuantidadeEstoque());
+        verify(produtoRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o catálogo colunar somente depois da confirmação da transação")
+    void deveAtualizarCatalogoColunarDepoisDaConfirmacao() {
+        // Arrange
+        CatalogoColunar catalogoColunar = mock(CatalogoColunar.class);
+        CatalogoProdutos catalogo = new CatalogoProdutos(produtoRepository,
+                new CatalogoProdutosProperties(100, VALIDADE, VALIDADE), meterRegistry, catalogoColunar);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        catalogo.invalidar(List.of(1L, 2L));
+        verify(catalogoColunar, never()).atualizar(List.of(1L, 2L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(sincronizacao -> {
+            sincronizacao.afterCommit();
+            sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        });
+
+        // Assert
+        verify(catalogoColunar).atualizar(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Não deve reler os produtos para o catálogo colunar quando a transação for desfeita")
+    void naoDeveAtualizarCatalogoColunarQuandoTransacaoDesfeita() {
+        // Arrange
+        CatalogoColunar catalogoColunar = mock(CatalogoColunar.class);
+        CatalogoProdutos catalogo = new CatalogoProdutos(produtoRepository,
+                new CatalogoProdutosProperties(100, VALIDADE, VALIDADE), meterRegistry, catalogoColunar);
+        when(produtoRepository.findById(1L))
+                .thenReturn(Optional.of(criarProduto(1L, 10)))
+                .thenReturn(Optional.of(criarProduto(1L, 10)));
+        catalogo.buscar(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        catalogo.invalidar(List.of(1L));
+        catalogo.buscar(1L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        catalogo.buscar(1L);
+
+        // Assert
+        verify(catalogoColunar, never()).atualizar(any());
+        verify(produtoRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve manter o produto em memória e somar a reserva ao catálogo colunar depois da confirmação")
+    void deveSomarReservaAoCatalogoColunarSemInvalidar() {
+        // Arrange
+        CatalogoColunar catalogoColunar = mock(CatalogoColunar.class);
+        CatalogoProdutos catalogo = new CatalogoProdutos(produtoRepository,
+                new CatalogoProdutosProperties(100, VALIDADE, VALIDADE), meterRegistry, catalogoColunar);
+        when(produtoRepository.findById(1L)).thenReturn(Optional.of(criarProduto(1L, 10)));
+        catalogo.buscar(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        catalogo.ajustarEstoque(Map.of(1L, 3));
+        verify(catalogoColunar, never()).ajustarEstoque(any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(sincronizacao -> {
+            sincronizacao.afterCommit();
+            sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        });
+        catalogo.buscar(1L);
+
+        // Assert
+        verify(catalogoColunar).ajustarEstoque(Map.of(1L, 3));
+        verify(produtoRepository, times(1)).findById(1L);
+    }
+
+    private CatalogoProdutos criarCatalogo(Duration validadeEstoque) {
+        return new CatalogoProdutos(produtoRepository, new CatalogoProdutosProperties(100, VALIDADE, validadeEstoque),
+                meterRegistry, new CatalogoColunar(produtoRepository, new TransactionTemplate(transactionManager),
+                new CatalogoColunarProperties(false)));
+    }
+
+    private Produto criarProduto(Long id, int estoque) {
+        Produto produto = new Produto();
+        produto.setId(id);
+        produto.setNome("Produto " + id);
+        produto.setPreco(new BigDecimal("10.00"));
+        produto.setQuantidadeEstoque(estoque);
+        return produto;
+    }
+}
@@ -0,0 +1,49 @@
+package com.br.bootcamp.orders.service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para Centavos")
+class CentavosTest {
+
+    @Test
+    @DisplayName("Deve converter valores com duas casas decimais para centavos e de volta")
+    void deveConverterValoresComDuasCasasDecimais() {
+        // Arrange
+        BigDecimal valor = new BigDecimal("-1234.05");
+
+        // Act
+        long centavos = Centavos.de(valor);
+
+        // Assert
+        assertEquals(-123405L, centavos);
+        assertEquals(valor, Centavos.paraValor(centavos));
+        assertEquals(new BigDecimal("0.00"), Centavos.paraValor(0));
+    }
+
+    @Test
+    @DisplayName("Não deve converter valores com outra escala ou mais de 18 dígitos")
+    void naoDeveConverterValoresForaDaEscala() {
+        // Act & Assert
+        assertEquals(Centavos.FORA_DA_ESCALA, Centavos.de(new BigDecimal("10")));
+        assertEquals(Centavos.FORA_DA_ESCALA, Centavos.de(new BigDecimal("10.5")));
+        assertEquals(Centavos.FORA_DA_ESCALA, Centavos.de(new BigDecimal("10.005")));
+        assertEquals(Centavos.FORA_DA_ESCALA, Centavos.de(new BigDecimal("99999999999999999.99")));
+        assertEquals(999999999999999999L, Centavos.de(new BigDecimal("9999999999999999.99")));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando a multiplicação ou a soma não couber em long")
+    void deveLancarExcecaoQuandoContaNaoCouberEmLong() {
+        // Act & Assert
+        assertEquals(7500L, Centavos.multiplicar(2500L, 3));
+        assertEquals(7501L, Centavos.somar(7500L, 1L));
+        assertThrows(ArithmeticException.class, () -> Centavos.multiplicar(Long.MAX_VALUE / 2, 3));
+        assertThrows(ArithmeticException.class, () -> Centavos.somar(Long.MAX_VALUE, 1L));
+    }
+}
@@ -0,0 +1,122 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para CursorPaginacao")
+class CursorPaginacaoTest {
+
+    @Test
+    @DisplayName("Deve ler de volta a data e o ID codificados no cursor")
+    void deveLerDataEIdCodificados() {
+        // Arrange
+        LocalDateTime data = LocalDateTime.of(2024, 3, 10, 8, 15, 30, 123456000);
+
+        // Act
+        CursorPaginacao.ChaveData chave = CursorPaginacao.lerDataEId(CursorPaginacao.codificar(data, 42L));
+
+        // Assert
+        assertEquals(data, chave.data());
+        assertEquals(42L, chave.id());
+    }
+
+    @Test
+    @DisplayName("Deve ler de volta o preço e o ID codificados no cursor")
+    void deveLerPrecoEIdCodificados() {
+        // Act
+        CursorPaginacao.ChavePreco chave = CursorPaginacao.lerPrecoEId(CursorPaginacao.codificar("1999.90", 7L));
+
+        // Assert
+        assertEquals(new BigDecimal("1999.90"), chave.preco());
+        assertEquals(7L, chave.id());
+    }
+
+    @Test
+    @DisplayName("Deve ler de volta a semelhança e o ID codificados no cursor")
+    void deveLerSimilaridadeEIdCodificados() {
+        // Act
+        CursorPaginacao.ChaveSimilaridade chave = CursorPaginacao.lerSimilaridadeEId(CursorPaginacao.codificar(0.3846154f, 9L));
+
+        // Assert
+        assertEquals(0.3846154f, chave.similaridade());
+        assertEquals(9L, chave.id());
+    }
+
+    @Test
+    @DisplayName("Deve gerar cursor seguro para uso em URLs")
+    void deveGerarCursorSeguroParaUrls() {
+        // Act
+        String cursor = CursorPaginacao.codificar(LocalDateTime.of(2024, 3, 10, 8, 15, 30), Long.MAX_VALUE);
+
+        // Assert
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Deve começar do início quando não houver cursor")
+    void deveComecarDoInicioSemCursor() {
+        // Assert
+        assertEquals(0L, CursorPaginacao.lerId(null));
+        assertNull(CursorPaginacao.lerDataEId(null));
+        assertNull(CursorPaginacao.lerPrecoEId(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"@@@", "MTA", "YWJj", "MjAyNC0wMS0wMXwxMA"})
+    @DisplayName("Deve rejeitar cursor inválido para listagens por data")
+    void deveRejeitarCursorInvalido(String cursor) {
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class, () -> CursorPaginacao.lerDataEId(cursor));
+        assertEquals("Cursor de paginação inválido.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor de ID com conteúdo não numérico")
+    void deveRejeitarCursorDeIdNaoNumerico() {
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> CursorPaginacao.lerId(CursorPaginacao.codificar("abc")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, CursorPaginacao.LIMITE_MAXIMO + 1})
+    @DisplayName("Deve rejeitar limite fora do intervalo aceito")
+    void deveRejeitarLimiteForaDoIntervalo(int limite) {
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> CursorPaginacao.validarLimite(limite));
+    }
+
+    @Test
+    @DisplayName("Deve montar a última página sem cursor")
+    void deveMontarUltimaPaginaSemCursor() {
+        // Act
+        Pagina<Long> pagina = CursorPaginacao.montar(List.of(1L, 2L), 2, CursorPaginacao::codificar);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), pagina.itens());
+        assertFalse(pagina.temProxima());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o registro excedente e gerar o cursor a partir do último da página")
+    void deveMontarPaginaComCursorDoUltimoRegistro() {
+        // Act
+        Pagina<Long> pagina = CursorPaginacao.montar(List.of(1L, 2L, 3L), 2, CursorPaginacao::codificar);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), pagina.itens());
+        assertEquals(2L, CursorPaginacao.lerId(pagina.proximoCursor()));
+    }
+}
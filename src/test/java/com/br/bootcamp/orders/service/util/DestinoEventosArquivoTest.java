@@ -0,0 +1,55 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.EventosPedidoProperties;
+import com.br.bootcamp.orders.model.EventoPedido;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoEventoPedido;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Testes para DestinoEventosArquivo")
+class DestinoEventosArquivoTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve acrescentar cada evento como uma linha JSON")
+    void deveAcrescentarCadaEventoComoLinhaJson() throws IOException {
+        // Arrange
+        Path arquivo = diretorio.resolve("eventos.ndjson");
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        DestinoEventosArquivo destino = new DestinoEventosArquivo(objectMapper, new EventosPedidoProperties(
+                100, Duration.ofSeconds(1), "arquivo", arquivo, null, Duration.ofSeconds(5)));
+
+        // Act
+        destino.publicar(List.of(criarEvento(1L, TipoEventoPedido.PEDIDO_CRIADO, null)));
+        destino.publicar(List.of(criarEvento(2L, TipoEventoPedido.STATUS_ALTERADO, StatusPedido.PENDENTE)));
+
+        // Assert
+        List<String> linhas = Files.readAllLines(arquivo);
+        assertEquals(2, linhas.size());
+        JsonNode segundo = objectMapper.readTree(linhas.get(1));
+        assertEquals(2L, segundo.get("id").asLong());
+        assertEquals("STATUS_ALTERADO", segundo.get("tipo").asText());
+        assertEquals("PENDENTE", segundo.get("statusAnterior").asText());
+    }
+
+    static EventoPedido criarEvento(Long id, TipoEventoPedido tipo, StatusPedido statusAnterior) {
+        return new EventoPedido(id, tipo, 10L, 1L, StatusPedido.APROVADO, statusAnterior,
+                new BigDecimal("150.00"), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,88 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.EventosPedidoProperties;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoEventoPedido;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para DestinoEventosHttp")
+class DestinoEventosHttpTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<String> corposRecebidos = new CopyOnWriteArrayList<>();
+    private final AtomicInteger statusResposta = new AtomicInteger(204);
+
+    private HttpServer servidor;
+    private DestinoEventosHttp destino;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        servidor.createContext("/eventos", troca -> {
+            corposRecebidos.add(new String(troca.getRequestBody().readAllBytes()));
+            troca.sendResponseHeaders(statusResposta.get(), -1);
+            troca.close();
+        });
+        servidor.start();
+
+        URI url = URI.create("http://localhost:" + servidor.getAddress().getPort() + "/eventos");
+        destino = new DestinoEventosHttp(
+                RestClient.builder().messageConverters(conversores ->
+                        conversores.add(0, new MappingJackson2HttpMessageConverter(objectMapper))),
+                new EventosPedidoProperties(100, Duration.ofSeconds(1), "http", Path.of("eventos.ndjson"), url,
+                        Duration.ofSeconds(5)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        servidor.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote como um array JSON em um único POST")
+    void deveEnviarLoteComoArrayJson() throws IOException {
+        // Act
+        destino.publicar(List.of(
+                DestinoEventosArquivoTest.criarEvento(1L, TipoEventoPedido.PEDIDO_CRIADO, null),
+                DestinoEventosArquivoTest.criarEvento(2L, TipoEventoPedido.STATUS_ALTERADO, StatusPedido.PENDENTE)));
+
+        // Assert
+        assertEquals(1, corposRecebidos.size());
+        JsonNode lote = objectMapper.readTree(corposRecebidos.get(0));
+        assertEquals(2, lote.size());
+        assertEquals("PEDIDO_CRIADO", lote.get(0).get("tipo").asText());
+        assertEquals(2L, lote.get(1).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o destino responder com erro")
+    void deveLancarExcecaoQuandoDestinoResponderComErro() {
+        // Arrange
+        statusResposta.set(503);
+
+        // Act & Assert
+        assertThrows(RestClientException.class, () -> destino.publicar(List.of(
+                DestinoEventosArquivoTest.criarEvento(1L, TipoEventoPedido.PEDIDO_CRIADO, null))));
+    }
+}
@@ -0,0 +1,102 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.enums.FormatoExportacao;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.model.leitura.LinhaExportacaoPedido;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes para ExportacaoPedidos")
+class ExportacaoPedidosTest {
+
+    private static final LocalDateTime DATA = LocalDateTime.of(2024, 3, 10, 8, 15, 30);
+
+    @Test
+    @DisplayName("Deve escrever um pedido por linha em NDJSON, com os itens agrupados")
+    void deveEscreverUmPedidoPorLinhaEmNdjson() throws Exception {
+        // Arrange
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long pedidos = ExportacaoPedidos.escrever(linhas(), FormatoExportacao.NDJSON, saida);
+
+        // Assert
+        assertEquals(2, pedidos);
+        assertEquals("""
+                {"id":1,"clienteId":7,"dataPedido":"2024-03-10T08:15:30","status":"PENDENTE","tipoPagamento":"PIX","valorTotal":250.00,\
+                "itens":[{"produtoId":3,"quantidade":2,"precoUnitario":100.00,"subtotal":200.00},\
+                {"produtoId":4,"quantidade":1,"precoUnitario":50.00,"subtotal":50.00}]}
+                {"id":2,"clienteId":8,"dataPedido":"2024-03-10T08:15:30","status":"CANCELADO","tipoPagamento":"BOLETO","valorTotal":0.00,\
+                "itens":[]}
+                """, saida.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve escrever uma linha por item em CSV, com as colunas do item vazias no pedido sem itens")
+    void deveEscreverUmaLinhaPorItemEmCsv() throws Exception {
+        // Arrange
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long pedidos = ExportacaoPedidos.escrever(linhas(), FormatoExportacao.CSV, saida);
+
+        // Assert
+        assertEquals(2, pedidos);
+        assertEquals(ExportacaoPedidos.CABECALHO_CSV + "\n"
+                + "1,7,2024-03-10T08:15:30,PENDENTE,PIX,250.00,3,2,100.00,200.00\n"
+                + "1,7,2024-03-10T08:15:30,PENDENTE,PIX,250.00,4,1,50.00,50.00\n"
+                + "2,8,2024-03-10T08:15:30,CANCELADO,BOLETO,0.00,,,,\n", saida.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve gerar saída vazia em NDJSON e só o cabeçalho em CSV quando não houver pedidos")
+    void deveGerarSaidaVaziaSemPedidos() throws Exception {
+        // Arrange
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+
+        // Act
+        ExportacaoPedidos.escrever(Stream.empty(), FormatoExportacao.NDJSON, ndjson);
+        ExportacaoPedidos.escrever(Stream.empty(), FormatoExportacao.CSV, csv);
+
+        // Assert
+        assertEquals("", ndjson.toString(StandardCharsets.UTF_8));
+        assertEquals(ExportacaoPedidos.CABECALHO_CSV + "\n", csv.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar período de um único dia e rejeitar início após o fim")
+    void deveValidarPeriodo() {
+        // Arrange
+        LocalDate dia = LocalDate.of(2024, 3, 10);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> ExportacaoPedidos.validarPeriodo(dia, dia));
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> ExportacaoPedidos.validarPeriodo(dia.plusDays(1), dia));
+        assertEquals("A data de início deve ser anterior ou igual à data de fim.", exception.getMessage());
+    }
+
+    private static Stream<LinhaExportacaoPedido> linhas() {
+        return Stream.of(
+                new LinhaExportacaoPedido(1L, 7L, DATA, StatusPedido.PENDENTE, TipoPagamento.PIX, new BigDecimal("250.00"),
+                        3L, 2, new BigDecimal("100.00"), new BigDecimal("200.00")),
+                new LinhaExportacaoPedido(1L, 7L, DATA, StatusPedido.PENDENTE, TipoPagamento.PIX, new BigDecimal("250.00"),
+                        4L, 1, new BigDecimal("50.00"), new BigDecimal("50.00")),
+                new LinhaExportacaoPedido(2L, 8L, DATA, StatusPedido.CANCELADO, TipoPagamento.BOLETO, new BigDecimal("0.00"),
+                        null, null, null, null));
+    }
+}
@@ -0,0 +1,64 @@
+package com.br.bootcamp.orders.service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para FiltroBloom")
+class FiltroBloomTest {
+
+    @Test
+    @DisplayName("Deve conter todos os textos adicionados")
+    void deveConterTodosOsTextosAdicionados() {
+        // Arrange
+        FiltroBloom filtro = FiltroBloom.dimensionar(10_000, 0.01);
+
+        // Act
+        IntStream.range(0, 10_000).forEach(i -> filtro.adicionar("cliente" + i + "@example.com"));
+
+        // Assert
+        assertTrue(IntStream.range(0, 10_000).allMatch(i -> filtro.podeConter("cliente" + i + "@example.com")));
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falsos positivos próxima da configurada")
+    void deveManterTaxaDeFalsosPositivosProximaDaConfigurada() {
+        // Arrange
+        FiltroBloom filtro = FiltroBloom.dimensionar(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filtro.adicionar("cliente" + i + "@example.com"));
+
+        // Act
+        long falsosPositivos = IntStream.range(0, 100_000)
+                .filter(i -> filtro.podeConter("novo" + i + "@example.com"))
+                .count();
+
+        // Assert
+        assertTrue(falsosPositivos < 2_000, "Falsos positivos: " + falsosPositivos);
+    }
+
+    @Test
+    @DisplayName("Deve dimensionar o vetor e as funções pela quantidade e pela taxa")
+    void deveDimensionarVetorEFuncoes() {
+        // Act
+        FiltroBloom filtro = FiltroBloom.dimensionar(1_000_000, 0.01);
+
+        // Assert
+        assertEquals(9_585_059, filtro.getTamanhoEmBits());
+        assertEquals(7, filtro.getFuncoes());
+        assertFalse(filtro.podeConter("qualquer@example.com"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar taxa de falsos positivos fora do intervalo")
+    void deveRejeitarTaxaForaDoIntervalo() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> FiltroBloom.dimensionar(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> FiltroBloom.dimensionar(100, 1));
+    }
+}
@@ -0,0 +1,63 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.service.util.MetricasEtapasPedido.Etapa;
+import com.br.bootcamp.orders.service.util.MetricasEtapasPedido.Operacao;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do custo de medir uma etapa de pedido com {@link MetricasEtapasPedido} no
+ * registro do Prometheus, com o histograma das etapas: {@code comMedicao} executa uma etapa vazia
+ * medida, passada como no {@code PedidoServiceImpl} por um lambda que captura o pedido a cada
+ * chamada, e {@code semMedicao} chama a mesma etapa diretamente; a diferença é o custo por etapa,
+ * inclusive o do lambda. Faz parte da suíte do perfil {@code benchmarks}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricasEtapasPedidoBenchmark {
+
+    private MetricasEtapasPedido metricasEtapas;
+    private Object pedido;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        metricasEtapas = new MetricasEtapasPedido(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+        pedido = new Object();
+    }
+
+    @Benchmark
+    public Object semMedicao() {
+        Object pedido = this.pedido;
+        return validar(pedido);
+    }
+
+    @Benchmark
+    public Object comMedicao() {
+        Object pedido = this.pedido;
+        return metricasEtapas.medir(Operacao.CRIACAO, Etapa.VALIDACAO, () -> validar(pedido));
+    }
+
+    /**
+     * Etapa vazia, que só devolve o pedido
+     */
+    private static Object validar(Object pedido) {
+        return pedido;
+    }
+}
@@ -0,0 +1,66 @@
+package com.br.bootcamp.orders.service.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa o {@link MetricasEtapasPedidoBenchmark} com o profiler de GC e calcula o custo de
+ * medir uma etapa: a diferença de tempo entre a etapa medida e a mesma etapa sem medição. Os
+ * resultados do JMH são registrados no log; o teste falha se o custo chegar a
+ * {@link #CUSTO_MAXIMO_NS} ou se a medição alocar mais que o lambda que captura o pedido
+ * ({@link #ALOCACAO_MAXIMA}). Executado com {@code mvn test -Pcarga}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Benchmark JMH do custo de medir as etapas dos pedidos")
+class MetricasEtapasPedidoBenchmarkTest {
+
+    private static final String ALOCACAO = "gc.alloc.rate.norm";
+    private static final double CUSTO_MAXIMO_NS = 1000;
+
+    /**
+     * Lambda com uma referência capturada: 16 bytes com referências comprimidas
+     */
+    private static final double ALOCACAO_MAXIMA = 24;
+
+    @Test
+    @DisplayName("Deve medir uma etapa em menos de 1 µs, alocando apenas o lambda da etapa")
+    void deveMedirEtapaEmMenosDeUmMicrossegundoAlocandoApenasOLambda() throws Exception {
+        // Act
+        Collection<RunResult> resultados = new Runner(new OptionsBuilder()
+                .include(MetricasEtapasPedidoBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend("-Dlogback.configurationFile=logback-benchmark.xml")
+                .build()).run();
+
+        // Assert
+        Map<String, RunResult> porBenchmark = resultados.stream().collect(Collectors.toMap(
+                resultado -> resultado.getParams().getBenchmark().substring(
+                        resultado.getParams().getBenchmark().lastIndexOf('.') + 1),
+                resultado -> resultado));
+        assertEquals(2, porBenchmark.size());
+        RunResult com = porBenchmark.get("comMedicao");
+        RunResult sem = porBenchmark.get("semMedicao");
+        double custo = com.getPrimaryResult().getScore() - sem.getPrimaryResult().getScore();
+        double alocacao = com.getSecondaryResults().get(ALOCACAO).getScore()
+                - sem.getSecondaryResults().get(ALOCACAO).getScore();
+        log.info(String.format("Medição de uma etapa: %.1f ns (%.1f ns medida, %.1f ns sem medição) e %.0f B",
+                custo, com.getPrimaryResult().getScore(), sem.getPrimaryResult().getScore(), alocacao));
+        assertTrue(custo < CUSTO_MAXIMO_NS, "custo por etapa: " + custo + " ns");
+        // O timer não aloca; o lambda que captura o pedido é criado a cada chamada
+        assertTrue(alocacao < ALOCACAO_MAXIMA, "alocação por etapa: " + alocacao + " B");
+    }
+}
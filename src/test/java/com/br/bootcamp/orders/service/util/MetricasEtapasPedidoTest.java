@@ -0,0 +1,77 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import com.br.bootcamp.orders.service.util.MetricasEtapasPedido.Etapa;
+import com.br.bootcamp.orders.service.util.MetricasEtapasPedido.Operacao;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Testes para MetricasEtapasPedido")
+class MetricasEtapasPedidoTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricasEtapasPedido metricasEtapas;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricasEtapas = new MetricasEtapasPedido(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar apenas as etapas executadas por cada operação")
+    void deveRegistrarApenasEtapasDeCadaOperacao() {
+        // Act
+        Timer leituraNaCriacao = metricasEtapas.timer(Operacao.CRIACAO, Etapa.PEDIDO);
+        Timer leituraNaAtualizacao = metricasEtapas.timer(Operacao.ATUALIZACAO, Etapa.PEDIDO);
+
+        // Assert
+        assertNull(leituraNaCriacao);
+        assertEquals("pedido", leituraNaAtualizacao.getId().getTag("etapa"));
+        assertEquals("atualizacao", leituraNaAtualizacao.getId().getTag("operacao"));
+        assertEquals(6 + 6 + 7, meterRegistry.find(MetricasEtapasPedido.NOME).timers().size());
+    }
+
+    @Test
+    @DisplayName("Deve medir a etapa e devolver o seu resultado, contando-a nos limites do histograma")
+    void deveMedirEtapaEDevolverResultado() {
+        // Act
+        String resultado = metricasEtapas.medir(Operacao.CRIACAO, Etapa.CALCULO, () -> "calculado");
+
+        // Assert
+        Timer timer = meterRegistry.get(MetricasEtapasPedido.NOME)
+                .tags("operacao", "criacao", "etapa", "calculo").timer();
+        assertEquals("calculado", resultado);
+        assertEquals(1, timer.count());
+        CountAtBucket[] limites = timer.takeSnapshot().histogramCounts();
+        assertEquals(MetricasEtapasPedido.LIMITES.length, limites.length);
+        assertEquals(1, limites[limites.length - 1].count());
+        assertEquals(TimeUnit.SECONDS.toNanos(1), (long) limites[limites.length - 1].bucket(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    @DisplayName("Deve medir a etapa que lança exceção")
+    void deveMedirEtapaQueLancaExcecao() {
+        // Act
+        assertThrows(BusinessException.class, () -> metricasEtapas.medir(Operacao.ATUALIZACAO, Etapa.VALIDACAO,
+                () -> {
+                    throw new BusinessException("Cliente é obrigatório para criar um pedido");
+                }));
+
+        // Assert
+        Timer timer = metricasEtapas.timer(Operacao.ATUALIZACAO, Etapa.VALIDACAO);
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+}
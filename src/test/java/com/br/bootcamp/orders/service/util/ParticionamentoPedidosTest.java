@@ -0,0 +1,66 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.ParticoesPedidoProperties;
+import com.br.bootcamp.orders.repository.PedidoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para ParticionamentoPedidos")
+class ParticionamentoPedidosTest {
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    private ParticionamentoPedidos particionamento;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        particionamento = new ParticionamentoPedidos(pedidoRepository, new ParticoesPedidoProperties(3, Duration.ofHours(12)));
+    }
+
+    @Test
+    @DisplayName("Deve criar as partições do mês atual até os meses de antecedência configurados")
+    void deveCriarParticoesDoMesAtualAteAAntecedencia() {
+        // Arrange
+        ArgumentCaptor<LocalDate> inicio = ArgumentCaptor.forClass(LocalDate.class);
+        ArgumentCaptor<LocalDate> fim = ArgumentCaptor.forClass(LocalDate.class);
+        when(pedidoRepository.criarParticoes(any(), any())).thenReturn(1);
+        LocalDate antes = LocalDate.now();
+
+        // Act
+        particionamento.criarParticoesFuturas();
+        LocalDate depois = LocalDate.now();
+
+        // Assert
+        verify(pedidoRepository).criarParticoes(inicio.capture(), fim.capture());
+        assertEquals(inicio.getValue().plusMonths(3), fim.getValue());
+        assertTrue(!inicio.getValue().isBefore(antes) && !inicio.getValue().isAfter(depois));
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha sem interromper o agendamento")
+    void deveRegistrarFalhaSemInterromperAgendamento() {
+        // Arrange
+        when(pedidoRepository.criarParticoes(any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("Banco indisponível"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> particionamento.criarParticoesFuturas());
+    }
+}
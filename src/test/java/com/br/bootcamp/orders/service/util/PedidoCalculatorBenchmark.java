@@ -0,0 +1,69 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.ItemPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do valor total de um pedido em centavos, pelo {@link PedidoCalculator}, e do mesmo
+ * cálculo em {@link BigDecimal}, como era feito antes dos centavos, e da preparação completa do
+ * pedido ({@link PedidoCalculator#prepararPedido(Pedido)}) com o serviço de produtos em memória.
+ *
+ * <p>Os pedidos têm de 1 a 500 itens (ver {@link PedidosSinteticos}). Faz parte da suíte do perfil
+ * {@code benchmarks}; o valor total também é comparado por {@code PedidoCalculatorBenchmarkTest}
+ * com {@code mvn test -Pcarga}, que mede os bytes alocados por chamada.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoCalculatorBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int linhas;
+
+    private PedidoCalculator pedidoCalculator;
+    private Pedido pedido;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        pedido = PedidosSinteticos.montar(linhas, linhas);
+        pedidoCalculator = new PedidoCalculator(ServicosEmMemoria.produtos(PedidosSinteticos.produtos(pedido)));
+    }
+
+    @Benchmark
+    public BigDecimal centavos() {
+        return pedidoCalculator.calcularValorTotal(pedido);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal valorTotal = BigDecimal.ZERO;
+        for (ItemPedido item : pedido.getItens()) {
+            valorTotal = valorTotal.add(item.getPrecoUnitario().multiply(BigDecimal.valueOf(item.getQuantidade())));
+        }
+        return valorTotal;
+    }
+
+    @Benchmark
+    public Pedido prepararPedido() {
+        pedidoCalculator.prepararPedido(pedido);
+        return pedido;
+    }
+}
@@ -0,0 +1,71 @@
+package com.br.bootcamp.orders.service.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Executa o {@link PedidoCalculatorBenchmark} com o profiler de GC e compara, para cada tamanho
+ * de pedido, o tempo médio e os bytes alocados por chamada do cálculo em centavos com os do
+ * cálculo em {@link java.math.BigDecimal}. Os resultados do JMH são registrados no log; o teste
+ * falha se os centavos alocarem mais em algum tamanho, ou se não forem mais rápidos e não
+ * alocarem menos a partir de {@link #LINHAS_COM_GANHO} itens: com um item, as duas contas alocam
+ * apenas o resultado, e o tempo é o custo fixo da chamada. Executado com {@code mvn test -Pcarga}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Benchmark JMH do valor total do pedido em centavos contra BigDecimal")
+class PedidoCalculatorBenchmarkTest {
+
+    private static final String ALOCACAO = "gc.alloc.rate.norm";
+    private static final int LINHAS_COM_GANHO = 10;
+
+    @Test
+    @DisplayName("Deve calcular o valor total em centavos mais rápido e alocando menos que em BigDecimal")
+    void deveCalcularMaisRapidoEAlocandoMenosEmCentavos() throws Exception {
+        // Act
+        Collection<RunResult> resultados = new Runner(new OptionsBuilder()
+                .include(PedidoCalculatorBenchmark.class.getName() + "\\.(centavos|bigDecimal)$")
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend("-Dlogback.configurationFile=logback-benchmark.xml")
+                .build()).run();
+
+        // Assert
+        Map<Integer, RunResult> centavos = new TreeMap<>();
+        Map<Integer, RunResult> bigDecimal = new TreeMap<>();
+        for (RunResult resultado : resultados) {
+            int linhas = Integer.parseInt(resultado.getParams().getParam("linhas"));
+            String benchmark = resultado.getParams().getBenchmark();
+            (benchmark.endsWith(".centavos") ? centavos : bigDecimal).put(linhas, resultado);
+        }
+        assertEquals(4, centavos.size());
+        assertEquals(4, bigDecimal.size());
+        centavos.forEach((linhas, emCentavos) -> {
+            RunResult emBigDecimal = bigDecimal.get(linhas);
+            double tempoCentavos = emCentavos.getPrimaryResult().getScore();
+            double tempoBigDecimal = emBigDecimal.getPrimaryResult().getScore();
+            double alocacaoCentavos = emCentavos.getSecondaryResults().get(ALOCACAO).getScore();
+            double alocacaoBigDecimal = emBigDecimal.getSecondaryResults().get(ALOCACAO).getScore();
+            log.info(String.format("%d linhas: centavos %.1f ns e %.0f B, BigDecimal %.1f ns e %.0f B", linhas,
+                    tempoCentavos, alocacaoCentavos, tempoBigDecimal, alocacaoBigDecimal));
+            // Menos de um byte por chamada é alocação da própria medição, repartida entre as chamadas
+            assertTrue(alocacaoCentavos < alocacaoBigDecimal + 1, linhas + " linhas: alocação");
+            if (linhas >= LINHAS_COM_GANHO) {
+                assertTrue(tempoCentavos < tempoBigDecimal, linhas + " linhas: tempo");
+                assertTrue(alocacaoCentavos < alocacaoBigDecimal, linhas + " linhas: alocação");
+            }
+        });
+    }
+}
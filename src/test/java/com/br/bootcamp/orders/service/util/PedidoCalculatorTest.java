@@ -6,6 +6,8 @@ import com.br.bootcamp.orders.model.Pedido;
 import com.br.bootcamp.orders.model.Produto;
 import com.br.bootcamp.orders.model.enums.StatusPedido;
 import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.repository.ClienteRepository;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
 import com.br.bootcamp.orders.service.contracts.IProdutoService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,12 +20,15 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -137,7 +142,7 @@ class PedidoCalculatorTest {
         produto.setId(1L);
         produto.setPreco(new BigDecimal("50.00"));
         
-        when(produtoService.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(produtoService.buscarPorIdAtual(1L)).thenReturn(Optional.of(produto));
         
         // Act
         pedidoCalculator.prepararItens(pedido);
@@ -151,7 +156,7 @@ class PedidoCalculatorTest {
         assertEquals(new BigDecimal("100.00"), primeiroItem.getSubtotal());
         assertEquals(pedido, primeiroItem.getPedido());
         
-        verify(produtoService, times(2)).buscarPorId(anyLong());
+        verify(produtoService, times(2)).buscarPorIdAtual(anyLong());
     }
 
     @Test
@@ -167,7 +172,7 @@ class PedidoCalculatorTest {
         assertNotNull(pedido.getItens());
         assertTrue(pedido.getItens().isEmpty());
         
-        verify(produtoService, never()).buscarPorId(anyLong());
+        verify(produtoService, never()).buscarPorIdAtual(anyLong());
     }
 
     @Test
@@ -183,7 +188,7 @@ class PedidoCalculatorTest {
         // Assert
         assertNull(pedido.getItens());
         
-        verify(produtoService, never()).buscarPorId(anyLong());
+        verify(produtoService, never()).buscarPorIdAtual(anyLong());
     }
 
     @Test
@@ -208,7 +213,7 @@ class PedidoCalculatorTest {
         produto.setId(1L);
         produto.setPreco(new BigDecimal("50.00"));
         
-        when(produtoService.buscarPorId(1L)).thenReturn(Optional.of(produto));
+        when(produtoService.buscarPorIdAtual(1L)).thenReturn(Optional.of(produto));
         
         // Act
         pedidoCalculator.prepararPedido(pedido);
@@ -218,7 +223,36 @@ class PedidoCalculatorTest {
         assertEquals(2, pedido.getItens().size());
         assertEquals(new BigDecimal("100.00"), pedido.getValorTotal());
         
-        verify(produtoService, times(2)).buscarPorId(anyLong());
+        verify(produtoService, times(2)).buscarPorIdAtual(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve preparar pedido usando os produtos do contexto")
+    void devePrepararPedidoUsandoProdutosDoContexto() {
+        // Arrange
+        Pedido pedido = criarPedidoComItens();
+        Produto produto1 = new Produto();
+        produto1.setId(1L);
+        produto1.setPreco(new BigDecimal("50.00"));
+        Produto produto2 = new Produto();
+        produto2.setId(2L);
+        produto2.setPreco(new BigDecimal("30.00"));
+        
+        ClienteRepository clienteRepository = mock(ClienteRepository.class);
+        ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+        when(produtoRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(produto1, produto2));
+        ContextoPedido contexto = ContextoPedido.carregar(clienteRepository, produtoRepository, List.of(1L), List.of(1L, 2L));
+        
+        // Act
+        pedidoCalculator.prepararPedido(pedido, contexto);
+        
+        // Assert
+        assertEquals(new BigDecimal("100.00"), pedido.getItens().get(0).getSubtotal());
+        assertEquals(new BigDecimal("30.00"), pedido.getItens().get(1).getSubtotal());
+        assertEquals(new BigDecimal("130.00"), pedido.getValorTotal());
+        
+        verify(produtoRepository, times(1)).findAllById(Set.of(1L, 2L));
+        verify(produtoService, never()).buscarPorIdAtual(anyLong());
     }
 
     @Test
@@ -227,7 +261,7 @@ class PedidoCalculatorTest {
         // Arrange
         Pedido pedido = criarPedidoComItens();
         
-        when(produtoService.buscarPorId(1L)).thenReturn(Optional.empty());
+        when(produtoService.buscarPorIdAtual(1L)).thenReturn(Optional.empty());
         
         // Act
         pedidoCalculator.prepararItens(pedido);
@@ -241,7 +275,68 @@ class PedidoCalculatorTest {
         assertNull(primeiroItem.getPrecoUnitario());
         assertNull(primeiroItem.getSubtotal());
         
-        verify(produtoService, times(2)).buscarPorId(anyLong());
+        verify(produtoService, times(2)).buscarPorIdAtual(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve calcular em centavos o mesmo valor e escala do cálculo em BigDecimal")
+    void deveCalcularEmCentavosOMesmoValorDoBigDecimal() {
+        // Arrange
+        Random aleatorio = new Random(21);
+        
+        for (int pedidos = 0; pedidos < 500; pedidos++) {
+            Pedido pedido = criarPedidoVazio();
+            int linhas = 1 + aleatorio.nextInt(50);
+            for (int linha = 0; linha < linhas; linha++) {
+                BigDecimal preco = aleatorio.nextInt(10) == 0 ? null : BigDecimal.valueOf(aleatorio.nextInt(10_000_000), 2);
+                pedido.getItens().add(criarItem(preco, 1 + aleatorio.nextInt(1000)));
+            }
+            
+            // Act
+            BigDecimal valorTotal = pedidoCalculator.calcularValorTotal(pedido);
+            
+            // Assert
+            BigDecimal esperado = BigDecimal.ZERO;
+            for (ItemPedido item : pedido.getItens()) {
+                if (item.getPrecoUnitario() != null) {
+                    esperado = esperado.add(item.getPrecoUnitario().multiply(BigDecimal.valueOf(item.getQuantidade())));
+                }
+            }
+            assertEquals(esperado, valorTotal);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve calcular em BigDecimal quando algum preço não tiver duas casas decimais")
+    void deveCalcularEmBigDecimalComPrecoForaDaEscala() {
+        // Arrange
+        Pedido pedido = criarPedidoVazio();
+        pedido.getItens().add(criarItem(new BigDecimal("10.00"), 2));
+        pedido.getItens().add(criarItem(new BigDecimal("0.125"), 4));
+        
+        // Act
+        BigDecimal valorTotal = pedidoCalculator.calcularValorTotal(pedido);
+        
+        // Assert
+        assertEquals(new BigDecimal("20.500"), valorTotal);
+    }
+
+    @Test
+    @DisplayName("Deve calcular em BigDecimal quando o total não couber em centavos")
+    void deveCalcularEmBigDecimalQuandoTotalNaoCouberEmCentavos() {
+        // Arrange
+        BigDecimal preco = new BigDecimal("9999999999999999.99");
+        Pedido pedido = criarPedidoVazio();
+        pedido.getItens().add(criarItem(preco, Integer.MAX_VALUE));
+        pedido.getItens().add(criarItem(preco, 1));
+        
+        // Act
+        BigDecimal valorTotal = pedidoCalculator.calcularValorTotal(pedido);
+        BigDecimal subtotal = pedidoCalculator.calcularSubtotalItem(pedido.getItens().get(0));
+        
+        // Assert
+        assertEquals(preco.multiply(BigDecimal.valueOf(Integer.MAX_VALUE)).add(preco), valorTotal);
+        assertEquals(preco.multiply(BigDecimal.valueOf(Integer.MAX_VALUE)), subtotal);
     }
 
     private Pedido criarPedidoComItens() {
@@ -275,6 +370,13 @@ class PedidoCalculatorTest {
         return pedido;
     }
 
+    private ItemPedido criarItem(BigDecimal precoUnitario, int quantidade) {
+        ItemPedido item = new ItemPedido();
+        item.setPrecoUnitario(precoUnitario);
+        item.setQuantidade(quantidade);
+        return item;
+    }
+
     private Pedido criarPedidoVazio() {
         Pedido pedido = new Pedido();
         pedido.setId(1L);
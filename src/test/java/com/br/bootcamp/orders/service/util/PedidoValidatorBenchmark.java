@@ -0,0 +1,51 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.Pedido;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da validação completa de um pedido ({@link PedidoValidator#validarPedido(Pedido)})
+ * com os serviços de clientes e produtos em memória, para pedidos de 1 a 500 itens (ver
+ * {@link PedidosSinteticos}). Faz parte da suíte do perfil {@code benchmarks}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PedidoValidatorBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    public int linhas;
+
+    private PedidoValidator pedidoValidator;
+    private Pedido pedido;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        pedido = PedidosSinteticos.montar(linhas, linhas);
+        pedidoValidator = new PedidoValidator(ServicosEmMemoria.clientes(List.of(pedido.getCliente())),
+                ServicosEmMemoria.produtos(PedidosSinteticos.produtos(pedido)));
+    }
+
+    @Benchmark
+    public Pedido validarPedido() {
+        pedidoValidator.validarPedido(pedido);
+        return pedido;
+    }
+}
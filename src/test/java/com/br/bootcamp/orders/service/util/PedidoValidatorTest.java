@@ -4,6 +4,8 @@ import com.br.bootcamp.orders.model.Cliente;
 import com.br.bootcamp.orders.model.ItemPedido;
 import com.br.bootcamp.orders.model.Pedido;
 import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.repository.ClienteRepository;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
 import com.br.bootcamp.orders.service.contracts.IClienteService;
 import com.br.bootcamp.orders.service.contracts.IProdutoService;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,11 +18,14 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.anyIterable;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -293,6 +298,69 @@ class PedidoValidatorTest {
         verify(produtoService).buscarPorId(1L);
     }
 
+    @Test
+    @DisplayName("Deve validar pedido usando o cliente e os produtos do contexto")
+    void deveValidarPedidoUsandoClienteEProdutosDoContexto() {
+        // Arrange
+        Pedido pedido = criarPedidoValido();
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        Produto produto = new Produto();
+        produto.setId(1L);
+        produto.setQuantidadeEstoque(10);
+        
+        ClienteRepository clienteRepository = mock(ClienteRepository.class);
+        ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of(cliente));
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of(produto));
+        ContextoPedido contexto = ContextoPedido.carregar(clienteRepository, produtoRepository, List.of(1L), List.of(1L));
+        
+        // Act & Assert
+        assertDoesNotThrow(() -> pedidoValidator.validarPedido(pedido, contexto));
+        
+        verify(clienteService, never()).buscarPorId(anyLong());
+        verify(produtoService, never()).buscarPorId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando produto não está no contexto")
+    void deveLancarExcecaoQuandoProdutoNaoEstaNoContexto() {
+        // Arrange
+        Pedido pedido = criarPedidoValido();
+        
+        ClienteRepository clienteRepository = mock(ClienteRepository.class);
+        ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+        when(produtoRepository.findAllById(Set.of(1L))).thenReturn(List.of());
+        ContextoPedido contexto = ContextoPedido.carregar(clienteRepository, produtoRepository, List.of(1L), List.of(1L));
+        
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, 
+            () -> pedidoValidator.validarItens(pedido, contexto));
+        
+        assertEquals("Produto não encontrado com ID: 1", exception.getMessage());
+        verify(produtoService, never()).buscarPorId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando cliente não está no contexto")
+    void deveLancarExcecaoQuandoClienteNaoEstaNoContexto() {
+        // Arrange
+        Pedido pedido = criarPedidoValido();
+        
+        ClienteRepository clienteRepository = mock(ClienteRepository.class);
+        ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+        when(clienteRepository.findAllById(Set.of(1L))).thenReturn(List.of());
+        ContextoPedido contexto = ContextoPedido.carregar(clienteRepository, produtoRepository, List.of(1L), List.of());
+        
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, 
+            () -> pedidoValidator.validarCliente(pedido, contexto));
+        
+        assertEquals("Cliente não encontrado com ID: 1", exception.getMessage());
+        verify(clienteService, never()).buscarPorId(anyLong());
+        verify(produtoRepository, never()).findAllById(anyIterable());
+    }
+
     @Test
     @DisplayName("Deve validar cliente separadamente")
     void deveValidarClienteSeparadamente() {
@@ -0,0 +1,70 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.ItemPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Pedidos completos e reprodutíveis para os benchmarks JMH: um cliente e, para cada item, um
+ * produto próprio com preço de 0,01 a 99.999,99 (duas casas decimais) e estoque suficiente,
+ * quantidade de 1 a 100, preço unitário, subtotal e valor total preenchidos. A mesma semente
+ * gera sempre o mesmo pedido.
+ */
+public final class PedidosSinteticos {
+
+    private PedidosSinteticos() {
+    }
+
+    public static Pedido montar(int linhas, long semente) {
+        Random aleatorio = new Random(semente);
+        Cliente cliente = new Cliente(1L, "Cliente Benchmark", "cliente.benchmark@example.com",
+                "(11) 99999-0000", "Rua dos Benchmarks, 100 - São Paulo/SP");
+
+        Pedido pedido = new Pedido();
+        pedido.setId(1L);
+        pedido.setCliente(cliente);
+        pedido.setDataPedido(LocalDateTime.of(2024, 6, 3, 10, 15, 30));
+        pedido.setStatus(StatusPedido.PENDENTE);
+        pedido.setTipoPagamento(TipoPagamento.PIX);
+
+        List<ItemPedido> itens = new ArrayList<>();
+        BigDecimal valorTotal = BigDecimal.ZERO;
+        CategoriaProduto[] categorias = CategoriaProduto.values();
+        for (int linha = 1; linha <= linhas; linha++) {
+            Produto produto = new Produto();
+            produto.setId((long) linha);
+            produto.setNome("Produto " + linha);
+            produto.setDescricao("Descrição do produto " + linha);
+            produto.setPreco(BigDecimal.valueOf(1 + aleatorio.nextInt(9_999_999), 2));
+            produto.setQuantidadeEstoque(1_000);
+            produto.setCategoria(categorias[linha % categorias.length]);
+
+            ItemPedido item = new ItemPedido();
+            item.setId((long) linha);
+            item.setPedido(pedido);
+            item.setProduto(produto);
+            item.setQuantidade(1 + aleatorio.nextInt(100));
+            item.setPrecoUnitario(produto.getPreco());
+            item.setSubtotal(produto.getPreco().multiply(BigDecimal.valueOf(item.getQuantidade())));
+            valorTotal = valorTotal.add(item.getSubtotal());
+            itens.add(item);
+        }
+        pedido.setItens(itens);
+        pedido.setValorTotal(valorTotal);
+        return pedido;
+    }
+
+    public static List<Produto> produtos(Pedido pedido) {
+        return pedido.getItens().stream().map(ItemPedido::getProduto).toList();
+    }
+}
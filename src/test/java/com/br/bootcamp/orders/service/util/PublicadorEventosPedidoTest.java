@@ -0,0 +1,122 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.EventosPedidoProperties;
+import com.br.bootcamp.orders.model.EventoPedido;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoEventoPedido;
+import com.br.bootcamp.orders.repository.EventoPedidoRepository;
+import com.br.bootcamp.orders.service.contracts.IDestinoEventos;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para PublicadorEventosPedido")
+class PublicadorEventosPedidoTest {
+
+    private static final int TAMANHO_LOTE = 2;
+
+    @Mock
+    private EventoPedidoRepository eventoPedidoRepository;
+
+    @Mock
+    private IDestinoEventos destinoEventos;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PublicadorEventosPedido publicador;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        EventosPedidoProperties propriedades = new EventosPedidoProperties(TAMANHO_LOTE, Duration.ofSeconds(1),
+                "arquivo", Path.of("eventos-pedidos.ndjson"), null, Duration.ofSeconds(5));
+        publicador = new PublicadorEventosPedido(eventoPedidoRepository, destinoEventos,
+                new TransactionTemplate(transactionManager), propriedades, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve publicar e remover os eventos pendentes em lotes até esvaziar a caixa de saída")
+    void devePublicarERemoverEventosPendentesEmLotes() {
+        // Arrange
+        List<EventoPedido> primeiroLote = criarEventos(1, 2);
+        List<EventoPedido> segundoLote = criarEventos(3, 3);
+        when(eventoPedidoRepository.travarPendentes(TAMANHO_LOTE)).thenReturn(primeiroLote, segundoLote);
+
+        // Act
+        publicador.publicarPendentes();
+
+        // Assert
+        verify(destinoEventos).publicar(primeiroLote);
+        verify(destinoEventos).publicar(segundoLote);
+        verify(eventoPedidoRepository).deleteAllInBatch(primeiroLote);
+        verify(eventoPedidoRepository).deleteAllInBatch(segundoLote);
+        verify(eventoPedidoRepository, times(2)).travarPendentes(TAMANHO_LOTE);
+        assertEquals(3.0, meterRegistry.get("pedidos.eventos.publicados").counter().count());
+        assertEquals(3, meterRegistry.get("pedidos.eventos.atraso").timer().count());
+    }
+
+    @Test
+    @DisplayName("Não deve publicar nada quando a caixa de saída estiver vazia")
+    void naoDevePublicarQuandoCaixaDeSaidaVazia() {
+        // Arrange
+        when(eventoPedidoRepository.travarPendentes(TAMANHO_LOTE)).thenReturn(List.of());
+
+        // Act
+        publicador.publicarPendentes();
+
+        // Assert
+        verify(destinoEventos, never()).publicar(anyList());
+        assertEquals(0.0, meterRegistry.get("pedidos.eventos.atraso.pendente").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve manter os eventos pendentes quando o destino falhar")
+    void deveManterEventosPendentesQuandoDestinoFalhar() {
+        // Arrange
+        List<EventoPedido> lote = criarEventos(1, 2);
+        when(eventoPedidoRepository.travarPendentes(TAMANHO_LOTE)).thenReturn(lote);
+        doThrow(new IllegalStateException("Destino indisponível")).when(destinoEventos).publicar(lote);
+        when(eventoPedidoRepository.buscarCriacaoMaisAntiga()).thenReturn(LocalDateTime.now().minusSeconds(30));
+
+        // Act
+        publicador.publicarPendentes();
+
+        // Assert
+        verify(eventoPedidoRepository, never()).deleteAllInBatch(anyList());
+        verify(transactionManager).rollback(any());
+        assertEquals(1.0, meterRegistry.get("pedidos.eventos.falhas").counter().count());
+        assertEquals(0.0, meterRegistry.get("pedidos.eventos.publicados").counter().count());
+        assertTrue(meterRegistry.get("pedidos.eventos.atraso.pendente").gauge().value() >= 30.0);
+    }
+
+    private List<EventoPedido> criarEventos(long primeiroId, long ultimoId) {
+        return LongStream.rangeClosed(primeiroId, ultimoId)
+                .mapToObj(id -> new EventoPedido(id, TipoEventoPedido.PEDIDO_CRIADO, 100L + id, 1L,
+                        StatusPedido.PENDENTE, null, null, LocalDateTime.now().minusSeconds(1)))
+                .toList();
+    }
+}
@@ -0,0 +1,117 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.EventoPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoEventoPedido;
+import com.br.bootcamp.orders.repository.EventoPedidoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Testes para RegistroEventosPedido")
+class RegistroEventosPedidoTest {
+
+    @Mock
+    private EventoPedidoRepository eventoPedidoRepository;
+
+    private RegistroEventosPedido registroEventos;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registroEventos = new RegistroEventosPedido(eventoPedidoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve registrar evento de pedido criado")
+    void deveRegistrarEventoDePedidoCriado() {
+        // Arrange
+        Pedido pedido = criarPedido(10L, StatusPedido.PENDENTE);
+        ArgumentCaptor<EventoPedido> captor = ArgumentCaptor.forClass(EventoPedido.class);
+
+        // Act
+        registroEventos.pedidoCriado(pedido);
+
+        // Assert
+        verify(eventoPedidoRepository).save(captor.capture());
+        EventoPedido evento = captor.getValue();
+        assertEquals(TipoEventoPedido.PEDIDO_CRIADO, evento.getTipo());
+        assertEquals(10L, evento.getPedidoId());
+        assertEquals(1L, evento.getClienteId());
+        assertEquals(StatusPedido.PENDENTE, evento.getStatus());
+        assertNull(evento.getStatusAnterior());
+        assertEquals(new BigDecimal("150.00"), evento.getValorTotal());
+        assertNotNull(evento.getCriadoEm());
+    }
+
+    @Test
+    @DisplayName("Deve registrar eventos de vários pedidos criados de uma vez")
+    @SuppressWarnings("unchecked")
+    void deveRegistrarEventosDeVariosPedidosCriados() {
+        // Arrange
+        ArgumentCaptor<List<EventoPedido>> captor = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        registroEventos.pedidosCriados(List.of(criarPedido(10L, StatusPedido.PENDENTE), criarPedido(11L, StatusPedido.PENDENTE)));
+        registroEventos.pedidosCriados(List.of());
+
+        // Assert
+        verify(eventoPedidoRepository).saveAll(captor.capture());
+        assertEquals(List.of(10L, 11L), captor.getValue().stream().map(EventoPedido::getPedidoId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve registrar evento de status alterado com o status anterior")
+    void deveRegistrarEventoDeStatusAlterado() {
+        // Arrange
+        Pedido pedido = criarPedido(10L, StatusPedido.APROVADO);
+        ArgumentCaptor<EventoPedido> captor = ArgumentCaptor.forClass(EventoPedido.class);
+
+        // Act
+        registroEventos.statusAlterado(pedido, StatusPedido.PENDENTE);
+
+        // Assert
+        verify(eventoPedidoRepository).save(captor.capture());
+        assertEquals(TipoEventoPedido.STATUS_ALTERADO, captor.getValue().getTipo());
+        assertEquals(StatusPedido.APROVADO, captor.getValue().getStatus());
+        assertEquals(StatusPedido.PENDENTE, captor.getValue().getStatusAnterior());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar evento quando o status não mudou")
+    void naoDeveRegistrarEventoQuandoStatusNaoMudou() {
+        // Act
+        registroEventos.statusAlterado(criarPedido(10L, StatusPedido.PENDENTE), StatusPedido.PENDENTE);
+
+        // Assert
+        verify(eventoPedidoRepository, never()).save(any());
+        verify(eventoPedidoRepository, never()).saveAll(anyList());
+    }
+
+    private Pedido criarPedido(Long id, StatusPedido status) {
+        Cliente cliente = new Cliente();
+        cliente.setId(1L);
+        Pedido pedido = new Pedido();
+        pedido.setId(id);
+        pedido.setCliente(cliente);
+        pedido.setStatus(status);
+        pedido.setValorTotal(new BigDecimal("150.00"));
+        return pedido;
+    }
+}
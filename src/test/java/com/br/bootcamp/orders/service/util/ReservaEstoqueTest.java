@@ -0,0 +1,169 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.ItemPedido;
+import com.br.bootcamp.orders.model.Pedido;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.repository.ProdutoRepository;
+import com.br.bootcamp.orders.service.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para ReservaEstoque")
+class ReservaEstoqueTest {
+
+    @Mock
+    private ProdutoRepository produtoRepository;
+
+    @Mock
+    private CatalogoProdutos catalogoProdutos;
+
+    private ReservaEstoque reservaEstoque;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        reservaEstoque = new ReservaEstoque(produtoRepository, catalogoProdutos);
+    }
+
+    @Test
+    @DisplayName("Deve somar as quantidades reservadas por produto em ordem de ID")
+    void deveSomarQuantidadesReservadasPorProdutoEmOrdemDeId() {
+        // Arrange
+        Pedido pedido = criarPedido(StatusPedido.PENDENTE,
+                criarItem(3L, 2), criarItem(1L, 1), criarItem(3L, 4));
+
+        // Act
+        SortedMap<Long, Integer> quantidades = ReservaEstoque.quantidadesReservadas(pedido);
+
+        // Assert
+        assertEquals(List.of(1L, 3L), new ArrayList<>(quantidades.keySet()));
+        assertEquals(1, quantidades.get(1L));
+        assertEquals(6, quantidades.get(3L));
+    }
+
+    @Test
+    @DisplayName("Não deve considerar reservadas as quantidades de pedido cancelado")
+    void naoDeveConsiderarReservadasQuantidadesDePedidoCancelado() {
+        // Arrange
+        Pedido pedido = criarPedido(StatusPedido.CANCELADO, criarItem(1L, 2));
+
+        // Act & Assert
+        assertTrue(ReservaEstoque.quantidadesReservadas(pedido).isEmpty());
+        assertTrue(ReservaEstoque.quantidadesReservadas(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reservar o estoque de todos os produtos em um único lote")
+    void deveReservarEstoqueDeTodosOsProdutosEmUmUnicoLote() {
+        // Arrange
+        Pedido pedido = criarPedido(StatusPedido.PENDENTE, criarItem(2L, 5), criarItem(1L, 3));
+        when(produtoRepository.ajustarEstoque(any())).thenReturn(new int[]{1, 1});
+
+        // Act
+        reservaEstoque.reservar(pedido);
+
+        // Assert
+        verify(produtoRepository).ajustarEstoque(new TreeMap<>(Map.of(1L, 3, 2L, 5)));
+    }
+
+    @Test
+    @DisplayName("Deve desfazer reservas parciais e lançar exceção quando faltar estoque")
+    void deveDesfazerReservasParciaisQuandoFaltarEstoque() {
+        // Arrange
+        Pedido pedido = criarPedido(StatusPedido.PENDENTE, criarItem(1L, 3), criarItem(2L, 5));
+        when(produtoRepository.ajustarEstoque(any())).thenReturn(new int[]{1, 0}, new int[]{1});
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> reservaEstoque.reservar(pedido));
+
+        assertEquals("Estoque insuficiente para o produto: Produto 2", exception.getMessage());
+        verify(produtoRepository).ajustarEstoque(new TreeMap<>(Map.of(1L, 3, 2L, 5)));
+        verify(produtoRepository).ajustarEstoque(new TreeMap<>(Map.of(1L, -3)));
+        verify(catalogoProdutos, never()).ajustarEstoque(any());
+    }
+
+    @Test
+    @DisplayName("Deve ajustar apenas a diferença entre a reserva anterior e a atual")
+    void deveAjustarApenasDiferencaEntreReservaAnteriorEAtual() {
+        // Arrange
+        SortedMap<Long, Integer> reservadoAntes = new TreeMap<>(Map.of(1L, 3, 2L, 5, 3L, 1));
+        Pedido pedido = criarPedido(StatusPedido.PENDENTE, criarItem(1L, 3), criarItem(2L, 7));
+        when(produtoRepository.ajustarEstoque(any())).thenReturn(new int[]{1, 1});
+
+        // Act
+        reservaEstoque.ajustar(reservadoAntes, pedido);
+
+        // Assert
+        verify(produtoRepository).ajustarEstoque(new TreeMap<>(Map.of(2L, 2, 3L, -1)));
+        verify(catalogoProdutos).ajustarEstoque(Map.of(2L, 2, 3L, -1));
+        verify(catalogoProdutos, never()).invalidar(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o banco quando a reserva não muda")
+    void naoDeveAcessarBancoQuandoReservaNaoMuda() {
+        // Arrange
+        Pedido pedido = criarPedido(StatusPedido.APROVADO, criarItem(1L, 3));
+
+        // Act
+        reservaEstoque.ajustar(ReservaEstoque.quantidadesReservadas(pedido), pedido);
+
+        // Assert
+        verify(produtoRepository, never()).ajustarEstoque(any());
+        verify(catalogoProdutos, never()).ajustarEstoque(any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver todo o estoque reservado ao liberar o pedido")
+    void deveDevolverTodoEstoqueReservadoAoLiberarPedido() {
+        // Arrange
+        Pedido pedido = criarPedido(StatusPedido.PENDENTE, criarItem(1L, 3));
+        when(produtoRepository.ajustarEstoque(any())).thenReturn(new int[]{1});
+
+        // Act
+        reservaEstoque.liberar(pedido);
+
+        // Assert
+        verify(produtoRepository).ajustarEstoque(new TreeMap<>(Map.of(1L, -3)));
+    }
+
+    private Pedido criarPedido(StatusPedido status, ItemPedido... itens) {
+        Pedido pedido = new Pedido();
+        pedido.setStatus(status);
+        pedido.setItens(new ArrayList<>(List.of(itens)));
+        return pedido;
+    }
+
+    private ItemPedido criarItem(Long produtoId, int quantidade) {
+        Produto produto = new Produto();
+        produto.setId(produtoId);
+        produto.setNome("Produto " + produtoId);
+        produto.setPreco(new BigDecimal("10.00"));
+
+        ItemPedido item = new ItemPedido();
+        item.setProduto(produto);
+        item.setQuantidade(quantidade);
+        return item;
+    }
+}
@@ -0,0 +1,147 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.Cliente;
+import com.br.bootcamp.orders.model.Produto;
+import com.br.bootcamp.orders.model.dto.ClienteDTO;
+import com.br.bootcamp.orders.model.dto.ProdutoDTO;
+import com.br.bootcamp.orders.model.enums.CategoriaProduto;
+import com.br.bootcamp.orders.service.contracts.IClienteService;
+import com.br.bootcamp.orders.service.contracts.IProdutoService;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Serviços de clientes e produtos em memória para os benchmarks JMH, sem Mockito nem banco:
+ * atendem apenas às buscas por ID usadas pelo {@link PedidoValidator} e pelo
+ * {@link PedidoCalculator}, e as demais operações lançam {@link UnsupportedOperationException}.
+ */
+final class ServicosEmMemoria {
+
+    private ServicosEmMemoria() {
+    }
+
+    static IClienteService clientes(Collection<Cliente> clientes) {
+        return new Clientes(indexar(clientes, Cliente::getId));
+    }
+
+    static IProdutoService produtos(Collection<Produto> produtos) {
+        return new Produtos(indexar(produtos, Produto::getId));
+    }
+
+    private static <T> Map<Long, T> indexar(Collection<T> registros, Function<T, Long> extrairId) {
+        Map<Long, T> porId = new HashMap<>();
+        registros.forEach(registro -> porId.put(extrairId.apply(registro), registro));
+        return porId;
+    }
+
+    private record Clientes(Map<Long, Cliente> porId) implements IClienteService {
+
+        @Override
+        public Optional<Cliente> buscarPorId(Long id) {
+            return Optional.ofNullable(porId.get(id));
+        }
+
+        @Override
+        public Pagina<Cliente> listarTodos(int limite, String cursor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Pagina<Cliente> buscarPorNome(String nome, int limite, String cursor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Cliente buscarPorEmail(String email) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Cliente salvar(ClienteDTO cliente) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Cliente atualizar(Long id, ClienteDTO cliente) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deletar(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long contarClientes(boolean aproximado) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private record Produtos(Map<Long, Produto> porId) implements IProdutoService {
+
+        @Override
+        public Optional<Produto> buscarPorId(Long id) {
+            return Optional.ofNullable(porId.get(id));
+        }
+
+        @Override
+        public Optional<Produto> buscarPorIdAtual(Long id) {
+            return buscarPorId(id);
+        }
+
+        @Override
+        public Pagina<Produto> listarTodos(int limite, String cursor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Pagina<Produto> buscarPorNome(String nome, int limite, String cursor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Pagina<Produto> buscarPorFaixaPreco(Double precoMinimo, Double precoMaximo, int limite, String cursor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Pagina<Produto> filtrar(Double precoMinimo, Double precoMaximo, CategoriaProduto categoria,
+                                       boolean apenasEmEstoque, int limite, String cursor) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Produto salvar(ProdutoDTO produto) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Produto atualizar(Long id, ProdutoDTO produto) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deletar(Long id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long contarProdutos(boolean aproximado) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Produto atualizarEstoque(Long id, Integer novaQuantidade) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Produto fracionarEstoque(Long id, Integer fracoes) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
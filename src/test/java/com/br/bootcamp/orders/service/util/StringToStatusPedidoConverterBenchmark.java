@@ -0,0 +1,39 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da conversão do parâmetro de status das requisições
+ * ({@link StringToStatusPedidoConverter#convert(String)}), pelo nome e pela descrição, do primeiro
+ * ao último status da enumeração. Faz parte da suíte do perfil {@code benchmarks}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringToStatusPedidoConverterBenchmark {
+
+    @Param({"PENDENTE", "pendente", "Em Preparação", "CANCELADO"})
+    public String entrada;
+
+    private final StringToStatusPedidoConverter converter = new StringToStatusPedidoConverter();
+
+    @Benchmark
+    public StatusPedido converter() {
+        return converter.convert(entrada);
+    }
+}
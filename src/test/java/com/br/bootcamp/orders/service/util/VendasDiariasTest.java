@@ -0,0 +1,149 @@
+package com.br.bootcamp.orders.service.util;
+
+import com.br.bootcamp.orders.controller.config.VendasDiariasProperties;
+import com.br.bootcamp.orders.model.enums.StatusPedido;
+import com.br.bootcamp.orders.model.enums.TipoPagamento;
+import com.br.bootcamp.orders.model.leitura.VendaDiaria;
+import com.br.bootcamp.orders.repository.PedidoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes para VendasDiarias")
+class VendasDiariasTest {
+
+    private static final LocalDate HOJE = LocalDate.now();
+    private static final LocalDate ONTEM = HOJE.minusDays(1);
+    private static final LocalDate ANTEONTEM = HOJE.minusDays(2);
+
+    @Mock
+    private PedidoRepository pedidoRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VendasDiarias vendasDiarias;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        vendasDiarias = new VendasDiarias(pedidoRepository, new VendasDiariasProperties(100, Duration.ofHours(1), 366),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void limparTransacao() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ler os dias encerrados em uma consulta e atendê-los pela memória depois")
+    void deveLerDiasEncerradosUmaVez() {
+        // Arrange
+        when(pedidoRepository.buscarVendas(ANTEONTEM, ONTEM)).thenReturn(List.of(
+                venda(ANTEONTEM, StatusPedido.ENTREGUE, 2, "100.00"),
+                venda(ONTEM, StatusPedido.CANCELADO, 1, "30.00")));
+
+        // Act
+        List<VendaDiaria> primeira = vendasDiarias.consultar(ANTEONTEM, ONTEM);
+        List<VendaDiaria> segunda = vendasDiarias.consultar(ANTEONTEM, ONTEM);
+        List<VendaDiaria> apenasOntem = vendasDiarias.consultar(ONTEM, ONTEM);
+
+        // Assert
+        assertEquals(2, primeira.size());
+        assertEquals(primeira, segunda);
+        assertEquals(List.of(primeira.get(1)), apenasOntem);
+        verify(pedidoRepository, times(1)).buscarVendas(any(), any());
+        assertEquals(2.0, meterRegistry.get("pedidos.vendas.consultas").tag("resultado", "falta").functionCounter().count());
+        assertEquals(3.0, meterRegistry.get("pedidos.vendas.consultas").tag("resultado", "acerto").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve guardar dias encerrados sem vendas e sempre ler o dia corrente do banco")
+    void deveSempreLerDiaCorrenteDoBanco() {
+        // Arrange
+        when(pedidoRepository.buscarVendas(ONTEM, ONTEM)).thenReturn(List.of());
+        when(pedidoRepository.buscarVendas(HOJE, HOJE)).thenReturn(List.of(venda(HOJE, StatusPedido.PENDENTE, 3, "90.00")));
+
+        // Act
+        vendasDiarias.consultar(ONTEM, HOJE);
+        List<VendaDiaria> vendas = vendasDiarias.consultar(ONTEM, HOJE);
+
+        // Assert
+        assertEquals(1, vendas.size());
+        assertEquals(HOJE, vendas.get(0).dia());
+        verify(pedidoRepository, times(1)).buscarVendas(ONTEM, ONTEM);
+        verify(pedidoRepository, times(2)).buscarVendas(HOJE, HOJE);
+    }
+
+    @Test
+    @DisplayName("Deve ler os dias futuros a partir do início do período, sem guardá-los")
+    void deveLerDiasFuturosDoBanco() {
+        // Arrange
+        LocalDate amanha = HOJE.plusDays(1);
+        when(pedidoRepository.buscarVendas(amanha, amanha)).thenReturn(List.of());
+
+        // Act
+        vendasDiarias.consultar(amanha, amanha);
+
+        // Assert
+        verify(pedidoRepository).buscarVendas(amanha, amanha);
+    }
+
+    @Test
+    @DisplayName("Deve ler novamente o dia encerrado de um pedido alterado, também ao fim da transação")
+    void deveLerNovamenteDiaDePedidoAlterado() {
+        // Arrange
+        when(pedidoRepository.buscarVendas(ONTEM, ONTEM))
+                .thenReturn(List.of(venda(ONTEM, StatusPedido.PENDENTE, 1, "50.00")))
+                .thenReturn(List.of(venda(ONTEM, StatusPedido.PENDENTE, 1, "50.00")))
+                .thenReturn(List.of(venda(ONTEM, StatusPedido.APROVADO, 1, "50.00")));
+        vendasDiarias.consultar(ONTEM, ONTEM);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        vendasDiarias.invalidar(ONTEM.atTime(15, 30));
+        // Consulta concorrente antes da confirmação, que guarda outra vez as vendas anteriores
+        vendasDiarias.consultar(ONTEM, ONTEM);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        List<VendaDiaria> vendas = vendasDiarias.consultar(ONTEM, ONTEM);
+
+        // Assert
+        assertEquals(StatusPedido.APROVADO, vendas.get(0).status());
+        verify(pedidoRepository, times(3)).buscarVendas(ONTEM, ONTEM);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar pedido sem data ao invalidar")
+    void deveIgnorarPedidoSemData() {
+        // Act
+        vendasDiarias.invalidar(null);
+
+        // Assert
+        verify(pedidoRepository, never()).buscarVendas(any(), any());
+    }
+
+    private VendaDiaria venda(LocalDate dia, StatusPedido status, long pedidos, String receita) {
+        return VendaDiaria.de(dia, status, TipoPagamento.PIX, pedidos, new BigDecimal(receita));
+    }
+}